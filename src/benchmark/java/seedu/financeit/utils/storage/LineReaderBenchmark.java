@@ -0,0 +1,98 @@
+package seedu.financeit.utils.storage;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Scanner;
+
+/**
+ * Compares reading a large Manual Tracker save file with Scanner and String.split, as the savers
+ * used to, against LineReader and MappedRecordReader. Kept out of the tests; run with
+ * gradlew benchmark --args="[LINES] [ROUNDS]"
+ * The save file has one ledger line for every 50 entry lines, and 1,000,000 lines by default.
+ */
+public class LineReaderBenchmark {
+    private static final int ENTRIES_PER_LEDGER = 50;
+
+    public static void main(String[] args) throws IOException {
+        int lineCount = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        Path file = Files.createTempFile("saveMt", ".txt");
+        try {
+            writeSaveFile(file, lineCount);
+            System.out.printf("Save file: %d lines, %d bytes%n", lineCount, Files.size(file));
+            for (int round = 1; round <= rounds; round++) {
+                long scannerNanos = time(() -> readWithScanner(file));
+                long lineReaderNanos = time(() -> readWithLineReader(file));
+                long mappedNanos = time(() -> readWithMappedReader(file));
+                System.out.printf("Round %d: Scanner %d ms, LineReader %d ms (%.1fx), "
+                    + "MappedRecordReader %d ms (%.1fx)%n", round, scannerNanos / 1_000_000,
+                    lineReaderNanos / 1_000_000, (double) scannerNanos / lineReaderNanos,
+                    mappedNanos / 1_000_000, (double) scannerNanos / mappedNanos);
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static void writeSaveFile(Path file, int lineCount) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, Charset.defaultCharset())) {
+            for (int i = 0; i < lineCount; i++) {
+                if (i % (ENTRIES_PER_LEDGER + 1) == 0) {
+                    writer.write("Ledger;" + LocalDate.of(2000, 1, 1).plusDays(i / (ENTRIES_PER_LEDGER + 1)));
+                } else {
+                    writer.write("Entry;Expense;FOOD;$" + (i % 1000) + ".50;12:00;lunch number " + i);
+                }
+                writer.newLine();
+            }
+        }
+    }
+
+    private interface Reading {
+        long read() throws IOException;
+    }
+
+    private static long time(Reading reading) throws IOException {
+        long startTime = System.nanoTime();
+        long fieldCount = reading.read();
+        long elapsed = System.nanoTime() - startTime;
+        if (fieldCount == 0) {
+            throw new IllegalStateException("Nothing was read");
+        }
+        return elapsed;
+    }
+
+    private static long readWithScanner(Path file) throws IOException {
+        long fieldCount = 0;
+        try (Scanner scanner = new Scanner(new File(file.toString()))) {
+            while (scanner.hasNext()) {
+                fieldCount += scanner.nextLine().trim().split(";").length;
+            }
+        }
+        return fieldCount;
+    }
+
+    private static long readWithLineReader(Path file) throws IOException {
+        long fieldCount = 0;
+        try (LineReader reader = new LineReader(file.toString())) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                fieldCount += LineReader.split(line.trim(), ";").length;
+            }
+        }
+        return fieldCount;
+    }
+
+    private static long readWithMappedReader(Path file) throws IOException {
+        long fieldCount = 0;
+        MappedRecordReader reader = new MappedRecordReader(file, Charset.defaultCharset(), ';', 7);
+        while (reader.nextLine()) {
+            fieldCount += reader.getFieldCount();
+        }
+        return fieldCount;
+    }
+}
@@ -0,0 +1,114 @@
+package seedu.financeit;
+
+import seedu.financeit.common.Common;
+import seedu.financeit.ui.UiManager;
+import seedu.financeit.utils.LoggerCentre;
+import seedu.financeit.utils.storage.SaveHandler;
+
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.NoSuchElementException;
+
+/**
+ * Runs commands from a file or pipe without user interaction, as if they were typed in from the main menu.
+ * Output is suppressed, and changes are saved once at the end of the input instead of after every command.
+ * A summary of the run, including the commands that failed, is printed at the end.
+ */
+public class BatchRunner {
+    private static final int MAX_ERRORS_TO_PRINT = 20;
+
+    /**
+     * Runs all commands in the given file.
+     *
+     * @param path Path of the file of commands, or "-" to read commands from standard input
+     * @param saveInterval Number of commands after which changes are saved, or 0 to only save at the end
+     */
+    public static void run(String path, int saveInterval) {
+        InputStream inputStream;
+        try {
+            inputStream = path.equals("-") ? System.in : new FileInputStream(path);
+        } catch (FileNotFoundException e) {
+            UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE, "Batch file not found: " + path);
+            return;
+        }
+
+        PrintStream console = System.out;
+        boolean isExited = false;
+        String abortMessage = null;
+        long startTime = System.nanoTime();
+
+        UiManager.setInput(inputStream);
+        UiManager.setQuiet(true);
+        if (saveInterval > 0) {
+            UiManager.setInputHook(() -> saveAfterInterval(saveInterval));
+        }
+        SaveHandler.setSaveDeferred(true);
+        // Tables and menus are skipped while quiet, other output is discarded.
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            Financeit.runMainMenu();
+            isExited = true;
+        } catch (NoSuchElementException e) {
+            // End of input, unless the exception came from elsewhere.
+            if (UiManager.hasNextInput()) {
+                abortMessage = "Batch run aborted: " + e;
+                LoggerCentre.writeStackTraceToLog(e);
+            }
+        } catch (Exception e) {
+            abortMessage = "Batch run aborted: " + e;
+            LoggerCentre.writeStackTraceToLog(e);
+        } finally {
+            SaveHandler.setSaveDeferred(false);
+            UiManager.setInputHook(null);
+            UiManager.recordInputOutcome();
+            // Exiting from the main menu already saves.
+            if (!isExited) {
+                Financeit.save();
+            }
+            System.setOut(console);
+        }
+
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startTime) / 1_000_000);
+        int commandCount = UiManager.getInputLineCount();
+        ArrayList<String> errors = new ArrayList<>(UiManager.getRecordedErrors());
+        int failedCount = UiManager.getFailedInputCount();
+        UiManager.setQuiet(false);
+        printSummary(path, commandCount, elapsedMillis, failedCount, errors, abortMessage);
+    }
+
+    private static void saveAfterInterval(int saveInterval) {
+        int commandCount = UiManager.getInputLineCount();
+        if (commandCount > 0 && commandCount % saveInterval == 0) {
+            SaveHandler.setSaveDeferred(false);
+            Financeit.save();
+            SaveHandler.setSaveDeferred(true);
+        }
+    }
+
+    private static void printSummary(String path, int commandCount, long elapsedMillis, int failedCount,
+                                     ArrayList<String> errors, String abortMessage) {
+        ArrayList<String> summary = new ArrayList<>();
+        summary.add(String.format("Batch run of [%s] finished.", path));
+        summary.add(String.format("Commands run: %d in %.3f s (%.0f commands/s)", commandCount,
+            elapsedMillis / 1000.0, commandCount * 1000.0 / elapsedMillis));
+        summary.add(String.format("Commands failed: %d", failedCount));
+        UiManager.printWithStatusIcon(Common.PrintType.SYS_MSG, summary.toArray(new String[0]));
+
+        if (abortMessage != null) {
+            UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE, abortMessage);
+        }
+        if (errors.isEmpty()) {
+            return;
+        }
+        ArrayList<String> errorsToPrint = new ArrayList<>(errors.subList(0, Math.min(errors.size(),
+            MAX_ERRORS_TO_PRINT)));
+        if (errors.size() > MAX_ERRORS_TO_PRINT) {
+            errorsToPrint.add(String.format("... and %d more errors.", errors.size() - MAX_ERRORS_TO_PRINT));
+        }
+        UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE, errorsToPrint.toArray(new String[0]));
+    }
+}
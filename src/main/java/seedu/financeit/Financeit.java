@@ -2,8 +2,11 @@ package seedu.financeit;
 
 import seedu.financeit.common.CommandPacket;
 import seedu.financeit.common.Common;
+import seedu.financeit.datatrackers.entrytracker.EntryList;
 import seedu.financeit.datatrackers.goaltracker.GoalTracker;
 import seedu.financeit.datatrackers.manualtracker.ManualTracker;
+import seedu.financeit.datatrackers.recurringtracker.AutoEntryPoster;
+import seedu.financeit.datatrackers.recurringtracker.OccurrenceIterator;
 import seedu.financeit.datatrackers.recurringtracker.RecurringTracker;
 import seedu.financeit.financetools.FinanceTools;
 import seedu.financeit.parser.InputParser;
@@ -12,12 +15,17 @@ import seedu.financeit.ui.TablePrinter;
 import seedu.financeit.ui.UiManager;
 import seedu.financeit.utils.LoggerCentre;
 import seedu.financeit.utils.RunHistory;
+import seedu.financeit.utils.storage.ArchiveManager;
 import seedu.financeit.utils.storage.GoalTrackerSaver;
 import seedu.financeit.utils.storage.ManualTrackerSaver;
+import seedu.financeit.utils.storage.PersistenceManager;
 import seedu.financeit.utils.storage.RecurringTrackerSaver;
 import seedu.financeit.utils.storage.SaveHandler;
 import seedu.financeit.utils.storage.SaveManager;
 
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.logging.Level;
 
 //@@author Feudalord
@@ -25,8 +33,6 @@ public class Financeit {
     static String prompt = "";
 
     public static void main(String[] args) {
-        String input = "";
-        CommandPacket packet = null;
         Level mode = Level.WARNING;
         LoggerCentre.getInstance().setLevel(mode);
         LoggerCentre.createLog();
@@ -34,53 +40,79 @@ public class Financeit {
         //Grabs the System DateTime and stores it. Used for reminders
         RunHistory.setCurrentRunDateTime();
 
-        ManualTrackerSaver.getInstance("./data", "./data/saveMt.txt");
+        String batchPath = null;
+        int batchSaveInterval = 0;
+        boolean isSharded = false;
+        boolean isBinary = false;
+        int archiveAfterDays = -1;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                case "--columnar":
+                    // Stores entries in primitive columns instead of as objects, for large histories.
+                    EntryList.setColumnarStorage(true);
+                    break;
+                case "--sharded":
+                    // Saves the ledgers of each month in a file of their own, so that only changed months are written.
+                    isSharded = true;
+                    break;
+                case "--binary":
+                    // Saves the ledgers in a compact binary file instead of as text, unless they are sharded.
+                    isBinary = true;
+                    break;
+                case "--archive-after":
+                    // Archives ledgers older than the given number of days when the program starts.
+                    archiveAfterDays = Integer.parseInt(args[++i]);
+                    break;
+                case "--batch":
+                    batchPath = args[++i];
+                    break;
+                case "--save-every":
+                    batchSaveInterval = Integer.parseInt(args[++i]);
+                    break;
+                default:
+                    System.out.println("Unknown option ignored: " + args[i]);
+                    break;
+                }
+            }
+        } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+            System.out.println("Usage: [--columnar] [--sharded] [--binary] [--archive-after {DAYS}]"
+                + " [--batch {FILE, or - for standard input} [--save-every {N}]]");
+            return;
+        }
+
+        ManualTrackerSaver.getInstance("./data", "./data/saveMt.txt").setShardedLayout(isSharded);
+        ManualTrackerSaver.getInstance().setBinaryLayout(isBinary);
         GoalTrackerSaver.getInstance("./data", "./data/saveGt.txt");
         RecurringTrackerSaver.getInstance("./data", "./data/saveAt.txt");
-        load();
+        ArchiveManager.getInstance("./data/archive");
+        TrackerLoader.start();
 
         //Loads the dateTime when the program was last ran
         loadLastRunDateTime();
 
-        //Updates last run dateTime to current dateTime
-        saveCurrentRunDateTimeAsLastRun();
+        //Posts the automatic recurring entries that fell due since the last run, and only if they are saved,
+        //updates last run dateTime to current dateTime, so that entries not posted are posted on the next run
+        if (postAutoEntriesSinceLastRun()) {
+            saveCurrentRunDateTimeAsLastRun();
+        }
+
+        if (archiveAfterDays >= 0) {
+            TrackerLoader.awaitAll();
+            archiveOldLedgers(archiveAfterDays);
+        }
+        if (batchPath != null) {
+            TrackerLoader.awaitAll();
+            BatchRunner.run(batchPath, batchSaveInterval);
+            return;
+        }
 
+        TrackerLoader.awaitMenuData();
         UiManager.refreshPage();
         UiManager.printLogo();
         LoggerCentre.loggerSystemMessages.info("\n\n\nLogging from user operations......\n\n\n");
         try {
-            while (true) {
-                ReminderPrinter.printReminders();    //Print reminder for all upcoming recurring entries
-                printMainMenu();
-                input = UiManager.handleInput();
-                packet = InputParser.getInstance().parseInput(input);
-                UiManager.refreshPage();
-                switch (packet.getCommandString()) {
-                case "manual":
-                    ManualTracker.execute();
-                    break;
-                case "recur":
-                    RecurringTracker.execute();
-                    break;
-                case "goal":
-                    GoalTracker.execute();
-                    break;
-                case "financial":
-                    FinanceTools.execute();
-                    break;
-                case "saver":
-                    SaveManager.main();
-                    break;
-                case "exit":
-                    save();
-                    UiManager.printWithStatusIcon(Common.PrintType.SYS_MSG,
-                            "Exiting the program. Have a nice day!");
-                    return;
-                default:
-                    prompt = "Invalid Command";
-                    break;
-                }
-            }
+            runMainMenu();
         } catch (Exception e) {
             LoggerCentre.loggerSystemMessages.info("\n\n\nUnknown error......\n\n\n");
             System.out.println("An unknown error has occurred. Refer to the latest log messages.");
@@ -88,7 +120,57 @@ public class Financeit {
         }
     }
 
-
+    /**
+     * Handles main menu commands until the user exits the program.
+     */
+    static void runMainMenu() {
+        String input;
+        CommandPacket packet;
+        while (true) {
+            // Messages of the Manual Tracker, if it finished loading while the user was at the menu.
+            TrackerLoader.printLoadOutput();
+            ReminderPrinter.printReminders();    //Print reminder for all upcoming recurring entries
+            printMainMenu();
+            input = UiManager.handleInput();
+            packet = InputParser.getInstance().parseInput(input);
+            UiManager.refreshPage();
+            switch (packet.getCommandString()) {
+            case "manual":
+                TrackerLoader.awaitAll();
+                ManualTracker.execute();
+                break;
+            case "recur":
+                TrackerLoader.awaitAll();
+                RecurringTracker.execute();
+                break;
+            case "goal":
+                TrackerLoader.awaitAll();
+                GoalTracker.execute();
+                break;
+            case "financial":
+                TrackerLoader.awaitAll();
+                FinanceTools.execute();
+                break;
+            case "saver":
+                TrackerLoader.awaitAll();
+                SaveManager.main();
+                break;
+            case "exit":
+                TrackerLoader.awaitAll();
+                save();
+                UiManager.printWithStatusIcon(Common.PrintType.SYS_MSG,
+                        "Exiting the program. Have a nice day!");
+                return;
+            default:
+                prompt = "Invalid Command";
+                // The status line is not shown while output is suppressed, so the error is recorded instead.
+                if (UiManager.isQuiet()) {
+                    UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE, prompt);
+                }
+                break;
+            }
+        }
+    }
 
     public static void status() {
         System.out.println("Status: " + prompt);
@@ -108,16 +190,88 @@ public class Financeit {
         TablePrinter.printList();
     }
 
+    /**
+     * Loads all trackers from the default save files, and waits until they are loaded.
+     */
     public static void load() {
-        GoalTrackerSaver.getInstance().load();
-        ManualTrackerSaver.getInstance().load();
-        RecurringTrackerSaver.getInstance().load();
+        TrackerLoader.start();
+        TrackerLoader.awaitAll();
     }
 
+    /**
+     * Saves all trackers to the default save files, and waits until the files have been written.
+     */
     public static void save() {
         GoalTrackerSaver.getInstance().save();
         ManualTrackerSaver.getInstance().save();
+        // Written after the Manual Tracker, so that restored ledgers are saved before they leave the archive.
+        ArchiveManager.getInstance().save();
         RecurringTrackerSaver.getInstance().save();
+        PersistenceManager.getInstance().flush();
+    }
+
+    /**
+     * Moves ledgers older than the given number of days into the archive.
+     *
+     * @param days Age in days of the newest ledger to keep in the ledger list
+     */
+    private static void archiveOldLedgers(int days) {
+        LocalDate beforeDate = LocalDate.now().minusDays(days);
+        try {
+            int archivedCount = ArchiveManager.getInstance().archiveBefore(beforeDate);
+            if (archivedCount > 0) {
+                UiManager.printWithStatusIcon(Common.PrintType.SYS_MSG,
+                    String.format("%d ledger(s) dated before %s archived.", archivedCount, beforeDate));
+            }
+        } catch (IOException e) {
+            UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE,
+                "Archive failed; no ledger archived: " + e);
+            LoggerCentre.writeStackTraceToLog(e);
+        }
+    }
+
+    /**
+     * Adds the automatic recurring entries that fell due after the day of the last run, up to today,
+     * to the ledgers of their dates, and saves them. The Manual Tracker is only waited for if there are
+     * entries to add. Nothing is added if the Manual Tracker failed to load, as the ledgers the entries
+     * would be added to, or the entries posted already, may be missing.
+     *
+     * @return Whether all entries that fell due since the last run are in the save files
+     */
+    private static boolean postAutoEntriesSinceLastRun() {
+        if (RunHistory.getLastRunDateTime() == null) {
+            return true;
+        }
+        LocalDate lastRunDate = RunHistory.getLastRunDateTime().toLocalDate();
+        TrackerLoader.awaitMenuData();
+        List<OccurrenceIterator.Occurrence> occurrences = AutoEntryPoster.getOccurrencesToPost(lastRunDate,
+            RunHistory.getCurrentDate());
+        if (occurrences.isEmpty()) {
+            return true;
+        }
+        TrackerLoader.awaitAll();
+        if (TrackerLoader.isManualTrackerLoadFailed()) {
+            UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE, String.format(
+                "Automatic recurring entries since %s not added, as the Manual Tracker failed to load.",
+                lastRunDate));
+            return false;
+        }
+        int postedCount;
+        try {
+            postedCount = AutoEntryPoster.post(occurrences);
+        } catch (IOException e) {
+            UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE, String.format(
+                "Automatic recurring entries since %s not saved; they are added again on the next run: %s",
+                lastRunDate, e));
+            LoggerCentre.writeStackTraceToLog(e);
+            return false;
+        }
+        if (postedCount > 0) {
+            UiManager.printWithStatusIcon(Common.PrintType.SYS_MSG,
+                String.format("%d automatic recurring entry(s) since %s added to ledgers.", postedCount,
+                    lastRunDate));
+        }
+        return true;
     }
 
     public static void loadLastRunDateTime() {
@@ -0,0 +1,159 @@
+package seedu.financeit;
+
+import seedu.financeit.common.Common;
+import seedu.financeit.ui.UiManager;
+import seedu.financeit.utils.LoggerCentre;
+import seedu.financeit.utils.storage.ArchiveManager;
+import seedu.financeit.utils.storage.GoalTrackerSaver;
+import seedu.financeit.utils.storage.ManualTrackerSaver;
+import seedu.financeit.utils.storage.RecurringTrackerSaver;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Loads the save files of all trackers concurrently, as the files are independent of each other.
+ * The main menu only needs the goals and recurring entries, for the reminders, so it is shown
+ * as soon as those are loaded. Commands wait for the Manual Tracker to finish loading, as the ledgers
+ * are needed for goal status, and as old save files are loaded through the same parser and param
+ * handlers that commands use.
+ * Messages printed while loading are kept, and printed from the main thread once the load is done,
+ * so that they do not appear in the middle of what the user is typing.
+ * The time each tracker took to load is logged once all of them are loaded.
+ */
+public class TrackerLoader {
+    private static final String GOAL_TRACKER = "Goal Tracker";
+    private static final String RECURRING_TRACKER = "Recurring Tracker";
+    private static final String ARCHIVE = "Archive";
+    private static final String MANUAL_TRACKER = "Manual Tracker";
+    private static final String[] TRACKERS = {GOAL_TRACKER, RECURRING_TRACKER, ARCHIVE, MANUAL_TRACKER};
+
+    private static final ExecutorService executor = Executors.newFixedThreadPool(3, runnable -> {
+        Thread thread = new Thread(runnable, "tracker-loader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static Future<?> goalLoad = null;
+    private static Future<?> recurringLoad = null;
+    private static Future<?> manualLoad = null;
+    // Load time in milliseconds, by tracker.
+    private static ConcurrentHashMap<String, Long> loadMillis = new ConcurrentHashMap<>();
+    // Messages printed while loading that are yet to be shown, by tracker.
+    private static ConcurrentHashMap<String, String> loadOutput = new ConcurrentHashMap<>();
+    private static long startTime;
+    private static long menuReadyMillis = -1;
+    // Whether the last load of the Manual Tracker failed, so that saved ledgers may be missing.
+    private static boolean isManualLoadFailed = false;
+
+    /**
+     * Starts loading all trackers in the background. Loads that are still running are waited for first.
+     */
+    public static void start() {
+        awaitAll();
+        loadMillis.clear();
+        menuReadyMillis = -1;
+        isManualLoadFailed = false;
+        startTime = System.nanoTime();
+        goalLoad = executor.submit(() -> timeLoad(GOAL_TRACKER, () -> GoalTrackerSaver.getInstance().load()));
+        recurringLoad = executor.submit(() -> timeLoad(RECURRING_TRACKER,
+            () -> RecurringTrackerSaver.getInstance().load()));
+        manualLoad = executor.submit(() -> {
+            // The archive is attached first, so that ledgers left in both by an interrupted archive
+            // are kept in the list.
+            timeLoad(ARCHIVE, () -> ArchiveManager.getInstance().load());
+            timeLoad(MANUAL_TRACKER, () -> ManualTrackerSaver.getInstance().load());
+        });
+    }
+
+    private static void timeLoad(String tracker, Runnable load) {
+        long trackerStartTime = System.nanoTime();
+        StringBuilder output = new StringBuilder();
+        UiManager.setOutputBuffer(output);
+        try {
+            load.run();
+        } finally {
+            UiManager.setOutputBuffer(null);
+            if (output.length() > 0) {
+                loadOutput.put(tracker, output.toString());
+            }
+        }
+        loadMillis.put(tracker, (System.nanoTime() - trackerStartTime) / 1_000_000);
+    }
+
+    /**
+     * Prints the messages of the trackers that finished loading since they were last printed,
+     * in the order the trackers are loaded in.
+     */
+    public static void printLoadOutput() {
+        for (String tracker : TRACKERS) {
+            String output = loadOutput.remove(tracker);
+            if (output != null) {
+                UiManager.print(output);
+            }
+        }
+    }
+
+    /**
+     * Waits until the data needed to show the main menu is loaded.
+     */
+    public static void awaitMenuData() {
+        await(goalLoad);
+        await(recurringLoad);
+        if (menuReadyMillis < 0 && goalLoad != null) {
+            menuReadyMillis = (System.nanoTime() - startTime) / 1_000_000;
+        }
+        printLoadOutput();
+    }
+
+    /**
+     * Waits until all trackers are loaded, and logs the time taken the first time they are.
+     */
+    public static void awaitAll() {
+        if (manualLoad == null) {
+            return;
+        }
+        awaitMenuData();
+        isManualLoadFailed = !await(manualLoad) || ManualTrackerSaver.getInstance().isLoadFailed();
+        printLoadOutput();
+        long totalMillis = (System.nanoTime() - startTime) / 1_000_000;
+        goalLoad = null;
+        recurringLoad = null;
+        manualLoad = null;
+        LoggerCentre.loggerSystemMessages.info(String.format(
+            "Startup load: %s %d ms, %s %d ms, %s %d ms, %s %d ms; menu ready after %d ms, all loaded after %d ms",
+            GOAL_TRACKER, loadMillis.getOrDefault(GOAL_TRACKER, 0L),
+            RECURRING_TRACKER, loadMillis.getOrDefault(RECURRING_TRACKER, 0L),
+            ARCHIVE, loadMillis.getOrDefault(ARCHIVE, 0L),
+            MANUAL_TRACKER, loadMillis.getOrDefault(MANUAL_TRACKER, 0L),
+            menuReadyMillis, totalMillis));
+    }
+
+    /**
+     * Returns whether the last load of the Manual Tracker, waited for by awaitAll(), was reported as failed.
+     */
+    public static boolean isManualTrackerLoadFailed() {
+        return isManualLoadFailed;
+    }
+
+    // Returns whether the load completed, if it was started.
+    private static boolean await(Future<?> load) {
+        if (load == null) {
+            return true;
+        }
+        try {
+            load.get();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LoggerCentre.writeStackTraceToLog(e);
+        } catch (ExecutionException e) {
+            UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE, "Load failed: " + e.getCause());
+            LoggerCentre.writeStackTraceToLog(e);
+        }
+        return false;
+    }
+}
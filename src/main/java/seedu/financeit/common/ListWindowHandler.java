@@ -0,0 +1,186 @@
+package seedu.financeit.common;
+
+import seedu.financeit.common.exceptions.IncompatibleParamsException;
+import seedu.financeit.common.exceptions.InsufficientParamsException;
+import seedu.financeit.common.exceptions.ItemNotFoundException;
+import seedu.financeit.common.exceptions.ParseFailParamException;
+import seedu.financeit.ui.UiManager;
+import seedu.financeit.utils.ParamChecker;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+
+import static seedu.financeit.utils.ParamChecker.PARAM_FROM;
+import static seedu.financeit.utils.ParamChecker.PARAM_HEAD;
+import static seedu.financeit.utils.ParamChecker.PARAM_PAGE;
+import static seedu.financeit.utils.ParamChecker.PARAM_SIZE;
+import static seedu.financeit.utils.ParamChecker.PARAM_TAIL;
+import static seedu.financeit.utils.ParamChecker.PARAM_TO;
+
+/**
+ * CommandHandler class to determine which part of a list a "list" command asks for.
+ * Supported forms:
+ * list                              - whole list
+ * list /page {PAGE} [/size {SIZE}]  - one page of SIZE items, 20 by default
+ * list /head {N} or list /tail {N}  - first or last N items
+ * list /from {YYMMDD} /to {YYMMDD}  - items dated within the range, where supported by the list
+ */
+public class ListWindowHandler extends ParamHandler {
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    private static ListWindowHandler handler = null;
+
+    private int listSize;
+    private boolean isDateRangeAllowed;
+    private int page;
+    private int pageSize;
+    private int head;
+    private int tail;
+    private LocalDate fromDate;
+    private LocalDate toDate;
+    private int fromIndex;
+    private int toIndex;
+
+    private ListWindowHandler() {
+    }
+
+    public static ListWindowHandler getInstance() {
+        if (handler == null) {
+            handler = new ListWindowHandler();
+        }
+        return handler;
+    }
+
+    /**
+     * Determines the window of the list requested by the params in the packet.
+     *
+     * @param packet Input CommandPacket obtained from parsing user input
+     * @param listSize Number of items in the list
+     * @param isDateRangeAllowed Whether the list supports selecting items by date with /from and /to
+     * @throws InsufficientParamsException If a param could not be parsed, or the page is past the end of the list
+     * @throws IncompatibleParamsException If more than one way of selecting items is given
+     */
+    public void handlePacket(CommandPacket packet, int listSize, boolean isDateRangeAllowed)
+        throws InsufficientParamsException, IncompatibleParamsException, ItemNotFoundException {
+        this.listSize = listSize;
+        this.isDateRangeAllowed = isDateRangeAllowed;
+        this.page = 0;
+        this.pageSize = 0;
+        this.head = 0;
+        this.tail = 0;
+        this.fromDate = null;
+        this.toDate = null;
+        this.handleParams(packet);
+        if (!this.paramsSuccessfullyParsed.containsAll(packet.getParamTypes())) {
+            throw new InsufficientParamsException("Input failed due to param error.");
+        }
+        this.checkSingleSelection();
+        this.computeWindow();
+    }
+
+    @Override
+    public void handleSingleParam(CommandPacket packet, String paramType)
+        throws ParseFailParamException {
+        switch (paramType) {
+        case PARAM_PAGE:
+            this.page = ParamChecker.getInstance().checkAndReturnPositiveInt(paramType);
+            return;
+        case PARAM_SIZE:
+            this.pageSize = ParamChecker.getInstance().checkAndReturnPositiveInt(paramType);
+            return;
+        case PARAM_HEAD:
+            this.head = ParamChecker.getInstance().checkAndReturnPositiveInt(paramType);
+            return;
+        case PARAM_TAIL:
+            this.tail = ParamChecker.getInstance().checkAndReturnPositiveInt(paramType);
+            return;
+        case PARAM_FROM:
+            this.checkDateRangeAllowed(paramType);
+            this.fromDate = ParamChecker.getInstance().checkAndReturnDate(paramType);
+            return;
+        case PARAM_TO:
+            this.checkDateRangeAllowed(paramType);
+            this.toDate = ParamChecker.getInstance().checkAndReturnDate(paramType);
+            return;
+        default:
+            UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE,
+                ParamChecker.getInstance().getUnrecognizedParamMessage(paramType));
+            throw new ParseFailParamException(paramType);
+        }
+    }
+
+    private void checkDateRangeAllowed(String paramType) throws ParseFailParamException {
+        if (!this.isDateRangeAllowed) {
+            UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE,
+                ParamChecker.getInstance().getUnrecognizedParamMessage(paramType));
+            throw new ParseFailParamException(paramType);
+        }
+    }
+
+    private void checkSingleSelection() throws IncompatibleParamsException {
+        ArrayList<String> selections = new ArrayList<>();
+        if (this.page > 0 || this.pageSize > 0) {
+            selections.add(PARAM_PAGE);
+        }
+        if (this.head > 0) {
+            selections.add(PARAM_HEAD);
+        }
+        if (this.tail > 0) {
+            selections.add(PARAM_TAIL);
+        }
+        if (this.hasDateRange()) {
+            selections.add(PARAM_FROM + "/" + PARAM_TO);
+        }
+        if (selections.size() > 1) {
+            throw new IncompatibleParamsException(selections.toArray(new String[0]));
+        }
+    }
+
+    private void computeWindow() throws InsufficientParamsException {
+        this.fromIndex = 0;
+        this.toIndex = this.listSize;
+        if (this.head > 0) {
+            this.toIndex = Math.min(this.head, this.listSize);
+        } else if (this.tail > 0) {
+            this.fromIndex = Math.max(0, this.listSize - this.tail);
+        } else if (this.page > 0 || this.pageSize > 0) {
+            int currPage = Math.max(this.page, 1);
+            int currPageSize = (this.pageSize > 0) ? this.pageSize : DEFAULT_PAGE_SIZE;
+            int pageCount = Math.max(1, (int) ((this.listSize + (long) currPageSize - 1) / currPageSize));
+            if (currPage > pageCount) {
+                throw new InsufficientParamsException(String.format("Page %d is out of range. %s",
+                    currPage, ParamChecker.getMessageListRangeIndex(pageCount)));
+            }
+            this.fromIndex = (int) ((currPage - 1L) * currPageSize);
+            this.toIndex = (int) Math.min(this.fromIndex + (long) currPageSize, this.listSize);
+        }
+    }
+
+    /**
+     * Returns whether items were selected by date with /from or /to.
+     */
+    public boolean hasDateRange() {
+        return this.fromDate != null || this.toDate != null;
+    }
+
+    public LocalDate getFromDate() {
+        return (this.fromDate == null) ? LocalDate.MIN : this.fromDate;
+    }
+
+    public LocalDate getToDate() {
+        return (this.toDate == null) ? LocalDate.MAX : this.toDate;
+    }
+
+    /**
+     * Returns the zero-based index of the first item in the window.
+     */
+    public int getFromIndex() {
+        return this.fromIndex;
+    }
+
+    /**
+     * Returns the zero-based index after the last item in the window.
+     */
+    public int getToIndex() {
+        return this.toIndex;
+    }
+}
@@ -0,0 +1,115 @@
+package seedu.financeit.common;
+
+import java.math.BigDecimal;
+
+/**
+ * Amount of money, stored exactly as a whole number of cents.
+ * Instances are immutable, so they can be shared between entries and totals.
+ */
+public final class Money implements Comparable<Money> {
+    public static final Money ZERO = new Money(0);
+    // Largest amount that can be entered, a billion dollars. Totals are kept in a long of cents, so over 92
+    // million entries of this amount would have to be summed before a total could overflow.
+    public static final Money MAX_VALUE = new Money(100_000_000_000L);
+    private static final int CENTS_PER_UNIT = 100;
+
+    private final long cents;
+
+    private Money(long cents) {
+        this.cents = cents;
+    }
+
+    public static Money ofCents(long cents) {
+        return (cents == 0) ? ZERO : new Money(cents);
+    }
+
+    /**
+     * Returns the amount closest to the given amount, rounded to the nearest cent.
+     *
+     * @param amount Amount in dollars
+     * @return Amount of money
+     */
+    public static Money of(double amount) {
+        return ofCents(Math.round(amount * CENTS_PER_UNIT));
+    }
+
+    /**
+     * Parses an amount written in dollars, such as "3490.34".
+     *
+     * @param amount Amount in dollars, with at most two decimal places
+     * @return Amount of money
+     * @throws NumberFormatException If the amount is not a number, has more than two decimal places
+     *                               or is too large.
+     */
+    public static Money parse(String amount) throws NumberFormatException {
+        try {
+            return ofCents(new BigDecimal(amount).movePointRight(2).longValueExact());
+        } catch (ArithmeticException exception) {
+            throw new NumberFormatException("Amount is not a whole number of cents: " + amount);
+        }
+    }
+
+    public long getCents() {
+        return this.cents;
+    }
+
+    public double toDouble() {
+        return (double) this.cents / CENTS_PER_UNIT;
+    }
+
+    public Money add(Money money) {
+        return ofCents(Math.addExact(this.cents, money.cents));
+    }
+
+    public Money subtract(Money money) {
+        return ofCents(Math.subtractExact(this.cents, money.cents));
+    }
+
+    public boolean isNegative() {
+        return this.cents < 0;
+    }
+
+    @Override
+    public int compareTo(Money money) {
+        return Long.compare(this.cents, money.cents);
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (!(object instanceof Money)) {
+            return false;
+        }
+        return this.cents == ((Money) object).cents;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(this.cents);
+    }
+
+    /**
+     * Formats an amount of cents in dollars with two decimal places, such as "3490.34",
+     * without going through floating point formatting.
+     *
+     * @param cents Amount in cents
+     * @return Formatted amount
+     */
+    public static String format(long cents) {
+        StringBuilder output = new StringBuilder(24);
+        long absoluteCents = Math.abs(cents);
+        if (cents < 0) {
+            output.append('-');
+        }
+        long remainder = absoluteCents % CENTS_PER_UNIT;
+        output.append(absoluteCents / CENTS_PER_UNIT).append('.');
+        if (remainder < 10) {
+            output.append('0');
+        }
+        return output.append(remainder).toString();
+    }
+
+    @Override
+    public String toString() {
+        return format(this.cents);
+    }
+}
@@ -14,7 +14,6 @@ import java.time.LocalTime;
 public abstract class DateTimeItem extends Item {
     protected LocalDate date;
     protected LocalTime time;
-    protected DateTimeOutputManager dateTimeOutputManager = new DateTimeOutputManager();
     protected String defaultDateTimeFormat;
 
     public DateTimeItem() {
@@ -22,8 +21,6 @@ public abstract class DateTimeItem extends Item {
 
     public void setDate(LocalDate date) {
         this.date = date;
-        this.dateTimeOutputManager = new DateTimeOutputManager();
-        this.dateTimeOutputManager.setDate(date);
     }
 
     public LocalDate getDate() {
@@ -32,7 +29,6 @@ public abstract class DateTimeItem extends Item {
 
     public void setTime(LocalTime time) {
         this.time = time;
-        this.dateTimeOutputManager.setTime(time);
     }
 
     public LocalTime getTime() {
@@ -44,10 +40,23 @@ public abstract class DateTimeItem extends Item {
     }
 
     public String getDateFormatted() {
-        return this.dateTimeOutputManager.getSingleDateFormatted(this.defaultDateTimeFormat);
+        return this.getDateTimeOutputManager().getSingleDateFormatted(this.defaultDateTimeFormat);
     }
 
     public String getTimeFormatted() {
-        return this.dateTimeOutputManager.getSingleTimeFormatted(this.defaultDateTimeFormat);
+        return this.getDateTimeOutputManager().getSingleTimeFormatted(this.defaultDateTimeFormat);
+    }
+
+    /**
+     * Returns an output manager for the current date and time of the item.
+     * Output managers are only created when the item is formatted, as most items are not.
+     *
+     * @return Output manager for the date and time of the item
+     */
+    protected DateTimeOutputManager getDateTimeOutputManager() {
+        DateTimeOutputManager dateTimeOutputManager = new DateTimeOutputManager();
+        dateTimeOutputManager.setDate(this.date);
+        dateTimeOutputManager.setTime(this.time);
+        return dateTimeOutputManager;
     }
 }
@@ -2,10 +2,13 @@ package seedu.financeit.data;
 
 import seedu.financeit.common.Common;
 import seedu.financeit.common.exceptions.ParseFailParamException;
+import seedu.financeit.ui.TablePrinter;
 import seedu.financeit.ui.UiManager;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
 
 /**
  * List class that stores Item instances as its elements.
@@ -13,9 +16,14 @@ import java.util.Comparator;
  */
 public abstract class ItemList {
     protected ArrayList<Item> items = new ArrayList<>();
+    // Items grouped by value, so that duplicate checks and lookups by value do not scan the list.
+    // Equal items share a group, as edits are not checked for duplicates.
+    private HashMap<Item, ArrayList<Item>> itemsByValue = new HashMap<>();
     protected int indexToModify;
     protected boolean isIndexToModifySet;
     protected String paramTypeFirst;
+    // Whether the items have changed since the list was last saved.
+    private boolean isDirty = false;
 
     public ItemList() {
     }
@@ -24,6 +32,23 @@ public abstract class ItemList {
         int index = this.getListSize();
         item.setIndex(index);
         this.items.add(item);
+        this.addToLookup(item);
+        this.markDirty();
+    }
+
+    /**
+     * Inserts the item at the given zero-based index, shifting the items from that index onwards back
+     * by one, e.g. to put back an item that was taken out of the list.
+     *
+     * @param index Zero-based index to insert the item at
+     * @param item Item to insert
+     * @throws IndexOutOfBoundsException If the index is not within the list or just after it.
+     */
+    public void addItemAtIndex(int index, Item item) throws IndexOutOfBoundsException {
+        this.items.add(index, item);
+        this.updateIndicesFrom(index);
+        this.addToLookup(item);
+        this.markDirty();
     }
 
     public void setIndexToModify(int index, String paramType) throws ParseFailParamException {
@@ -44,6 +69,10 @@ public abstract class ItemList {
         this.indexToModify = index;
     }
 
+    public int getIndexToModify() {
+        return this.indexToModify;
+    }
+
     //@@author Artemis-Hunt
     /**
      * Add the given item and sort the list according to the given comparator.
@@ -51,9 +80,12 @@ public abstract class ItemList {
      * @param item - Item to be added
      * @param comparator - Comparator object to determine sort order
      */
-    public void addItemAndSort(Item item, Comparator comparator) {
+    public void addItemAndSort(Item item, Comparator<? super Item> comparator) {
         this.items.add(item);
         items.sort(comparator);
+        this.updateIndicesFrom(0);
+        this.addToLookup(item);
+        this.markDirty();
     }
     //@@author
 
@@ -61,8 +93,22 @@ public abstract class ItemList {
         return this.items.size();
     }
 
+    /**
+     * Returns the zero-based index of the first item in the list equal to the given item.
+     *
+     * @param item Item to look up
+     * @return Zero-based index of the first equal item, or -1 if there is none
+     */
     public int findIndexOfItem(Item item) {
-        return this.items.indexOf(item);
+        ArrayList<Item> equalItems = this.itemsByValue.get(item);
+        if (equalItems == null) {
+            return -1;
+        }
+        int index = equalItems.get(0).getIndex();
+        for (Item equalItem : equalItems) {
+            index = Math.min(index, equalItem.getIndex());
+        }
+        return index;
     }
 
     public ArrayList<Item> getItems() {
@@ -70,12 +116,42 @@ public abstract class ItemList {
     }
 
     public boolean isItemDuplicate(Item item) {
-        for (Item i : this.items) {
-            if (i.equals(item)) {
-                return true;
+        return this.itemsByValue.containsKey(item);
+    }
+
+    /**
+     * Adds an item in the list to the lookup by value.
+     * Items in the list that are edited in place have to be removed from the lookup before the
+     * edit and added back after it, as their hash code changes with their value.
+     *
+     * @param item Item in the list
+     */
+    public void addToLookup(Item item) {
+        this.itemsByValue.computeIfAbsent(item, key -> new ArrayList<>()).add(item);
+    }
+
+    /**
+     * Removes an item in the list from the lookup by value.
+     *
+     * @param item Item in the list
+     */
+    public void removeFromLookup(Item item) {
+        // Items leave the lookup when they are removed or about to be edited in place.
+        this.markDirty();
+        ArrayList<Item> equalItems = this.itemsByValue.get(item);
+        if (equalItems == null) {
+            return;
+        }
+        // Removes by identity, as other items in the group are equal to this one.
+        for (int i = 0; i < equalItems.size(); i++) {
+            if (equalItems.get(i) == item) {
+                equalItems.remove(i);
+                break;
             }
         }
-        return false;
+        if (equalItems.isEmpty()) {
+            this.itemsByValue.remove(item);
+        }
     }
 
     //@@author Artemis-Hunt
@@ -89,16 +165,14 @@ public abstract class ItemList {
      */
     public Item getItemAtCurrIndex() throws IndexOutOfBoundsException {
         assert this.indexToModify >= 0;
-        int index = this.indexToModify;
-        this.isIndexToModifySet = false;
-        return this.items.get(index);
+        return this.getItemAtIndex(this.indexToModify);
     }
 
     public Item popItemAtCurrIndex() throws IndexOutOfBoundsException {
         assert this.indexToModify >= 0;
         int index = this.indexToModify;
         this.isIndexToModifySet = false;
-        return this.items.remove(index);
+        return this.removeItemAtIndex(index);
     }
 
     public Item getItemAtIndex(int index) throws IndexOutOfBoundsException {
@@ -108,8 +182,58 @@ public abstract class ItemList {
         return item;
     }
 
+    /**
+     * Removes the item at the given zero-based index, independent of any index parsed from user-input.
+     *
+     * @param index Zero-based index of the item to remove
+     * @return The removed item
+     * @throws IndexOutOfBoundsException If the index is not within the list.
+     */
+    public Item removeItemAtIndex(int index) throws IndexOutOfBoundsException {
+        Item item = this.items.remove(index);
+        this.updateIndicesFrom(index);
+        this.removeFromLookup(item);
+        return item;
+    }
+
+    /**
+     * Keeps the index stored in each item equal to its position in the list, for all items from
+     * the given position onwards. This lets a list find the position of an item it has looked up
+     * by other means without scanning the list.
+     *
+     * @param start Zero-based position of the first item whose position may have changed
+     */
+    protected void updateIndicesFrom(int start) {
+        for (int i = start; i < this.items.size(); i++) {
+            this.items.get(i).setIndex(i);
+        }
+    }
+
     public void removeAllItems() {
         this.items.clear();
+        this.itemsByValue.clear();
+        this.markDirty();
+    }
+
+    /**
+     * Returns whether the items have changed since the list was last marked clean, i.e. saved.
+     */
+    public boolean isDirty() {
+        return this.isDirty;
+    }
+
+    /**
+     * Marks the list as changed since it was last saved.
+     */
+    public void markDirty() {
+        this.isDirty = true;
+    }
+
+    /**
+     * Marks the list as matching its save file, e.g. after it has been saved or loaded.
+     */
+    public void markClean() {
+        this.isDirty = false;
     }
 
     /**
@@ -121,11 +245,49 @@ public abstract class ItemList {
      */
     public void removeItemAtCurrIndex() throws IndexOutOfBoundsException {
         assert this.indexToModify >= 0;
-        this.items.remove(this.indexToModify);
+        this.removeItemAtIndex(this.indexToModify);
     }
 
     /**
      * Prints all items that are in the ItemList instance.
      */
-    public abstract void printList();
+    public void printList() {
+        this.printList(0, this.getListSize());
+    }
+
+    /**
+     * Prints the items from a zero-based index, inclusive, to another, exclusive.
+     * Only the items in the window are formatted.
+     *
+     * @param fromIndex Zero-based index of the first item to print
+     * @param toIndex Zero-based index after the last item to print
+     */
+    public abstract void printList(int fromIndex, int toIndex);
+
+    /**
+     * Returns the table rows of the items in the window, numbered by their position in the list.
+     * Each row is formatted only when the iterator reaches it.
+     *
+     * @param fromIndex Zero-based index of the first item
+     * @param toIndex Zero-based index after the last item
+     * @return Iterator over the rows
+     */
+    public Iterator<String> getRowIterator(int fromIndex, int toIndex) {
+        return TablePrinter.getNumberedRows(fromIndex, toIndex, index -> this.items.get(index).toString());
+    }
+
+    /**
+     * Appends the range of items shown to a table title, if the window is not the whole list.
+     *
+     * @param title Title of the table of the whole list
+     * @param fromIndex Zero-based index of the first item shown
+     * @param toIndex Zero-based index after the last item shown
+     * @return Title of the table of the window
+     */
+    protected String getWindowTitle(String title, int fromIndex, int toIndex) {
+        if (fromIndex == 0 && toIndex == this.getListSize()) {
+            return title;
+        }
+        return String.format("%s (%d-%d of %d)", title, fromIndex + 1, toIndex, this.getListSize());
+    }
 }
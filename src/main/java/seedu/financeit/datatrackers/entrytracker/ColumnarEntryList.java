@@ -0,0 +1,419 @@
+package seedu.financeit.datatrackers.entrytracker;
+
+import seedu.financeit.common.CategoryMap;
+import seedu.financeit.common.Common;
+import seedu.financeit.common.Money;
+import seedu.financeit.data.Item;
+import seedu.financeit.datatrackers.manualtracker.Ledger;
+import seedu.financeit.datatrackers.manualtracker.MonthlyTotals;
+
+import java.lang.ref.Cleaner;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Entry list that stores each field of its entries in a column of primitives,
+ * instead of storing an Entry instance per entry.
+ * Amounts are stored in cents, times as minutes of the day, and categories, entry types and
+ * descriptions as ids. Times are truncated to the minute, to which they are also saved, so views
+ * of entries entered with seconds hold the time without them.
+ * Entry instances are only created as views when an entry is retrieved.
+ * Views are copies; changes to a view are not reflected in the list.
+ * Entries are looked up through a hash index of their rows, so adding an entry takes constant time
+ * regardless of the size of the list. Removing or inserting an entry shifts the rows after it, so the
+ * index is only rebuilt when the next lookup needs it, once for any number of such changes.
+ */
+public class ColumnarEntryList extends EntryList {
+    private static final int INITIAL_CAPACITY = 8;
+    private static final short NO_TIME = -1;
+    private static final int MAX_CATEGORIES = 256;
+    private static final Common.EntryType[] ENTRY_TYPES = Common.EntryType.values();
+    // Shared by all columnar entry lists, as descriptions and categories repeat across ledgers.
+    // Descriptions are counted, so that those no longer held by any entry are dropped.
+    private static final StringTable DESCRIPTIONS = new StringTable();
+    private static final StringTable CATEGORIES = new StringTable();
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private long[] amounts = new long[INITIAL_CAPACITY];
+    private short[] minutes = new short[INITIAL_CAPACITY];
+    private byte[] categoryIds = new byte[INITIAL_CAPACITY];
+    private byte[] entryTypes = new byte[INITIAL_CAPACITY];
+    private final DescriptionColumn descriptions = new DescriptionColumn();
+    // Open addressing table of the index of each row plus one, 0 marking an empty slot.
+    private int[] rowIndex = new int[INITIAL_CAPACITY * 2];
+    // Whether rows have shifted since the row index was last built.
+    private boolean isRowIndexStale = false;
+    private int size = 0;
+
+    public ColumnarEntryList(Ledger ledger) {
+        super(ledger);
+        // Lists are dropped without notice when ledgers are deleted or reloaded,
+        // so their descriptions are released once they are no longer reachable.
+        CLEANER.register(this, this.descriptions);
+    }
+
+    /**
+     * Column of the description ids of the entries of a list.
+     * Kept apart from the list so that its ids can be released after the list is collected.
+     */
+    private static class DescriptionColumn implements Runnable {
+        private int[] ids = new int[INITIAL_CAPACITY];
+        private int count = 0;
+
+        void add(String description) {
+            this.ids[this.count++] = DESCRIPTIONS.acquire(description);
+        }
+
+        void insert(int index, String description) {
+            System.arraycopy(this.ids, index, this.ids, index + 1, this.count - index);
+            this.ids[index] = DESCRIPTIONS.acquire(description);
+            this.count++;
+        }
+
+        void remove(int index) {
+            DESCRIPTIONS.release(this.ids[index]);
+            System.arraycopy(this.ids, index + 1, this.ids, index, this.count - index - 1);
+            this.count--;
+        }
+
+        @Override
+        public void run() {
+            for (int i = 0; i < this.count; i++) {
+                DESCRIPTIONS.release(this.ids[i]);
+            }
+            this.count = 0;
+        }
+    }
+
+    /**
+     * Returns the minute of the day of the given time, dropping its seconds, or NO_TIME if there is none.
+     */
+    private static short toMinuteOfDay(LocalTime time) {
+        return (time == null) ? NO_TIME : (short) (time.getHour() * 60 + time.getMinute());
+    }
+
+    private static byte toCategoryId(String category) {
+        int id = CATEGORIES.getId(category);
+        if (id >= MAX_CATEGORIES) {
+            throw new IllegalStateException("Too many categories to store in columns.");
+        }
+        return (byte) id;
+    }
+
+    private String getCategory(int index) {
+        return CATEGORIES.getString(this.categoryIds[index] & 0xFF);
+    }
+
+    private Common.EntryType getEntryType(int index) {
+        return ENTRY_TYPES[this.entryTypes[index]];
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= this.amounts.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, this.amounts.length * 2);
+        this.amounts = Arrays.copyOf(this.amounts, newCapacity);
+        this.minutes = Arrays.copyOf(this.minutes, newCapacity);
+        this.categoryIds = Arrays.copyOf(this.categoryIds, newCapacity);
+        this.entryTypes = Arrays.copyOf(this.entryTypes, newCapacity);
+        this.descriptions.ids = Arrays.copyOf(this.descriptions.ids, newCapacity);
+    }
+
+    private static int hashRow(long amount, short minute, int categoryId, byte entryType, int descriptionId) {
+        long hash = amount;
+        hash = hash * 31 + minute;
+        hash = hash * 31 + categoryId;
+        hash = hash * 31 + entryType;
+        hash = hash * 31 + descriptionId;
+        // Spreads the bits, as only the lowest bits pick the slot.
+        return (int) ((hash * 0x9E3779B97F4A7C15L) >>> 32);
+    }
+
+    private int hashRow(int index) {
+        return hashRow(this.amounts[index], this.minutes[index], this.categoryIds[index] & 0xFF,
+            this.entryTypes[index], this.descriptions.ids[index]);
+    }
+
+    private void addToRowIndex(int index) {
+        int mask = this.rowIndex.length - 1;
+        int slot = this.hashRow(index) & mask;
+        while (this.rowIndex[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        this.rowIndex[slot] = index + 1;
+    }
+
+    /**
+     * Clears the row index and adds the rows of all entries to it again.
+     * Rows are added in order, so that the first of several equal entries is found first.
+     *
+     * @param capacity Number of slots of the index, a power of two
+     */
+    private void rebuildRowIndex(int capacity) {
+        if (capacity == this.rowIndex.length) {
+            Arrays.fill(this.rowIndex, 0);
+        } else {
+            this.rowIndex = new int[capacity];
+        }
+        for (int i = 0; i < this.size; i++) {
+            this.addToRowIndex(i);
+        }
+        this.isRowIndexStale = false;
+    }
+
+    /**
+     * Rebuilds the row index if rows have shifted since it was last built, growing it so that it is
+     * at most half full.
+     */
+    private void ensureRowIndex() {
+        if (!this.isRowIndexStale) {
+            return;
+        }
+        int capacity = this.rowIndex.length;
+        while (this.size * 2 > capacity) {
+            capacity *= 2;
+        }
+        this.rebuildRowIndex(capacity);
+    }
+
+    /**
+     * Creates an Entry instance holding the fields of the entry at the given zero-based index.
+     *
+     * @param index Zero-based index of the entry
+     * @return View of the entry
+     */
+    private Entry createView(int index) {
+        Entry entry = new Entry();
+        entry.setEntryType(this.getEntryType(index));
+        entry.setCategory(CategoryMap.getInputFromCategory(this.getCategory(index)));
+        entry.setAmount(Money.ofCents(this.amounts[index]));
+        if (this.minutes[index] != NO_TIME) {
+            entry.setTime(LocalTime.of(this.minutes[index] / 60, this.minutes[index] % 60));
+        }
+        entry.setDescription(DESCRIPTIONS.getString(this.descriptions.ids[index]));
+        entry.setLedger(this.ledger);
+        entry.setIndex(index);
+        return entry;
+    }
+
+    /**
+     * Returns the zero-based index of the first stored entry with the same fields as the given entry.
+     */
+    private int findIndexOfEntry(Entry entry) {
+        int categoryId = CATEGORIES.findId(entry.getCategory());
+        int descriptionId = DESCRIPTIONS.findId(entry.getDescription());
+        if (categoryId == -1 || descriptionId == -1) {
+            return -1;
+        }
+        long amount = entry.getAmount().getCents();
+        short minute = toMinuteOfDay(entry.getTime());
+        byte entryType = (byte) entry.getEntryType().ordinal();
+        this.ensureRowIndex();
+        int mask = this.rowIndex.length - 1;
+        int slot = hashRow(amount, minute, categoryId, entryType, descriptionId) & mask;
+        while (this.rowIndex[slot] != 0) {
+            int i = this.rowIndex[slot] - 1;
+            if (this.amounts[i] == amount
+                && this.minutes[i] == minute
+                && this.entryTypes[i] == entryType
+                && (this.categoryIds[i] & 0xFF) == categoryId
+                && this.descriptions.ids[i] == descriptionId) {
+                return i;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    @Override
+    public void addItem(Item item) {
+        this.ensureLoaded();
+        Entry entry = (Entry) item;
+        this.ensureCapacity(this.size + 1);
+        this.amounts[this.size] = entry.getAmount().getCents();
+        this.minutes[this.size] = toMinuteOfDay(entry.getTime());
+        this.categoryIds[this.size] = toCategoryId(entry.getCategory());
+        this.entryTypes[this.size] = (byte) entry.getEntryType().ordinal();
+        this.descriptions.add(entry.getDescription());
+        // The given entry is not stored, but callers may still refer to it by its index.
+        entry.setIndex(this.size);
+        this.size++;
+        // Keeps the index at most half full, so that probes stay short.
+        // A stale index gets the row when the next lookup rebuilds it.
+        if (!this.isRowIndexStale && this.size * 2 > this.rowIndex.length) {
+            this.rebuildRowIndex(this.rowIndex.length * 2);
+        } else if (!this.isRowIndexStale) {
+            this.addToRowIndex(this.size - 1);
+        }
+        this.markDirty();
+        if (this.getMonthlyTotals() != null) {
+            this.getMonthlyTotals().add(this.ledger.getDate(), entry);
+        }
+    }
+
+    @Override
+    public void addItemAtIndex(int index, Item item) throws IndexOutOfBoundsException {
+        this.ensureLoaded();
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException(String.format("Index: %d, Size: %d", index, this.size));
+        }
+        Entry entry = (Entry) item;
+        this.ensureCapacity(this.size + 1);
+        int numMoved = this.size - index;
+        System.arraycopy(this.amounts, index, this.amounts, index + 1, numMoved);
+        System.arraycopy(this.minutes, index, this.minutes, index + 1, numMoved);
+        System.arraycopy(this.categoryIds, index, this.categoryIds, index + 1, numMoved);
+        System.arraycopy(this.entryTypes, index, this.entryTypes, index + 1, numMoved);
+        this.amounts[index] = entry.getAmount().getCents();
+        this.minutes[index] = toMinuteOfDay(entry.getTime());
+        this.categoryIds[index] = toCategoryId(entry.getCategory());
+        this.entryTypes[index] = (byte) entry.getEntryType().ordinal();
+        this.descriptions.insert(index, entry.getDescription());
+        entry.setIndex(index);
+        this.size++;
+        // Rows after the inserted entry have moved, so the index is rebuilt by the next lookup.
+        this.isRowIndexStale = true;
+        this.markDirty();
+        if (this.getMonthlyTotals() != null) {
+            this.getMonthlyTotals().add(this.ledger.getDate(), entry);
+        }
+    }
+
+    @Override
+    public void addItemAndSort(Item item, Comparator<? super Item> comparator) {
+        this.ensureLoaded();
+        ArrayList<Item> entries = this.getItems();
+        entries.add(item);
+        entries.sort(comparator);
+        this.removeAllItems();
+        for (Item entry : entries) {
+            this.addItem(entry);
+        }
+    }
+
+    @Override
+    public int getListSize() {
+        return this.isLoaded() ? this.size : super.getListSize();
+    }
+
+    @Override
+    public Item getItemAtIndex(int index) throws IndexOutOfBoundsException {
+        this.ensureLoaded();
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException(String.format("Index: %d, Size: %d", index, this.size));
+        }
+        this.isIndexToModifySet = false;
+        return this.createView(index);
+    }
+
+    @Override
+    public Item removeItemAtIndex(int index) throws IndexOutOfBoundsException {
+        Entry entry = (Entry) this.getItemAtIndex(index);
+        int numMoved = this.size - index - 1;
+        System.arraycopy(this.amounts, index + 1, this.amounts, index, numMoved);
+        System.arraycopy(this.minutes, index + 1, this.minutes, index, numMoved);
+        System.arraycopy(this.categoryIds, index + 1, this.categoryIds, index, numMoved);
+        System.arraycopy(this.entryTypes, index + 1, this.entryTypes, index, numMoved);
+        this.descriptions.remove(index);
+        this.size--;
+        // Rows after the removed entry have moved, so the index is rebuilt by the next lookup.
+        this.isRowIndexStale = true;
+        this.markDirty();
+        if (this.getMonthlyTotals() != null) {
+            this.getMonthlyTotals().subtract(this.ledger.getDate(), entry);
+        }
+        return entry;
+    }
+
+    @Override
+    public void removeAllItems() {
+        this.ensureLoaded();
+        if (this.getMonthlyTotals() != null) {
+            this.applyAllToMonthlyTotals(false);
+        }
+        this.descriptions.run();
+        this.size = 0;
+        Arrays.fill(this.rowIndex, 0);
+        this.isRowIndexStale = false;
+        this.markDirty();
+    }
+
+    @Override
+    protected void applyAllToMonthlyTotals(boolean isAdding) {
+        if (this.applyDeferredToMonthlyTotals(isAdding)) {
+            return;
+        }
+        MonthlyTotals monthlyTotals = this.getMonthlyTotals();
+        for (int i = 0; i < this.size; i++) {
+            if (isAdding) {
+                monthlyTotals.add(this.ledger.getDate(), this.getEntryType(i), this.getCategory(i), this.amounts[i]);
+            } else {
+                monthlyTotals.subtract(this.ledger.getDate(), this.getEntryType(i), this.getCategory(i),
+                    this.amounts[i]);
+            }
+        }
+    }
+
+    @Override
+    public boolean isItemDuplicate(Item item) {
+        this.ensureLoaded();
+        return this.findIndexOfEntry((Entry) item) != -1;
+    }
+
+    @Override
+    public int findIndexOfItem(Item item) {
+        this.ensureLoaded();
+        return this.findIndexOfEntry((Entry) item);
+    }
+
+    /**
+     * Returns views of all entries in the list.
+     * The returned list is a copy; changes to it are not reflected in this list.
+     *
+     * @return List of views of the entries
+     */
+    @Override
+    public ArrayList<Item> getItems() {
+        this.ensureLoaded();
+        ArrayList<Item> entries = new ArrayList<>(this.size);
+        for (int i = 0; i < this.size; i++) {
+            entries.add(this.createView(i));
+        }
+        return entries;
+    }
+
+    @Override
+    public void addToLookup(Item item) {
+        // Rows are indexed as they are added to the columns.
+    }
+
+    @Override
+    public void removeFromLookup(Item item) {
+        // Rows are removed from the index as they are removed from the columns.
+    }
+
+    @Override
+    protected String getEntryString(int index) {
+        int minute = this.minutes[index];
+        StringBuilder output = new StringBuilder(64);
+        output.append(this.getEntryType(index)).append(';')
+            .append(this.getCategory(index)).append(";$")
+            .append(Money.format(this.amounts[index])).append(';');
+        if (minute != NO_TIME) {
+            appendTwoDigits(output, minute / 60).append(':');
+            appendTwoDigits(output, minute % 60);
+        }
+        output.append(';');
+        return output.append(DESCRIPTIONS.getString(this.descriptions.ids[index])).toString();
+    }
+
+    private static StringBuilder appendTwoDigits(StringBuilder output, int value) {
+        if (value < 10) {
+            output.append('0');
+        }
+        return output.append(value);
+    }
+}
@@ -2,9 +2,12 @@ package seedu.financeit.datatrackers.entrytracker;
 
 import seedu.financeit.common.CategoryMap;
 import seedu.financeit.common.Common;
+import seedu.financeit.common.Money;
 import seedu.financeit.data.DateTimeItem;
 import seedu.financeit.datatrackers.manualtracker.Ledger;
 
+import java.util.Objects;
+
 /**
  * Item class which represents transactions of the users.
  */
@@ -12,7 +15,7 @@ public class Entry extends DateTimeItem {
     private String description = " ";
     private String category = null;
     private Common.EntryType entryType = null;
-    private double amount = -1;
+    private Money amount = Money.of(-1);
     // Allows the entry to be have access to the date of its conception from its "parent" ledger.
     private Ledger ledger = null;
 
@@ -43,11 +46,11 @@ public class Entry extends DateTimeItem {
         this.ledger = ledger;
     }
 
-    public void setAmount(double amount) {
+    public void setAmount(Money amount) {
         this.amount = amount;
     }
 
-    public double getAmount() {
+    public Money getAmount() {
         return this.amount;
     }
 
@@ -95,23 +98,31 @@ public class Entry extends DateTimeItem {
     @Override
     public String getName() {
         return String.format("Entry %d : [ %s ] [ %s ]", this.getIndex() + 1,
-            this.dateTimeOutputManager.getSingleTimeFormatted(""),
+            this.getDateTimeOutputManager().getSingleTimeFormatted(""),
             this.getShortFormDesc(this.description));
     }
 
     @Override
     public String toString() {
-        return String.format("%s;%s;$%.2f;%s;%s", this.entryType, this.category, this.amount,
-            this.getTimeFormatted(), this.description);
+        return this.entryType + ";" + this.category + ";$" + this.amount + ";"
+            + this.getTimeFormatted() + ";" + this.description;
     }
 
     @Override
     public boolean equals(Object object) {
+        if (!(object instanceof Entry)) {
+            return false;
+        }
         Entry entry = (Entry) object;
         return (this.description.equals(entry.description))
             && (this.category.equals(entry.category))
             && (this.entryType.equals(entry.entryType))
             && (this.time.equals(entry.time))
-            && (this.amount == entry.amount);
+            && (this.amount.equals(entry.amount));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.description, this.category, this.entryType, this.time, this.amount);
     }
 }
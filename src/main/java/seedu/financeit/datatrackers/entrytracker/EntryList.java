@@ -1,31 +1,280 @@
 package seedu.financeit.datatrackers.entrytracker;
 
+import seedu.financeit.data.Item;
 import seedu.financeit.data.ItemList;
 import seedu.financeit.datatrackers.manualtracker.Ledger;
+import seedu.financeit.datatrackers.manualtracker.MonthlyTotals;
 import seedu.financeit.ui.TablePrinter;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
 /**
  * Maintains a list of entries.
  */
 public class EntryList extends ItemList {
+    // Whether entry lists created for new ledgers store their entries in columns.
+    private static boolean isColumnarStorage = false;
+
     Ledger ledger;
+    // Totals of the ledger list that the ledger is in, or null if the ledger is not in one.
+    private MonthlyTotals monthlyTotals = null;
+    // Summary and loader of entries that have not been loaded yet, or null once they have been loaded.
+    private EntrySummary deferredSummary = null;
+    private BooleanSupplier deferredLoader = null;
 
     public EntryList(Ledger ledger) {
         this.setLedger(ledger);
     }
 
-    @Override
-    public void printList() {
-        TablePrinter.setTitle(String.format("List of Entries for Ledger [%s]", this.ledger));
-        TablePrinter.addRow("Entry Number;Entry Type;Category;Amount;Time;Description                    ");
-        if (super.getListSize() == 0) {
-            TablePrinter.addRow("No entries created               ");
-        } else {
-            for (int i = 0; i < super.getListSize(); i++) {
-                TablePrinter.addRow(String.format("%s;%s", i + 1, super.items.get(i)));
+    public static void setColumnarStorage(boolean isColumnar) {
+        isColumnarStorage = isColumnar;
+    }
+
+    /**
+     * Creates the entry list of a new ledger, in the storage mode currently set.
+     *
+     * @param ledger Ledger that the entries belong to
+     * @return Empty entry list
+     */
+    public static EntryList create(Ledger ledger) {
+        return isColumnarStorage ? new ColumnarEntryList(ledger) : new EntryList(ledger);
+    }
+
+    /**
+     * Adds the entries in this list to the given totals, and keeps the totals updated as entries
+     * are added and removed. Called when the ledger is added to a ledger list.
+     *
+     * @param monthlyTotals Totals of the ledger list
+     */
+    public void attachMonthlyTotals(MonthlyTotals monthlyTotals) {
+        this.detachMonthlyTotals();
+        this.monthlyTotals = monthlyTotals;
+        this.applyAllToMonthlyTotals(true);
+    }
+
+    /**
+     * Removes the entries in this list from the totals they were added to, if any.
+     * Called when the ledger is removed from a ledger list.
+     */
+    public void detachMonthlyTotals() {
+        if (this.monthlyTotals == null) {
+            return;
+        }
+        this.applyAllToMonthlyTotals(false);
+        this.monthlyTotals = null;
+    }
+
+    /**
+     * Defers the loading of the entries of this list until they are first accessed. Until then, the
+     * list reports the count of the summary as its size and counts the totals of the summary towards
+     * the monthly totals. Requires the list to be empty and not attached to any totals.
+     *
+     * @param summary Count and totals of the entries
+     * @param loader Adds the entries to this list, returning whether every entry could be loaded
+     */
+    public void setDeferredEntries(EntrySummary summary, BooleanSupplier loader) {
+        assert super.getListSize() == 0 && this.monthlyTotals == null;
+        this.deferredSummary = summary;
+        this.deferredLoader = loader;
+    }
+
+    /**
+     * Returns whether the entries of this list have been loaded.
+     */
+    public boolean isLoaded() {
+        return this.deferredLoader == null;
+    }
+
+    /**
+     * Returns the summary of the entries, without loading them.
+     */
+    public EntrySummary getSummary() {
+        return this.isLoaded() ? EntrySummary.of(this) : this.deferredSummary;
+    }
+
+    /**
+     * Loads the entries of this list if their loading was deferred. The totals of the summary are
+     * replaced by those of the loaded entries. Loading does not mark the list as changed, unless
+     * some of the entries could not be loaded.
+     */
+    protected void ensureLoaded() {
+        if (this.isLoaded()) {
+            return;
+        }
+        BooleanSupplier loader = this.deferredLoader;
+        EntrySummary summary = this.deferredSummary;
+        this.deferredLoader = null;
+        this.deferredSummary = null;
+        MonthlyTotals attachedTotals = this.monthlyTotals;
+        if (attachedTotals != null) {
+            summary.applyTo(attachedTotals, this.ledger.getDate(), false);
+            this.monthlyTotals = null;
+        }
+        boolean wasDirty = this.isDirty();
+        boolean isFullyLoaded = loader.getAsBoolean();
+        if (!wasDirty && isFullyLoaded) {
+            this.markClean();
+        }
+        if (attachedTotals != null) {
+            this.attachMonthlyTotals(attachedTotals);
+        }
+    }
+
+    protected MonthlyTotals getMonthlyTotals() {
+        return this.monthlyTotals;
+    }
+
+    /**
+     * Adds every entry in this list to, or subtracts it from, the attached totals.
+     *
+     * @param isAdding Whether to add the entries instead of subtracting them
+     */
+    protected void applyAllToMonthlyTotals(boolean isAdding) {
+        if (this.applyDeferredToMonthlyTotals(isAdding)) {
+            return;
+        }
+        for (Item item : super.items) {
+            if (isAdding) {
+                this.monthlyTotals.add(this.ledger.getDate(), (Entry) item);
+            } else {
+                this.monthlyTotals.subtract(this.ledger.getDate(), (Entry) item);
             }
         }
-        TablePrinter.printList();
+    }
+
+    /**
+     * Adds the totals of the summary to, or subtracts them from, the attached totals, if the entries
+     * have not been loaded yet.
+     *
+     * @param isAdding Whether to add the totals instead of subtracting them
+     * @return Whether the entries have not been loaded yet
+     */
+    protected boolean applyDeferredToMonthlyTotals(boolean isAdding) {
+        if (this.isLoaded()) {
+            return false;
+        }
+        this.deferredSummary.applyTo(this.monthlyTotals, this.ledger.getDate(), isAdding);
+        return true;
+    }
+
+    @Override
+    public void addItem(Item item) {
+        this.ensureLoaded();
+        super.addItem(item);
+        if (this.monthlyTotals != null) {
+            this.monthlyTotals.add(this.ledger.getDate(), (Entry) item);
+        }
+    }
+
+    @Override
+    public void addItemAtIndex(int index, Item item) throws IndexOutOfBoundsException {
+        this.ensureLoaded();
+        super.addItemAtIndex(index, item);
+        if (this.monthlyTotals != null) {
+            this.monthlyTotals.add(this.ledger.getDate(), (Entry) item);
+        }
+    }
+
+    @Override
+    public void addItemAndSort(Item item, Comparator<? super Item> comparator) {
+        this.ensureLoaded();
+        super.addItemAndSort(item, comparator);
+        if (this.monthlyTotals != null) {
+            this.monthlyTotals.add(this.ledger.getDate(), (Entry) item);
+        }
+    }
+
+    @Override
+    public Item removeItemAtIndex(int index) throws IndexOutOfBoundsException {
+        this.ensureLoaded();
+        Item item = super.removeItemAtIndex(index);
+        if (this.monthlyTotals != null) {
+            this.monthlyTotals.subtract(this.ledger.getDate(), (Entry) item);
+        }
+        return item;
+    }
+
+    @Override
+    public void removeAllItems() {
+        this.ensureLoaded();
+        if (this.monthlyTotals != null) {
+            this.applyAllToMonthlyTotals(false);
+        }
+        super.removeAllItems();
+    }
+
+    @Override
+    public int getListSize() {
+        return this.isLoaded() ? super.getListSize() : this.deferredSummary.getEntryCount();
+    }
+
+    @Override
+    public Item getItemAtIndex(int index) throws IndexOutOfBoundsException {
+        this.ensureLoaded();
+        return super.getItemAtIndex(index);
+    }
+
+    @Override
+    public ArrayList<Item> getItems() {
+        this.ensureLoaded();
+        return super.getItems();
+    }
+
+    @Override
+    public boolean isItemDuplicate(Item item) {
+        this.ensureLoaded();
+        return super.isItemDuplicate(item);
+    }
+
+    @Override
+    public int findIndexOfItem(Item item) {
+        this.ensureLoaded();
+        return super.findIndexOfItem(item);
+    }
+
+    @Override
+    public void addToLookup(Item item) {
+        this.ensureLoaded();
+        super.addToLookup(item);
+    }
+
+    @Override
+    public void removeFromLookup(Item item) {
+        this.ensureLoaded();
+        super.removeFromLookup(item);
+    }
+
+    @Override
+    public void printList(int fromIndex, int toIndex) {
+        this.ensureLoaded();
+        String title = this.getWindowTitle(String.format("List of Entries for Ledger [%s]", this.ledger),
+            fromIndex, toIndex);
+        String header = "Entry Number;Entry Type;Category;Amount;Time;Description                    ";
+        Iterator<String> rows = (this.getListSize() == 0)
+            ? List.of("No entries created               ").iterator()
+            : this.getRowIterator(fromIndex, toIndex);
+        TablePrinter.printList(title, header, rows);
+    }
+
+    @Override
+    public Iterator<String> getRowIterator(int fromIndex, int toIndex) {
+        this.ensureLoaded();
+        return TablePrinter.getNumberedRows(fromIndex, toIndex, this::getEntryString);
+    }
+
+    /**
+     * Returns the string form of the entry at the given zero-based index, as given by
+     * {@link Entry#toString()}.
+     *
+     * @param index Zero-based index of the entry
+     * @return String form of the entry
+     */
+    protected String getEntryString(int index) {
+        return super.items.get(index).toString();
     }
 
     public void setLedger(Ledger ledger) {
@@ -0,0 +1,117 @@
+package seedu.financeit.datatrackers.entrytracker;
+
+import seedu.financeit.common.Common;
+import seedu.financeit.datatrackers.manualtracker.MonthlyTotals;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Objects;
+
+/**
+ * Number of entries in an entry list, and their total amounts by entry type and category.
+ * Stands in for the entries of a ledger that have not been loaded yet, so that they count
+ * towards the monthly totals without being loaded.
+ */
+public class EntrySummary {
+    private static final String TOTAL_SEPARATOR = ",";
+    private static final String FIELD_SEPARATOR = ":";
+
+    private int entryCount = 0;
+    // Totals by entry type and category, at the same position in each list. Amounts are in cents.
+    private ArrayList<Common.EntryType> entryTypes = new ArrayList<>();
+    private ArrayList<String> categories = new ArrayList<>();
+    private ArrayList<Long> totals = new ArrayList<>();
+
+    /**
+     * Returns the summary of the entries currently in the given list.
+     *
+     * @param entryList List of entries to summarise
+     * @return Summary of the entries
+     */
+    public static EntrySummary of(EntryList entryList) {
+        EntrySummary summary = new EntrySummary();
+        int size = entryList.getListSize();
+        for (int i = 0; i < size; i++) {
+            Entry entry = (Entry) entryList.getItemAtIndex(i);
+            summary.addTotal(entry.getEntryType(), entry.getCategory(), entry.getAmount().getCents());
+        }
+        summary.entryCount = size;
+        return summary;
+    }
+
+    /**
+     * Reads a summary in the form given by {@link #toString()}.
+     *
+     * @param entryCount Number of entries
+     * @param totals Totals by entry type and category, e.g. "EXP:FOOD:550,INC:SALARY:10000"
+     * @return Summary with the given count and totals
+     * @throws IllegalArgumentException If the totals cannot be read
+     */
+    public static EntrySummary parse(int entryCount, String totals) throws IllegalArgumentException {
+        EntrySummary summary = new EntrySummary();
+        summary.entryCount = entryCount;
+        if (totals.isEmpty()) {
+            return summary;
+        }
+        for (String total : totals.split(TOTAL_SEPARATOR)) {
+            String[] fields = total.split(FIELD_SEPARATOR, -1);
+            if (fields.length != 3) {
+                throw new IllegalArgumentException("Total is not recognised: " + total);
+            }
+            String category = fields[1].isEmpty() ? null : fields[1];
+            summary.addTotal(Common.EntryType.valueOf(fields[0]), category, Long.parseLong(fields[2]));
+        }
+        return summary;
+    }
+
+    private void addTotal(Common.EntryType entryType, String category, long cents) {
+        for (int i = 0; i < this.totals.size(); i++) {
+            if (this.entryTypes.get(i) == entryType && Objects.equals(this.categories.get(i), category)) {
+                this.totals.set(i, this.totals.get(i) + cents);
+                return;
+            }
+        }
+        this.entryTypes.add(entryType);
+        this.categories.add(category);
+        this.totals.add(cents);
+    }
+
+    public int getEntryCount() {
+        return this.entryCount;
+    }
+
+    /**
+     * Adds the totals to, or subtracts them from, the given monthly totals.
+     *
+     * @param monthlyTotals Totals of a ledger list
+     * @param date Date of the ledger that the entries belong to
+     * @param isAdding Whether to add the totals instead of subtracting them
+     */
+    public void applyTo(MonthlyTotals monthlyTotals, LocalDate date, boolean isAdding) {
+        for (int i = 0; i < this.totals.size(); i++) {
+            if (isAdding) {
+                monthlyTotals.add(date, this.entryTypes.get(i), this.categories.get(i), this.totals.get(i));
+            } else {
+                monthlyTotals.subtract(date, this.entryTypes.get(i), this.categories.get(i), this.totals.get(i));
+            }
+        }
+    }
+
+    /**
+     * Returns the totals, in the form read by {@link #parse(int, String)}.
+     */
+    @Override
+    public String toString() {
+        StringBuilder output = new StringBuilder();
+        for (int i = 0; i < this.totals.size(); i++) {
+            if (i > 0) {
+                output.append(TOTAL_SEPARATOR);
+            }
+            String category = this.categories.get(i);
+            output.append(this.entryTypes.get(i).name()).append(FIELD_SEPARATOR)
+                .append((category == null) ? "" : category).append(FIELD_SEPARATOR)
+                .append(this.totals.get(i));
+        }
+        return output.toString();
+    }
+}
@@ -3,6 +3,7 @@ package seedu.financeit.datatrackers.entrytracker;
 import seedu.financeit.common.CategoryMap;
 import seedu.financeit.common.CommandPacket;
 import seedu.financeit.common.Common;
+import seedu.financeit.common.ListWindowHandler;
 import seedu.financeit.common.exceptions.DuplicateInputException;
 import seedu.financeit.common.exceptions.IncompatibleParamsException;
 import seedu.financeit.common.exceptions.InsufficientParamsException;
@@ -46,6 +47,10 @@ public class EntryTracker {
         return entryList;
     }
 
+    public static Ledger getCurrLedger() {
+        return currLedger;
+    }
+
     public static void setCurrLedger(Ledger ledger) {
         currLedger = ledger;
         entryList = ledger.entryList;
@@ -108,18 +113,20 @@ public class EntryTracker {
     static void handleDeleteEntry() {
         RetrieveEntryHandler retrieveEntryHandler = RetrieveEntryHandler.getInstance();
         Entry deletedEntry;
+        int index;
         try {
             // RetrieveEntryCommand instance retrieves the corresponding entry instance
             // from the entryList instance.
             retrieveEntryHandler.handlePacket(packet, entryList);
             deletedEntry = (Entry) entryList.getItemAtCurrIndex();
+            index = entryList.getIndexToModify();
 
             // Deletion of entry.
             entryList.removeItemAtCurrIndex();
 
             UiManager.printWithStatusIcon(Common.PrintType.SYS_MSG,
                     String.format("%s deleted!", deletedEntry.getName()));
-            ManualTrackerSaver.getInstance().save();
+            ManualTrackerSaver.getInstance().journalDeleteEntry(currLedger, index);
         } catch (InsufficientParamsException | ItemNotFoundException exception) {
             UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE,
                     exception.getMessage());
@@ -132,7 +139,14 @@ public class EntryTracker {
     }
 
     static void handleShowEntry() {
-        entryList.printList();
+        ListWindowHandler listWindowHandler = ListWindowHandler.getInstance();
+        try {
+            listWindowHandler.handlePacket(packet, entryList.getListSize(), false);
+            entryList.printList(listWindowHandler.getFromIndex(), listWindowHandler.getToIndex());
+        } catch (InsufficientParamsException | IncompatibleParamsException | ItemNotFoundException exception) {
+            UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE,
+                exception.getMessage());
+        }
     }
 
     static void handleCreateEntry(Boolean... isPrintGoalInput) {
@@ -162,7 +176,9 @@ public class EntryTracker {
 
             UiManager.printWithStatusIcon(Common.PrintType.SYS_MSG,
                     String.format("%s created!", entry.getName()));
-            ManualTrackerSaver.getInstance().save();
+            ManualTrackerSaver.getInstance().journalCreateEntry(currLedger, entry);
+            // Notices about the goal of the month do not fail the entry.
+            UiManager.reportInputSucceeded();
         } catch (InsufficientParamsException | IncompatibleParamsException | ItemNotFoundException exception) {
             UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE,
                     exception.getMessage());
@@ -183,10 +199,12 @@ public class EntryTracker {
 
         Entry entry;
         Entry prevEntry = null;
+        int index = -1;
         try {
             // RetrieveEntryCommand instance retrieves the corresponding entry instance
             // from the entryList instance.
             retrieveEntryHandler.handlePacket(packet, entryList);
+            index = entryList.getIndexToModify();
             // Remove the entry from the list.
             entry = (Entry) entryList.popItemAtCurrIndex();
             prevEntry = new Entry(entry);
@@ -199,11 +217,12 @@ public class EntryTracker {
             entryList.addItem(entry);
             UiManager.printWithStatusIcon(Common.PrintType.SYS_MSG,
                     String.format("%s edited!", entry.getName()));
-            ManualTrackerSaver.getInstance().save();
+            ManualTrackerSaver.getInstance().journalEditEntry(currLedger, index, entry);
         } catch (InsufficientParamsException | IncompatibleParamsException | ItemNotFoundException exception) {
-            // If the edited entry is not valid, and if an entry is retrieved, add back in the previous entry.
+            // If the edited entry is not valid, and if an entry is retrieved, put the previous entry back
+            // where it was. Nothing is journaled, so the list must stay as the journal replays it.
             if (prevEntry != null) {
-                entryList.addItem(prevEntry);
+                entryList.addItemAtIndex(index, prevEntry);
             }
             UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE,
                     exception.getMessage());
@@ -221,7 +240,8 @@ public class EntryTracker {
         TablePrinter.addRow("1.;New entry;new /time {HHMM} /desc {string} /cat {STRING_CATEGORY} -[i/e] "
             + "/amt {DOUBLE (Positive, 2 decimal places) }");
         TablePrinter.addRow("2.;Edit entry;edit /id {INTEGER} { {PARAM_TYPE} {PARAM} }...");
-        TablePrinter.addRow("3.;list entries;list");
+        TablePrinter.addRow("3.;list entries;list [/page {INTEGER} /size {INTEGER}] [/head {INTEGER}] "
+            + "[/tail {INTEGER}]");
         TablePrinter.addRow("4.;delete entry;delete /id {INTEGER}");
         TablePrinter.addRow("5.;list transaction categories;cat");
         TablePrinter.addRow("6.;exit to manual tracker;exit");
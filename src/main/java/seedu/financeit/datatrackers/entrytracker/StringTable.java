@@ -0,0 +1,85 @@
+package seedu.financeit.datatrackers.entrytracker;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * Table of distinct strings, each identified by an id.
+ * Lets columnar entry lists store each distinct string once, and refer to it by id.
+ * Strings added with getId are never removed, so their ids stay valid for as long as the table is in use.
+ * Strings added with acquire are counted, and removed once each acquire has been matched by a release;
+ * their ids are then given to new strings.
+ * A table should only be used one of the two ways.
+ */
+class StringTable {
+    private HashMap<String, Integer> idsByString = new HashMap<>();
+    private ArrayList<String> strings = new ArrayList<>();
+    private int[] counts = new int[0];
+    private ArrayList<Integer> freeIds = new ArrayList<>();
+
+    /**
+     * Returns the id of the given string, adding the string to the table if it is not in it.
+     *
+     * @param string String to look up
+     * @return Id of the string
+     */
+    synchronized int getId(String string) {
+        Integer id = this.idsByString.get(string);
+        if (id == null) {
+            if (this.freeIds.isEmpty()) {
+                id = this.strings.size();
+                this.strings.add(string);
+            } else {
+                id = this.freeIds.remove(this.freeIds.size() - 1);
+                this.strings.set(id, string);
+            }
+            this.idsByString.put(string, id);
+        }
+        return id;
+    }
+
+    /**
+     * Returns the id of the given string, adding the string to the table if it is not in it,
+     * and counts one more use of it.
+     *
+     * @param string String to look up
+     * @return Id of the string
+     */
+    synchronized int acquire(String string) {
+        int id = this.getId(string);
+        if (id >= this.counts.length) {
+            this.counts = Arrays.copyOf(this.counts, Math.max(id + 1, this.counts.length * 2));
+        }
+        this.counts[id]++;
+        return id;
+    }
+
+    /**
+     * Counts one less use of the string with the given id, removing it from the table if it is no longer used.
+     *
+     * @param id Id returned by acquire
+     */
+    synchronized void release(int id) {
+        this.counts[id]--;
+        if (this.counts[id] == 0) {
+            this.idsByString.remove(this.strings.get(id));
+            this.strings.set(id, null);
+            this.freeIds.add(id);
+        }
+    }
+
+    /**
+     * Returns the id of the given string, without adding it to the table.
+     *
+     * @param string String to look up
+     * @return Id of the string, or -1 if it is not in the table
+     */
+    synchronized int findId(String string) {
+        return this.idsByString.getOrDefault(string, -1);
+    }
+
+    synchronized String getString(int id) {
+        return this.strings.get(id);
+    }
+}
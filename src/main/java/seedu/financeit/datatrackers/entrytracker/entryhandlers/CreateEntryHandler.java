@@ -3,6 +3,7 @@ package seedu.financeit.datatrackers.entrytracker.entryhandlers;
 import seedu.financeit.common.CategoryMap;
 import seedu.financeit.common.CommandPacket;
 import seedu.financeit.common.Common;
+import seedu.financeit.common.Money;
 import seedu.financeit.common.ParamHandler;
 import seedu.financeit.common.exceptions.IncompatibleParamsException;
 import seedu.financeit.common.exceptions.InsufficientParamsException;
@@ -90,7 +91,7 @@ public class CreateEntryHandler extends ParamHandler {
             this.entry.setTime(time);
             break;
         case PARAM_AMOUNT:
-            Double amount = ParamChecker.getInstance().checkAndReturnDoubleSigned(paramType);
+            Money amount = ParamChecker.getInstance().checkAndReturnMoney(paramType);
             this.entry.setAmount(amount);
             break;
         case PARAM_INC:
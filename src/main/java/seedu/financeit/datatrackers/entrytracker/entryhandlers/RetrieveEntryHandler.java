@@ -53,7 +53,7 @@ public class RetrieveEntryHandler extends ParamHandler {
         switch (paramType) {
         //RetrieveEntryHandler is only concerned with index of entry.
         case ParamChecker.PARAM_INDEX:
-            int index = ParamChecker.getInstance().checkAndReturnIndex(paramType, this.entryList.getItems());
+            int index = ParamChecker.getInstance().checkAndReturnIndex(paramType, this.entryList.getListSize());
             this.entryList.setIndexToModify(index, paramType);
             return;
         default:
@@ -1,18 +1,20 @@
 package seedu.financeit.datatrackers.goaltracker;
 
 import seedu.financeit.common.Common;
+import seedu.financeit.common.Money;
 import seedu.financeit.data.Goal;
 import seedu.financeit.datatrackers.entrytracker.Entry;
-import seedu.financeit.datatrackers.entrytracker.EntryList;
 import seedu.financeit.datatrackers.manualtracker.Ledger;
-import seedu.financeit.datatrackers.manualtracker.LedgerList;
 import seedu.financeit.datatrackers.manualtracker.ManualTracker;
+import seedu.financeit.datatrackers.recurringtracker.RecurringTracker;
 import seedu.financeit.parser.InputParser;
 import seedu.financeit.ui.TablePrinter;
 import seedu.financeit.ui.UiManager;
+import seedu.financeit.utils.RunHistory;
 import seedu.financeit.utils.storage.GoalTrackerSaver;
 
 import java.time.DateTimeException;
+import java.time.LocalDate;
 import java.time.Month;
 
 /**
@@ -30,11 +32,8 @@ public class GoalTracker {
     private static boolean exitTracker = false;
     private static TotalGoalList totalGoalList = new TotalGoalList();
     private static Entry entryData;
-    private static String entryCategory;
-    private static double totalExpenses = 0.0;
-    private static double expenses = 0.0;
-    private static double incomes = 0.0;
-    private static double totalIncomes = 0.0;
+    private static Money totalExpenses = Money.ZERO;
+    private static Money totalIncomes = Money.ZERO;
     private static Month month;
     private static Month ledgerMonth;
     private static boolean isExist = false;
@@ -105,7 +104,7 @@ public class GoalTracker {
             } else if (userInput[1].equals("income")) {
                 editIncomeGoal(userInput);
             }
-            GoalTrackerSaver.getInstance().save();
+            GoalTrackerSaver.getInstance().saveChange();
         } catch (IndexOutOfBoundsException e) {
             UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE, "Please enter either expense "
                     + "or income");
@@ -129,7 +128,7 @@ public class GoalTracker {
                 if (totalGoalList.getGoal().get(i).getExpenseMonth().equals(month)) {
                     isExist = true;
                     goalToSet = new Goal(expenseGoal, "Expense", month);
-                    totalGoalList.getGoal().set(i, goalToSet);
+                    totalGoalList.setGoal(i, goalToSet);
                     UiManager.printWithStatusIcon(Common.PrintType.GOAL_STATUS, "You have successfully"
                             + " edited your expense goal for " + month + " to $" + expenseGoal);
 
@@ -156,7 +155,7 @@ public class GoalTracker {
                 if (totalGoalList.getGoal().get(i).getIncomeMonth().equals(month)) {
                     isExist = true;
                     goalToSet = new Goal(incomeGoal, "Income", month);
-                    totalGoalList.getGoal().set(i, goalToSet);
+                    totalGoalList.setGoal(i, goalToSet);
                     UiManager.printWithStatusIcon(Common.PrintType.GOAL_STATUS, "You have successfully"
                             + " edited your income goal for " + month + " to $" + incomeGoal);
                     execute();
@@ -250,7 +249,7 @@ public class GoalTracker {
                     totalGoalList.addGoal(goalToSet);
                     UiManager.printWithStatusIcon(Common.PrintType.GOAL_STATUS, "You have set $" + expenseGoal
                             + " as your Expense Goals for " + month);
-                    GoalTrackerSaver.getInstance().save();
+                    GoalTrackerSaver.getInstance().saveChange();
                 }
             }
             month = null;
@@ -299,7 +298,7 @@ public class GoalTracker {
                     totalGoalList.addGoal(goalToSet);
                     UiManager.printWithStatusIcon(Common.PrintType.GOAL_STATUS, "You have set $" + incomeGoal
                             + " as your Income Goals for " + month);
-                    GoalTrackerSaver.getInstance().save();
+                    GoalTrackerSaver.getInstance().saveChange();
                 }
             }
             month = null;
@@ -327,8 +326,7 @@ public class GoalTracker {
      */
     public static void targetGoalTracker(Entry entry) {
         entryData = entry;
-        entryCategory = entryData.getEntryType().toString();
-        if (entryCategory.equals("Expense")) {
+        if (entryData.getEntryType() == Common.EntryType.EXP) {
             handleNewExpenses();
         } else {
             handleNewIncomes();
@@ -347,30 +345,51 @@ public class GoalTracker {
         ledgerMonth = ledger.getDate().getMonth();
     }
 
+    /**
+     * Returns the running total of entries of the given type for the given month,
+     * as maintained by the ledger list, so no ledgers or entries are scanned.
+     *
+     * @param month month of the year, or null if no ledger has been opened
+     * @param entryType type of entries to total
+     * @return total amount of the entries
+     */
+    private static Money getMonthlyTotal(Month month, Common.EntryType entryType) {
+        if (month == null) {
+            return Money.ZERO;
+        }
+        return ManualTracker.getLedgerList().getMonthlyTotals().getTotal(month, entryType);
+    }
+
+    /**
+     * This function will print the total of the recurring entries of the given type
+     * that are still to come this month from today, if the goal being displayed is for this month.
+     */
+    private static void printRecurringForecast(Common.EntryType entryType) {
+        LocalDate today = RunHistory.getCurrentRunDateTime().toLocalDate();
+        if (month != today.getMonth()) {
+            return;
+        }
+        LocalDate startOfNextMonth = today.withDayOfMonth(1).plusMonths(1);
+        Money forecast = RecurringTracker.getEntries().getProjectedTotal(today, startOfNextMonth,
+                entryType);
+        if (forecast.compareTo(Money.ZERO) > 0) {
+            String phrase = entryType == Common.EntryType.EXP ? "payments" : "income";
+            UiManager.printWithStatusIcon(Common.PrintType.SYS_MSG, "$" + forecast + " of recurring "
+                    + phrase + " is still to come in " + month + ", from today.");
+        }
+    }
+
     /**
      * This function will handle the total current
      * expenses being made by the user for the month.
      */
     public static void handleCurrentExpenses() {
-        LedgerList ledgerList = ManualTracker.getLedgerList();
-        totalExpenses = 0;
-        int ledgerSize = ledgerList.getListSize();
-        for (int i = 0; i < ledgerSize; i++) {
-            Ledger ledger = (Ledger) ledgerList.getItemAtIndex(i);
+        try {
             month = Month.of(Integer.parseInt(cmdPacket[3]));
-            if (ledger.getDate().getMonth().equals(month)) {
-                EntryList entryList = ledger.entryList;
-                int entrySize = entryList.getListSize();
-                for (int x = 0; x < entrySize; x++) {
-                    Entry entry = (Entry) entryList.getItemAtIndex(x);
-                    if (entry.getEntryType().toString().equals("Expense")) {
-                        expenses = entry.getAmount();
-                        totalExpenses += expenses;
-                    } else {
-                        totalExpenses += 0;
-                    }
-                }
-            }
+            totalExpenses = getMonthlyTotal(month, Common.EntryType.EXP);
+        } catch (DateTimeException | NumberFormatException e) {
+            // The goal status check reports the invalid month.
+            totalExpenses = Money.ZERO;
         }
         handleCurrentExpenseGoalStatus();
     }
@@ -405,7 +424,10 @@ public class GoalTracker {
                 UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE, "You did not set a expense "
                         + "goal for " + month);
             }
+            printRecurringForecast(Common.EntryType.EXP);
             printCurrentExpenseGoalStatus();
+            // The status is displayed even if no goal is set for the month.
+            UiManager.reportInputSucceeded();
         } catch (DateTimeException e) {
             UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE, "Please enter a valid "
                     + "int month ");
@@ -420,8 +442,8 @@ public class GoalTracker {
      * with regards to the goal the user set.
      */
     public static void printCurrentExpenseGoalStatus() {
-        double goalDifference = expenseGoal - totalExpenses;
-        if (goalDifference < 0) {
+        Money goalDifference = Money.ofCents(expenseGoal * 100L).subtract(totalExpenses);
+        if (goalDifference.isNegative()) {
             UiManager.printWithStatusIcon(Common.PrintType.GOAL_STATUS, "This is your current "
                     + "expense goal status for " + month + ". You have spent $" + totalExpenses + " / $"
                     + expenseGoal + ". You have exceeded your " + "expense budget.");
@@ -452,30 +474,12 @@ public class GoalTracker {
 
     /**
      * This function will handle the expense by
-     * summing up the total expense being made by the
+     * looking up the total expense being made by the
      * user based on the indicated month. Next calling
      * the function to handle the expense goal.
      */
     public static void handleNewExpenses() {
-        LedgerList ledgerList = ManualTracker.getLedgerList();
-        totalExpenses = 0;
-        int ledgerSize = ledgerList.getListSize();
-        for (int i = 0; i < ledgerSize; i++) {
-            Ledger ledger = (Ledger) ledgerList.getItemAtIndex(i);
-            if (ledger.getDate().getMonth().equals(ledgerMonth)) {
-                EntryList entryList = ledger.entryList; // Get all the entry from the respective month ledger
-                int entrySize = entryList.getListSize();
-                for (int x = 0; x < entrySize; x++) {
-                    Entry entry = (Entry) entryList.getItemAtIndex(x);
-                    if (entry.getEntryType().toString().equals("Expense")) {
-                        expenses = entry.getAmount();
-                        totalExpenses += expenses;  // For each expenses entry we sum up the total
-                    } else {
-                        totalExpenses += 0;
-                    }
-                }
-            }
-        }
+        totalExpenses = getMonthlyTotal(ledgerMonth, Common.EntryType.EXP);
         handleNewExpenseGoalStatus(); // call print method to display the goal status for the month
     }
 
@@ -518,8 +522,8 @@ public class GoalTracker {
      * status.
      */
     public static void printNewExpenseGoalStatus() {
-        double goalDifference = expenseGoal - totalExpenses;
-        if (goalDifference < 0) {
+        Money goalDifference = Money.ofCents(expenseGoal * 100L).subtract(totalExpenses);
+        if (goalDifference.isNegative()) {
             UiManager.printWithStatusIcon(Common.PrintType.GOAL_STATUS, "Expense Budget Updated, "
                     + " You have spent $" + totalExpenses + " / $" + expenseGoal + " for " + ledgerMonth
                     + ". You have reached/exceeded your expense budget");
@@ -536,25 +540,12 @@ public class GoalTracker {
      * income being saved by the user for the month.
      */
     public static void handleCurrentIncomes() {
-        LedgerList ledgerList = ManualTracker.getLedgerList();
-        totalIncomes = 0;
-        int ledgerSize = ledgerList.getListSize();
-        for (int i = 0; i < ledgerSize; i++) {
-            Ledger ledger = (Ledger) ledgerList.getItemAtIndex(i);
+        try {
             month = Month.of(Integer.parseInt(cmdPacket[3]));
-            if (ledger.getDate().getMonth().equals(month)) {
-                EntryList entryList = ledger.entryList;
-                int entrySize = entryList.getListSize();
-                for (int x = 0; x < entrySize; x++) {
-                    Entry entry = (Entry) entryList.getItemAtIndex(x);
-                    if (entry.getEntryType().toString().equals("Income")) {
-                        incomes = entry.getAmount();
-                        totalIncomes += incomes;
-                    } else {
-                        totalIncomes += 0;
-                    }
-                }
-            }
+            totalIncomes = getMonthlyTotal(month, Common.EntryType.INC);
+        } catch (DateTimeException | NumberFormatException e) {
+            // The goal status check reports the invalid month.
+            totalIncomes = Money.ZERO;
         }
         handleCurrentIncomeGoalStatus();
     }
@@ -589,7 +580,10 @@ public class GoalTracker {
                 UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE, "You did not set a income "
                         + "goal for " + month);
             }
+            printRecurringForecast(Common.EntryType.INC);
             printCurrentIncomeGoalStatus();
+            // The status is displayed even if no goal is set for the month.
+            UiManager.reportInputSucceeded();
         } catch (DateTimeException e) {
             UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE, "Please enter a valid "
                     + "int month ");
@@ -604,8 +598,8 @@ public class GoalTracker {
      * with regards to the goal the user set.
      */
     public static void printCurrentIncomeGoalStatus() {
-        double goalDifference = incomeGoal - totalIncomes;
-        if (goalDifference < 0) {
+        Money goalDifference = Money.ofCents(incomeGoal * 100L).subtract(totalIncomes);
+        if (goalDifference.isNegative()) {
             UiManager.printWithStatusIcon(Common.PrintType.GOAL_STATUS, "This is your current "
                     + "income goal status for " + month + ". You have saved $" + totalIncomes + " / $"
                     + incomeGoal + ". You have met your " + "revenue goal.");
@@ -637,30 +631,12 @@ public class GoalTracker {
 
     /**
      * This function will handle the income by
-     * summing up the total income being saved by the
+     * looking up the total income being saved by the
      * user based on the indicated month. Next calling
      * the function handle the income goal.
      */
     public static void handleNewIncomes() {
-        LedgerList ledgerList = ManualTracker.getLedgerList();
-        totalIncomes = 0;
-        int ledgerSize = ledgerList.getListSize();
-        for (int i = 0; i < ledgerSize; i++) {
-            Ledger ledger = (Ledger) ledgerList.getItemAtIndex(i);
-            if (ledger.getDate().getMonth().equals(ledgerMonth)) {
-                EntryList entryList = ledger.entryList; // Get all entry for the respective month ledger
-                int entrySize = entryList.getListSize();
-                for (int x = 0; x < entrySize; x++) {
-                    Entry entry = (Entry) entryList.getItemAtIndex(x);
-                    if (entry.getEntryType().toString().equals("Income")) {
-                        incomes = entry.getAmount();
-                        totalIncomes += incomes;    // For each income entry we sum up the total
-                    } else {
-                        totalIncomes += 0;
-                    }
-                }
-            }
-        }
+        totalIncomes = getMonthlyTotal(ledgerMonth, Common.EntryType.INC);
         handleNewIncomeGoalStatus();
     }
 
@@ -703,8 +679,8 @@ public class GoalTracker {
      * status.
      */
     public static void printNewIncomeGoalStatus() {
-        double goalDifference = incomeGoal - totalIncomes;
-        if (goalDifference < 0) {
+        Money goalDifference = Money.ofCents(incomeGoal * 100L).subtract(totalIncomes);
+        if (goalDifference.isNegative()) {
             UiManager.printWithStatusIcon(Common.PrintType.GOAL_STATUS, "Revenue Goal Updated, "
                     + " You have saved $" + totalIncomes + " / $" + incomeGoal + " for " + ledgerMonth
                     + ". You have met your revenue goal.");
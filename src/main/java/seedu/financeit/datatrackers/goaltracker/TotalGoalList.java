@@ -9,6 +9,8 @@ import seedu.financeit.data.Goal;
  */
 public class TotalGoalList {
     private ArrayList<Goal> goals = new ArrayList<>();
+    // Whether the goals have changed since the list was last saved.
+    private boolean isDirty = false;
 
     /**
      * This will add new goal to the arraylist.
@@ -16,6 +18,40 @@ public class TotalGoalList {
      */
     public void addGoal(Goal newGoal) {
         this.goals.add(newGoal);
+        this.isDirty = true;
+    }
+
+    /**
+     * This will replace the goal at the given index.
+     * @param index index of the goal to replace
+     * @param newGoal new Goal contains (amt,cat,month)
+     */
+    public void setGoal(int index, Goal newGoal) {
+        this.goals.set(index, newGoal);
+        this.isDirty = true;
+    }
+
+    /**
+     * This will remove all goals.
+     */
+    public void clear() {
+        this.goals.clear();
+        this.isDirty = true;
+    }
+
+    /**
+     * This is to check whether the goals have changed since they were last saved.
+     * @return whether the goals have changed
+     */
+    public boolean isDirty() {
+        return this.isDirty;
+    }
+
+    /**
+     * This marks the goals as matching the save file.
+     */
+    public void markClean() {
+        this.isDirty = false;
     }
 
     /**
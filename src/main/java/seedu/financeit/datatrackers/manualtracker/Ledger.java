@@ -4,13 +4,14 @@ import seedu.financeit.data.DateTimeItem;
 import seedu.financeit.datatrackers.entrytracker.EntryList;
 
 import java.time.LocalDate;
+import java.util.Objects;
 
 /**
  * Represents a list of entries with common date.
  */
 public class Ledger extends DateTimeItem {
     protected LocalDate date = null;
-    public EntryList entryList = new EntryList(this);
+    public EntryList entryList = EntryList.create(this);
 
     public Ledger() {
         super();
@@ -20,15 +21,34 @@ public class Ledger extends DateTimeItem {
     @Override
     public String getName() {
         return String.format("Ledger %d : [ %s ]", this.index + 1,
-            this.dateTimeOutputManager.getSingleDateFormatted("date"));
+            this.getDateTimeOutputManager().getSingleDateFormatted("date"));
+    }
+
+    /**
+     * Returns whether the entries of the ledger have changed since the ledger was last saved.
+     */
+    public boolean isDirty() {
+        return this.entryList.isDirty();
+    }
+
+    public void markClean() {
+        this.entryList.markClean();
     }
 
     @Override
     public boolean equals(Object object) {
+        if (!(object instanceof Ledger)) {
+            return false;
+        }
         Ledger entry = (Ledger) object;
         return (this.getDate().equals(entry.getDate()));
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(this.getDate());
+    }
+
     @Override
     public String toString() {
         return String.format("%s", this.getDate());
@@ -0,0 +1,57 @@
+package seedu.financeit.datatrackers.manualtracker;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Storage for ledgers that have been moved out of the ledger list because they are rarely used.
+ * The entries of archived ledgers still count towards the monthly totals of the ledger list, and
+ * archived ledgers are moved back into the list when they are looked up by date, but not when they
+ * are only listed.
+ */
+public interface LedgerArchive {
+    /**
+     * Returns whether the ledger for the given date is archived.
+     *
+     * @param date Date of ledger
+     * @return Whether the ledger is archived
+     */
+    boolean contains(LocalDate date);
+
+    /**
+     * Returns the dates of the archived ledgers dated between the two dates, both inclusive, leaving the
+     * ledgers in the archive.
+     *
+     * @param startDate Earliest date of ledgers to return
+     * @param endDate Latest date of ledgers to return
+     * @return Dates of the archived ledgers, in date order
+     */
+    List<LocalDate> getDatesBetween(LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Removes the ledgers dated between the two dates, both inclusive, from the archive and returns
+     * them with their entries. The totals of their entries are subtracted from the given totals.
+     *
+     * @param startDate Earliest date of ledgers to restore
+     * @param endDate Latest date of ledgers to restore
+     * @param monthlyTotals Totals of the ledger list the ledgers are restored to
+     * @return Restored ledgers, in date order
+     */
+    List<Ledger> restoreBetween(LocalDate startDate, LocalDate endDate, MonthlyTotals monthlyTotals);
+
+    /**
+     * Removes the archived copy of the ledger for the given date, if any, as the ledger is in the list.
+     * The totals of its entries are subtracted from the given totals.
+     *
+     * @param date Date of ledger
+     * @param monthlyTotals Totals of the ledger list the ledger is in
+     */
+    void discard(LocalDate date, MonthlyTotals monthlyTotals);
+
+    /**
+     * Adds the totals of the entries of all archived ledgers to the given totals.
+     *
+     * @param monthlyTotals Totals of the ledger list
+     */
+    void addTotalsTo(MonthlyTotals monthlyTotals);
+}
@@ -1,19 +1,172 @@
 package seedu.financeit.datatrackers.manualtracker;
 
+import seedu.financeit.data.Item;
 import seedu.financeit.data.ItemList;
 import seedu.financeit.common.exceptions.ItemNotFoundException;
 import seedu.financeit.ui.TablePrinter;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
 
 /**
  * Maintains a list of ledgers.
+ * Alongside the positional list, ledgers are indexed by date so that lookups by date
+ * and date range queries do not need to scan the list.
  */
 public class LedgerList extends ItemList {
+    private NavigableMap<LocalDate, Ledger> ledgersByDate = new TreeMap<>();
+    private MonthlyTotals monthlyTotals = new MonthlyTotals();
+    // Archive that ledgers not in the list are restored from, or null if there is none.
+    private LedgerArchive archive = null;
+
     public LedgerList() {
 
     }
 
+    /**
+     * Sets the archive that ledgers are restored from when they are looked up by date but are not in
+     * the list. The monthly totals of this list are rebuilt from the ledgers in the list and the archived
+     * ledgers, so that the totals of the archive set before, e.g. before the archive was loaded again,
+     * are not counted twice.
+     *
+     * @param archive Archive of ledgers
+     */
+    public void setArchive(LedgerArchive archive) {
+        this.archive = archive;
+        for (Ledger ledger : this.ledgersByDate.values()) {
+            ledger.entryList.detachMonthlyTotals();
+        }
+        this.monthlyTotals.clear();
+        archive.addTotalsTo(this.monthlyTotals);
+        for (Ledger ledger : this.ledgersByDate.values()) {
+            archive.discard(ledger.getDate(), this.monthlyTotals);
+            ledger.entryList.attachMonthlyTotals(this.monthlyTotals);
+        }
+    }
+
+    /**
+     * Returns whether the ledger for the given date is in the archive instead of in the list.
+     *
+     * @param date Date of ledger
+     * @return Whether the ledger is archived
+     */
+    public boolean isArchived(LocalDate date) {
+        return this.archive != null && this.archive.contains(date);
+    }
+
+    /**
+     * Moves the archived ledgers dated between the two dates, both inclusive, back into the list.
+     */
+    private void restoreArchived(LocalDate startDate, LocalDate endDate) {
+        if (this.archive == null || startDate.isAfter(endDate)) {
+            return;
+        }
+        for (Ledger ledger : this.archive.restoreBetween(startDate, endDate, this.monthlyTotals)) {
+            this.addItem(ledger);
+        }
+    }
+
+    @Override
+    public void addItem(Item item) {
+        super.addItem(item);
+        Ledger ledger = (Ledger) item;
+        this.discardArchived(ledger);
+        this.ledgersByDate.put(ledger.getDate(), ledger);
+        ledger.entryList.attachMonthlyTotals(this.monthlyTotals);
+        // A ledger added to the list has not been saved as part of it, even if its entries have.
+        ledger.entryList.markDirty();
+    }
+
+    @Override
+    public void addItemAndSort(Item item, Comparator<? super Item> comparator) {
+        super.addItemAndSort(item, comparator);
+        Ledger ledger = (Ledger) item;
+        this.discardArchived(ledger);
+        this.ledgersByDate.put(ledger.getDate(), ledger);
+        ledger.entryList.attachMonthlyTotals(this.monthlyTotals);
+        // A ledger added to the list has not been saved as part of it, even if its entries have.
+        ledger.entryList.markDirty();
+    }
+
+    private void discardArchived(Ledger ledger) {
+        // Both copies exist only if saving was interrupted while ledgers were archived.
+        if (this.archive != null) {
+            this.archive.discard(ledger.getDate(), this.monthlyTotals);
+        }
+    }
+
+    @Override
+    public Item removeItemAtIndex(int index) throws IndexOutOfBoundsException {
+        Ledger ledger = (Ledger) super.removeItemAtIndex(index);
+        this.ledgersByDate.remove(ledger.getDate());
+        ledger.entryList.detachMonthlyTotals();
+        return ledger;
+    }
+
+    @Override
+    public void removeAllItems() {
+        for (Item item : super.items) {
+            ((Ledger) item).entryList.detachMonthlyTotals();
+        }
+        super.removeAllItems();
+        this.ledgersByDate.clear();
+        this.monthlyTotals.clear();
+        if (this.archive != null) {
+            this.archive.addTotalsTo(this.monthlyTotals);
+        }
+    }
+
+    /**
+     * Returns the running totals of the entries in all ledgers in this list.
+     *
+     * @return Monthly totals
+     */
+    public MonthlyTotals getMonthlyTotals() {
+        return this.monthlyTotals;
+    }
+
+    /**
+     * Returns whether ledgers have been added or removed, or the entries of any ledger have changed,
+     * since the list was last saved.
+     */
+    @Override
+    public boolean isDirty() {
+        if (super.isDirty()) {
+            return true;
+        }
+        for (Item item : super.items) {
+            if (((Ledger) item).isDirty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void markClean() {
+        super.markClean();
+        for (Item item : super.items) {
+            ((Ledger) item).markClean();
+        }
+    }
+
+    @Override
+    public boolean isItemDuplicate(Item item) {
+        return this.ledgersByDate.containsKey(((Ledger) item).getDate());
+    }
+
+    @Override
+    public int findIndexOfItem(Item item) {
+        Ledger ledger = this.ledgersByDate.get(((Ledger) item).getDate());
+        return (ledger == null) ? -1 : ledger.getIndex();
+    }
+
     /**
      * Given a date, returns the zero-based index of the ledger for that date.
      *
@@ -22,26 +175,100 @@ public class LedgerList extends ItemList {
      * @throws ItemNotFoundException When there is no ledger for that date
      */
     public int getIndexFromDate(LocalDate date) throws ItemNotFoundException {
-        for (int i = 0; i < super.getListSize(); i++) {
-            Ledger ledger = (Ledger) super.items.get(i);
-            if (ledger.getDate().equals(date)) {
-                return i;
-            }
+        return this.getLedgerFromDate(date).getIndex();
+    }
+
+    /**
+     * Given a date, returns the ledger for that date. An archived ledger is moved back into the list.
+     *
+     * @param date Date of ledger
+     * @return Ledger for that date
+     * @throws ItemNotFoundException When there is no ledger for that date
+     */
+    public Ledger getLedgerFromDate(LocalDate date) throws ItemNotFoundException {
+        if (!this.ledgersByDate.containsKey(date)) {
+            this.restoreArchived(date, date);
+        }
+        Ledger ledger = this.ledgersByDate.get(date);
+        if (ledger == null) {
+            throw new ItemNotFoundException();
         }
-        throw new ItemNotFoundException();
+        return ledger;
+    }
+
+    /**
+     * Returns the ledgers dated between the two dates, both inclusive, in date order.
+     * Archived ledgers in the range are moved back into the list first.
+     * The returned collection is a read-only view backed by the date index, not a copy.
+     *
+     * @param startDate Earliest date of ledgers to return
+     * @param endDate Latest date of ledgers to return
+     * @return Ledgers between the two dates
+     */
+    public Collection<Ledger> getLedgersBetween(LocalDate startDate, LocalDate endDate) {
+        this.restoreArchived(startDate, endDate);
+        return this.getListedLedgersBetween(startDate, endDate);
+    }
+
+    /**
+     * Returns the ledgers in the list dated between the two dates, both inclusive, in date order,
+     * without restoring archived ledgers.
+     *
+     * @param startDate Earliest date of ledgers to return
+     * @param endDate Latest date of ledgers to return
+     * @return Ledgers between the two dates
+     */
+    public Collection<Ledger> getListedLedgersBetween(LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableCollection(
+            this.ledgersByDate.subMap(startDate, true, endDate, true).values());
     }
 
     @Override
-    public void printList() {
-        TablePrinter.setTitle("List of Ledgers");
-        TablePrinter.addRow("Ledger Number;Ledger Date");
-        if (super.getListSize() == 0) {
-            TablePrinter.addRow("No ledgers created;               ");
-        } else {
-            for (int i = 0; i < super.getListSize(); i++) {
-                TablePrinter.addRow(String.format("%s;%s", i + 1, this.items.get(i)));
-            }
+    public void printList(int fromIndex, int toIndex) {
+        Iterator<String> rows = (super.getListSize() == 0)
+            ? List.of("No ledgers created;               ").iterator()
+            : this.getRowIterator(fromIndex, toIndex);
+        TablePrinter.printList(this.getWindowTitle("List of Ledgers", fromIndex, toIndex),
+            "Ledger Number;Ledger Date", rows);
+    }
+
+    /**
+     * Returns the dates of the archived ledgers dated between the two dates, both inclusive, in date order,
+     * without restoring them.
+     */
+    private List<LocalDate> getArchivedDatesBetween(LocalDate startDate, LocalDate endDate) {
+        if (this.archive == null || startDate.isAfter(endDate)) {
+            return Collections.emptyList();
+        }
+        return this.archive.getDatesBetween(startDate, endDate);
+    }
+
+    /**
+     * Prints the ledgers dated between the two dates, both inclusive, in date order.
+     * Ledgers outside the range are not visited. Archived ledgers in the range are listed by date
+     * without being moved back into the list, as listing does not open them.
+     *
+     * @param startDate Earliest date of ledgers to print
+     * @param endDate Latest date of ledgers to print
+     */
+    public void printLedgersBetween(LocalDate startDate, LocalDate endDate) {
+        Collection<Ledger> ledgers = this.getListedLedgersBetween(startDate, endDate);
+        List<LocalDate> archivedDates = this.getArchivedDatesBetween(startDate, endDate);
+        TreeMap<LocalDate, String> rowsByDate = new TreeMap<>();
+        for (Ledger ledger : ledgers) {
+            rowsByDate.put(ledger.getDate(), (ledger.getIndex() + 1) + ";" + ledger);
+        }
+        for (LocalDate date : archivedDates) {
+            rowsByDate.putIfAbsent(date, "Archived;" + date);
         }
-        TablePrinter.printList();
+        Iterator<String> rows = rowsByDate.isEmpty()
+            ? List.of("No ledgers in range;               ").iterator()
+            : rowsByDate.values().iterator();
+        // Archived ledgers are not counted, as their rows show that they are archived.
+        String title = String.format("List of Ledgers (%d of %d)", ledgers.size(), super.getListSize());
+        TablePrinter.printList(title, "Ledger Number;Ledger Date", rows);
     }
 }
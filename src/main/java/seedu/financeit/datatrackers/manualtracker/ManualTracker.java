@@ -2,18 +2,25 @@ package seedu.financeit.datatrackers.manualtracker;
 
 import seedu.financeit.common.CommandPacket;
 import seedu.financeit.common.Common;
+import seedu.financeit.common.ListWindowHandler;
 import seedu.financeit.common.exceptions.DuplicateInputException;
+import seedu.financeit.common.exceptions.IncompatibleParamsException;
 import seedu.financeit.common.exceptions.InsufficientParamsException;
 import seedu.financeit.common.exceptions.ItemNotFoundException;
 import seedu.financeit.datatrackers.entrytracker.EntryTracker;
 import seedu.financeit.datatrackers.goaltracker.GoalTracker;
+import seedu.financeit.datatrackers.manualtracker.ledgerhandlers.ArchiveLedgerHandler;
 import seedu.financeit.datatrackers.manualtracker.ledgerhandlers.CreateLedgerHandler;
 import seedu.financeit.datatrackers.manualtracker.ledgerhandlers.RetrieveLedgerHandler;
 import seedu.financeit.parser.InputParser;
 import seedu.financeit.ui.TablePrinter;
 import seedu.financeit.ui.UiManager;
+import seedu.financeit.utils.LoggerCentre;
+import seedu.financeit.utils.storage.ArchiveManager;
 import seedu.financeit.utils.storage.ManualTrackerSaver;
 
+import java.io.IOException;
+
 
 /**
  * Class to handle routine for manual ledger management.
@@ -74,6 +81,9 @@ public class ManualTracker {
         case "delete":
             handleDeleteLedger();
             break;
+        case "archive":
+            handleArchiveLedgers();
+            break;
         case "exit":
             endTracker = true;
             break;
@@ -97,7 +107,7 @@ public class ManualTracker {
             ledger = createLedgerHandler.getCurrLedger();
 
             // Checking of duplicates
-            if (ledgerList.isItemDuplicate(ledger)) {
+            if (ledgerList.isItemDuplicate(ledger) || ledgerList.isArchived(ledger.getDate())) {
                 throw new DuplicateInputException();
             }
 
@@ -108,7 +118,7 @@ public class ManualTracker {
 
             UiManager.printWithStatusIcon(Common.PrintType.SYS_MSG,
                 String.format("%s created!", ledger.getName()));
-            ManualTrackerSaver.getInstance().save();
+            ManualTrackerSaver.getInstance().journalCreateLedger(ledger);
         } catch (InsufficientParamsException | ItemNotFoundException exception) {
             UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE,
                 exception.getMessage());
@@ -136,7 +146,7 @@ public class ManualTracker {
             ledgerList.removeItemAtCurrIndex();
             UiManager.printWithStatusIcon(Common.PrintType.SYS_MSG,
                 String.format("%s deleted!", deletedLedger.getName()));
-            ManualTrackerSaver.getInstance().save();
+            ManualTrackerSaver.getInstance().journalDeleteLedger(deletedLedger);
         } catch (InsufficientParamsException | ItemNotFoundException exception) {
             UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE,
                 exception.getMessage());
@@ -148,8 +158,42 @@ public class ManualTracker {
         }
     }
 
+    static void handleArchiveLedgers() {
+        ArchiveLedgerHandler archiveLedgerHandler = ArchiveLedgerHandler.getInstance();
+        try {
+            archiveLedgerHandler.handlePacket(packet);
+            int archivedCount = ArchiveManager.getInstance().archiveBefore(archiveLedgerHandler.getBeforeDate());
+            UiManager.printWithStatusIcon(Common.PrintType.SYS_MSG,
+                String.format("%d ledger(s) dated before %s archived!", archivedCount,
+                    archiveLedgerHandler.getBeforeDate()));
+        } catch (InsufficientParamsException | ItemNotFoundException exception) {
+            UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE,
+                exception.getMessage());
+        } catch (IOException exception) {
+            UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE,
+                "Archive failed; no ledger archived: " + exception);
+            LoggerCentre.writeStackTraceToLog(exception);
+        } finally {
+            if (!archiveLedgerHandler.getHasParsedAllRequiredParams()) {
+                UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE,
+                    "Input failed due to param error.");
+            }
+        }
+    }
+
     private static void handleShowLedger() {
-        ledgerList.printList();
+        ListWindowHandler listWindowHandler = ListWindowHandler.getInstance();
+        try {
+            listWindowHandler.handlePacket(packet, ledgerList.getListSize(), true);
+            if (listWindowHandler.hasDateRange()) {
+                ledgerList.printLedgersBetween(listWindowHandler.getFromDate(), listWindowHandler.getToDate());
+            } else {
+                ledgerList.printList(listWindowHandler.getFromIndex(), listWindowHandler.getToIndex());
+            }
+        } catch (InsufficientParamsException | IncompatibleParamsException | ItemNotFoundException exception) {
+            UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE,
+                exception.getMessage());
+        }
     }
 
     private static void handleOpenLedger() {
@@ -168,6 +212,8 @@ public class ManualTracker {
 
             UiManager.printWithStatusIcon(Common.PrintType.SYS_MSG,
                 String.format("%s opened!", ledger.getName()));
+            // The ledger is opened, even if it had to be created first.
+            UiManager.reportInputSucceeded();
 
             EntryTracker.execute();
         } catch (InsufficientParamsException exception) {
@@ -197,9 +243,11 @@ public class ManualTracker {
         TablePrinter.addRow("No.;Command            ;Input Format                  ");
         TablePrinter.addRow("1.;Open ledger;open /date {YYMMDD} or open /id {INTEGER}");
         TablePrinter.addRow("2.;New ledger;new /date {YYMMDD}");
-        TablePrinter.addRow("3.;list ledgers;list");
+        TablePrinter.addRow("3.;list ledgers;list [/page {INTEGER} /size {INTEGER}] [/head {INTEGER}] "
+            + "[/tail {INTEGER}] [/from {YYMMDD} /to {YYMMDD}]");
         TablePrinter.addRow("4.;delete ledgers;delete /date {YYMMDD} or delete /id {INTEGER}");
-        TablePrinter.addRow("5.;exit to main menu;exit");
+        TablePrinter.addRow("5.;archive ledgers;archive /before {YYMMDD}");
+        TablePrinter.addRow("6.;exit to main menu;exit");
         TablePrinter.printList();
     }
 }
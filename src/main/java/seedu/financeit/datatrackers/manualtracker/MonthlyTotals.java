@@ -0,0 +1,131 @@
+package seedu.financeit.datatrackers.manualtracker;
+
+import seedu.financeit.common.Common;
+import seedu.financeit.common.Money;
+import seedu.financeit.datatrackers.entrytracker.Entry;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Objects;
+
+/**
+ * Running totals of entry amounts, keyed by year-month, entry type and category.
+ * Totals are updated as entries are added to and removed from the ledgers in a ledger list,
+ * so reading a total never requires scanning the entries.
+ * Totals are kept in cents, so they stay exact however many entries are summed, and overflow as Money does.
+ */
+public class MonthlyTotals {
+    private static final int NUM_ENTRY_TYPES = Common.EntryType.values().length;
+
+    private HashMap<TotalKey, long[]> totalsByCategory = new HashMap<>();
+    private HashMap<YearMonth, long[]> totalsByYearMonth = new HashMap<>();
+    // Goals are set per month of the year, so totals are also rolled up across years.
+    private long[][] totalsByMonth = new long[Month.values().length][NUM_ENTRY_TYPES];
+
+    public void add(LocalDate date, Entry entry) {
+        this.add(date, entry.getEntryType(), entry.getCategory(), entry.getAmount().getCents());
+    }
+
+    public void subtract(LocalDate date, Entry entry) {
+        this.subtract(date, entry.getEntryType(), entry.getCategory(), entry.getAmount().getCents());
+    }
+
+    public void add(LocalDate date, Common.EntryType entryType, String category, long cents) {
+        this.update(date, entryType, category, cents);
+    }
+
+    public void subtract(LocalDate date, Common.EntryType entryType, String category, long cents) {
+        this.update(date, entryType, category, -cents);
+    }
+
+    /**
+     * Adds the given amount to the totals. As with Money, a total that would overflow throws an
+     * ArithmeticException, in which case none of the totals are changed.
+     */
+    private void update(LocalDate date, Common.EntryType entryType, String category, long cents) {
+        YearMonth yearMonth = YearMonth.from(date);
+        int typeIndex = entryType.ordinal();
+        long[] categoryTotal = this.totalsByCategory.computeIfAbsent(new TotalKey(yearMonth, entryType, category),
+            key -> new long[1]);
+        long[] yearMonthTotals = this.totalsByYearMonth.computeIfAbsent(yearMonth, key -> new long[NUM_ENTRY_TYPES]);
+        long[] monthTotals = this.totalsByMonth[date.getMonthValue() - 1];
+        long newCategoryTotal = Math.addExact(categoryTotal[0], cents);
+        long newYearMonthTotal = Math.addExact(yearMonthTotals[typeIndex], cents);
+        long newMonthTotal = Math.addExact(monthTotals[typeIndex], cents);
+        categoryTotal[0] = newCategoryTotal;
+        yearMonthTotals[typeIndex] = newYearMonthTotal;
+        monthTotals[typeIndex] = newMonthTotal;
+    }
+
+    /**
+     * Returns the total amount of entries of the given type, in the given month of every year.
+     *
+     * @param month Month of the year
+     * @param entryType Type of entries to total
+     * @return Total amount
+     */
+    public Money getTotal(Month month, Common.EntryType entryType) {
+        return Money.ofCents(this.totalsByMonth[month.getValue() - 1][entryType.ordinal()]);
+    }
+
+    /**
+     * Returns the total amount of entries of the given type, in the given month.
+     *
+     * @param yearMonth Month, including its year
+     * @param entryType Type of entries to total
+     * @return Total amount
+     */
+    public Money getTotal(YearMonth yearMonth, Common.EntryType entryType) {
+        long[] totals = this.totalsByYearMonth.get(yearMonth);
+        return (totals == null) ? Money.ZERO : Money.ofCents(totals[entryType.ordinal()]);
+    }
+
+    /**
+     * Returns the total amount of entries of the given type and category, in the given month.
+     *
+     * @param yearMonth Month, including its year
+     * @param entryType Type of entries to total
+     * @param category Category of entries to total
+     * @return Total amount
+     */
+    public Money getTotal(YearMonth yearMonth, Common.EntryType entryType, String category) {
+        long[] total = this.totalsByCategory.get(new TotalKey(yearMonth, entryType, category));
+        return (total == null) ? Money.ZERO : Money.ofCents(total[0]);
+    }
+
+    public void clear() {
+        this.totalsByCategory.clear();
+        this.totalsByYearMonth.clear();
+        this.totalsByMonth = new long[Month.values().length][NUM_ENTRY_TYPES];
+    }
+
+    private static class TotalKey {
+        private final YearMonth yearMonth;
+        private final Common.EntryType entryType;
+        private final String category;
+
+        TotalKey(YearMonth yearMonth, Common.EntryType entryType, String category) {
+            this.yearMonth = yearMonth;
+            this.entryType = entryType;
+            this.category = category;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (!(object instanceof TotalKey)) {
+                return false;
+            }
+            TotalKey key = (TotalKey) object;
+            return this.yearMonth.equals(key.yearMonth)
+                && this.entryType == key.entryType
+                && Objects.equals(this.category, key.category);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.yearMonth, this.entryType, this.category);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.financeit.datatrackers.manualtracker.ledgerhandlers;
+
+import seedu.financeit.common.CommandPacket;
+import seedu.financeit.common.Common;
+import seedu.financeit.common.ParamHandler;
+import seedu.financeit.common.exceptions.InsufficientParamsException;
+import seedu.financeit.common.exceptions.ItemNotFoundException;
+import seedu.financeit.common.exceptions.ParseFailParamException;
+import seedu.financeit.ui.UiManager;
+import seedu.financeit.utils.ParamChecker;
+
+import java.time.LocalDate;
+
+import static seedu.financeit.utils.ParamChecker.PARAM_BEFORE;
+
+/**
+ * CommandHandler class to determine which ledgers an "archive" command moves to the archive.
+ */
+public class ArchiveLedgerHandler extends ParamHandler {
+    private static ArchiveLedgerHandler handler = null;
+    private LocalDate beforeDate;
+
+    private ArchiveLedgerHandler() {
+        this.setRequiredParams(PARAM_BEFORE);
+    }
+
+    public static ArchiveLedgerHandler getInstance() {
+        if (handler == null) {
+            handler = new ArchiveLedgerHandler();
+        }
+        return handler;
+    }
+
+    public void handlePacket(CommandPacket packet)
+        throws InsufficientParamsException, ItemNotFoundException {
+        this.beforeDate = null;
+        this.handleParams(packet);
+    }
+
+    @Override
+    public void handleSingleParam(CommandPacket packet, String paramType)
+        throws ParseFailParamException {
+        switch (paramType) {
+        case PARAM_BEFORE:
+            this.beforeDate = ParamChecker.getInstance().checkAndReturnDate(paramType);
+            return;
+        default:
+            UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE,
+                ParamChecker.getInstance().getUnrecognizedParamMessage(paramType));
+            throw new ParseFailParamException(paramType);
+        }
+    }
+
+    /**
+     * Returns the date before which ledgers are archived.
+     */
+    public LocalDate getBeforeDate() {
+        return this.beforeDate;
+    }
+}
@@ -54,7 +54,7 @@ public class RetrieveLedgerHandler extends ParamHandler {
             this.ledgerList.setIndexToModify(index, paramType);
             return;
         case ParamChecker.PARAM_INDEX:
-            index = ParamChecker.getInstance().checkAndReturnIndex(paramType, this.ledgerList.getItems());
+            index = ParamChecker.getInstance().checkAndReturnIndex(paramType, this.ledgerList.getListSize());
             this.ledgerList.setIndexToModify(index, paramType);
             return;
         default:
@@ -0,0 +1,115 @@
+package seedu.financeit.datatrackers.recurringtracker;
+
+import seedu.financeit.common.CategoryMap;
+import seedu.financeit.common.exceptions.ItemNotFoundException;
+import seedu.financeit.datatrackers.entrytracker.Entry;
+import seedu.financeit.datatrackers.manualtracker.Ledger;
+import seedu.financeit.datatrackers.manualtracker.LedgerList;
+import seedu.financeit.datatrackers.manualtracker.ManualTracker;
+import seedu.financeit.utils.storage.ManualTrackerSaver;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Posts the occurrences of automatic recurring entries into the ledgers of the Manual Tracker, so that
+ * auto deductions and credits that fell due while the program was not running are recorded.
+ * All occurrences are posted in one batch, creating the ledgers they need, and saved with a single save
+ * at the end, instead of being created and journalled one entry at a time.
+ */
+public class AutoEntryPoster {
+    /**
+     * Returns the occurrences of the automatic recurring entries after one date, up to and including
+     * another, in order of date.
+     *
+     * @param lastPostedDate Date up to which occurrences have been posted already
+     * @param today Last date to post occurrences for
+     * @return Occurrences to post
+     */
+    public static List<OccurrenceIterator.Occurrence> getOccurrencesToPost(LocalDate lastPostedDate,
+                                                                           LocalDate today) {
+        ArrayList<OccurrenceIterator.Occurrence> occurrences = new ArrayList<>();
+        OccurrenceIterator iterator = new OccurrenceIterator(RecurringTracker.getEntries(),
+            lastPostedDate.plusDays(1), today.plusDays(1));
+        while (iterator.hasNext()) {
+            OccurrenceIterator.Occurrence occurrence = iterator.next();
+            if (occurrence.getEntry().isAuto()) {
+                occurrences.add(occurrence);
+            }
+        }
+        return occurrences;
+    }
+
+    /**
+     * Adds an entry for each occurrence to the ledger of its date, creating the ledger if there is none,
+     * and saves the Manual Tracker once all are added. An occurrence that was posted before, e.g. by a run
+     * that ended before it could record its last run, is not added again.
+     * Occurrences are told apart by their recurring entry and date, so identical recurring entries due on
+     * the same day are each posted. The k-th occurrence of a recurring entry on a date counts as posted if
+     * its ledger held at least k entries like the one it posts before this batch.
+     *
+     * @param occurrences Occurrences to post, in order of date
+     * @return Number of entries added
+     * @throws IOException If the added entries could not be saved
+     */
+    public static int post(List<OccurrenceIterator.Occurrence> occurrences) throws IOException {
+        LedgerList ledgerList = ManualTracker.getLedgerList();
+        int postedCount = 0;
+        Ledger ledger = null;
+        // Entries of the ledger that were there before this batch and are not yet matched to an occurrence.
+        HashMap<Entry, Integer> unmatchedCounts = new HashMap<>();
+        for (OccurrenceIterator.Occurrence occurrence : occurrences) {
+            // Occurrences are in order of date, so each ledger is looked up once.
+            if (ledger == null || !ledger.getDate().equals(occurrence.getDate())) {
+                ledger = getOrCreateLedger(ledgerList, occurrence.getDate());
+                unmatchedCounts = getEntryCounts(ledger);
+            }
+            Entry entry = createEntry(ledger, occurrence.getEntry());
+            int unmatchedCount = unmatchedCounts.getOrDefault(entry, 0);
+            if (unmatchedCount > 0) {
+                unmatchedCounts.put(entry, unmatchedCount - 1);
+            } else {
+                ledger.entryList.addItem(entry);
+                postedCount++;
+            }
+        }
+        if (postedCount > 0) {
+            ManualTrackerSaver.getInstance().saveAndFlush();
+        }
+        return postedCount;
+    }
+
+    private static Ledger getOrCreateLedger(LedgerList ledgerList, LocalDate date) {
+        try {
+            return ledgerList.getLedgerFromDate(date);
+        } catch (ItemNotFoundException exception) {
+            Ledger ledger = new Ledger();
+            ledger.setDate(date);
+            ledgerList.addItem(ledger);
+            return ledger;
+        }
+    }
+
+    private static HashMap<Entry, Integer> getEntryCounts(Ledger ledger) {
+        HashMap<Entry, Integer> entryCounts = new HashMap<>();
+        for (int i = 0; i < ledger.entryList.getListSize(); i++) {
+            entryCounts.merge((Entry) ledger.entryList.getItemAtIndex(i), 1, Integer::sum);
+        }
+        return entryCounts;
+    }
+
+    private static Entry createEntry(Ledger ledger, RecurringEntry recurringEntry) {
+        Entry entry = new Entry();
+        entry.setEntryType(recurringEntry.getEntryType());
+        entry.setCategory(CategoryMap.INPUT_CAT_OTHERS);
+        entry.setAmount(recurringEntry.getAmount());
+        entry.setTime(LocalTime.MIDNIGHT);
+        entry.setDescription(recurringEntry.getDescription());
+        entry.setLedger(ledger);
+        return entry;
+    }
+}
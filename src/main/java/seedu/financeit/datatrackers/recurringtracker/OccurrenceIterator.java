@@ -0,0 +1,155 @@
+package seedu.financeit.datatrackers.recurringtracker;
+
+import seedu.financeit.utils.LoggerCentre;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Iterates over the dated occurrences of recurring entries within a range of dates, in order of date.
+ * Occurrences are worked out as they are asked for: a priority queue holds the next occurrence of each
+ * entry with a recurrence rule, so taking the next k occurrences of n entries takes O(k log n) time,
+ * however far the range goes. Entries that recur on their day of every month are taken from the list
+ * in order of day instead, one at a time, so that only the entries with days in the range are visited.
+ * Occurrences on the same date are in the order of the list.
+ */
+public class OccurrenceIterator implements Iterator<OccurrenceIterator.Occurrence> {
+    private final PriorityQueue<Occurrence> nextOccurrences = new PriorityQueue<>();
+    private final RecurringEntryList entries;
+    private final LocalDate to;
+    // Month and position in the list of the next entry without a rule to check, if those entries are
+    // taken in order of day, or null if they are queued one by one.
+    private YearMonth streamMonth = null;
+    private int streamIndex = 0;
+    private int monthsWithoutOccurrence = 0;
+
+    /**
+     * Recurring entry on a date on which it recurs.
+     */
+    public static class Occurrence implements Comparable<Occurrence> {
+        private final RecurringEntry entry;
+        private final LocalDate date;
+        // Position of the entry in the list, to order occurrences on the same date.
+        private final int position;
+        // Whether the occurrence was taken from the entries in order of day.
+        private final boolean isStreamed;
+
+        private Occurrence(RecurringEntry entry, LocalDate date, boolean isStreamed) {
+            this.entry = entry;
+            this.date = date;
+            this.position = entry.getIndex();
+            this.isStreamed = isStreamed;
+        }
+
+        public RecurringEntry getEntry() {
+            return entry;
+        }
+
+        public LocalDate getDate() {
+            return date;
+        }
+
+        @Override
+        public int compareTo(Occurrence occurrence) {
+            int comparison = this.date.compareTo(occurrence.date);
+            return comparison != 0 ? comparison : Integer.compare(this.position, occurrence.position);
+        }
+    }
+
+    /**
+     * Creates an iterator over the occurrences of the entries of the list from the given date, until the
+     * given date. The list must not change while the iterator is used.
+     *
+     * @param entries List of recurring entries
+     * @param from First date of the range
+     * @param to Date after the last date of the range, or null for a range with no end
+     */
+    public OccurrenceIterator(RecurringEntryList entries, LocalDate from, LocalDate to) {
+        this.entries = entries;
+        this.to = to;
+        if (!entries.isSortedByDay()) {
+            for (int i = 0; i < entries.getListSize(); i++) {
+                this.offer((RecurringEntry) entries.getItemAtIndex(i), from);
+            }
+            return;
+        }
+        for (RecurringEntry entry : entries.getRuleEntries()) {
+            this.offer(entry, from);
+        }
+        if (entries.getRuleEntries().size() < entries.getListSize()) {
+            this.streamMonth = YearMonth.from(from);
+            this.streamIndex = entries.findIndexAfterDay(from.getDayOfMonth() - 1);
+            this.offerNextStreamed();
+        }
+    }
+
+    private void offer(RecurringEntry entry, LocalDate from) {
+        LocalDate date;
+        try {
+            date = entry.getNextOccurrence(from);
+        } catch (DateTimeException | ArithmeticException exception) {
+            // An entry whose next date cannot be worked out is taken not to recur, instead of failing
+            // reminders and the posting of automatic entries at every start of the program.
+            LoggerCentre.writeStackTraceToLog(exception);
+            return;
+        }
+        if (date != null && (this.to == null || date.isBefore(this.to))) {
+            this.nextOccurrences.add(new Occurrence(entry, date, false));
+        }
+    }
+
+    /**
+     * Queues the next occurrence of the entries without a rule, which is that of the next entry in order
+     * of day that recurs in the current month, or in the months after it.
+     */
+    private void offerNextStreamed() {
+        int size = this.entries.getListSize();
+        while (this.monthsWithoutOccurrence <= RecurringEntry.MAX_MONTHS_TO_NEXT_OCCURRENCE) {
+            if (this.streamIndex == size) {
+                this.streamMonth = this.streamMonth.plusMonths(1);
+                this.streamIndex = 0;
+                this.monthsWithoutOccurrence++;
+                continue;
+            }
+            RecurringEntry entry = (RecurringEntry) this.entries.getItemAtIndex(this.streamIndex);
+            this.streamIndex++;
+            if (entry.getRule() != null) {
+                continue;
+            }
+            LocalDate date = entry.getOccurrenceIn(this.streamMonth);
+            if (date == null) {
+                continue;
+            }
+            // Later entries recur later, so none of them are in the range either.
+            if (this.to != null && !date.isBefore(this.to)) {
+                return;
+            }
+            this.monthsWithoutOccurrence = 0;
+            this.nextOccurrences.add(new Occurrence(entry, date, true));
+            return;
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !this.nextOccurrences.isEmpty();
+    }
+
+    @Override
+    public Occurrence next() {
+        Occurrence occurrence = this.nextOccurrences.poll();
+        if (occurrence == null) {
+            throw new NoSuchElementException();
+        }
+        if (occurrence.isStreamed) {
+            this.offerNextStreamed();
+        } else {
+            this.offer(occurrence.entry, occurrence.date.plusDays(1));
+        }
+        return occurrence;
+    }
+}
@@ -0,0 +1,609 @@
+package seedu.financeit.datatrackers.recurringtracker;
+
+import seedu.financeit.utils.DateTimeHelper;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.TextStyle;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Recurrence of a recurring entry, written as an RRULE of the iCalendar format (RFC 5545), e.g.
+ * FREQ=WEEKLY;INTERVAL=2;BYDAY=FR for every other Friday, or FREQ=MONTHLY;BYDAY=-1FR for the last
+ * Friday of every month. The parts supported are FREQ (DAILY, WEEKLY, MONTHLY or YEARLY), INTERVAL,
+ * BYDAY (days of the week for weekly rules, or one nth day of the week for monthly and yearly rules),
+ * BYMONTHDAY (one day of the month), BYMONTH, UNTIL and COUNT, as well as DTSTART for the date of the
+ * first period. Dates are written as yyyyMMdd.
+ * The next occurrence after a date is found by working out the first period of the rule that is not
+ * before the date, and checking the days of each period from there, so days between periods are never
+ * visited. As with other recurring entries, a period that does not have the day of the rule, such as a
+ * February for the 30th of the month, is skipped.
+ * The occurrences of a period only depend on where the period is in the 400 year cycle of the calendar,
+ * so the last occurrence of a rule with COUNT is worked out from the occurrences of one cycle, however
+ * large COUNT is. A rule that would go past the last year a date can have simply stops recurring.
+ */
+public class RecurrenceRule {
+    /**
+     * Length of the periods of a rule.
+     */
+    public enum Frequency {
+        DAILY, WEEKLY, MONTHLY, YEARLY
+    }
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final String[] DAY_CODES = {"MO", "TU", "WE", "TH", "FR", "SA", "SU"};
+    // Periods checked for an occurrence before a rule is taken never to recur, enough for a day that only
+    // February of leap years has, as some centuries are not leap.
+    private static final int MAX_PERIODS_TO_NEXT_OCCURRENCE = 8 * 12 + 1;
+    private static final int MAX_INTERVAL = 1000;
+    // Years after which the days of the week and leap years of the calendar repeat.
+    private static final int YEARS_IN_CYCLE = 400;
+
+    private Frequency frequency = null;
+    private int interval = 1;
+    // Days of the week of a weekly rule.
+    private EnumSet<DayOfWeek> daysOfWeek = EnumSet.noneOf(DayOfWeek.class);
+    // Nth day of the week of a monthly or yearly rule, counted from the end of the month if negative.
+    private int weekdayOrdinal = 0;
+    private DayOfWeek weekday = null;
+    private int dayOfMonth = 0;
+    private EnumSet<Month> months = EnumSet.noneOf(Month.class);
+    private LocalDate start = null;
+    private LocalDate until = null;
+    private int count = 0;
+    // Date of the last occurrence allowed by UNTIL or COUNT, or null if the rule does not end.
+    private LocalDate lastDate = null;
+
+    private RecurrenceRule() {
+    }
+
+    /**
+     * Reads a rule. Parts that are left out are taken from the date of the first period, e.g. a weekly
+     * rule without BYDAY recurs on the day of the week of that date.
+     *
+     * @param text Rule, with its parts separated by semicolons, in any case
+     * @param defaultStart Date of the first period, if the rule has no DTSTART
+     * @return Rule
+     * @throws IllegalArgumentException If the rule is not valid, or has parts that are not supported
+     */
+    public static RecurrenceRule parse(String text, LocalDate defaultStart) throws IllegalArgumentException {
+        RecurrenceRule rule = new RecurrenceRule();
+        String byDay = null;
+        for (String part : text.trim().toUpperCase(Locale.ROOT).split(";")) {
+            if (part.isEmpty()) {
+                continue;
+            }
+            int separator = part.indexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Rule part is not NAME=VALUE: " + part);
+            }
+            String value = part.substring(separator + 1);
+            switch (part.substring(0, separator)) {
+            case "FREQ":
+                rule.frequency = parseFrequency(value);
+                break;
+            case "INTERVAL":
+                rule.interval = parsePositiveInt(value, "INTERVAL", MAX_INTERVAL);
+                break;
+            case "BYDAY":
+                byDay = value;
+                break;
+            case "BYMONTHDAY":
+                rule.dayOfMonth = parsePositiveInt(value, "BYMONTHDAY", 31);
+                break;
+            case "BYMONTH":
+                for (String month : value.split(",")) {
+                    rule.months.add(Month.of(parsePositiveInt(month, "BYMONTH", 12)));
+                }
+                break;
+            case "DTSTART":
+                rule.start = parseDate(value, "DTSTART");
+                break;
+            case "UNTIL":
+                rule.until = parseDate(value, "UNTIL");
+                break;
+            case "COUNT":
+                rule.count = parsePositiveInt(value, "COUNT", Integer.MAX_VALUE);
+                break;
+            default:
+                throw new IllegalArgumentException("Rule part is not supported: " + part);
+            }
+        }
+        if (rule.frequency == null) {
+            throw new IllegalArgumentException("Rule has no FREQ, e.g. FREQ=MONTHLY");
+        }
+        if (rule.start == null) {
+            rule.start = defaultStart;
+        }
+        if (byDay != null) {
+            rule.parseByDay(byDay);
+        }
+        rule.checkAndFillDefaults();
+        return rule;
+    }
+
+    private static Frequency parseFrequency(String value) {
+        try {
+            return Frequency.valueOf(value);
+        } catch (IllegalArgumentException exception) {
+            throw new IllegalArgumentException("FREQ is not DAILY, WEEKLY, MONTHLY or YEARLY: " + value);
+        }
+    }
+
+    private static int parsePositiveInt(String value, String name, int max) {
+        try {
+            int number = Integer.parseInt(value);
+            if (number >= 1 && number <= max) {
+                return number;
+            }
+        } catch (NumberFormatException exception) {
+            // Reported below, as for numbers out of range.
+        }
+        throw new IllegalArgumentException(String.format("%s is not a whole number from 1 to %d: %s",
+            name, max, value));
+    }
+
+    private static LocalDate parseDate(String value, String name) {
+        try {
+            return LocalDate.parse(value, DATE_FORMAT);
+        } catch (DateTimeParseException exception) {
+            throw new IllegalArgumentException(name + " is not a date written as yyyyMMdd: " + value);
+        }
+    }
+
+    private static DayOfWeek parseDayOfWeek(String value) {
+        for (int i = 0; i < DAY_CODES.length; i++) {
+            if (DAY_CODES[i].equals(value)) {
+                return DayOfWeek.of(i + 1);
+            }
+        }
+        throw new IllegalArgumentException("BYDAY day is not one of MO, TU, WE, TH, FR, SA or SU: " + value);
+    }
+
+    private void parseByDay(String value) {
+        if (this.frequency == Frequency.WEEKLY) {
+            for (String day : value.split(",")) {
+                this.daysOfWeek.add(parseDayOfWeek(day));
+            }
+            return;
+        }
+        if (this.frequency == Frequency.DAILY) {
+            throw new IllegalArgumentException("BYDAY is not supported by daily rules");
+        }
+        if (value.contains(",") || value.length() < 3) {
+            throw new IllegalArgumentException("BYDAY of a monthly or yearly rule must be one nth day of "
+                + "the week, e.g. 2TU or -1FR: " + value);
+        }
+        String ordinal = value.substring(0, value.length() - 2);
+        try {
+            this.weekdayOrdinal = Integer.parseInt(ordinal);
+        } catch (NumberFormatException exception) {
+            this.weekdayOrdinal = 0;
+        }
+        if (this.weekdayOrdinal == 0 || Math.abs(this.weekdayOrdinal) > 5) {
+            throw new IllegalArgumentException("BYDAY of a monthly or yearly rule must start with a number "
+                + "from 1 to 5, or -1 to -5 from the end of the month: " + value);
+        }
+        this.weekday = parseDayOfWeek(value.substring(value.length() - 2));
+    }
+
+    private void checkAndFillDefaults() {
+        if (this.until != null && this.count > 0) {
+            throw new IllegalArgumentException("Rule cannot have both UNTIL and COUNT");
+        }
+        if (this.weekday != null && this.dayOfMonth > 0) {
+            throw new IllegalArgumentException("Rule cannot have both BYDAY and BYMONTHDAY");
+        }
+        switch (this.frequency) {
+        case DAILY:
+        case WEEKLY:
+            if (this.dayOfMonth > 0 || !this.months.isEmpty()) {
+                throw new IllegalArgumentException("BYMONTHDAY and BYMONTH are only supported by monthly "
+                    + "and yearly rules");
+            }
+            if (this.frequency == Frequency.WEEKLY && this.daysOfWeek.isEmpty()) {
+                this.daysOfWeek.add(this.start.getDayOfWeek());
+            }
+            break;
+        case MONTHLY:
+        case YEARLY:
+            if (this.frequency == Frequency.YEARLY && this.months.isEmpty()) {
+                this.months.add(this.start.getMonth());
+            }
+            if (this.weekday == null && this.dayOfMonth == 0) {
+                this.dayOfMonth = this.start.getDayOfMonth();
+            }
+            break;
+        default:
+            break;
+        }
+        this.lastDate = this.until;
+        if (this.count > 0) {
+            this.lastDate = this.findCountthOccurrence();
+        }
+    }
+
+    /**
+     * Returns the date of the COUNTth occurrence, or null if there is no such date.
+     * Periods are counted from the first, and occurrences within the first period before the start are
+     * counted too, then left out. As periods one cycle apart have as many occurrences, whole cycles are
+     * skipped at once and at most one cycle of periods is checked.
+     */
+    private LocalDate findCountthOccurrence() {
+        long cyclePeriods = this.getPeriodsInCycle();
+        long occurrencesInCycle = 0;
+        for (long period = 0; period < cyclePeriods; period++) {
+            occurrencesInCycle += this.getDatesInPeriod(period).size();
+        }
+        if (occurrencesInCycle == 0) {
+            return null;
+        }
+        long occurrencesBeforeStart = 0;
+        for (LocalDate date : this.getDatesInPeriod(0)) {
+            if (date.isBefore(this.start)) {
+                occurrencesBeforeStart++;
+            }
+        }
+        // Occurrences left to skip after whole cycles, counting from 0.
+        long index = this.count - 1 + occurrencesBeforeStart;
+        long period = index / occurrencesInCycle * cyclePeriods;
+        index %= occurrencesInCycle;
+        for (long i = 0; i < cyclePeriods; i++, period++) {
+            List<LocalDate> dates = this.getDatesInPeriod(period);
+            if (index < dates.size()) {
+                return dates.get((int) index);
+            }
+            index -= dates.size();
+        }
+        // The periods went past the last year a date can have.
+        return null;
+    }
+
+    /**
+     * Returns the number of periods after which the occurrences of the periods of the rule repeat.
+     */
+    private long getPeriodsInCycle() {
+        switch (this.frequency) {
+        case MONTHLY:
+            return YEARS_IN_CYCLE * 12 / gcd(this.interval, YEARS_IN_CYCLE * 12);
+        case YEARLY:
+            return YEARS_IN_CYCLE / gcd(this.interval, YEARS_IN_CYCLE);
+        default:
+            return 1;
+        }
+    }
+
+    private static int gcd(int a, int b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+    /**
+     * Returns the dates of the given period of the rule in order, including those before the start, or
+     * an empty list if the period goes past the last year a date can have.
+     */
+    private List<LocalDate> getDatesInPeriod(long period) {
+        List<LocalDate> dates = new ArrayList<>();
+        long periods = period * this.interval;
+        switch (this.frequency) {
+        case DAILY:
+            addDate(dates, this.start, periods, ChronoUnit.DAYS);
+            break;
+        case WEEKLY:
+            LocalDate firstWeek = this.start.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            for (DayOfWeek day : this.daysOfWeek) {
+                addDate(dates, firstWeek, periods * 7 + day.getValue() - 1, ChronoUnit.DAYS);
+            }
+            break;
+        case MONTHLY:
+            YearMonth month = this.getMonthAfter(YearMonth.from(this.start), periods);
+            if (month != null && (this.months.isEmpty() || this.months.contains(month.getMonth()))) {
+                addDateIn(dates, month);
+            }
+            break;
+        case YEARLY:
+            for (Month monthOfYear : this.months) {
+                YearMonth yearMonth = this.getMonthAfter(YearMonth.of(this.start.getYear(), monthOfYear),
+                    periods * 12);
+                if (yearMonth != null) {
+                    addDateIn(dates, yearMonth);
+                }
+            }
+            break;
+        default:
+            break;
+        }
+        return dates;
+    }
+
+    private static void addDate(List<LocalDate> dates, LocalDate date, long amount, ChronoUnit unit) {
+        LocalDate later = plus(date, amount, unit);
+        if (later != null) {
+            dates.add(later);
+        }
+    }
+
+    private void addDateIn(List<LocalDate> dates, YearMonth month) {
+        LocalDate date = this.getDateIn(month);
+        if (date != null) {
+            dates.add(date);
+        }
+    }
+
+    /**
+     * Returns the date the given amount of time after a date, or null if it is past the last year a date
+     * can have.
+     */
+    private static LocalDate plus(LocalDate date, long amount, ChronoUnit unit) {
+        try {
+            return date.plus(amount, unit);
+        } catch (DateTimeException | ArithmeticException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the month the given number of months after a month, or null if it is past the last year a
+     * date can have.
+     */
+    private YearMonth getMonthAfter(YearMonth month, long months) {
+        long year = month.getYear() + Math.floorDiv(month.getMonthValue() - 1 + months, 12);
+        if (year > Year.MAX_VALUE) {
+            return null;
+        }
+        return YearMonth.of((int) year, Math.floorMod(month.getMonthValue() - 1 + months, 12) + 1);
+    }
+
+    public LocalDate getStart() {
+        return start;
+    }
+
+    /**
+     * Returns the same rule with its first period starting on the given date instead.
+     */
+    public RecurrenceRule startingOn(LocalDate start) {
+        return parse(this.getRuleText(false), start);
+    }
+
+    /**
+     * Returns the first date on or after the given date on which the rule recurs.
+     *
+     * @param from Earliest date of the occurrence
+     * @return Date of the occurrence, or null if the rule does not recur on or after the date
+     */
+    public LocalDate getNextOccurrence(LocalDate from) {
+        if (from.isBefore(this.start)) {
+            from = this.start;
+        }
+        if (this.lastDate != null && from.isAfter(this.lastDate)) {
+            return null;
+        }
+        LocalDate date = this.findNextOccurrence(from);
+        if (date == null || (this.lastDate != null && date.isAfter(this.lastDate))) {
+            return null;
+        }
+        return date;
+    }
+
+    /**
+     * Returns the first date on or after the given date, which is not before the start, on which the
+     * rule recurs, ignoring UNTIL and COUNT.
+     */
+    private LocalDate findNextOccurrence(LocalDate from) {
+        switch (this.frequency) {
+        case DAILY:
+            return plus(this.start, this.roundUpToInterval(ChronoUnit.DAYS.between(this.start, from)),
+                ChronoUnit.DAYS);
+        case WEEKLY:
+            return this.findNextWeeklyOccurrence(from);
+        case MONTHLY:
+            return this.findNextMonthlyOccurrence(from);
+        case YEARLY:
+            return this.findNextYearlyOccurrence(from);
+        default:
+            return null;
+        }
+    }
+
+    /**
+     * Returns the number of periods from the start to the first period of the rule that is not before the
+     * given number of periods from the start.
+     */
+    private long roundUpToInterval(long periods) {
+        return (periods + this.interval - 1) / this.interval * this.interval;
+    }
+
+    private LocalDate findNextWeeklyOccurrence(LocalDate from) {
+        LocalDate firstWeek = this.start.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        LocalDate fromWeek = from.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        long weeks = ChronoUnit.WEEKS.between(firstWeek, fromWeek);
+        long ruleWeeks = this.roundUpToInterval(weeks);
+        if (ruleWeeks == weeks) {
+            // The days of the week are in order from Monday, as the weeks are.
+            for (DayOfWeek day : this.daysOfWeek) {
+                LocalDate date = plus(fromWeek, day.getValue() - 1, ChronoUnit.DAYS);
+                if (date == null) {
+                    return null;
+                }
+                if (!date.isBefore(from)) {
+                    return date;
+                }
+            }
+            ruleWeeks += this.interval;
+        }
+        return plus(firstWeek, ruleWeeks * 7 + this.daysOfWeek.iterator().next().getValue() - 1, ChronoUnit.DAYS);
+    }
+
+    private LocalDate findNextMonthlyOccurrence(LocalDate from) {
+        YearMonth firstMonth = YearMonth.from(this.start);
+        long months = this.roundUpToInterval(ChronoUnit.MONTHS.between(firstMonth, YearMonth.from(from)));
+        for (int i = 0; i < MAX_PERIODS_TO_NEXT_OCCURRENCE; i++, months += this.interval) {
+            YearMonth month = this.getMonthAfter(firstMonth, months);
+            if (month == null) {
+                return null;
+            }
+            if (!this.months.isEmpty() && !this.months.contains(month.getMonth())) {
+                continue;
+            }
+            LocalDate date = this.getDateIn(month);
+            if (date != null && !date.isBefore(from)) {
+                return date;
+            }
+        }
+        return null;
+    }
+
+    private LocalDate findNextYearlyOccurrence(LocalDate from) {
+        long years = this.roundUpToInterval(from.getYear() - this.start.getYear());
+        for (int i = 0; i < MAX_PERIODS_TO_NEXT_OCCURRENCE; i++, years += this.interval) {
+            long year = this.start.getYear() + years;
+            if (year > Year.MAX_VALUE) {
+                return null;
+            }
+            for (Month month : this.months) {
+                LocalDate date = this.getDateIn(YearMonth.of((int) year, month));
+                if (date != null && !date.isBefore(from)) {
+                    return date;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the date of the rule in the given month, or null if the month does not have the day.
+     */
+    private LocalDate getDateIn(YearMonth month) {
+        if (this.dayOfMonth > 0) {
+            return month.isValidDay(this.dayOfMonth) ? month.atDay(this.dayOfMonth) : null;
+        }
+        try {
+            LocalDate date = month.atDay(1).with(TemporalAdjusters.dayOfWeekInMonth(this.weekdayOrdinal,
+                this.weekday));
+            return YearMonth.from(date).equals(month) ? date : null;
+        } catch (DateTimeException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the rule in words, e.g. "Every 2 weeks on Fri from 2020-11-06".
+     */
+    public String getDescription() {
+        StringBuilder description = new StringBuilder("Every ");
+        // DAILY to day, WEEKLY to week, and so on.
+        String unit = this.frequency == Frequency.DAILY ? "day"
+            : this.frequency.name().toLowerCase(Locale.ROOT).replace("ly", "");
+        description.append(this.interval == 1 ? unit : this.interval + " " + unit + "s");
+        switch (this.frequency) {
+        case WEEKLY:
+            List<String> days = new ArrayList<>();
+            for (DayOfWeek day : this.daysOfWeek) {
+                days.add(day.getDisplayName(TextStyle.SHORT, Locale.ENGLISH));
+            }
+            description.append(" on ").append(String.join(", ", days));
+            break;
+        case MONTHLY:
+        case YEARLY:
+            description.append(" on the ").append(this.getDayDescription());
+            if (!this.months.isEmpty()) {
+                List<String> months = new ArrayList<>();
+                for (Month month : this.months) {
+                    months.add(month.getDisplayName(TextStyle.SHORT, Locale.ENGLISH));
+                }
+                description.append(this.frequency == Frequency.YEARLY ? " of " : " in ")
+                    .append(String.join(", ", months));
+            }
+            break;
+        default:
+            break;
+        }
+        description.append(" from ").append(this.start);
+        if (this.until != null) {
+            description.append(" until ").append(this.until);
+        } else if (this.count > 0) {
+            description.append(", ").append(this.count).append(" time(s)");
+        }
+        return description.toString();
+    }
+
+    private String getDayDescription() {
+        if (this.dayOfMonth > 0) {
+            return DateTimeHelper.dayAsOrdinal(this.dayOfMonth);
+        }
+        String ordinal;
+        if (this.weekdayOrdinal == -1) {
+            ordinal = "last";
+        } else if (this.weekdayOrdinal < 0) {
+            ordinal = DateTimeHelper.dayAsOrdinal(-this.weekdayOrdinal) + " last";
+        } else {
+            ordinal = DateTimeHelper.dayAsOrdinal(this.weekdayOrdinal);
+        }
+        return ordinal + " " + this.weekday.getDisplayName(TextStyle.SHORT, Locale.ENGLISH);
+    }
+
+    private String getRuleText(boolean isStartIncluded) {
+        StringBuilder text = new StringBuilder("FREQ=").append(this.frequency);
+        if (this.interval > 1) {
+            text.append(";INTERVAL=").append(this.interval);
+        }
+        if (!this.daysOfWeek.isEmpty()) {
+            List<String> days = new ArrayList<>();
+            for (DayOfWeek day : this.daysOfWeek) {
+                days.add(DAY_CODES[day.getValue() - 1]);
+            }
+            text.append(";BYDAY=").append(String.join(",", days));
+        }
+        if (this.weekday != null) {
+            text.append(";BYDAY=").append(this.weekdayOrdinal).append(DAY_CODES[this.weekday.getValue() - 1]);
+        }
+        if (this.dayOfMonth > 0) {
+            text.append(";BYMONTHDAY=").append(this.dayOfMonth);
+        }
+        if (!this.months.isEmpty()) {
+            List<String> months = new ArrayList<>();
+            for (Month month : this.months) {
+                months.add(String.valueOf(month.getValue()));
+            }
+            text.append(";BYMONTH=").append(String.join(",", months));
+        }
+        if (this.until != null) {
+            text.append(";UNTIL=").append(this.until.format(DATE_FORMAT));
+        }
+        if (this.count > 0) {
+            text.append(";COUNT=").append(this.count);
+        }
+        if (isStartIncluded) {
+            text.append(";DTSTART=").append(this.start.format(DATE_FORMAT));
+        }
+        return text.toString();
+    }
+
+    /**
+     * Returns the rule with all its parts, including DTSTART, as written in the save file.
+     */
+    @Override
+    public String toString() {
+        return this.getRuleText(true);
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        return object instanceof RecurrenceRule && this.toString().equals(object.toString());
+    }
+
+    @Override
+    public int hashCode() {
+        return this.toString().hashCode();
+    }
+}
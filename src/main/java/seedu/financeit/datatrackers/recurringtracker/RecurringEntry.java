@@ -1,23 +1,31 @@
 package seedu.financeit.datatrackers.recurringtracker;
 
 import seedu.financeit.common.Common;
+import seedu.financeit.common.Money;
 import seedu.financeit.data.Item;
 import seedu.financeit.utils.DateTimeHelper;
 import seedu.financeit.utils.ParamChecker;
 
+import java.time.LocalDate;
 import java.time.Month;
+import java.time.YearMonth;
 import java.util.HashMap;
+import java.util.Objects;
 
 //@@author Artemis-Hunt
 public class RecurringEntry extends Item {
+    static final int MAX_MONTHS_TO_NEXT_OCCURRENCE = 8 * 12;
+
     int day;
     String description = "";
     Common.EntryType entryType;
-    double amount;
+    Money amount;
     Month start = Month.of(1);
     Month end = Month.of(12);
     boolean isAuto = false;
     String notes = "";
+    // Recurrence of the entry, or null if it recurs on its day of every month from start to end.
+    RecurrenceRule rule = null;
 
     //Attributes in String form, for table printing
     String expenditureAmount = null;
@@ -30,8 +38,8 @@ public class RecurringEntry extends Item {
         super();
     }
 
-    public void setAmount(double amount) {
-        assert amount > 0;
+    public void setAmount(Money amount) {
+        assert amount.compareTo(Money.ZERO) > 0;
         this.amount = amount;
         convertAttributesToString();
     }
@@ -54,6 +62,9 @@ public class RecurringEntry extends Item {
 
     @Override
     public String getName() {
+        if (rule != null) {
+            return String.format("Entry: [ %s ] [ %s ] ", description, rule.getDescription());
+        }
         return String.format("Entry: [ %s ] on day [ %s ] ",
                 description, day);
     }
@@ -66,6 +77,92 @@ public class RecurringEntry extends Item {
         this.day = day;
     }
 
+    public Common.EntryType getEntryType() {
+        return entryType;
+    }
+
+    public Money getAmount() {
+        return amount;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public boolean isAuto() {
+        return isAuto;
+    }
+
+    public RecurrenceRule getRule() {
+        return rule;
+    }
+
+    /**
+     * Sets the recurrence of the entry, or makes it recur on its day of every month if the rule is null.
+     * The day of the entry becomes the day of the month of the first occurrence of the rule, which is
+     * what the entry is sorted by.
+     */
+    public void setRule(RecurrenceRule rule) {
+        this.rule = rule;
+        if (rule != null) {
+            LocalDate firstOccurrence = rule.getNextOccurrence(rule.getStart());
+            day = (firstOccurrence != null ? firstOccurrence : rule.getStart()).getDayOfMonth();
+        }
+        if (expenditureAmount != null) {
+            convertAttributesToString();
+        }
+    }
+
+    /**
+     * Returns whether the entry recurs in the given month of the year, i.e. the month is from start to end,
+     * which wraps around the end of the year if end is before start.
+     */
+    public boolean isActiveInMonth(Month month) {
+        if (start.compareTo(end) <= 0) {
+            return month.compareTo(start) >= 0 && month.compareTo(end) <= 0;
+        }
+        return month.compareTo(start) >= 0 || month.compareTo(end) <= 0;
+    }
+
+    /**
+     * Returns the first date on or after the given date on which the entry recurs.
+     * The entry does not recur in months that are too short to have its day, so an entry on the 29th
+     * only recurs in February of leap years.
+     *
+     * @param from Earliest date of the occurrence
+     * @return Date of the occurrence, or null if the entry never recurs
+     */
+    public LocalDate getNextOccurrence(LocalDate from) {
+        if (rule != null) {
+            return rule.getNextOccurrence(from);
+        }
+        YearMonth yearMonth = YearMonth.from(from);
+        if (from.getDayOfMonth() > day) {
+            yearMonth = yearMonth.plusMonths(1);
+        }
+        // A day that only February of leap years has is found within 8 years, as some centuries are not leap.
+        for (int i = 0; i <= MAX_MONTHS_TO_NEXT_OCCURRENCE; i++) {
+            LocalDate date = getOccurrenceIn(yearMonth);
+            if (date != null) {
+                return date;
+            }
+            yearMonth = yearMonth.plusMonths(1);
+        }
+        return null;
+    }
+
+    /**
+     * Returns the date in the given month on which an entry without a rule recurs, or null if it does not
+     * recur in that month.
+     */
+    LocalDate getOccurrenceIn(YearMonth yearMonth) {
+        assert rule == null;
+        if (yearMonth.isValidDay(day) && isActiveInMonth(yearMonth.getMonth())) {
+            return yearMonth.atDay(day);
+        }
+        return null;
+    }
+
     public Object getParamFromParamType(String paramType) {
         switch (paramType) {
         case ParamChecker.PARAM_DAY:
@@ -81,11 +178,17 @@ public class RecurringEntry extends Item {
             return isAuto;
         case ParamChecker.PARAM_NOTES:
             return notes;
+        case ParamChecker.PARAM_RULE:
+            return rule;
         default: return null;
         }
     }
 
+    @Override
     public boolean equals(Object object) {
+        if (!(object instanceof RecurringEntry)) {
+            return false;
+        }
         RecurringEntry entry = (RecurringEntry) object;
         if (entry == this) {
             return true;
@@ -94,8 +197,14 @@ public class RecurringEntry extends Item {
         return (this.day == entry.day)
                 && (this.description.equals(entry.description))
                 && (this.entryType.equals(entry.entryType))
-                && (this.amount == entry.amount)
-                && (this.isAuto == entry.isAuto);
+                && (this.amount.equals(entry.amount))
+                && (this.isAuto == entry.isAuto)
+                && Objects.equals(this.rule, entry.rule);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.day, this.description, this.entryType, this.amount, this.isAuto, this.rule);
     }
 
     /**
@@ -118,14 +227,16 @@ public class RecurringEntry extends Item {
 
     public void convertAttributesToString() {
         //One string is filled and the other is left blank, based on whether the entry is income or expenditure
-        expenditureAmount = entryType == Common.EntryType.EXP ? "-$"
-                + String.format("%.2f", this.amount) : "";
-        incomeAmount = entryType == Common.EntryType.INC ? "+$"
-                + String.format("%.2f", this.amount) : "";
-        String[] monthsWithoutDay = DateTimeHelper.monthsWithoutDayOfMonth(day);
-        duration = "Every month";
-        if (monthsWithoutDay.length >= 1) {
-            duration += " except " + String.join(",", monthsWithoutDay);
+        expenditureAmount = entryType == Common.EntryType.EXP ? "-$" + this.amount : "";
+        incomeAmount = entryType == Common.EntryType.INC ? "+$" + this.amount : "";
+        if (rule != null) {
+            duration = rule.getDescription();
+        } else {
+            String[] monthsWithoutDay = DateTimeHelper.monthsWithoutDayOfMonth(day);
+            duration = "Every month";
+            if (monthsWithoutDay.length >= 1) {
+                duration += " except " + String.join(",", monthsWithoutDay);
+            }
         }
         payment = isAuto ? "Auto deduction" : "Manual payment";
     }
@@ -136,7 +247,8 @@ public class RecurringEntry extends Item {
             convertAttributesToString();
         }
 
-        return String.format("%s;%s;%s;%s;%s;%s;%s", day, description, expenditureAmount,
+        // The day of an entry with a rule is only what it is sorted by, so the rule is shown instead.
+        return String.format("%s;%s;%s;%s;%s;%s;%s", rule != null ? "-" : day, description, expenditureAmount,
                 incomeAmount, duration, payment, notes);
     }
 
@@ -145,8 +257,10 @@ public class RecurringEntry extends Item {
             convertAttributesToString();
         }
 
-        return String.format("%s>&@#<%s>&@#<%s>&@#<%s>&@#<%s>&@#<%s>&@#<%s", day, description,
+        String saveString = String.format("%s>&@#<%s>&@#<%s>&@#<%s>&@#<%s>&@#<%s>&@#<%s", day, description,
                 expenditureAmount, incomeAmount, duration, payment, notes);
+        // The rule is appended, so that entries without one are saved as they were before rules.
+        return rule != null ? saveString + ">&@#<" + rule : saveString;
     }
 
 }
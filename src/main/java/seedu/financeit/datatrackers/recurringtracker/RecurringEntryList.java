@@ -1,40 +1,132 @@
 package seedu.financeit.datatrackers.recurringtracker;
 
+import seedu.financeit.common.Common;
+import seedu.financeit.common.Money;
 import seedu.financeit.data.Item;
 import seedu.financeit.data.ItemList;
 import seedu.financeit.datatrackers.recurringtracker.comparators.SortByDay;
 import seedu.financeit.ui.TablePrinter;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
 
 //@@author Artemis-Hunt
 public class RecurringEntryList extends ItemList {
+    // Whether the entries are in order of day. An entry whose day is edited in place stays where it is
+    // until the next entry is added, which sorts the whole list again.
+    private boolean isSortedByDay = true;
+    // Entries with a recurrence rule, which do not simply recur on their day of every month.
+    private final Set<RecurringEntry> ruleEntries = Collections.newSetFromMap(new IdentityHashMap<>());
 
+    /**
+     * Adds the entry after the entries of the same or earlier days, found by binary search, which is
+     * where sorting the list with the entry appended would put it.
+     */
     @Override
     public void addItem(Item item) {
-        super.addItemAndSort(item, new SortByDay());
+        if (!this.isSortedByDay) {
+            super.addItemAndSort(item, Comparator.comparing(entry -> (RecurringEntry) entry, new SortByDay()));
+            this.isSortedByDay = true;
+            return;
+        }
+        int index = this.findIndexAfterDay(((RecurringEntry) item).getDay());
+        super.items.add(index, item);
+        this.updateIndicesFrom(index);
+        this.addToLookup(item);
+        this.markDirty();
+    }
+
+    /**
+     * Adds the entry to the lookup by value, and notes if the entry is out of order of day, e.g.
+     * after its day has been edited in place.
+     */
+    @Override
+    public void addToLookup(Item item) {
+        super.addToLookup(item);
+        if (((RecurringEntry) item).getRule() != null) {
+            this.ruleEntries.add((RecurringEntry) item);
+        }
+        int index = item.getIndex();
+        int day = ((RecurringEntry) item).getDay();
+        if ((index > 0 && this.getDayAt(index - 1) > day)
+            || (index + 1 < super.items.size() && this.getDayAt(index + 1) < day)) {
+            this.isSortedByDay = false;
+        }
     }
 
     @Override
-    public void printList() {
-        TablePrinter.setTitle(String.format("List of Recurring entries"));
-        TablePrinter.addRow("No.;Day;Description;Expenditure amount;Income amount;"
-                + "Duration;Payment type;Notes                    ");
-        if (super.items.isEmpty()) {
-            TablePrinter.addRow("No entries created; ");
-        } else {
-            for (int i = 0; i < super.items.size(); i++) {
-                RecurringEntry entry = (RecurringEntry) super.items.get(i);
-                TablePrinter.addRow(String.format("%s;%s", i + 1, entry.toString()));
+    public void removeFromLookup(Item item) {
+        super.removeFromLookup(item);
+        this.ruleEntries.remove(item);
+    }
+
+    @Override
+    public void removeAllItems() {
+        super.removeAllItems();
+        this.isSortedByDay = true;
+        this.ruleEntries.clear();
+    }
+
+    /**
+     * Returns whether the entries are in order of day, so that they can be found by day with
+     * {@link #findIndexAfterDay(int)}.
+     */
+    boolean isSortedByDay() {
+        return this.isSortedByDay;
+    }
+
+    /**
+     * Returns the entries with a recurrence rule.
+     */
+    Collection<RecurringEntry> getRuleEntries() {
+        return this.ruleEntries;
+    }
+
+    private int getDayAt(int index) {
+        return ((RecurringEntry) super.items.get(index)).getDay();
+    }
+
+    /**
+     * Returns the index of the first entry with a day after the given day, or the size of the list
+     * if there is none. Requires the entries to be in order of day.
+     */
+    int findIndexAfterDay(int day) {
+        int low = 0;
+        int high = super.items.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (this.getDayAt(middle) > day) {
+                high = middle;
+            } else {
+                low = middle + 1;
             }
         }
-        TablePrinter.printList();
+        return low;
+    }
+
+    @Override
+    public void printList(int fromIndex, int toIndex) {
+        String header = "No.;Day;Description;Expenditure amount;Income amount;"
+                + "Duration;Payment type;Notes                    ";
+        Iterator<String> rows = super.items.isEmpty()
+            ? List.of("No entries created; ").iterator()
+            : this.getRowIterator(fromIndex, toIndex);
+        TablePrinter.printList(this.getWindowTitle("List of Recurring entries", fromIndex, toIndex), header, rows);
     }
 
     /**
      * Returns an ArrayList of all RecurringEntry with
      * day of month between X and Y  (both inclusive)
      * i.e. Y >= day >= X (inequality)
+     * The entries in range are found by binary search, so only they are visited, unless an edit has
+     * left the entries out of order of day.
      *
      * @param startDay - X
      * @param endDay - Y
@@ -42,6 +134,13 @@ public class RecurringEntryList extends ItemList {
      */
     public ArrayList<RecurringEntry> getEntriesFromDayXtoY(int startDay, int endDay) {
         ArrayList<RecurringEntry> entries = new ArrayList<>();
+        if (this.isSortedByDay) {
+            int toIndex = this.findIndexAfterDay(endDay);
+            for (int i = this.findIndexAfterDay(startDay - 1); i < toIndex; i++) {
+                entries.add((RecurringEntry) super.items.get(i));
+            }
+            return entries;
+        }
         for (Item item : super.items) {
             RecurringEntry entry = (RecurringEntry) item;
             int dayOfEntry = entry.getDay();
@@ -52,5 +151,26 @@ public class RecurringEntryList extends ItemList {
         return entries;
     }
 
-}
 
+    /**
+     * Returns the total amount of the entries of the given type that recur from one date until another,
+     * counting each entry once for every date on which it recurs.
+     *
+     * @param from First date of the range
+     * @param to Date after the last date of the range
+     * @param entryType Type of entries to total
+     * @return Total amount of the occurrences
+     */
+    public Money getProjectedTotal(LocalDate from, LocalDate to, Common.EntryType entryType) {
+        // Summed in cents, so that no Money is created for each occurrence.
+        long totalCents = 0;
+        OccurrenceIterator occurrences = new OccurrenceIterator(this, from, to);
+        while (occurrences.hasNext()) {
+            RecurringEntry entry = occurrences.next().getEntry();
+            if (entry.getEntryType() == entryType) {
+                totalCents = Math.addExact(totalCents, entry.getAmount().getCents());
+            }
+        }
+        return Money.ofCents(totalCents);
+    }
+}
@@ -3,7 +3,9 @@ package seedu.financeit.datatrackers.recurringtracker;
 //@@author Artemis-Hunt
 import seedu.financeit.common.CommandPacket;
 import seedu.financeit.common.Common;
+import seedu.financeit.common.ListWindowHandler;
 import seedu.financeit.common.exceptions.DuplicateInputException;
+import seedu.financeit.common.exceptions.IncompatibleParamsException;
 import seedu.financeit.common.exceptions.InsufficientParamsException;
 import seedu.financeit.common.exceptions.ItemNotFoundException;
 import seedu.financeit.datatrackers.recurringtracker.recurringhandlers.RetrieveEntryHandler;
@@ -42,7 +44,7 @@ public class RecurringTracker {
                 handleNewEntry(packet);
                 break;
             case "list":
-                showEntries();
+                showEntries(packet);
                 break;
             case "edit":
                 handleEditEntry(packet);
@@ -79,7 +81,7 @@ public class RecurringTracker {
             String entryName = entry.getName();
             UiManager.printWithStatusIcon(Common.PrintType.SYS_MSG,
                     String.format("%s created!", entryName));
-            RecurringTrackerSaver.getInstance().save();
+            RecurringTrackerSaver.getInstance().saveChange();
         } catch (InsufficientParamsException | ItemNotFoundException exception) {
             UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE,
                     exception.getMessage());
@@ -110,7 +112,7 @@ public class RecurringTracker {
             entries.removeItemAtCurrIndex();
             UiManager.printWithStatusIcon(Common.PrintType.SYS_MSG,
                     String.format("%s deleted!", entryName));
-            RecurringTrackerSaver.getInstance().save();
+            RecurringTrackerSaver.getInstance().saveChange();
         } catch (InsufficientParamsException | ItemNotFoundException exception) {
             UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE,
                     exception.getMessage());
@@ -134,11 +136,17 @@ public class RecurringTracker {
             //an attribute of entries
             retrieveEntryHandler.handlePacket(packet, entries);
             entry = (RecurringEntry) entries.getItemAtCurrIndex();
-            editEntryHandler.setEntry(entry);
-            editEntryHandler.handlePacket(packet);
+            // The entry is edited in place, so it leaves the lookup by value while its value changes.
+            entries.removeFromLookup(entry);
+            try {
+                editEntryHandler.setEntry(entry);
+                editEntryHandler.handlePacket(packet);
+            } finally {
+                entries.addToLookup(entry);
+            }
             UiManager.printWithStatusIcon(Common.PrintType.SYS_MSG,
                     String.format("%s edited!", entry.getName()));
-            RecurringTrackerSaver.getInstance().save();
+            RecurringTrackerSaver.getInstance().saveChange();
         } catch (InsufficientParamsException | ItemNotFoundException exception) {
             UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE,
                     exception.getMessage());
@@ -151,8 +159,15 @@ public class RecurringTracker {
         return entry;
     }
 
-    static void showEntries() {
-        entries.printList();
+    static void showEntries(CommandPacket packet) {
+        ListWindowHandler listWindowHandler = ListWindowHandler.getInstance();
+        try {
+            listWindowHandler.handlePacket(packet, entries.getListSize(), false);
+            entries.printList(listWindowHandler.getFromIndex(), listWindowHandler.getToIndex());
+        } catch (InsufficientParamsException | IncompatibleParamsException | ItemNotFoundException exception) {
+            UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE,
+                    exception.getMessage());
+        }
     }
 
     static void showHelp() {
@@ -163,12 +178,17 @@ public class RecurringTracker {
                             + ">/amt {AMOUNT} >/day {DAY_OF_MONTH} >[/notes {NOTES}];Use -auto for "
                             + "income/expenses that are auto-credited into/auto-deducted from bank "
                             + "account/credit card");
-        TablePrinter.addRow("2.;Edit entry;edit /id {INDEX} {parameter to edit};At least 1 param to edit required. "
+        TablePrinter.addRow("2.;New entry with a recurrence rule;new -[e/i] [-auto] >/desc {DESCRIPTION} "
+                            + ">/amt {AMOUNT} >/rule {RULE} >[/from {DATE}] >[/notes {NOTES}];"
+                            + "e.g. /rule FREQ=WEEKLY for every week. See the user guide for the "
+                            + "other rule parts. /from is the date of the first period, today by default");
+        TablePrinter.addRow("3.;Edit entry;edit /id {INDEX} {parameter to edit};At least 1 param to edit required. "
                             + "Will overwrite previous value");
 
-        TablePrinter.addRow("3.;List entries;list; ");
-        TablePrinter.addRow("4.;Delete entry;delete /id {INDEX}; ");
-        TablePrinter.addRow("5.;Exit to main menu;exit; ");
+        TablePrinter.addRow("4.;List entries;list [/page {INTEGER} /size {INTEGER}] [/head {INTEGER}] "
+                            + "[/tail {INTEGER}]; ");
+        TablePrinter.addRow("5.;Delete entry;delete /id {INDEX}; ");
+        TablePrinter.addRow("6.;Exit to main menu;exit; ");
         TablePrinter.printList();
     }
 
@@ -2,19 +2,26 @@ package seedu.financeit.datatrackers.recurringtracker.recurringhandlers;
 
 import seedu.financeit.common.CommandPacket;
 import seedu.financeit.common.Common;
+import seedu.financeit.common.Money;
 import seedu.financeit.common.ParamHandler;
 import seedu.financeit.common.exceptions.InsufficientParamsException;
 import seedu.financeit.common.exceptions.ItemNotFoundException;
 import seedu.financeit.common.exceptions.ParseFailParamException;
+import seedu.financeit.datatrackers.recurringtracker.RecurrenceRule;
 import seedu.financeit.datatrackers.recurringtracker.RecurringEntry;
 import seedu.financeit.ui.UiManager;
 import seedu.financeit.utils.ParamChecker;
+import seedu.financeit.utils.RunHistory;
+
+import java.time.LocalDate;
 
 import static seedu.financeit.utils.ParamChecker.PARAM_AMOUNT;
 import static seedu.financeit.utils.ParamChecker.PARAM_DAY;
 import static seedu.financeit.utils.ParamChecker.PARAM_DESCRIPTION;
 import static seedu.financeit.utils.ParamChecker.PARAM_EXP;
+import static seedu.financeit.utils.ParamChecker.PARAM_FROM;
 import static seedu.financeit.utils.ParamChecker.PARAM_INC;
+import static seedu.financeit.utils.ParamChecker.PARAM_RULE;
 
 //@@author Artemis-Hunt
 /**
@@ -24,11 +31,14 @@ import static seedu.financeit.utils.ParamChecker.PARAM_INC;
  */
 public class CreateEntryHandler extends ParamHandler {
     RecurringEntry recurringEntry;
+    // Recurrence rule and date of its first period as entered, applied once all params are handled.
+    String ruleText;
+    LocalDate ruleStart;
     private static CreateEntryHandler handler = null;
 
     private CreateEntryHandler() {
         setRequiredParams(
-            PARAM_DAY,
+            PARAM_DAY + " or " + PARAM_RULE,
             PARAM_DESCRIPTION,
             PARAM_AMOUNT,
             PARAM_INC + " or " + PARAM_EXP
@@ -49,7 +59,18 @@ public class CreateEntryHandler extends ParamHandler {
     public void handlePacket(CommandPacket packet)
             throws InsufficientParamsException, ItemNotFoundException {
         recurringEntry = new RecurringEntry();
+        ruleText = null;
+        ruleStart = null;
         handleParams(packet);
+        if (ruleText != null) {
+            LocalDate start = ruleStart != null ? ruleStart : RunHistory.getCurrentRunDateTime().toLocalDate();
+            recurringEntry.setRule(RecurrenceRule.parse(ruleText, start));
+        } else if (packet.getParamTypes().contains(PARAM_RULE)) {
+            // Otherwise an entry with a rule that is not valid, e.g. from an old save, would recur on its day.
+            throw new InsufficientParamsException(PARAM_RULE + " is not valid, so the entry was not created.");
+        } else if (ruleStart != null) {
+            throw new InsufficientParamsException(PARAM_FROM + " can only be given with " + PARAM_RULE + ".");
+        }
     }
 
     @Override
@@ -60,7 +81,7 @@ public class CreateEntryHandler extends ParamHandler {
             recurringEntry.setDay(day);
             break;
         case ParamChecker.PARAM_AMOUNT:
-            double amount = ParamChecker.getInstance().checkAndReturnDoubleSigned(paramType);
+            Money amount = ParamChecker.getInstance().checkAndReturnMoney(paramType);
             recurringEntry.setAmount(amount);
             break;
         case ParamChecker.PARAM_INC:
@@ -80,6 +101,12 @@ public class CreateEntryHandler extends ParamHandler {
             String notes = ParamChecker.getInstance().checkAndReturnDescription(paramType);
             recurringEntry.setNotes(notes);
             break;
+        case ParamChecker.PARAM_RULE:
+            ruleText = ParamChecker.getInstance().checkAndReturnRecurrenceRule(paramType);
+            break;
+        case ParamChecker.PARAM_FROM:
+            ruleStart = ParamChecker.getInstance().checkAndReturnDate(paramType);
+            break;
         default:
             UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE,
                 ParamChecker.getInstance().getUnrecognizedParamMessage(paramType));
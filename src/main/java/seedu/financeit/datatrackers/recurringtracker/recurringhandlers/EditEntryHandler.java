@@ -2,14 +2,18 @@ package seedu.financeit.datatrackers.recurringtracker.recurringhandlers;
 
 import seedu.financeit.common.CommandPacket;
 import seedu.financeit.common.Common;
+import seedu.financeit.common.Money;
 import seedu.financeit.common.ParamHandler;
 import seedu.financeit.common.exceptions.InsufficientParamsException;
 import seedu.financeit.common.exceptions.ItemNotFoundException;
 import seedu.financeit.common.exceptions.ParseFailParamException;
+import seedu.financeit.datatrackers.recurringtracker.RecurrenceRule;
 import seedu.financeit.datatrackers.recurringtracker.RecurringEntry;
 import seedu.financeit.ui.UiManager;
 import seedu.financeit.utils.ParamChecker;
+import seedu.financeit.utils.RunHistory;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 
 //@@author Artemis-Hunt
@@ -17,11 +21,17 @@ import java.util.Arrays;
  * Command class to edit an existing entry instance with specified parameter values.
  * Entry to be edited must be referenced via the constructor argument.
  */
+import static seedu.financeit.utils.ParamChecker.PARAM_DAY;
+import static seedu.financeit.utils.ParamChecker.PARAM_FROM;
 import static seedu.financeit.utils.ParamChecker.PARAM_INDEX;
+import static seedu.financeit.utils.ParamChecker.PARAM_RULE;
 
 public class EditEntryHandler extends ParamHandler {
     RecurringEntry recurringEntry;
     String prevEntry;
+    // Recurrence rule and date of its first period as entered, applied once all params are handled.
+    String ruleText;
+    LocalDate ruleStart;
     private static EditEntryHandler handler = null;
 
     // Function of constructor is to set required params
@@ -59,12 +69,38 @@ public class EditEntryHandler extends ParamHandler {
     public void handlePacket(CommandPacket packet)
             throws InsufficientParamsException, ItemNotFoundException {
         prevEntry = recurringEntry.toString();
+        ruleText = null;
+        ruleStart = null;
         handleParams(packet);
+        applyRule();
         //If only param provided is /id or no params provided
         checkIfParamToEditExists(packet);
         checkIfParamToEditEffective();
     }
 
+    /**
+     * Sets the rule entered, if any. A new date for the first period alone moves the current rule, and
+     * a new day alone makes the entry recur on that day of every month instead of by its rule.
+     */
+    private void applyRule() throws InsufficientParamsException {
+        RecurrenceRule rule = recurringEntry.getRule();
+        if (ruleText != null) {
+            LocalDate start = ruleStart;
+            if (start == null) {
+                start = rule != null ? rule.getStart() : RunHistory.getCurrentRunDateTime().toLocalDate();
+            }
+            recurringEntry.setRule(RecurrenceRule.parse(ruleText, start));
+        } else if (ruleStart != null) {
+            if (rule == null) {
+                throw new InsufficientParamsException(PARAM_FROM + " can only be given with " + PARAM_RULE
+                    + ", or for an entry that has one.");
+            }
+            recurringEntry.setRule(rule.startingOn(ruleStart));
+        } else if (rule != null && paramsSuccessfullyParsed.contains(PARAM_DAY)) {
+            recurringEntry.setRule(null);
+        }
+    }
+
     @Override
     public void handleSingleParam(CommandPacket packet, String paramType) throws ParseFailParamException {
         switch (paramType) {
@@ -73,7 +109,7 @@ public class EditEntryHandler extends ParamHandler {
             recurringEntry.setDay(day);
             break;
         case ParamChecker.PARAM_AMOUNT:
-            double amount = ParamChecker.getInstance().checkAndReturnDoubleSigned(paramType);
+            Money amount = ParamChecker.getInstance().checkAndReturnMoney(paramType);
             recurringEntry.setAmount(amount);
             break;
         case ParamChecker.PARAM_INC:
@@ -97,6 +133,12 @@ public class EditEntryHandler extends ParamHandler {
             String notes = ParamChecker.getInstance().checkAndReturnDescription(paramType);
             recurringEntry.setNotes(notes);
             break;
+        case ParamChecker.PARAM_RULE:
+            ruleText = ParamChecker.getInstance().checkAndReturnRecurrenceRule(paramType);
+            break;
+        case ParamChecker.PARAM_FROM:
+            ruleStart = ParamChecker.getInstance().checkAndReturnDate(paramType);
+            break;
         default:
             String[] ignoreParams = {
                 PARAM_INDEX
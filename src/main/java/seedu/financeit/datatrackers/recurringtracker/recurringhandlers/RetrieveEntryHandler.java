@@ -17,8 +17,11 @@ import static seedu.financeit.utils.ParamChecker.PARAM_AUTO;
 import static seedu.financeit.utils.ParamChecker.PARAM_DAY;
 import static seedu.financeit.utils.ParamChecker.PARAM_DESCRIPTION;
 import static seedu.financeit.utils.ParamChecker.PARAM_EXP;
+import static seedu.financeit.utils.ParamChecker.PARAM_FROM;
 import static seedu.financeit.utils.ParamChecker.PARAM_INC;
 import static seedu.financeit.utils.ParamChecker.PARAM_INDEX;
+import static seedu.financeit.utils.ParamChecker.PARAM_NOTES;
+import static seedu.financeit.utils.ParamChecker.PARAM_RULE;
 
 //@@author Artemis-Hunt
 /**
@@ -54,7 +57,7 @@ public class RetrieveEntryHandler extends ParamHandler {
         switch (paramType) {
         //RetrieveEntryHandler is only concerned with index of entry.
         case ParamChecker.PARAM_INDEX:
-            int index = ParamChecker.getInstance().checkAndReturnIndex(paramType, entryList.getItems());
+            int index = ParamChecker.getInstance().checkAndReturnIndex(paramType, entryList.getListSize());
             entryList.setIndexToModify(index, paramType);
             return;
         default:
@@ -65,7 +68,10 @@ public class RetrieveEntryHandler extends ParamHandler {
                 PARAM_AMOUNT,
                 PARAM_DESCRIPTION,
                 PARAM_EXP,
-                PARAM_INC
+                PARAM_INC,
+                PARAM_NOTES,
+                PARAM_RULE,
+                PARAM_FROM
             };
             if (!Arrays.asList(ignoreParams).contains(paramType)) {
                 UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE,
@@ -10,6 +10,11 @@ import java.time.format.DateTimeFormatter;
  * Class that stores and manages the output of Datetime classes.
  */
 public class DateTimeOutputManager {
+    // Formatters are immutable, so they are built once instead of on every output.
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MMM d YYYY");
+    private static final DateTimeFormatter FULL_DATE_FORMATTER = DateTimeFormatter.ofPattern("YYYY/MM/dd");
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+
     private LocalDate date;
     private LocalTime time;
 
@@ -37,7 +42,7 @@ public class DateTimeOutputManager {
         switch (whichFormat) {
         case "date":
             // May 27 2020
-            output = this.date.format(DateTimeFormatter.ofPattern("MMM d YYYY"));
+            output = this.date.format(DATE_FORMATTER);
             break;
         case "day":
             // Tuesday
@@ -53,7 +58,7 @@ public class DateTimeOutputManager {
             break;
         default:
             // Show all information
-            output = this.date.format(DateTimeFormatter.ofPattern("YYYY/MM/dd"));
+            output = this.date.format(FULL_DATE_FORMATTER);
             break;
         }
         return output;
@@ -69,7 +74,7 @@ public class DateTimeOutputManager {
             break;
         default:
             // Show all information
-            output = this.time.format(DateTimeFormatter.ofPattern("HH:mm"));
+            output = this.time.format(TIME_FORMATTER);
             break;
         }
         return output;
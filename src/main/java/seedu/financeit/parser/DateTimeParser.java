@@ -35,15 +35,15 @@ public class DateTimeParser {
     public static String getFormatStringForLocalDateParse(String input) {
         final String partition = "-";
         String[] output = new String[3];
-        if (input.matches("[0-9]{6}")) {
+        if (RegexMatcher.regexMatcher(input, "[0-9]{6}").matches()) {
             // If input date format is XXXXXX, replace with XX,XX,XX. Eg: 200404
             input = input.substring(0,2) + "," + input.substring(2, 4) + "," + input.substring(4);
-        } else if (input.matches("[0-9]{8}")) {
+        } else if (RegexMatcher.regexMatcher(input, "[0-9]{8}").matches()) {
             // If input date format is XXXXXXXX, replace with XXXX,XX,XX. Eg: 20200404
             input = input.substring(0,4) + "," + input.substring(4, 6) + "," + input.substring(6);
         }
 
-        input = input.replaceAll("[\\D]+", "c");
+        input = RegexMatcher.regexMatcher(input, "[\\D]+").replaceAll("c");
         String[] tokens = input.split("c");
         for (int i = 0; i < output.length; i++) {
             if (i > tokens.length - 1) {
@@ -52,7 +52,7 @@ public class DateTimeParser {
             } else if (tokens[i].length() < 2) {
                 // If token is 1 or 0 digits long, fill the remaining space with 0 such that a 2 digit number is formed.
                 output[i] = "0" + tokens[i];
-            } else if (i == 0 && tokens[i].matches("[0-9]{2}")) {
+            } else if (i == 0 && RegexMatcher.regexMatcher(tokens[i], "[0-9]{2}").matches()) {
                 // If year given is YY
                 output[i] = "20" + tokens[i].substring(0,2);
             } else {
@@ -65,11 +65,11 @@ public class DateTimeParser {
     public static String getFormatStringForLocalTimeParse(String input) {
         final String partition = ":";
         String[] output = new String[3];
-        if (input.matches("[0-9]{4}")) {
+        if (RegexMatcher.regexMatcher(input, "[0-9]{4}").matches()) {
             // If input time format is XXXX, replace with XX:XX:00.
             input = input.substring(0,2) + "," + input.substring(2) + ",00";
         }
-        input = input.replaceAll("[\\D]+", "c");
+        input = RegexMatcher.regexMatcher(input, "[\\D]+").replaceAll("c");
         String[] tokens = input.split("c");
         for (int i = 0; i < output.length; i++) {
             if (i > tokens.length - 1) {
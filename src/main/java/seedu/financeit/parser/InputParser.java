@@ -5,15 +5,11 @@ import seedu.financeit.common.Common;
 import seedu.financeit.common.exceptions.EmptyCommandStringException;
 import seedu.financeit.ui.UiManager;
 import seedu.financeit.utils.LoggerCentre;
-import seedu.financeit.utils.RegexMatcher;
 
 import java.util.HashMap;
-import java.util.regex.Matcher;
-import java.util.regex.PatternSyntaxException;
 
 //@@author Artemis-Hunt
 public class InputParser {
-    private Matcher matcher;
     private static InputParser inputParser = null;
 
     private InputParser() {
@@ -70,36 +66,24 @@ public class InputParser {
     public CommandPacket parseInput(String input) {
         String commandString = "";
         HashMap<String, String> params = new HashMap<>();
-        String[] buffer;
-        String separator = "";
-        boolean paramsExist = false;
 
         //Split into [command, rest of input]
         //Check for existence of command title
-
-        try {
-            input = input.trim();
-            input = input + " ";
-            // If no param is found, an exception will be thrown.
-            matcher = RegexMatcher.paramMatcher(input);
-            separator = getSeparator(input);
-        } catch (java.lang.IllegalStateException exception) {
+        input = input.trim();
+        int paramIndex = ParamsParser.getInstance().indexOfFirstParamType(input);
+        if (paramIndex == -1) {
             //No params provided
-            commandString = input.toLowerCase().trim();
+            commandString = input.toLowerCase();
             return new CommandPacket(commandString, params);
         }
 
         // Param substring is found, need to parse.
         try {
-            //Split into [<command>, <params string>]
-            buffer = input.split(separator, 2);
-            if (buffer[0].equals(" ")) {
+            commandString = input.substring(0, paramIndex).toLowerCase().trim();
+            if (commandString.isEmpty()) {
                 throw new EmptyCommandStringException();
             }
-            commandString = buffer[0].toLowerCase().trim();
-            String paramSubstring = separator + buffer[1];
-            paramSubstring = paramSubstring.trim();
-            params = ParamsParser.getInstance().parseParams(paramSubstring);
+            params = ParamsParser.getInstance().parseParams(input.substring(paramIndex));
         } catch (EmptyCommandStringException e) {
             UiManager.printWithStatusIcon(Common.PrintType.SYS_MSG, e.getMessage());
         }
@@ -107,10 +91,4 @@ public class InputParser {
         LoggerCentre.loggerInputParser.info(packet.toString());
         return packet;
     }
-
-    public String getSeparator(String input) {
-        //Matcher matches <space><separator><paramType><space>, so (matched index + 1) gives the separator
-        int separatorIndex = matcher.start() + 1;
-        return String.valueOf(input.charAt(separatorIndex));
-    }
-}
\ No newline at end of file
+}
@@ -1,15 +1,13 @@
 package seedu.financeit.parser;
 
+import seedu.financeit.common.Common;
 import seedu.financeit.common.exceptions.ParseFailParamException;
 import seedu.financeit.utils.ParamChecker;
-import seedu.financeit.utils.RegexMatcher;
 
 import java.util.HashMap;
-import java.util.regex.Matcher;
 
 //@@author Artemis-Hunt
 public class ParamsParser {
-    protected Matcher matcher;
     private static ParamsParser paramsParser;
 
     private ParamsParser() {
@@ -22,94 +20,111 @@ public class ParamsParser {
         return paramsParser;
     }
 
-    public String getSeparator(String input) {
-        //Matcher matches <space><separator><paramType><space>, so (matched index + 1) gives the separator
-        int separatorIndex = matcher.start() + 1;
-        return String.valueOf(input.charAt(separatorIndex));
+    /**
+     * Checks if the token between the given indices is a param type, which is a param prefix
+     * followed by one or more letters, e.g. "/desc" or "-e".
+     */
+    private static boolean isParamType(String input, int tokenStart, int tokenEnd) {
+        if (tokenEnd - tokenStart < 2 || !isParamTypePrefix(input.charAt(tokenStart))) {
+            return false;
+        }
+        for (int i = tokenStart + 1; i < tokenEnd; i++) {
+            char c = input.charAt(i);
+            if (!((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z'))) {
+                return false;
+            }
+        }
+        return true;
     }
 
-    public String getNextParamType(String input) {
-        //Matcher gives index of space before the param, so (matched index + 1) gives the separator
-        int separatorIndex = -1;
-        try {
-            separatorIndex = RegexMatcher.paramMatcher(input).start();
-        } catch (IllegalStateException e) {
-            return input;
+    private static boolean isParamTypePrefix(char c) {
+        for (String prefix : Common.DEFAULT_PARAM_TYPE_PREFIX) {
+            if (prefix.charAt(0) == c) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int skipWhitespace(String input, int index) {
+        while (index < input.length() && Character.isWhitespace(input.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    private static int skipToken(String input, int index) {
+        while (index < input.length() && !Character.isWhitespace(input.charAt(index))) {
+            index++;
         }
-        int nextSpaceIndex = input.indexOf(" ", separatorIndex + 1);
-        return input.substring(separatorIndex, nextSpaceIndex);
+        return index;
     }
 
     /**
-     * Example input: deadline do homework /by tomorrow /note skip page 70
-     * --First iteration--
-     * paramSubstring: "by tomorrow /note skip page 70"
-     * paramType: "by"
+     * Returns the index of the first param type in the input, excluding the first word,
+     * which is always part of the command.
+     * Example input: new /desc lunch /amt 5
+     * Output: 4
+     *
+     * @param input Trimmed user input
+     * @return Index of the first param type, or -1 if the input has no params
+     */
+    public int indexOfFirstParamType(String input) {
+        int index = skipToken(input, 0);
+        while (index < input.length()) {
+            int tokenStart = skipWhitespace(input, index);
+            index = skipToken(input, tokenStart);
+            if (tokenStart < index && isParamType(input, tokenStart, index)) {
+                return tokenStart;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Walks the input once, word by word. Each param type starts a new param, and the words
+     * up to the next param type, with the whitespace between them, form its argument.
+     * Example input: /by tomorrow /note skip page 70
+     * --First param--
+     * paramType: "/by"
      * paramArgument: "tomorrow"
-     * --Next iteration--
-     * paramSubstring: "note skip page 70"
-     * paramType: "note"
+     * --Next param--
+     * paramType: "/note"
      * paramArgument: "skip page 70"
-     * etc.
+     *
+     * @param paramSubstring Input starting with a param type
+     * @return Param arguments, keyed by param type
      */
     public HashMap<String, String> parseParams(String paramSubstring) {
         HashMap<String, String> paramMap = new HashMap<>();
-        String[] buffer;
-        String paramArgument = "";
-        boolean paramArgumentExist;
-        do {
-            paramSubstring += " ";
-            paramArgument = "";
-            //Separate into [paramType, rest of string]
-            buffer = paramSubstring.split(" ", 2);
-
-            String paramType = buffer[0].trim();
-            paramSubstring = buffer[1].trim();
-            /*
-            * Process param argument and check whether more params exist
-            */
-
-            boolean isRestOfStringEmpty = paramSubstring.length() == 0;
-            if (isRestOfStringEmpty) {
-                //No param argument, no further params
-                putParamIntoParamMap(paramType, paramSubstring, paramMap);
+        String paramType = null;
+        int argumentStart = 0;
+        int argumentEnd = 0;
+        int index = 0;
+        while (index < paramSubstring.length()) {
+            int tokenStart = skipWhitespace(paramSubstring, index);
+            index = skipToken(paramSubstring, tokenStart);
+            if (tokenStart == index) {
                 break;
             }
-
-            //Matcher requires a leading and trailing blank space to successfully match a param
-            paramSubstring = " " + paramSubstring + " ";
-
-            matcher = RegexMatcher.paramMatcher(paramSubstring);
-
-            try {
-                //Attempts to look for the start of the next param. If found, everything before start of next
-                //param is the paramArgument belonging to the current param.
-                paramArgumentExist = matcher.start() >= 0;
-            } catch (java.lang.IllegalStateException e) {
-                //If no more params are present after current param
-                //Only thing in paramSubstring is the paramArgument
-                paramArgument = paramSubstring.trim();
-                putParamIntoParamMap(paramType, paramArgument, paramMap);
-                break;
-            }
-
-            if (paramArgumentExist) {
-                //Split into [paramArgument, rest of string]
-                //Separator character = '/' or '-'
-                //String separator = getSeparator(paramSubstring);
-                String separator = getNextParamType(paramSubstring);
-                buffer = paramSubstring.split(separator, 2);
-                buffer[1] = separator + buffer[1];
-
-                paramArgument = buffer[0].trim();
-                paramSubstring = buffer[1].trim();
+            // The first word is taken as a param type, as the input starts with one.
+            if (paramType == null || isParamType(paramSubstring, tokenStart, index)) {
+                if (paramType != null) {
+                    putParamIntoParamMap(paramType, paramSubstring.substring(argumentStart, argumentEnd), paramMap);
+                }
+                paramType = paramSubstring.substring(tokenStart, index);
+                argumentStart = index;
+                argumentEnd = index;
             } else {
-                //Nothing more to process for current param
-                paramSubstring = paramSubstring.trim();
+                if (argumentStart == argumentEnd) {
+                    argumentStart = tokenStart;
+                }
+                argumentEnd = index;
             }
-            putParamIntoParamMap(paramType, paramArgument, paramMap);
-
-        } while (true);
+        }
+        if (paramType != null) {
+            putParamIntoParamMap(paramType, paramSubstring.substring(argumentStart, argumentEnd), paramMap);
+        }
         return paramMap;
     }
 
@@ -122,4 +137,4 @@ public class ParamsParser {
         }
     }
 
-}
\ No newline at end of file
+}
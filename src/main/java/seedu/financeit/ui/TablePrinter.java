@@ -3,6 +3,9 @@ package seedu.financeit.ui;
 import seedu.financeit.utils.RegexMatcher;
 
 import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.IntFunction;
 import java.util.regex.Matcher;
 
 public class TablePrinter {
@@ -11,6 +14,10 @@ public class TablePrinter {
     private static final int DEFAULT_COL_WIDTH = 15;
     private static int[] colWidth;
     private static int pad = 0;
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+    private static final int FLUSH_THRESHOLD = 1 << 16;
+    private static final int MAX_RETAINED_CAPACITY = 1 << 20;
+    private static final StringBuilder outputBuffer = new StringBuilder();
 
     public static String formatTitle(String input) {
         String output = UiManager.getLineWithSymbol(input.length() + 4, "=");
@@ -44,18 +51,10 @@ public class TablePrinter {
      * @param input Input rows to print table contents.
      */
     public static void printList(ArrayList<String> input) {
-        String[] header = input.get(0).split(";");
-        //Set the width of the column based on the length of column header
-        setColWidth(header);
-        System.out.println(formatTitle(title, getHeaderRowWidth(header)));
-
-        printRowHeader(header);
-        printHorizontalHeaderPartition(getHeaderRowWidth(header));
-        for (int i = 1; i < input.size(); i++) {
-            String[] buffer = input.get(i).split(";");
-            printRow(buffer);
-            printHorizontalPartition(getHeaderRowWidth(header));
+        if (UiManager.isQuiet()) {
+            return;
         }
+        printList(title, input.get(0), input.subList(1, input.size()).iterator());
     }
 
     public static void printList() {
@@ -64,6 +63,93 @@ public class TablePrinter {
         title = "";
     }
 
+    /**
+     * Prints a table whose rows are pulled from the given iterator one at a time.
+     * The layout is computed once from the header, and rows are written into a buffer
+     * that is flushed to the console in large chunks, so the full table is never held in memory.
+     *
+     * @param tableTitle Title of the table
+     * @param headerRow Column headers, separated by ";"
+     * @param rows Table rows, with columns separated by ";"
+     */
+    public static void printList(String tableTitle, String headerRow, Iterator<String> rows) {
+        if (UiManager.isQuiet()) {
+            return;
+        }
+        String[] header = headerRow.split(";");
+        //Set the width of the column based on the length of column header
+        setColWidth(header);
+        outputBuffer.setLength(0);
+        appendListRow(outputBuffer, header);
+        int firstLineEnd = outputBuffer.indexOf("\n");
+        int rowWidth = (firstLineEnd < 0) ? outputBuffer.length() : firstLineEnd;
+        String headerPartition = UiManager.getLineWithSymbol(rowWidth, "-");
+        String rowPartition = UiManager.getLineWithSymbol(rowWidth / 2, " -");
+
+        outputBuffer.insert(0, formatTitle(tableTitle, rowWidth) + LINE_SEPARATOR);
+        outputBuffer.append('|').append(LINE_SEPARATOR);
+        outputBuffer.append(headerPartition).append(LINE_SEPARATOR);
+        while (rows.hasNext()) {
+            appendListRow(outputBuffer, rows.next().split(";"));
+            outputBuffer.append('|').append(LINE_SEPARATOR);
+            outputBuffer.append(rowPartition).append(LINE_SEPARATOR);
+            if (outputBuffer.length() >= FLUSH_THRESHOLD) {
+                flushOutputBuffer();
+            }
+        }
+        flushOutputBuffer();
+    }
+
+    /**
+     * Returns table rows numbered from 1, generated only when the iterator reaches them.
+     *
+     * @param rowCount Number of rows
+     * @param rowAt Function giving the contents of the row at a zero-based index
+     * @return Iterator over rows of the form "{row number};{row contents}"
+     */
+    public static Iterator<String> getNumberedRows(int rowCount, IntFunction<String> rowAt) {
+        return getNumberedRows(0, rowCount, rowAt);
+    }
+
+    /**
+     * Returns the table rows from a zero-based index, inclusive, to another, exclusive, numbered by
+     * their zero-based index plus 1, generated only when the iterator reaches them.
+     *
+     * @param fromIndex Zero-based index of the first row
+     * @param toIndex Zero-based index after the last row
+     * @param rowAt Function giving the contents of the row at a zero-based index
+     * @return Iterator over rows of the form "{row number};{row contents}"
+     */
+    public static Iterator<String> getNumberedRows(int fromIndex, int toIndex, IntFunction<String> rowAt) {
+        return new Iterator<>() {
+            private int index = fromIndex;
+
+            @Override
+            public boolean hasNext() {
+                return this.index < toIndex;
+            }
+
+            @Override
+            public String next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                String row = (this.index + 1) + ";" + rowAt.apply(this.index);
+                this.index++;
+                return row;
+            }
+        };
+    }
+
+    private static void flushOutputBuffer() {
+        System.out.print(outputBuffer);
+        System.out.flush();
+        outputBuffer.setLength(0);
+        if (outputBuffer.capacity() > MAX_RETAINED_CAPACITY) {
+            outputBuffer.trimToSize();
+        }
+    }
+
     public static int getColWidth(int length) {
         return length > DEFAULT_COL_WIDTH ? length : DEFAULT_COL_WIDTH;
     }
@@ -73,7 +159,7 @@ public class TablePrinter {
         ArrayList<String> output = new ArrayList<>();
         String[] inputs = rawInput.split("[>]");
         for (String input: inputs) {
-            Matcher matcher = RegexMatcher.regexMatcher(input, String.format(".{%s}|.{1,}$", maxLength));
+            Matcher matcher = RegexMatcher.regexMatcher(input, ".{" + maxLength + "}|.{1,}$");
             while (matcher.find()) {
                 output.add(matcher.group());
             }
@@ -85,36 +171,28 @@ public class TablePrinter {
         ArrayList<String> output = new ArrayList<>();
         String[] inputs = rawInput.split("[>]");
         String[] buffer;
-        String feed = "";
-        boolean hasParsedLongWord;
+        StringBuilder feed = new StringBuilder();
         for (String input: inputs) {
             // Break down input line into word tokens
             buffer = input.split(" ");
             int scannedWordCount = 0;
             // While the input line is not fully visited
             while (scannedWordCount + 1  <= buffer.length) {
-                hasParsedLongWord = false;
-                feed = "";
+                feed.setLength(0);
                 // Acquire segment of buffer right before line feed exceeds the char limit
                 if (buffer[scannedWordCount].length() > maxLength) {
-                    //System.out.println("if: " + buffer[scannedWordCount]);
                     ArrayList<String> tokens = adjustWordToColWidth(buffer[scannedWordCount], maxLength);
                     for (int i = 0; i < tokens.size(); i++) {
-                        feed = tokens.get(i);
-                        if (i < tokens.size() - 1) {
-                            feed += "-";
-                        }
-                        output.add(feed);
+                        output.add((i < tokens.size() - 1) ? tokens.get(i) + "-" : tokens.get(i));
                     }
                     scannedWordCount++;
                 } else {
-                    //System.out.println("else: " + buffer[scannedWordCount]);
                     do {
-                        feed += buffer[scannedWordCount] + " ";
+                        feed.append(buffer[scannedWordCount]).append(' ');
                         scannedWordCount++;
                     } while ((scannedWordCount < buffer.length)
                         && (feed.length() + 1 + buffer[scannedWordCount].length() < maxLength - pad));
-                    output.add(feed);
+                    output.add(feed.toString());
                 }
             }
         }
@@ -126,10 +204,18 @@ public class TablePrinter {
      * @param input Input table row to print.
      */
     public static String getPrintListRow(String[] input) {
+        StringBuilder output = new StringBuilder();
+        appendListRow(output, input);
+        return output.toString();
+    }
+
+    /**
+     * Appends a row for all columns to the output, without the closing "|" of its last line.
+     * @param output Buffer to append the row to.
+     * @param input Input table row to print.
+     */
+    private static void appendListRow(StringBuilder output, String[] input) {
         int maxLines = 0;
-        String output = "";
-        ArrayList<String> buffer = new ArrayList<>();
-        String entry = "";
         ArrayList<String>[] token = new ArrayList[input.length];
 
         // Determine how many lines needed for each column, and also segmenting
@@ -144,30 +230,35 @@ public class TablePrinter {
         }
 
         for (int line = 0; line < maxLines; line++) {
-            buffer.clear();
             for (int col = 0; col < input.length; col++) {
                 // If the content of the box is fully printed,
                 // no need to access it anymore
-                if (line + 1 > token[col].size()) {
-                    entry = getPrintFormat(" ", getColWidth(colWidth[col]));
-                } else {
-                    entry = getPrintFormat(token[col].get(line), getColWidth(colWidth[col]));
-                }
-                buffer.add(entry);
+                String entry = (line + 1 > token[col].size()) ? " " : token[col].get(line);
+                appendPrintFormat(output, entry, getColWidth(colWidth[col]));
+            }
+            if (line < maxLines - 1) {
+                output.append("|\n");
             }
-            output += String.join("", buffer);
-            output += (line < maxLines - 1) ? "|\n" : "";
         }
-        return output;
     }
 
     public static String getPrintFormat(String s, int width) {
-        String format = "| %-" + width + "s";
-        return String.format(format, s);
+        StringBuilder output = new StringBuilder();
+        appendPrintFormat(output, s, width);
+        return output.toString();
     }
 
-    public static void printRowHeader(String[] row) {
+    /**
+     * Appends a cell left-aligned and padded to the given width, as "| %-{width}s" would.
+     */
+    private static void appendPrintFormat(StringBuilder output, String s, int width) {
+        output.append("| ").append(s);
+        for (int i = s.length(); i < width; i++) {
+            output.append(' ');
+        }
+    }
 
+    public static void printRowHeader(String[] row) {
         String header = getPrintListRow(row);
         System.out.println(header + "|");
     }
@@ -189,7 +280,7 @@ public class TablePrinter {
 
     public static int getHeaderRowWidth(String[] row) {
         String header = getPrintListRow(row);
-        String[] output = header.split("\\n");
-        return output[0].length();
+        int firstLineEnd = header.indexOf('\n');
+        return (firstLineEnd < 0) ? header.length() : firstLineEnd;
     }
 }
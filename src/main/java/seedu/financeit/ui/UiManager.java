@@ -2,12 +2,126 @@ package seedu.financeit.ui;
 
 import seedu.financeit.common.Common;
 
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Scanner;
 
 public class UiManager {
     private static Scanner scanner = new Scanner(System.in);
+    // Whether output is suppressed, e.g. while running a batch of commands. Errors are recorded instead.
+    private static boolean isQuiet = false;
+    private static ArrayList<String> recordedErrors = new ArrayList<>();
+    private static int failedInputCount = 0;
+    // Errors of the line of input being handled, and whether the command of that line went through anyway.
+    private static ArrayList<String> inputErrors = new ArrayList<>();
+    private static boolean isInputSucceeded = false;
+    private static int inputLineCount = 0;
+    // Called before each line of input is read, if set.
+    private static Runnable inputHook = null;
+    // Output of the current thread, if it is kept to be printed later instead of being printed, e.g. by a
+    // thread that loads a save file while the user is typing.
+    private static final ThreadLocal<StringBuilder> outputBuffer = new ThreadLocal<>();
+
+    /**
+     * Reads input from the given stream instead of the current one.
+     *
+     * @param inputStream Stream to read input from
+     */
+    public static void setInput(InputStream inputStream) {
+        scanner = new Scanner(inputStream);
+        inputLineCount = 0;
+    }
+
+    public static boolean hasNextInput() {
+        return scanner.hasNextLine();
+    }
+
+    public static int getInputLineCount() {
+        return inputLineCount;
+    }
+
+    public static void setInputHook(Runnable hook) {
+        inputHook = hook;
+    }
+
+    /**
+     * Keeps the messages printed by the current thread in the given buffer instead of printing them.
+     *
+     * @param buffer Buffer to keep messages in, or null to print them again
+     */
+    public static void setOutputBuffer(StringBuilder buffer) {
+        outputBuffer.set(buffer);
+    }
+
+    /**
+     * Prints the given text as it is, or keeps it if the output of the current thread is buffered.
+     *
+     * @param text Text to print
+     */
+    public static void print(String text) {
+        StringBuilder buffer = outputBuffer.get();
+        if (buffer != null) {
+            buffer.append(text);
+            return;
+        }
+        System.out.print(text);
+    }
+
+    /**
+     * Suppresses or restores output. While output is suppressed, error messages are recorded
+     * along with the line of input that caused them.
+     *
+     * @param quiet Whether to suppress output
+     */
+    public static void setQuiet(boolean quiet) {
+        isQuiet = quiet;
+        recordedErrors.clear();
+        failedInputCount = 0;
+        inputErrors.clear();
+        isInputSucceeded = false;
+    }
+
+    public static boolean isQuiet() {
+        return isQuiet;
+    }
+
+    public static ArrayList<String> getRecordedErrors() {
+        return recordedErrors;
+    }
+
+    /**
+     * Returns the number of lines of input whose command failed while output was suppressed.
+     */
+    public static int getFailedInputCount() {
+        return failedInputCount;
+    }
+
+    /**
+     * Reports that the command of the line of input being handled went through, even if it printed
+     * error messages, e.g. that the ledger to open did not exist and was created instead.
+     */
+    public static void reportInputSucceeded() {
+        isInputSucceeded = true;
+    }
+
+    /**
+     * Records the outcome of the line of input that was last handled. The line counts as failed if it
+     * led to an error message and its command did not report that it went through.
+     * Called before the next line of input is read, and once more after the last one.
+     */
+    public static void recordInputOutcome() {
+        if (!inputErrors.isEmpty() && !isInputSucceeded) {
+            failedInputCount++;
+            recordedErrors.addAll(inputErrors);
+        }
+        inputErrors.clear();
+        isInputSucceeded = false;
+    }
+
+    private static void recordError(String message) {
+        inputErrors.add(String.format("Line %d: %s", inputLineCount, message));
+    }
 
     public static String getLineWithSymbol(int width, String symbol) {
         // return new String(new char[width]).replace("\0", symbol);
@@ -19,6 +133,9 @@ public class UiManager {
     }
 
     public static void drawPartition() {
+        if (isQuiet) {
+            return;
+        }
         printLineWithSymbol(Common.MAX_PARTITION_LINE_LEN, "_");
     }
 
@@ -40,17 +157,37 @@ public class UiManager {
     }
 
     public static void printInputPrompt() {
+        if (isQuiet) {
+            return;
+        }
         drawPartition();
         System.out.print(">>> ");
     }
 
     public static String handleInput() {
+        if (inputHook != null) {
+            inputHook.run();
+        }
+        if (isQuiet) {
+            recordInputOutcome();
+        }
         UiManager.printInputPrompt();
         String input = scanner.nextLine();
+        inputLineCount++;
         return input;
     }
 
     public static void printWithStatusIcon(Common.PrintType printType, String... messages) {
+        if (outputBuffer.get() != null) {
+            print(getStringPrintWithStatusIcon(printType, messages));
+            return;
+        }
+        if (isQuiet) {
+            if (printType == Common.PrintType.ERROR_MESSAGE && messages.length > 0) {
+                recordError(messages[0]);
+            }
+            return;
+        }
         for (int i = 0; i < messages.length; i++) {
             if (i == 0) {
                 System.out.println(String.format("[ %-15s]: %s", printType, messages[i]));
@@ -80,12 +217,18 @@ public class UiManager {
     }
 
     public static void refreshPage() {
+        if (isQuiet) {
+            return;
+        }
         for (int i = 0; i < 1; i++) {
             System.out.println();
         }
     }
 
     public static void printLogo() {
+        if (isQuiet) {
+            return;
+        }
         String logo =
             "   ||====================================================================||\n"
                 + "   ||||$||||||||||||||||||||||||||||||||||||||||||||||||||||||||||||||$||||\n"
@@ -3,12 +3,15 @@ package seedu.financeit.utils;
 import seedu.financeit.common.CategoryMap;
 import seedu.financeit.common.CommandPacket;
 import seedu.financeit.common.Common;
+import seedu.financeit.common.Money;
 import seedu.financeit.common.exceptions.EmptyParamException;
 import seedu.financeit.common.exceptions.InvalidCategoryException;
 import seedu.financeit.common.exceptions.ParseFailParamException;
+import seedu.financeit.datatrackers.recurringtracker.RecurrenceRule;
 import seedu.financeit.parser.DateTimeParser;
 import seedu.financeit.ui.UiManager;
 
+import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.security.InvalidParameterException;
 import java.text.DecimalFormat;
@@ -34,11 +37,22 @@ public class ParamChecker {
     public static final String PARAM_CATEGORY = "/cat";
     public static final String PARAM_AMOUNT = "/amt";
     public static final String PARAM_NOTES = "/notes";
+    public static final String PARAM_RULE = "/rule";
     public static final String PARAM_INC = "-i";
     public static final String PARAM_EXP = "-e";
     public static final String PARAM_AUTO = "-auto";
+    public static final String PARAM_PAGE = "/page";
+    public static final String PARAM_SIZE = "/size";
+    public static final String PARAM_HEAD = "/head";
+    public static final String PARAM_TAIL = "/tail";
+    public static final String PARAM_FROM = "/from";
+    public static final String PARAM_TO = "/to";
+    public static final String PARAM_BEFORE = "/before";
     // Maximum amount of money that can be inputed: 100 digits including floating point + 1 char for decimal point
     private static final int MAX_INPUT_DOUBLE_LENGTH = 101;
+    // Matches currency characters, such as "$", which are removed from amounts before they are parsed.
+    private static final String CURRENCY_CHARACTERS_REGEX = "[^\\w | [-.]]";
+    private static final BigDecimal MAX_AMOUNT = BigDecimal.valueOf(Money.MAX_VALUE.getCents(), 2);
 
     private static CommandPacket packet;
     private static String errorMessage;
@@ -59,7 +73,7 @@ public class ParamChecker {
     }
 
     private void printErrorMessage() {
-        System.out.print(errorMessage);
+        UiManager.print(errorMessage);
     }
 
     public String getErrorMessage() {
@@ -208,6 +222,18 @@ public class ParamChecker {
      *                                 for example due to error thrown
      */
     public int checkAndReturnIndex(String paramType, ArrayList list) throws ParseFailParamException {
+        return checkAndReturnIndex(paramType, list.size());
+    }
+
+    /**
+     * Checks if user-inputted index is valid, and converts it to zero-based index form.
+     * @param paramType - paramType that has index as paramArgument
+     * @param listSize - number of items to select from
+     * @return zero-based index (i.e. user-inputted index - 1)
+     * @throws ParseFailParamException If index was not parsed successfully,
+     *                                 for example due to error thrown
+     */
+    public int checkAndReturnIndex(String paramType, int listSize) throws ParseFailParamException {
         String message;
         int index = -1;
         boolean parseSuccess = false;
@@ -216,17 +242,17 @@ public class ParamChecker {
 
         LoggerCentre.loggerParamChecker.info("Checking index validity...");
 
-        if (list.size() == 0) {
+        if (listSize == 0) {
             message = getMessageNoItemsInList();
-        } else if (list.size() == 1) {
+        } else if (listSize == 1) {
             message = getMessageOneItemInList();
         } else {
-            message = getMessageListRangeIndex(list.size());
+            message = getMessageListRangeIndex(listSize);
         }
 
         try {
             index = Integer.parseInt(packet.getParam(paramType));
-            if (index < 1 || index > list.size()) {
+            if (index < 1 || index > listSize) {
                 throw new IndexOutOfBoundsException();
             }
             parseSuccess = true;
@@ -272,7 +298,7 @@ public class ParamChecker {
             }
             // Converts String to Decimal.
             // Removes Currency characters if any.
-            input = input.replaceAll("[^\\w | [-.]]", "");
+            input = removeCurrencyCharacters(input);
             if (input.length() > MAX_INPUT_DOUBLE_LENGTH) {
                 throw new NumberFormatException();
             }
@@ -289,20 +315,7 @@ public class ParamChecker {
             }
             parseSuccess = true;
         } catch (NumberFormatException | NullPointerException exception) {
-            if (input.length() > MAX_INPUT_DOUBLE_LENGTH) {
-                LoggerCentre.loggerParamChecker.warning(
-                    String.format("Expected input out of bounds... Err: %s", exception.getMessage()));
-                errorMessage = "Amount provided is too long in length! "
-                    + "Maximum amount is of 100 digits long.";
-            } else if (output < 0) {
-                LoggerCentre.loggerParamChecker.warning(
-                    String.format("Expected positive double... Err: %s", exception.getMessage()));
-                errorMessage = "Expected a positive number.";
-            } else {
-                LoggerCentre.loggerParamChecker.warning(
-                    String.format("Double not recognised... Err: %s", exception.getMessage()));
-            }
-            errorMessage = getErrorMessageDoubleNumberFormatException(input, errorMessage);
+            setErrorMessageAmount(input, output < 0, exception);
         } finally {
             printErrorMessage();
         }
@@ -313,6 +326,97 @@ public class ParamChecker {
         return output;
     }
 
+    private static String removeCurrencyCharacters(String input) {
+        return RegexMatcher.regexMatcher(input, CURRENCY_CHARACTERS_REGEX).replaceAll("");
+    }
+
+    /**
+     * Sets the error message for an amount that could not be parsed.
+     *
+     * @param input Amount entered, without currency characters
+     * @param isNegative Whether the amount was parsed, but is negative
+     * @param exception Exception thrown while parsing the amount
+     */
+    private static void setErrorMessageAmount(String input, boolean isNegative, RuntimeException exception) {
+        if (input.length() > MAX_INPUT_DOUBLE_LENGTH) {
+            LoggerCentre.loggerParamChecker.warning(
+                String.format("Expected input out of bounds... Err: %s", exception.getMessage()));
+            errorMessage = "Amount provided is too long in length! "
+                + "Maximum amount is of 100 digits long.";
+        } else if (isNegative) {
+            LoggerCentre.loggerParamChecker.warning(
+                String.format("Expected positive double... Err: %s", exception.getMessage()));
+            errorMessage = "Expected a positive number.";
+        } else {
+            LoggerCentre.loggerParamChecker.warning(
+                String.format("Double not recognised... Err: %s", exception.getMessage()));
+        }
+        errorMessage = getErrorMessageDoubleNumberFormatException(input, errorMessage);
+    }
+
+    /**
+     * Checks if user-inputted value is a valid amount of money.
+     * Accepts the same inputs as checkAndReturnDoubleSigned, up to the largest amount that can be stored.
+     * The amount is read from the input itself rather than from a double, so no cents are lost however
+     * large it is.
+     *
+     * @param paramType Param type that expects an amount of money
+     * @return Amount entered by user, rounded up to the cent, if it is valid.
+     * @throws ParseFailParamException If user entered an invalid or too large amount
+     */
+    public Money checkAndReturnMoney(String paramType) throws ParseFailParamException {
+        String input = packet.getParam(paramType);
+        BigDecimal amount = null;
+
+        clearErrorMessage();
+        LoggerCentre.loggerParamChecker.info("Checking input amount...");
+        try {
+            if (RegexMatcher.alphabetMatcher(input).find()) {
+                throw new NumberFormatException();
+            }
+            input = removeCurrencyCharacters(input);
+            if (input.length() > MAX_INPUT_DOUBLE_LENGTH) {
+                throw new NumberFormatException();
+            }
+            amount = new BigDecimal(input.trim()).setScale(2, RoundingMode.CEILING);
+            if (amount.signum() < 0) {
+                throw new NumberFormatException();
+            }
+        } catch (NumberFormatException | NullPointerException exception) {
+            // The amount is only set once it is parsed, after which it can only fail for being negative.
+            setErrorMessageAmount(input, amount != null, exception);
+            printErrorMessage();
+            throw new ParseFailParamException(paramType);
+        }
+        if (amount.compareTo(MAX_AMOUNT) > 0) {
+            LoggerCentre.loggerParamChecker.warning(
+                String.format("Expected input out of bounds... Amount: %s", amount));
+            errorMessage = UiManager.getStringPrintWithStatusIcon(Common.PrintType.ERROR_MESSAGE,
+                "Amount provided is too large!",
+                String.format("Maximum amount is %s.", Money.MAX_VALUE));
+            printErrorMessage();
+            throw new ParseFailParamException(paramType);
+        }
+        return Money.ofCents(amount.unscaledValue().longValueExact());
+    }
+
+    /**
+     * Checks if user-inputted value is a positive integer.
+     *
+     * @param paramType Param type that expects a positive integer
+     * @return int entered by user, if it is a positive integer.
+     * @throws ParseFailParamException If user entered an invalid integer, or an integer less than 1
+     */
+    public int checkAndReturnPositiveInt(String paramType) throws ParseFailParamException {
+        int output = checkAndReturnInt(paramType);
+        if (output < 1) {
+            errorMessage = getErrorMessageListNumberFormatException("");
+            printErrorMessage();
+            throw new ParseFailParamException(paramType);
+        }
+        return output;
+    }
+
     /**
      * Checks if user-inputted value is indeed an integer.
      *
@@ -451,6 +555,39 @@ public class ParamChecker {
         return category;
     }
 
+    /**
+     * Checks if user-inputted value is a recurrence rule that can be read, e.g. FREQ=WEEKLY;BYDAY=FR.
+     *
+     * @param paramType Param type that expects a recurrence rule
+     * @return Rule entered by user, if it can be read.
+     * @throws ParseFailParamException If the rule is not valid, or has parts that are not supported
+     */
+    public String checkAndReturnRecurrenceRule(String paramType) throws ParseFailParamException {
+        String input = packet.getParam(paramType);
+        boolean parseSuccess = false;
+
+        clearErrorMessage();
+
+        LoggerCentre.loggerParamChecker.info("Checking recurrence rule...");
+        try {
+            RecurrenceRule.parse(input, LocalDate.now());
+            parseSuccess = true;
+        } catch (IllegalArgumentException | NullPointerException exception) {
+            LoggerCentre.loggerParamChecker.warning(
+                String.format("Recurrence rule not recognised... Err: %s", exception.getMessage()));
+            errorMessage = UiManager.getStringPrintWithStatusIcon(Common.PrintType.ERROR_MESSAGE,
+                "Recurrence rule is not recognised: " + exception.getMessage(),
+                "Example: FREQ=WEEKLY;INTERVAL=2;BYDAY=FR");
+        } finally {
+            printErrorMessage();
+        }
+
+        if (!parseSuccess) {
+            throw new ParseFailParamException(paramType);
+        }
+        return input;
+    }
+
     /**
      * List of error messages that are referenced in the above functions.
      */
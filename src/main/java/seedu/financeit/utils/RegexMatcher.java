@@ -2,34 +2,44 @@ package seedu.financeit.utils;
 
 import seedu.financeit.common.Common;
 
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 public class RegexMatcher {
+    //Matches <space><PARAMS_PREFIX><string><space>
+    private static final String PARAM_REGEX = String.format("\\s+[%s]{1}[a-zA-Z]+\\s+",
+            String.join("", Common.DEFAULT_PARAM_TYPE_PREFIX));
+    private static final String ALPHABET_REGEX = "[a-zA-Z]+";
+    private static final String NUMBER_REGEX = "[0-9]+";
+    // Compiled patterns, keyed by regex. Patterns are immutable and safe to share between threads.
+    private static final ConcurrentHashMap<String, Pattern> patterns = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the compiled pattern of the given regex, compiling it only on first use.
+     *
+     * @param regex Regex to compile
+     * @return Compiled pattern
+     */
+    public static Pattern getPattern(String regex) {
+        return patterns.computeIfAbsent(regex, Pattern::compile);
+    }
+
     public static Matcher regexMatcher(String inputString, String regex) {
-        Pattern pattern = Pattern.compile(regex);
-        Matcher matcher = pattern.matcher(inputString);
-        return matcher;
+        return getPattern(regex).matcher(inputString);
     }
 
     public static Matcher paramMatcher(String inputString) {
-        //Matches <space><PARAMS_PREFIX><string><space>
-        String regex = String.format("\\s+[%s]{1}[a-zA-Z]+\\s+",
-                String.join("", Common.DEFAULT_PARAM_TYPE_PREFIX));
-        Matcher matcher = regexMatcher(inputString, regex);
+        Matcher matcher = regexMatcher(inputString, PARAM_REGEX);
         matcher.find();
         return matcher;
     }
 
     public static Matcher alphabetMatcher(String inputString) {
-        String regex = "[a-zA-Z]+";
-        Matcher matcher = regexMatcher(inputString, regex);
-        return matcher;
+        return regexMatcher(inputString, ALPHABET_REGEX);
     }
 
     public static Matcher numberMatcher(String inputString) {
-        String regex = "[0-9]+";
-        Matcher matcher = regexMatcher(inputString, regex);
-        return matcher;
+        return regexMatcher(inputString, NUMBER_REGEX);
     }
 }
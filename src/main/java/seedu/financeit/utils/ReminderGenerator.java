@@ -1,10 +1,11 @@
 package seedu.financeit.utils;
 
 import seedu.financeit.common.Common;
+import seedu.financeit.datatrackers.recurringtracker.OccurrenceIterator;
 import seedu.financeit.datatrackers.recurringtracker.RecurringEntry;
-import seedu.financeit.datatrackers.recurringtracker.RecurringEntryList;
 import seedu.financeit.datatrackers.recurringtracker.RecurringTracker;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashMap;
 
@@ -16,50 +17,39 @@ public class ReminderGenerator {
      * current system date. X is currently set to 5.
      */
     public static ArrayList<String> generateListOfRemindersAsStrings() {
-        int currentDay = RunHistory.getCurrentDayOfMonth();
-        int lastDayOfMonth = RunHistory.getNumOfDaysInCurrentMonth();
-        int dayToRemindUntil = currentDay + REMIND_DAYS_IN_ADVANCE;
-        boolean isOverflowToNextMonth = false;
+        LocalDate today = RunHistory.getCurrentDate();
+        LocalDate lastDayToRemind = today.plusDays(REMIND_DAYS_IN_ADVANCE);
 
         //If REMIND_DAYS_IN_ADVANCE days from now is next month,
         //it is an overflow to start of next month
-        if (dayToRemindUntil > lastDayOfMonth) {
-            //Day of next month that reminder should cover until
-            dayToRemindUntil -= lastDayOfMonth;
-            isOverflowToNextMonth = true;
-        }
+        boolean isOverflowToNextMonth = lastDayToRemind.getMonth() != today.getMonth();
 
-        //All entries that should be put in the reminder based on date
-        ArrayList<RecurringEntry> entriesToRemind = filterEntriesToRemind(currentDay,
-                lastDayOfMonth, dayToRemindUntil, isOverflowToNextMonth);
+        //All occurrences of entries that should be put in the reminder based on date
+        ArrayList<OccurrenceIterator.Occurrence> entriesToRemind = filterEntriesToRemind(today, lastDayToRemind);
 
         //Strings that are directly printed by UiManager
         ArrayList<String> remindersToPrint = generateRemindersToPrint(
-                entriesToRemind, dayToRemindUntil, isOverflowToNextMonth);
+                entriesToRemind, lastDayToRemind.getDayOfMonth(), isOverflowToNextMonth);
 
         return remindersToPrint;
     }
 
-    static ArrayList<RecurringEntry> filterEntriesToRemind(
-            int currentDay, int lastDayOfMonth, int dayToRemindUntil, boolean isOverflowToNextMonth) {
-
-        //Grab a reference to recurring entry list so we can filter
-        RecurringEntryList allRecurringEntries = RecurringTracker.getEntries();
-        ArrayList<RecurringEntry> entriesToRemind;
-        if (isOverflowToNextMonth) {
-            //Add entries from current day until end of this month
-            entriesToRemind = allRecurringEntries.getEntriesFromDayXtoY(currentDay, lastDayOfMonth);
-            //Add entries from start of next month until last day to remind until
-            entriesToRemind.addAll(allRecurringEntries.getEntriesFromDayXtoY(1, dayToRemindUntil));
-        } else {
-            //Add entries from this month only
-            entriesToRemind = allRecurringEntries.getEntriesFromDayXtoY(currentDay, dayToRemindUntil);
+    /**
+     * Returns the occurrences of recurring entries from one date until another (both inclusive), in order
+     * of date. Only the entries that recur in the range are visited.
+     */
+    static ArrayList<OccurrenceIterator.Occurrence> filterEntriesToRemind(LocalDate from, LocalDate lastDayToRemind) {
+        ArrayList<OccurrenceIterator.Occurrence> entriesToRemind = new ArrayList<>();
+        OccurrenceIterator occurrences = new OccurrenceIterator(RecurringTracker.getEntries(), from,
+                lastDayToRemind.plusDays(1));
+        while (occurrences.hasNext()) {
+            entriesToRemind.add(occurrences.next());
         }
         return entriesToRemind;
     }
 
     static ArrayList<String> generateRemindersToPrint(
-            ArrayList<RecurringEntry> entriesToRemind, int dayToRemindUntil,
+            ArrayList<OccurrenceIterator.Occurrence> entriesToRemind, int dayToRemindUntil,
             boolean isOverflowToNextMonth) {
         //Strings that should be printed by UiManager
         ArrayList<String> remindersToPrint = new ArrayList<>();
@@ -72,8 +62,9 @@ public class ReminderGenerator {
             remindersToPrint.add("No upcoming entries!");
         }
 
-        for (RecurringEntry entry: entriesToRemind) {
-            String reminderString = convertEntryToReminderString(entry);
+        for (OccurrenceIterator.Occurrence occurrence: entriesToRemind) {
+            String reminderString = convertEntryToReminderString(occurrence.getEntry(),
+                    occurrence.getDate().getDayOfMonth());
             remindersToPrint.add(reminderString);
         }
 
@@ -84,12 +75,12 @@ public class ReminderGenerator {
      * Converts a RecurringEntry into a reminder String.
      *
      * @param entry RecurringEntry to convert
+     * @param dayOfEntry Day of the month on which the entry recurs
      * @return A formatted String containing the necessary details to
      *         display as a reminder on the Main Menu
      */
-    static String convertEntryToReminderString(RecurringEntry entry) {
+    static String convertEntryToReminderString(RecurringEntry entry, int dayOfEntry) {
         HashMap<String,Object> details = entry.getDetailsForReminder();
-        int dayOfEntry = (int) details.get("day");
         Common.EntryType entryType = (Common.EntryType) details.get("entryType");
         boolean isAuto = (boolean) details.get("isAuto");
         String description = (String) details.get("description");
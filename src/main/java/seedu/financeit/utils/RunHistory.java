@@ -1,7 +1,7 @@
 package seedu.financeit.utils;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.Month;
 
 public class RunHistory {
     private static LocalDateTime lastRunDateTime;
@@ -25,21 +25,15 @@ public class RunHistory {
         return RunHistory.currentRunDateTime;
     }
 
-    public static int getCurrentDayOfMonth() {
+    public static LocalDate getCurrentDate() {
         assert currentRunDateTime != null;
-        return RunHistory.currentRunDateTime.getDayOfMonth();
+        return RunHistory.currentRunDateTime.toLocalDate();
     }
 
     public static int getCurrentMonthAsInt() {
         return RunHistory.currentRunDateTime.getMonthValue();
     }
 
-    public static int getNumOfDaysInCurrentMonth() {
-        assert currentRunDateTime != null;
-        Month currentMonth = RunHistory.currentRunDateTime.getMonth();
-        return currentMonth.length(false);
-    }
-
     /**
      * Checks if it is currently a new month since user last opened the program.
      * Assumes no changes have been made to system date or time
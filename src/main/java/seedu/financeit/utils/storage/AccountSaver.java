@@ -9,8 +9,8 @@ import java.io.FileNotFoundException;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.PrintWriter;
+import java.nio.file.NoSuchFileException;
 import java.util.ArrayList;
-import java.util.Scanner;
 
 /**
  * Deals with loading data from the file and saving data in the file.
@@ -34,27 +34,34 @@ public abstract class AccountSaver {
         } catch (IOException e) {
             System.out.println("IO Error");
         }
-        File f = new File(filePath); // create a File for the given file path
         File folder = new File("./data/"); // folder directory for duke.txt
-        Scanner s = new Scanner(f); // create a Scanner using the File as the source
         // Check if folder exist
         if (folder.isDirectory() == false) {
             throw new FolderNotFoundException();
         }
         // Read data into FinanceTools
-        while (s.hasNext()) {
-            String line = s.nextLine().trim();
-            int countLines = 0;
-            String textToAdd = line + "\n";
-            while (countLines < LINES_IN_AN_ACCOUNT && s.hasNext()) {
-                line = s.nextLine();
-                textToAdd += line;
-                if (countLines != LAST_LINE_IN_AN_ACCOUNT) {
-                    textToAdd += "\n";
+        try (LineReader reader = new LineReader(filePath)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty()) {
+                    continue;
                 }
-                countLines++;
+                int countLines = 0;
+                String textToAdd = line + "\n";
+                while (countLines < LINES_IN_AN_ACCOUNT && (line = reader.readLine()) != null) {
+                    textToAdd += line;
+                    if (countLines != LAST_LINE_IN_AN_ACCOUNT) {
+                        textToAdd += "\n";
+                    }
+                    countLines++;
+                }
+                infoText.add(textToAdd);
             }
-            infoText.add(textToAdd);
+        } catch (NoSuchFileException e) {
+            throw new FileNotFoundException(filePath);
+        } catch (IOException e) {
+            System.out.println("IO Error");
         }
     }
 
@@ -0,0 +1,373 @@
+package seedu.financeit.utils.storage;
+
+import seedu.financeit.common.Common;
+import seedu.financeit.datatrackers.entrytracker.EntrySummary;
+import seedu.financeit.datatrackers.manualtracker.Ledger;
+import seedu.financeit.datatrackers.manualtracker.LedgerArchive;
+import seedu.financeit.datatrackers.manualtracker.LedgerList;
+import seedu.financeit.datatrackers.manualtracker.ManualTracker;
+import seedu.financeit.datatrackers.manualtracker.MonthlyTotals;
+import seedu.financeit.ui.UiManager;
+import seedu.financeit.utils.LoggerCentre;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Archive of ledgers that are rarely used, kept out of the ledger list so that they do not take up
+ * memory and are not rewritten on every save.
+ * Archived ledgers are stored in GZIP-compressed files, one per year, in the same format as the
+ * Manual Tracker save file. An index lists each archived ledger with the summary of its entries,
+ * so that the archive files are only read when an archived ledger is restored.
+ * Ledgers are restored, i.e. moved back into the ledger list, when they are looked up by date.
+ * Restored ledgers are left in their archive file until the year is archived to again, but are
+ * no longer listed in the index.
+ */
+public class ArchiveManager implements LedgerArchive {
+    private static final String INDEX_FILE = "index.txt";
+    private static final String ARCHIVE_SUFFIX = ".txt.gz";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private static ArchiveManager manager = null;
+
+    private final Path directory;
+    // Summary of the entries of each archived ledger, by date.
+    private TreeMap<LocalDate, EntrySummary> archivedSummaries = new TreeMap<>();
+    // Whether ledgers have left the archive since the index was last written.
+    private boolean isIndexChanged = false;
+
+    ArchiveManager(String directory) {
+        this.directory = Paths.get(directory);
+    }
+
+    public static ArchiveManager getInstance(String... paths) {
+        if (manager == null) {
+            manager = new ArchiveManager(paths.length == 1 ? paths[0] : "./data/archive");
+        }
+        return manager;
+    }
+
+    private Path getYearPath(int year) {
+        return this.directory.resolve(year + ARCHIVE_SUFFIX);
+    }
+
+    /**
+     * Reads the index of the archive, and attaches the archive to the ledger list of the Manual Tracker.
+     */
+    public void load() {
+        this.archivedSummaries.clear();
+        Path index = this.directory.resolve(INDEX_FILE);
+        try {
+            if (Files.exists(index)) {
+                for (String line : Files.readAllLines(index)) {
+                    String[] fields = line.split(";", -1);
+                    if (!fields[0].equals("Ledger")) {
+                        throw new IllegalArgumentException("Index line is not recognised: " + fields[0]);
+                    }
+                    this.archivedSummaries.put(LocalDate.parse(fields[1]),
+                        EntrySummary.parse(Integer.parseInt(fields[2]), fields[3]));
+                }
+            }
+        } catch (Exception e) {
+            UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE,
+                "Archive index failed to load: " + e);
+            LoggerCentre.writeStackTraceToLog(e);
+        }
+        this.isIndexChanged = false;
+        ManualTracker.getLedgerList().setArchive(this);
+    }
+
+    /**
+     * Writes the index, if ledgers have been restored since it was last written. Called after the
+     * Manual Tracker is saved, so that restored ledgers are saved before they leave the index.
+     */
+    public void save() {
+        if (!this.isIndexChanged) {
+            return;
+        }
+        PersistenceManager.getInstance().write(this.directory.resolve(INDEX_FILE).toString(), this.getIndexString());
+        this.isIndexChanged = false;
+    }
+
+    private String getIndexString() {
+        StringBuilder index = new StringBuilder();
+        for (Map.Entry<LocalDate, EntrySummary> archived : this.archivedSummaries.entrySet()) {
+            EntrySummary summary = archived.getValue();
+            index.append("Ledger;").append(archived.getKey()).append(';').append(summary.getEntryCount())
+                .append(';').append(summary).append(System.lineSeparator());
+        }
+        return index.toString();
+    }
+
+    /**
+     * Moves the ledgers dated before the given date from the ledger list into the archive.
+     * The archive files and index are written before the ledgers are removed from the save file,
+     * so that an interrupted archive leaves the ledgers in both, which is resolved on the next load.
+     *
+     * @param beforeDate Ledgers dated before this date are archived
+     * @return Number of ledgers archived
+     * @throws IOException If the archive could not be written, in which case no ledger is archived
+     */
+    public int archiveBefore(LocalDate beforeDate) throws IOException {
+        LedgerList ledgerList = ManualTracker.getLedgerList();
+        ArrayList<Ledger> ledgers = new ArrayList<>(
+            ledgerList.getListedLedgersBetween(LocalDate.MIN, beforeDate.minusDays(1)));
+        if (ledgers.isEmpty()) {
+            return 0;
+        }
+
+        ManualTrackerSaver saver = ManualTrackerSaver.getInstance();
+        List<String> ledgerSaveStrings = saver.getIndex().getCurrentSaveStrings(ledgers);
+        TreeMap<Integer, TreeMap<LocalDate, String>> ledgersByYear = new TreeMap<>();
+        for (int i = 0; i < ledgers.size(); i++) {
+            Ledger ledger = ledgers.get(i);
+            int year = ledger.getDate().getYear();
+            TreeMap<LocalDate, String> yearLedgers = ledgersByYear.get(year);
+            if (yearLedgers == null) {
+                yearLedgers = this.readYear(year);
+                // Ledgers restored since the year was written are dropped from its file.
+                yearLedgers.keySet().retainAll(this.archivedSummaries.keySet());
+                ledgersByYear.put(year, yearLedgers);
+            }
+            yearLedgers.put(ledger.getDate(), ledgerSaveStrings.get(i));
+        }
+        Files.createDirectories(this.directory);
+        for (Map.Entry<Integer, TreeMap<LocalDate, String>> yearLedgers : ledgersByYear.entrySet()) {
+            StringBuilder saveString = new StringBuilder();
+            yearLedgers.getValue().values().forEach(saveString::append);
+            this.writeCompressed(this.getYearPath(yearLedgers.getKey()), saveString.toString());
+        }
+
+        TreeMap<LocalDate, EntrySummary> currArchivedSummaries = new TreeMap<>(this.archivedSummaries);
+        for (Ledger ledger : ledgers) {
+            currArchivedSummaries.put(ledger.getDate(), ledger.entryList.getSummary());
+        }
+        TreeMap<LocalDate, EntrySummary> prevArchivedSummaries = this.archivedSummaries;
+        this.archivedSummaries = currArchivedSummaries;
+        try {
+            this.writeAtomically(this.directory.resolve(INDEX_FILE),
+                this.getIndexString().getBytes(Charset.defaultCharset()));
+        } catch (IOException e) {
+            this.archivedSummaries = prevArchivedSummaries;
+            throw e;
+        }
+        this.isIndexChanged = false;
+
+        for (Ledger ledger : ledgers) {
+            ledgerList.removeItemAtIndex(ledger.getIndex());
+            // The archived entries still count towards the totals, e.g. for goals.
+            currArchivedSummaries.get(ledger.getDate()).applyTo(ledgerList.getMonthlyTotals(), ledger.getDate(), true);
+            saver.journalDeleteLedger(ledger);
+        }
+        saver.save();
+        PersistenceManager.getInstance().flush();
+        return ledgers.size();
+    }
+
+    /**
+     * Returns the save string of each ledger in the archive file of the given year, by date.
+     */
+    private TreeMap<LocalDate, String> readYear(int year) throws IOException {
+        TreeMap<LocalDate, String> yearLedgers = new TreeMap<>();
+        Path file = this.getYearPath(year);
+        if (!Files.exists(file)) {
+            return yearLedgers;
+        }
+        String contents;
+        try (InputStream input = new GZIPInputStream(Files.newInputStream(file))) {
+            contents = new String(input.readAllBytes(), Charset.defaultCharset());
+        }
+        yearLedgers.putAll(splitLedgers(contents));
+        return yearLedgers;
+    }
+
+    /**
+     * Returns the save string of each ledger in the given contents of a save file, by date.
+     */
+    private static TreeMap<LocalDate, String> splitLedgers(String contents) {
+        TreeMap<LocalDate, String> ledgers = new TreeMap<>();
+        LocalDate date = null;
+        StringBuilder saveString = new StringBuilder();
+        for (String line : contents.split("\\R")) {
+            if (line.startsWith("Ledger;")) {
+                if (date != null) {
+                    ledgers.put(date, saveString.toString());
+                }
+                date = LocalDate.parse(line.substring("Ledger;".length()));
+                saveString = new StringBuilder();
+            }
+            if (date != null && !line.isEmpty()) {
+                saveString.append(line).append(System.lineSeparator());
+            }
+        }
+        if (date != null) {
+            ledgers.put(date, saveString.toString());
+        }
+        return ledgers;
+    }
+
+    /**
+     * Writes the archived ledgers to the given file, in the format of the Manual Tracker save file,
+     * so that a backup save holds the archive along with the ledger list.
+     *
+     * @param file Path of the file
+     * @throws IOException If the archive could not be read, or the file could not be written
+     */
+    void saveBackup(Path file) throws IOException {
+        StringBuilder saveString = new StringBuilder();
+        TreeMap<Integer, TreeMap<LocalDate, String>> years = new TreeMap<>();
+        for (LocalDate date : this.archivedSummaries.keySet()) {
+            TreeMap<LocalDate, String> yearLedgers = years.get(date.getYear());
+            if (yearLedgers == null) {
+                yearLedgers = this.readYear(date.getYear());
+                years.put(date.getYear(), yearLedgers);
+            }
+            String ledgerSaveString = yearLedgers.get(date);
+            if (ledgerSaveString == null) {
+                throw new IOException("Archived ledger " + date + " is not in its archive file");
+            }
+            saveString.append(ledgerSaveString);
+        }
+        Files.writeString(file, saveString, Charset.defaultCharset());
+    }
+
+    /**
+     * Replaces the archive with the ledgers in the given file, written by saveBackup(), or empties the
+     * archive if there is no file, e.g. for backup saves taken before backups held the archive.
+     * The archive is attached to the ledger list again when it is next loaded.
+     *
+     * @param file Path of the file, or null
+     * @throws IOException If the file could not be read, or the archive could not be written
+     */
+    void restoreBackup(Path file) throws IOException {
+        TreeMap<LocalDate, String> ledgers = (file == null)
+            ? new TreeMap<>()
+            : splitLedgers(Files.readString(file, Charset.defaultCharset()));
+        TreeMap<LocalDate, EntrySummary> currArchivedSummaries = new TreeMap<>();
+        TreeMap<Integer, StringBuilder> saveStringsByYear = new TreeMap<>();
+        for (Map.Entry<LocalDate, String> ledger : ledgers.entrySet()) {
+            currArchivedSummaries.put(ledger.getKey(), decodeLedger(ledger.getValue()).entryList.getSummary());
+            saveStringsByYear.computeIfAbsent(ledger.getKey().getYear(), year -> new StringBuilder())
+                .append(ledger.getValue());
+        }
+        Files.createDirectories(this.directory);
+        for (Map.Entry<Integer, StringBuilder> saveString : saveStringsByYear.entrySet()) {
+            this.writeCompressed(this.getYearPath(saveString.getKey()), saveString.getValue().toString());
+        }
+        this.archivedSummaries = currArchivedSummaries;
+        this.writeAtomically(this.directory.resolve(INDEX_FILE),
+            this.getIndexString().getBytes(Charset.defaultCharset()));
+        this.isIndexChanged = false;
+        // Archive files of years the backup has no ledgers for are left over from the replaced archive.
+        try (DirectoryStream<Path> yearFiles = Files.newDirectoryStream(this.directory, "*" + ARCHIVE_SUFFIX)) {
+            for (Path yearFile : yearFiles) {
+                String year = yearFile.getFileName().toString().replace(ARCHIVE_SUFFIX, "");
+                if (!saveStringsByYear.containsKey(Integer.parseInt(year))) {
+                    Files.delete(yearFile);
+                }
+            }
+        }
+    }
+
+    private void writeCompressed(Path file, String contents) throws IOException {
+        Path tempFile = Paths.get(file + TEMP_SUFFIX);
+        try (OutputStream output = new GZIPOutputStream(Files.newOutputStream(tempFile))) {
+            output.write(contents.getBytes(Charset.defaultCharset()));
+        }
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private void writeAtomically(Path file, byte[] contents) throws IOException {
+        Path tempFile = Paths.get(file + TEMP_SUFFIX);
+        Files.write(tempFile, contents);
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Constructs a ledger, with its entries, from its save string.
+     */
+    private static Ledger decodeLedger(String saveString) {
+        String[] lines = saveString.split("\\R");
+        Ledger ledger = ManualTrackerSaver.decodeLedger(lines[0].substring("Ledger;".length()));
+        for (int i = 1; i < lines.length; i++) {
+            String[] classContents = lines[i].split(";");
+            if (!classContents[0].equals("Entry")) {
+                throw new IllegalArgumentException("Class is not recognised to load: " + classContents[0]);
+            }
+            ledger.entryList.addItem(ManualTrackerSaver.decodeEntry(ledger, classContents, 1));
+        }
+        return ledger;
+    }
+
+    @Override
+    public boolean contains(LocalDate date) {
+        return this.archivedSummaries.containsKey(date);
+    }
+
+    @Override
+    public List<LocalDate> getDatesBetween(LocalDate startDate, LocalDate endDate) {
+        return new ArrayList<>(this.archivedSummaries.subMap(startDate, true, endDate, true).keySet());
+    }
+
+    @Override
+    public List<Ledger> restoreBetween(LocalDate startDate, LocalDate endDate, MonthlyTotals monthlyTotals) {
+        ArrayList<Ledger> restored = new ArrayList<>();
+        HashMap<Integer, TreeMap<LocalDate, String>> years = new HashMap<>();
+        ArrayList<LocalDate> dates = new ArrayList<>(
+            this.archivedSummaries.subMap(startDate, true, endDate, true).keySet());
+        for (LocalDate date : dates) {
+            try {
+                TreeMap<LocalDate, String> yearLedgers = years.get(date.getYear());
+                if (yearLedgers == null) {
+                    yearLedgers = this.readYear(date.getYear());
+                    years.put(date.getYear(), yearLedgers);
+                }
+                String saveString = yearLedgers.get(date);
+                if (saveString == null) {
+                    throw new IOException("Ledger is not in its archive file");
+                }
+                Ledger ledger = decodeLedger(saveString);
+                this.archivedSummaries.remove(date).applyTo(monthlyTotals, date, false);
+                this.isIndexChanged = true;
+                restored.add(ledger);
+            } catch (Exception e) {
+                UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE,
+                    "Archived ledger " + date + " failed to load: " + e);
+                LoggerCentre.writeStackTraceToLog(e);
+            }
+        }
+        return restored;
+    }
+
+    @Override
+    public void discard(LocalDate date, MonthlyTotals monthlyTotals) {
+        EntrySummary summary = this.archivedSummaries.remove(date);
+        if (summary == null) {
+            return;
+        }
+        summary.applyTo(monthlyTotals, date, false);
+        this.isIndexChanged = true;
+    }
+
+    @Override
+    public void addTotalsTo(MonthlyTotals monthlyTotals) {
+        for (Map.Entry<LocalDate, EntrySummary> archived : this.archivedSummaries.entrySet()) {
+            archived.getValue().applyTo(monthlyTotals, archived.getKey(), true);
+        }
+    }
+}
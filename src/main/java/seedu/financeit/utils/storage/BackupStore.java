@@ -0,0 +1,371 @@
+package seedu.financeit.utils.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Stores the save files of backups as chunks named by the SHA-256 hash of their contents, so that a
+ * chunk shared by several backups, or by several versions of a backup, is stored only once.
+ * Files are cut into chunks where a rolling hash of the last bytes matches a pattern, rather than at
+ * fixed offsets, so that a change to a file only changes the chunks around it, and the chunks after
+ * it are stored again only if they differ.
+ * Each backup has a manifest listing, for each of its files, the size of the file and its chunks in order.
+ * Chunks are deleted once no manifest lists them.
+ */
+class BackupStore {
+    private static final String CHUNK_DIRECTORY = "chunks";
+    private static final String MANIFEST_DIRECTORY = "manifests";
+    private static final String MANIFEST_SUFFIX = ".txt";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final int MIN_CHUNK_SIZE = 2 * 1024;
+    private static final int MAX_CHUNK_SIZE = 64 * 1024;
+    // A chunk ends where the top 13 bits of the rolling hash are zero, i.e. every 8 KB on average.
+    private static final int CHUNK_HASH_BITS = 13;
+    // Random values of each byte for the rolling hash, which must be the same on every run.
+    private static final long[] BYTE_HASHES = new long[256];
+
+    static {
+        Random random = new Random(0x5EED);
+        for (int i = 0; i < BYTE_HASHES.length; i++) {
+            BYTE_HASHES[i] = random.nextLong();
+        }
+    }
+
+    private final Path chunkDirectory;
+    private final Path manifestDirectory;
+
+    /**
+     * Chunk of a file, as listed in a manifest.
+     */
+    private static class Chunk {
+        private final String hash;
+        private final int length;
+
+        private Chunk(String hash, int length) {
+            this.hash = hash;
+            this.length = length;
+        }
+    }
+
+    /**
+     * File of a backup, as listed in a manifest.
+     */
+    private static class StoredFile {
+        private final long size;
+        private final ArrayList<Chunk> chunks = new ArrayList<>();
+
+        private StoredFile(long size) {
+            this.size = size;
+        }
+    }
+
+    /**
+     * Size of the files of a backup, and size of the chunks that only that backup uses.
+     */
+    static class Usage {
+        final long logicalSize;
+        final long storedSize;
+
+        Usage(long logicalSize, long storedSize) {
+            this.logicalSize = logicalSize;
+            this.storedSize = storedSize;
+        }
+    }
+
+    BackupStore(Path directory) {
+        this.chunkDirectory = directory.resolve(CHUNK_DIRECTORY);
+        this.manifestDirectory = directory.resolve(MANIFEST_DIRECTORY);
+    }
+
+    private Path getManifestPath(String name) {
+        return this.manifestDirectory.resolve(name + MANIFEST_SUFFIX);
+    }
+
+    /**
+     * Returns whether a backup of the given name is stored.
+     */
+    boolean contains(String name) {
+        return Files.exists(this.getManifestPath(name));
+    }
+
+    /**
+     * Returns whether the backup of the given name has a file stored by the given key.
+     *
+     * @throws IOException If the manifest of the backup cannot be read
+     */
+    boolean containsFile(String name, String key) throws IOException {
+        return this.contains(name) && this.readManifest(this.getManifestPath(name)).containsKey(key);
+    }
+
+    /**
+     * Stores the files as a backup of the given name, replacing any backup of that name. Only chunks
+     * that are not stored yet are written, and the manifest is written last, so that a backup that is
+     * interrupted leaves the previous backup of that name in place.
+     *
+     * @param name Name of the backup
+     * @param files Files of the backup, by the key to restore them by
+     * @throws IOException If a file cannot be read, or the backup cannot be written
+     */
+    void store(String name, Map<String, Path> files) throws IOException {
+        Files.createDirectories(this.chunkDirectory);
+        Files.createDirectories(this.manifestDirectory);
+        StringBuilder manifest = new StringBuilder();
+        for (Map.Entry<String, Path> file : files.entrySet()) {
+            byte[] contents = Files.readAllBytes(file.getValue());
+            manifest.append(String.join(";", "File", file.getKey(), String.valueOf(contents.length)))
+                .append(System.lineSeparator());
+            int start = 0;
+            for (int end : findChunkEnds(contents)) {
+                String hash = getHash(contents, start, end - start);
+                Path chunkPath = this.chunkDirectory.resolve(hash);
+                if (!Files.exists(chunkPath)) {
+                    Path tempFile = this.chunkDirectory.resolve(hash + TEMP_SUFFIX);
+                    try (OutputStream output = Files.newOutputStream(tempFile)) {
+                        output.write(contents, start, end - start);
+                    }
+                    Files.move(tempFile, chunkPath, StandardCopyOption.REPLACE_EXISTING);
+                }
+                manifest.append(String.join(";", "Chunk", hash, String.valueOf(end - start)))
+                    .append(System.lineSeparator());
+                start = end;
+            }
+        }
+        Path tempFile = this.manifestDirectory.resolve(name + TEMP_SUFFIX);
+        Files.write(tempFile, manifest.toString().getBytes(Charset.defaultCharset()));
+        Files.move(tempFile, this.getManifestPath(name), StandardCopyOption.REPLACE_EXISTING);
+        this.deleteUnusedChunks();
+    }
+
+    /**
+     * Writes the files of the backup of the given name to the given paths. Each chunk is checked
+     * against its hash, and the files are only replaced once all of them have been assembled, so
+     * that a damaged backup is not restored in part.
+     *
+     * @param name Name of the backup
+     * @param destinations Path to write each file to, by the key it was stored by
+     * @throws IOException If the backup is missing or damaged, or a file cannot be written
+     */
+    void restore(String name, Map<String, Path> destinations) throws IOException {
+        LinkedHashMap<String, StoredFile> files = this.readManifest(this.getManifestPath(name));
+        ArrayList<Path> tempFiles = new ArrayList<>();
+        try {
+            for (Map.Entry<String, Path> destination : destinations.entrySet()) {
+                StoredFile file = files.get(destination.getKey());
+                if (file == null) {
+                    throw new IOException("Backup " + name + " has no " + destination.getKey() + " file");
+                }
+                Path tempFile = Paths.get(destination.getValue() + TEMP_SUFFIX);
+                tempFiles.add(tempFile);
+                try (OutputStream output = Files.newOutputStream(tempFile)) {
+                    for (Chunk chunk : file.chunks) {
+                        byte[] contents = Files.readAllBytes(this.chunkDirectory.resolve(chunk.hash));
+                        if (!chunk.hash.equals(getHash(contents, 0, contents.length))) {
+                            throw new IOException("Backup " + name + " is damaged: chunk " + chunk.hash);
+                        }
+                        output.write(contents);
+                    }
+                }
+            }
+            int i = 0;
+            for (Path destination : destinations.values()) {
+                Files.move(tempFiles.get(i++), destination, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            for (Path tempFile : tempFiles) {
+                Files.deleteIfExists(tempFile);
+            }
+        }
+    }
+
+    /**
+     * Deletes the backup of the given name, and the chunks that no other backup uses.
+     *
+     * @param name Name of the backup
+     * @return Whether the backup was stored
+     * @throws IOException If the backup cannot be deleted
+     */
+    boolean delete(String name) throws IOException {
+        boolean isDeleted = Files.deleteIfExists(this.getManifestPath(name));
+        this.deleteUnusedChunks();
+        return isDeleted;
+    }
+
+    /**
+     * Returns the size of the files of each stored backup, and the size of the chunks that only
+     * that backup uses, which is the space that deleting it would free.
+     *
+     * @return Usage of each backup, by name
+     * @throws IOException If a manifest cannot be read
+     */
+    Map<String, Usage> getUsage() throws IOException {
+        HashMap<String, LinkedHashMap<String, StoredFile>> manifests = this.readManifests();
+        HashMap<String, Integer> backupCounts = new HashMap<>();
+        for (LinkedHashMap<String, StoredFile> manifest : manifests.values()) {
+            for (String hash : getHashes(manifest).keySet()) {
+                backupCounts.merge(hash, 1, Integer::sum);
+            }
+        }
+        HashMap<String, Usage> usages = new HashMap<>();
+        for (Map.Entry<String, LinkedHashMap<String, StoredFile>> manifest : manifests.entrySet()) {
+            long logicalSize = 0;
+            for (StoredFile file : manifest.getValue().values()) {
+                logicalSize += file.size;
+            }
+            long storedSize = 0;
+            for (Map.Entry<String, Integer> chunk : getHashes(manifest.getValue()).entrySet()) {
+                if (backupCounts.get(chunk.getKey()) == 1) {
+                    storedSize += chunk.getValue();
+                }
+            }
+            usages.put(manifest.getKey(), new Usage(logicalSize, storedSize));
+        }
+        return usages;
+    }
+
+    /**
+     * Returns the total size of the stored chunks.
+     *
+     * @throws IOException If the chunks cannot be listed
+     */
+    long getStoredSize() throws IOException {
+        long size = 0;
+        if (!Files.isDirectory(this.chunkDirectory)) {
+            return size;
+        }
+        try (DirectoryStream<Path> chunks = Files.newDirectoryStream(this.chunkDirectory)) {
+            for (Path chunk : chunks) {
+                size += Files.size(chunk);
+            }
+        }
+        return size;
+    }
+
+    private void deleteUnusedChunks() throws IOException {
+        if (!Files.isDirectory(this.chunkDirectory)) {
+            return;
+        }
+        HashSet<String> usedHashes = new HashSet<>();
+        for (LinkedHashMap<String, StoredFile> manifest : this.readManifests().values()) {
+            usedHashes.addAll(getHashes(manifest).keySet());
+        }
+        try (DirectoryStream<Path> chunks = Files.newDirectoryStream(this.chunkDirectory)) {
+            for (Path chunk : chunks) {
+                if (!usedHashes.contains(chunk.getFileName().toString())) {
+                    Files.delete(chunk);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the length of each distinct chunk of the backup, by hash.
+     */
+    private static Map<String, Integer> getHashes(LinkedHashMap<String, StoredFile> manifest) {
+        HashMap<String, Integer> hashes = new HashMap<>();
+        for (StoredFile file : manifest.values()) {
+            for (Chunk chunk : file.chunks) {
+                hashes.put(chunk.hash, chunk.length);
+            }
+        }
+        return hashes;
+    }
+
+    private HashMap<String, LinkedHashMap<String, StoredFile>> readManifests() throws IOException {
+        HashMap<String, LinkedHashMap<String, StoredFile>> manifests = new HashMap<>();
+        if (!Files.isDirectory(this.manifestDirectory)) {
+            return manifests;
+        }
+        try (DirectoryStream<Path> paths = Files.newDirectoryStream(this.manifestDirectory, "*" + MANIFEST_SUFFIX)) {
+            for (Path path : paths) {
+                String fileName = path.getFileName().toString();
+                manifests.put(fileName.substring(0, fileName.length() - MANIFEST_SUFFIX.length()),
+                    this.readManifest(path));
+            }
+        }
+        return manifests;
+    }
+
+    private LinkedHashMap<String, StoredFile> readManifest(Path path) throws IOException {
+        LinkedHashMap<String, StoredFile> files = new LinkedHashMap<>();
+        StoredFile currFile = null;
+        try (LineReader reader = new LineReader(path.toString())) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] fields = LineReader.split(line.trim(), ";");
+                try {
+                    switch (fields[0]) {
+                    case "File":
+                        currFile = new StoredFile(Long.parseLong(fields[2]));
+                        files.put(fields[1], currFile);
+                        break;
+                    case "Chunk":
+                        currFile.chunks.add(new Chunk(fields[1], Integer.parseInt(fields[2])));
+                        break;
+                    default:
+                        throw new IOException("Record is not recognised");
+                    }
+                } catch (RuntimeException e) {
+                    throw new IOException(path.getFileName() + " line " + reader.getLineNumber()
+                        + " failed to load: " + e, e);
+                }
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Returns the end of each chunk of the contents, in order. A chunk ends after the byte at which the
+     * rolling hash of the last 64 bytes has its top bits all zero, unless the chunk would be shorter than
+     * MIN_CHUNK_SIZE, or when it reaches MAX_CHUNK_SIZE.
+     */
+    static List<Integer> findChunkEnds(byte[] contents) {
+        ArrayList<Integer> ends = new ArrayList<>();
+        int start = 0;
+        long hash = 0;
+        for (int i = 0; i < contents.length; i++) {
+            hash = (hash << 1) + BYTE_HASHES[contents[i] & 0xFF];
+            int length = i + 1 - start;
+            if ((length >= MIN_CHUNK_SIZE && (hash >>> (Long.SIZE - CHUNK_HASH_BITS)) == 0)
+                || length >= MAX_CHUNK_SIZE) {
+                ends.add(i + 1);
+                start = i + 1;
+                hash = 0;
+            }
+        }
+        if (start < contents.length) {
+            ends.add(contents.length);
+        }
+        return ends;
+    }
+
+    private static String getHash(byte[] contents, int offset, int length) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform supports SHA-256.
+            throw new IllegalStateException(e);
+        }
+        digest.update(contents, offset, length);
+        StringBuilder hash = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hash.append(String.format("%02x", b));
+        }
+        return hash.toString();
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.financeit.utils.storage;
+
+import seedu.financeit.common.Common;
+import seedu.financeit.datatrackers.manualtracker.Ledger;
+import seedu.financeit.datatrackers.manualtracker.LedgerList;
+import seedu.financeit.datatrackers.manualtracker.ManualTracker;
+import seedu.financeit.ui.UiManager;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+
+/**
+ * Layout that saves every ledger in a single binary save file, ./data/saveMt.bin, in the format of
+ * BinarySnapshot. Its journal is kept next to the text save file that it replaces.
+ */
+class BinaryLayout implements LedgerLayout {
+    private final ManualTrackerSaver saver;
+
+    BinaryLayout(ManualTrackerSaver saver) {
+        this.saver = saver;
+    }
+
+    @Override
+    public String getSnapshotPath() {
+        return this.saver.getFullPath();
+    }
+
+    boolean hasSaveFiles() {
+        return Files.exists(Paths.get(this.saver.getBinaryPath()));
+    }
+
+    /**
+     * Writes the ledgers to the binary save file, if they have changed since it was last written, and
+     * deletes the text save file and its index and journal, which the binary save file replaces.
+     * The binary save file is written in the background by the PersistenceManager, through a temporary
+     * file so that it is never left half written.
+     */
+    @Override
+    public void save() {
+        LedgerIndex index = this.saver.getIndex();
+        LedgerList ledList = ManualTracker.getLedgerList();
+        // The index is stale after the text save file has been loaded, which the binary save file then replaces.
+        if (!ledList.isDirty() && !index.isStale() && this.hasSaveFiles()) {
+            return;
+        }
+        ArrayList<Ledger> ledgers = new ArrayList<>();
+        int size = ledList.getListSize();
+        for (int i = 0; i < size; i++) {
+            ledgers.add((Ledger) ledList.getItemAtIndex(i));
+        }
+        PersistenceManager persistenceManager = PersistenceManager.getInstance();
+        persistenceManager.writeAtomically(this.saver.getBinaryPath(), BinarySnapshot.encode(ledgers));
+        index.clear();
+        index.setStale(false);
+        ledList.markClean();
+        // Deleted only once the binary save file holding their ledgers has been written.
+        String fullPath = this.saver.getFullPath();
+        persistenceManager.delete(fullPath);
+        persistenceManager.delete(LedgerIndex.getPath(fullPath));
+        persistenceManager.delete(this.saver.getJournalPath());
+        this.saver.getJournal().clearRecordCount();
+    }
+
+    /**
+     * This method reads the ledgers and entries from the binary save file, adds them to the ledger list,
+     * and replays the records in the journal on top of them. Blocks of the binary save file that are
+     * damaged are reported and left out.
+     */
+    @Override
+    public void load() {
+        LedgerIndex index = this.saver.getIndex();
+        ManualTrackerJournal journal = this.saver.getJournal();
+        journal.setSuspended(true);
+        try {
+            BinarySnapshot.Contents contents = BinarySnapshot.decode(
+                Files.readAllBytes(Paths.get(this.saver.getBinaryPath())));
+            LedgerList ledgerList = ManualTracker.getLedgerList();
+            boolean isFullyLoaded = contents.errors.isEmpty();
+            if (!isFullyLoaded) {
+                UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE,
+                        contents.errors.toArray(new String[0]));
+            }
+            for (Ledger ledger : contents.ledgers) {
+                if (ledgerList.isItemDuplicate(ledger)) {
+                    isFullyLoaded = false;
+                    UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE,
+                            "Duplicate ledger failed to load: " + ledger);
+                    continue;
+                }
+                ledgerList.addItem(ledger);
+            }
+            isFullyLoaded &= journal.replay(ManualTrackerJournal.getPath(this.getSnapshotPath()));
+            index.clear();
+            index.setStale(!this.saver.isBinaryLayout());
+            // Without the binary layout the ledgers stay dirty, so that the next save writes the text save file.
+            if (this.saver.isBinaryLayout() && isFullyLoaded) {
+                ledgerList.markClean();
+            }
+        } catch (Exception e) {
+            this.saver.reportLoadFailed(e);
+        } finally {
+            journal.setSuspended(false);
+        }
+    }
+}
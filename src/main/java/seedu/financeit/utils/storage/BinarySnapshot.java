@@ -0,0 +1,297 @@
+package seedu.financeit.utils.storage;
+
+import seedu.financeit.common.Common;
+import seedu.financeit.common.Money;
+import seedu.financeit.datatrackers.entrytracker.Entry;
+import seedu.financeit.datatrackers.entrytracker.EntryList;
+import seedu.financeit.datatrackers.manualtracker.Ledger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Compact binary form of the Manual Tracker save file, which is smaller and faster to load than the
+ * text form, as no field has to be formatted or parsed.
+ * A binary snapshot starts with the bytes "FITB" and the version of the format, followed by the table of
+ * categories, each written as its entry type and name. Ledgers follow in blocks of up to LEDGERS_PER_BLOCK
+ * ledgers, each written as the length of its contents, the contents and the CRC-32 of the contents, so
+ * that a damaged block only loses its own ledgers. A block of length 0 ends the snapshot.
+ * The contents of a block are the number of its ledgers, then for each ledger the difference between its
+ * epoch day and that of the previous ledger, and its number of entries, and for each entry its position
+ * in the table of categories, its minute of the day, its amount in cents and its description.
+ * A description is written in full the first time it occurs in a block, and as its position among the
+ * descriptions of the block after that. Numbers are written as variable-length integers of 7 bits a byte.
+ */
+class BinarySnapshot {
+    private static final byte[] MAGIC = {'F', 'I', 'T', 'B'};
+    private static final int VERSION = 1;
+    private static final int LEDGERS_PER_BLOCK = 64;
+
+    /**
+     * Ledgers read from a binary snapshot, with their entries, to be added to the ledger list.
+     */
+    static class Contents {
+        final ArrayList<Ledger> ledgers = new ArrayList<>();
+        final ArrayList<String> errors = new ArrayList<>();
+    }
+
+    /**
+     * Category of an entry, with its entry type.
+     */
+    private static class Category {
+        private final Common.EntryType entryType;
+        private final String name;
+
+        private Category(Common.EntryType entryType, String name) {
+            this.entryType = entryType;
+            this.name = name;
+        }
+    }
+
+    /**
+     * Returns whether the given contents of a save file are a binary snapshot.
+     */
+    static boolean isBinarySnapshot(byte[] contents) {
+        if (contents.length < MAGIC.length) {
+            return false;
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (contents[i] != MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes the ledgers, with their entries, as a binary snapshot.
+     *
+     * @param ledgers Ledgers in the order of the ledger list
+     * @return Contents of the snapshot
+     */
+    static byte[] encode(List<Ledger> ledgers) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        output.write(MAGIC, 0, MAGIC.length);
+        writeVarint(output, VERSION);
+        HashMap<String, Integer> categoryPositions = new HashMap<>();
+        List<Category> categories = getCategories();
+        writeVarint(output, categories.size());
+        for (int i = 0; i < categories.size(); i++) {
+            Category category = categories.get(i);
+            writeVarint(output, category.entryType.ordinal());
+            writeString(output, category.name);
+            categoryPositions.put(category.entryType + ";" + category.name, i);
+        }
+
+        for (int start = 0; start < ledgers.size(); start += LEDGERS_PER_BLOCK) {
+            List<Ledger> blockLedgers = ledgers.subList(start, Math.min(start + LEDGERS_PER_BLOCK, ledgers.size()));
+            byte[] block = encodeBlock(blockLedgers, categoryPositions);
+            writeVarint(output, block.length);
+            output.write(block, 0, block.length);
+            long checksum = getChecksum(block, 0, block.length);
+            for (int shift = 24; shift >= 0; shift -= 8) {
+                output.write((int) (checksum >>> shift));
+            }
+        }
+        writeVarint(output, 0);
+        return output.toByteArray();
+    }
+
+    private static byte[] encodeBlock(List<Ledger> ledgers, HashMap<String, Integer> categoryPositions) {
+        ByteArrayOutputStream block = new ByteArrayOutputStream();
+        HashMap<String, Integer> descriptionPositions = new HashMap<>();
+        writeVarint(block, ledgers.size());
+        long previousEpochDay = 0;
+        for (Ledger ledger : ledgers) {
+            long epochDay = ledger.getDate().toEpochDay();
+            writeVarint(block, zigZag(epochDay - previousEpochDay));
+            previousEpochDay = epochDay;
+            EntryList entryList = ledger.entryList;
+            int entryCount = entryList.getListSize();
+            writeVarint(block, entryCount);
+            for (int i = 0; i < entryCount; i++) {
+                Entry entry = (Entry) entryList.getItemAtIndex(i);
+                Integer categoryPosition = categoryPositions.get(entry.getEntryType() + ";" + entry.getCategory());
+                if (categoryPosition == null) {
+                    throw new IllegalArgumentException("Category is not compatible with entry type: " + entry);
+                }
+                writeVarint(block, categoryPosition);
+                writeVarint(block, entry.getTime().getHour() * 60 + entry.getTime().getMinute());
+                writeVarint(block, entry.getAmount().getCents());
+                Integer descriptionPosition = descriptionPositions.get(entry.getDescription());
+                if (descriptionPosition == null) {
+                    writeVarint(block, 0);
+                    writeString(block, entry.getDescription());
+                    descriptionPositions.put(entry.getDescription(), descriptionPositions.size() + 1);
+                } else {
+                    writeVarint(block, descriptionPosition);
+                }
+            }
+        }
+        return block.toByteArray();
+    }
+
+    /**
+     * Reads the ledgers, with their entries, from a binary snapshot, without adding them to the ledger list.
+     * The ledgers of a block that is damaged are left out, and the block is reported in the errors.
+     *
+     * @param contents Contents of the snapshot
+     * @return Ledgers and errors of the snapshot
+     * @throws IOException If the contents are not a binary snapshot of a version that can be read
+     */
+    static Contents decode(byte[] contents) throws IOException {
+        if (!isBinarySnapshot(contents)) {
+            throw new IOException("Not a binary save file");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(contents);
+        buffer.position(MAGIC.length);
+        Contents decoded = new Contents();
+        try {
+            long version = readVarint(buffer);
+            if (version != VERSION) {
+                throw new IOException("Binary save file version " + version + " is not supported");
+            }
+            long categoryCount = readVarint(buffer);
+            ArrayList<Category> categories = new ArrayList<>();
+            for (long i = 0; i < categoryCount; i++) {
+                int entryType = (int) readVarint(buffer);
+                if (entryType >= Common.EntryType.values().length) {
+                    throw new IOException("Entry type is not recognised: " + entryType);
+                }
+                categories.add(new Category(Common.EntryType.values()[entryType], readString(buffer)));
+            }
+
+            int blockNumber = 0;
+            long length = readVarint(buffer);
+            while (length != 0) {
+                blockNumber++;
+                if (length < 0 || length > buffer.remaining() - 4) {
+                    throw new IOException("Binary save file is truncated in block " + blockNumber);
+                }
+                int start = buffer.position();
+                buffer.position(start + (int) length);
+                long checksum = Integer.toUnsignedLong(buffer.getInt());
+                if (checksum != getChecksum(contents, start, (int) length)) {
+                    decoded.errors.add("Binary save file block " + blockNumber + " failed its checksum");
+                } else {
+                    try {
+                        decodeBlock(ByteBuffer.wrap(contents, start, (int) length), categories, decoded.ledgers);
+                    } catch (RuntimeException e) {
+                        decoded.errors.add("Binary save file block " + blockNumber + " failed to load: " + e);
+                    }
+                }
+                length = readVarint(buffer);
+            }
+        } catch (BufferUnderflowException e) {
+            decoded.errors.add("Binary save file is truncated");
+        }
+        return decoded;
+    }
+
+    private static void decodeBlock(ByteBuffer block, List<Category> categories, List<Ledger> ledgers) {
+        ArrayList<Ledger> blockLedgers = new ArrayList<>();
+        ArrayList<String> descriptions = new ArrayList<>();
+        long ledgerCount = readVarint(block);
+        long epochDay = 0;
+        for (long i = 0; i < ledgerCount; i++) {
+            epochDay += unZigZag(readVarint(block));
+            Ledger ledger = new Ledger();
+            ledger.setDate(LocalDate.ofEpochDay(epochDay));
+            long entryCount = readVarint(block);
+            for (long j = 0; j < entryCount; j++) {
+                Category category = categories.get((int) readVarint(block));
+                if (!ManualTrackerSaver.getValidCategories(category.entryType).contains(category.name)) {
+                    throw new IllegalArgumentException("Category is not compatible with entry type: "
+                        + category.name);
+                }
+                LocalTime time = LocalTime.ofSecondOfDay(readVarint(block) * 60);
+                Money amount = Money.ofCents(readVarint(block));
+                int descriptionPosition = (int) readVarint(block);
+                String description;
+                if (descriptionPosition == 0) {
+                    description = readString(block);
+                    descriptions.add(description);
+                } else {
+                    description = descriptions.get(descriptionPosition - 1);
+                }
+                ledger.entryList.addItem(ManualTrackerSaver.createEntry(ledger, category.entryType, category.name,
+                    amount, time, description));
+            }
+            blockLedgers.add(ledger);
+        }
+        if (block.hasRemaining()) {
+            throw new IllegalArgumentException("Unexpected bytes after the last ledger");
+        }
+        ledgers.addAll(blockLedgers);
+    }
+
+    private static List<Category> getCategories() {
+        ArrayList<Category> categories = new ArrayList<>();
+        for (Common.EntryType entryType : Common.EntryType.values()) {
+            for (String name : ManualTrackerSaver.getValidCategories(entryType)) {
+                categories.add(new Category(entryType, name));
+            }
+        }
+        return categories;
+    }
+
+    private static long getChecksum(byte[] bytes, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, offset, length);
+        return crc.getValue();
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream output, long value) {
+        while ((value & ~0x7FL) != 0) {
+            output.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        output.write((int) value);
+    }
+
+    private static long readVarint(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Number is too long");
+    }
+
+    private static void writeString(ByteArrayOutputStream output, String string) {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        writeVarint(output, bytes.length);
+        output.write(bytes, 0, bytes.length);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        long length = readVarint(buffer);
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        String string = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), (int) length,
+            StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + (int) length);
+        return string;
+    }
+}
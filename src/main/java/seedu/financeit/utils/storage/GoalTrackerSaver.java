@@ -7,10 +7,6 @@ import seedu.financeit.datatrackers.goaltracker.TotalGoalList;
 import seedu.financeit.ui.UiManager;
 import seedu.financeit.utils.LoggerCentre;
 
-import java.io.File;
-import java.io.FileWriter;
-import java.util.Scanner;
-
 //@@author Feudalord
 public class GoalTrackerSaver extends SaveHandler {
 
@@ -36,24 +32,22 @@ public class GoalTrackerSaver extends SaveHandler {
     }
 
     public static void clear() {
-        GoalTracker.getTotalGoalList().getGoal().clear();
+        GoalTracker.getTotalGoalList().clear();
     }
 
     /**
      * This method reads items in TotalGoaList onto a text file from the default or specified
-     * file path.
+     * file path. The default file is only written if the goals have changed since it was last written.
      * @param paths Can be called with no param or 2 params depending on whether you wish to specify
      *              a directory path and a file path or use the default paths.
      */
     public void save(String... paths) {
         try {
-            if (paths.length == 2) {
-                buildFile(paths[0], paths[1]);
-            } else {
-                buildFile();
+            TotalGoalList goalList = GoalTracker.getTotalGoalList();
+            if (paths.length != 2 && !goalList.isDirty()) {
+                return;
             }
             StringBuilder saveString = new StringBuilder();
-            TotalGoalList goalList = GoalTracker.getTotalGoalList();
             String cat;
             Goal go;
             for (int i = 0; i < goalList.getListSize(); i++) {
@@ -65,9 +59,10 @@ public class GoalTrackerSaver extends SaveHandler {
                     saveString.append(cat + ";" + go.getIncomeGoal() + ";" + go.getIncomeMonth() + "\n");
                 }
             }
-            FileWriter fileWriter = new FileWriter(paths.length == 2 ? paths[1] : fullPath);
-            fileWriter.write(String.valueOf(saveString));
-            fileWriter.close();
+            writeSaveString(saveString.toString(), paths);
+            if (paths.length != 2) {
+                goalList.markClean();
+            }
         } catch (Exception e) {
             UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE,
                     "Goal Tracker dynamic save failed: " + e);
@@ -87,22 +82,30 @@ public class GoalTrackerSaver extends SaveHandler {
             } else {
                 buildFile();
             }
-            File file = new File(paths.length == 2 ? paths[1] : fullPath);
-            Scanner scanner = new Scanner(file);
             String[] classContents;
-            int line = 0;
-            while (scanner.hasNext()) {
-                try {
-                    String saveString = scanner.nextLine().trim();
-                    line++;
-                    classContents = saveString.split(";");
-                    GoalTracker.setGoals(classContents[1], classContents[0], classContents[2]);
-                } catch (Exception e) {
-                    UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE,
-                            "saveGt.txt line " + line + " failed to load: " + e);
-                    LoggerCentre.writeStackTraceToLog(e);
+            boolean isFullyLoaded = true;
+            try (LineReader reader = new LineReader(paths.length == 2 ? paths[1] : fullPath)) {
+                String saveString;
+                while ((saveString = reader.readLine()) != null) {
+                    saveString = saveString.trim();
+                    if (saveString.isEmpty()) {
+                        continue;
+                    }
+                    try {
+                        classContents = LineReader.split(saveString, ";");
+                        GoalTracker.setGoals(classContents[1], classContents[0], classContents[2]);
+                    } catch (Exception e) {
+                        isFullyLoaded = false;
+                        UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE,
+                                "saveGt.txt line " + reader.getLineNumber() + " failed to load: " + e);
+                        LoggerCentre.writeStackTraceToLog(e);
+                    }
                 }
             }
+            // The save file is rewritten on the next save if some of it could not be loaded.
+            if (paths.length != 2 && isFullyLoaded) {
+                GoalTracker.getTotalGoalList().markClean();
+            }
         } catch (Exception e) {
             UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE,
                     "Goal Tracker load failed: " + e);
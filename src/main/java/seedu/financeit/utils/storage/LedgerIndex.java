@@ -0,0 +1,418 @@
+package seedu.financeit.utils.storage;
+
+import seedu.financeit.common.Common;
+import seedu.financeit.datatrackers.entrytracker.Entry;
+import seedu.financeit.datatrackers.entrytracker.EntryList;
+import seedu.financeit.datatrackers.entrytracker.EntrySummary;
+import seedu.financeit.datatrackers.entrytracker.EntryTracker;
+import seedu.financeit.datatrackers.manualtracker.Ledger;
+import seedu.financeit.datatrackers.manualtracker.LedgerList;
+import seedu.financeit.datatrackers.manualtracker.ManualTracker;
+import seedu.financeit.ui.UiManager;
+import seedu.financeit.utils.LoggerCentre;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.CRC32;
+
+/**
+ * Index of the text save files of the manual tracker, which lists the size of each save file and, for each
+ * ledger, where its save string is in its save file, a checksum of the save string and the summary of its
+ * entries. Lets the ledgers be
+ * loaded without their entries, which are read from the save file when they are first accessed, and lets
+ * ledgers that have not changed be written again without formatting them.
+ */
+class LedgerIndex {
+    private static final String SUFFIX = "_index.txt";
+
+    private final ManualTrackerSaver saver;
+    // Where each ledger is in the default save files, as last written or read from the index.
+    private IdentityHashMap<Ledger, LedgerLocation> ledgerLocations = new IdentityHashMap<>();
+    // Whether the index does not match the default save files, so that they are rewritten on the next save.
+    private boolean isStale = false;
+
+    /**
+     * Position of the save string of a ledger, with its entries, within a save file, and the
+     * summary of the entries. Only the length and checksum of the save string are kept; the string
+     * itself is read from the save file when it is needed.
+     */
+    static class LedgerLocation {
+        private final Path file;
+        private final long offset;
+        private final int length;
+        // CRC32 of the save string, so that a save file replaced by one of the same size is detected.
+        private final long checksum;
+        private final EntrySummary summary;
+
+        private LedgerLocation(Path file, long offset, int length, long checksum, EntrySummary summary) {
+            this.file = file;
+            this.offset = offset;
+            this.length = length;
+            this.checksum = checksum;
+            this.summary = summary;
+        }
+
+        /**
+         * Reads the save string of the ledger from the save file. If the save file has changed since the
+         * location was recorded, the ledger is searched for instead. Changes handed to the PersistenceManager
+         * must have been written first.
+         */
+        private String readSaveString(Ledger ledger) throws IOException {
+            String header = SaveHandler.getSaveString(ledger);
+            byte[] bytes = new byte[this.length];
+            try (RandomAccessFile saveFile = new RandomAccessFile(this.file.toFile(), "r")) {
+                saveFile.seek(this.offset);
+                saveFile.readFully(bytes);
+            } catch (EOFException e) {
+                bytes = new byte[0];
+            }
+            String saveString = new String(bytes, Charset.defaultCharset());
+            if (!saveString.startsWith(header)) {
+                LoggerCentre.loggerSystemMessages.warning("Ledger not found at its indexed location: " + ledger);
+                saveString = findSaveString(this.file, header);
+            }
+            return saveString;
+        }
+    }
+
+    LedgerIndex(ManualTrackerSaver saver) {
+        this.saver = saver;
+    }
+
+    static String getPath(String snapshotPath) {
+        return snapshotPath.replaceAll("\\.txt$", "") + SUFFIX;
+    }
+
+    boolean isStale() {
+        return this.isStale;
+    }
+
+    void setStale(boolean isStale) {
+        this.isStale = isStale;
+    }
+
+    /**
+     * Forgets the location of every ledger, e.g. after the ledgers were loaded from save files without an index.
+     */
+    void clear() {
+        this.ledgerLocations.clear();
+    }
+
+    /**
+     * Returns the save strings of the ledgers, with their entries. The save string of a ledger is read
+     * from its save file if the ledger has not changed since it was last saved or loaded, or if its
+     * entries have not been loaded, so that it is not formatted again.
+     * @param ledgers Ledgers to return the save strings of
+     * @return Save strings of the ledgers, in the same order
+     */
+    List<String> getCurrentSaveStrings(List<Ledger> ledgers) throws IOException {
+        ArrayList<String> saveStrings = new ArrayList<>();
+        boolean isFlushed = false;
+        for (Ledger ledger : ledgers) {
+            LedgerLocation location = this.ledgerLocations.get(ledger);
+            if (location == null || (ledger.entryList.isLoaded() && ledger.isDirty())) {
+                saveStrings.add(getLedgerSaveString(ledger));
+                continue;
+            }
+            // Save files still being written in the background are only read once they have been written.
+            if (!isFlushed) {
+                PersistenceManager.getInstance().flush();
+                isFlushed = true;
+            }
+            saveStrings.add(location.readSaveString(ledger));
+        }
+        return saveStrings;
+    }
+
+    /**
+     * Keeps the location of each of the ledgers, whose save file is not written again.
+     * @param ledgers Ledgers in a save file that is not written again
+     * @param locations Locations to keep the location of each ledger in
+     */
+    void keepLocations(List<Ledger> ledgers, IdentityHashMap<Ledger, LedgerLocation> locations) {
+        for (Ledger ledger : ledgers) {
+            if (this.ledgerLocations.containsKey(ledger)) {
+                locations.put(ledger, this.ledgerLocations.get(ledger));
+            }
+        }
+    }
+
+    /**
+     * Records where the save string of each ledger is in a save file that is being written.
+     * @param file Save file being written
+     * @param ledgers Ledgers in the save file, in order
+     * @param ledgerSaveStrings Save strings of the ledgers, in the same order
+     * @param locations Locations to record the location of each ledger in
+     */
+    void locateLedgers(Path file, List<Ledger> ledgers, List<String> ledgerSaveStrings,
+                       IdentityHashMap<Ledger, LedgerLocation> locations) {
+        long offset = 0;
+        for (int i = 0; i < ledgers.size(); i++) {
+            Ledger ledger = ledgers.get(i);
+            byte[] bytes = ledgerSaveStrings.get(i).getBytes(Charset.defaultCharset());
+            int length = bytes.length;
+            LedgerLocation previousLocation = this.ledgerLocations.get(ledger);
+            EntrySummary summary = (previousLocation != null && !ledger.isDirty())
+                ? previousLocation.summary
+                : ledger.entryList.getSummary();
+            locations.put(ledger, new LedgerLocation(file, offset, length, getChecksum(bytes), summary));
+            offset += length;
+        }
+    }
+
+    /**
+     * Writes the index of the default save files, and replaces the locations of the ledgers with the
+     * given ones. If a ledger has no known location, the index is deleted instead, so that the save
+     * files are loaded in full.
+     * @param indexPath Path of the index
+     * @param ledgers Ledgers in the save files, in the order of the ledger list
+     * @param locations Location of each ledger
+     * @param snapshot Single save file that is listed even if it has no ledgers, or null
+     */
+    void write(String indexPath, List<Ledger> ledgers, IdentityHashMap<Ledger, LedgerLocation> locations,
+               Path snapshot) {
+        this.ledgerLocations = locations;
+        this.isStale = false;
+        PersistenceManager persistenceManager = PersistenceManager.getInstance();
+        TreeMap<String, Long> fileSizes = new TreeMap<>();
+        if (snapshot != null) {
+            fileSizes.put(snapshot.getFileName().toString(), 0L);
+        }
+        StringBuilder ledgerLines = new StringBuilder();
+        for (Ledger ledger : ledgers) {
+            LedgerLocation location = locations.get(ledger);
+            if (location == null) {
+                persistenceManager.delete(indexPath);
+                return;
+            }
+            String fileName = location.file.getFileName().toString();
+            fileSizes.merge(fileName, location.offset + location.length, Math::max);
+            ledgerLines.append(String.join(";", "Ledger", ledger.toString(), fileName,
+                String.valueOf(location.offset), String.valueOf(location.length),
+                String.valueOf(location.summary.getEntryCount()), location.summary.toString(),
+                String.valueOf(location.checksum)))
+                .append(System.lineSeparator());
+        }
+        StringBuilder index = new StringBuilder();
+        for (Map.Entry<String, Long> fileSize : fileSizes.entrySet()) {
+            index.append("File;").append(fileSize.getKey()).append(';').append(fileSize.getValue())
+                .append(System.lineSeparator());
+        }
+        persistenceManager.write(indexPath, index.append(ledgerLines).toString());
+    }
+
+    /**
+     * Adds the ledgers listed in the index of the default save files, without loading their entries.
+     * The entries of each ledger are loaded from its save file when they are first accessed; until then,
+     * the summary in the index stands in for them. Records in the journal are then replayed on top of the
+     * ledgers, which loads the entries of the ledgers they change.
+     * The index is only used if every save file it lists still has the size recorded in it, and the
+     * save string of every ledger still has the checksum recorded in it.
+     * @param indexPath Path of the index
+     * @param snapshotPath Path of the save file whose journal is replayed
+     * @param shardLedgerCounts Months of the shards listed in the manifest, each with no ledgers counted,
+     *                          in which the ledgers of each month are counted; or null for the single file layout
+     * @return Whether the ledgers were loaded from the index
+     */
+    boolean load(String indexPath, String snapshotPath, TreeMap<YearMonth, Integer> shardLedgerCounts) {
+        Path index = Paths.get(indexPath);
+        if (!Files.exists(index)) {
+            return false;
+        }
+        Path directory = index.toAbsolutePath().getParent();
+        ArrayList<Ledger> ledgers = new ArrayList<>();
+        ArrayList<LedgerLocation> locations = new ArrayList<>();
+        TreeSet<YearMonth> indexedMonths = new TreeSet<>();
+        try {
+            for (String line : Files.readAllLines(index)) {
+                String[] fields = LineReader.split(line, ";", -1);
+                switch (fields[0]) {
+                case "File":
+                    Path file = directory.resolve(fields[1]);
+                    if (!Files.exists(file) || Files.size(file) != Long.parseLong(fields[2])) {
+                        LoggerCentre.loggerSystemMessages.info("Save file changed since it was indexed: " + file);
+                        return false;
+                    }
+                    if (shardLedgerCounts != null) {
+                        indexedMonths.add(YearMonth.parse(fields[1].replaceAll("\\.txt$", "")));
+                    }
+                    break;
+                case "Ledger":
+                    ledgers.add(ManualTrackerSaver.decodeLedger(fields[1]));
+                    locations.add(new LedgerLocation(directory.resolve(fields[2]), Long.parseLong(fields[3]),
+                        Integer.parseInt(fields[4]), Long.parseLong(fields[7]),
+                        EntrySummary.parse(Integer.parseInt(fields[5]), fields[6])));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Index line is not recognised: " + fields[0]);
+                }
+            }
+            if (!isEachChecksumMatched(locations)) {
+                return false;
+            }
+        } catch (Exception e) {
+            LoggerCentre.writeStackTraceToLog(e);
+            return false;
+        }
+        if (shardLedgerCounts != null && !indexedMonths.equals(shardLedgerCounts.keySet())) {
+            LoggerCentre.loggerSystemMessages.info("Index does not list the shards in the manifest.");
+            return false;
+        }
+
+        ManualTrackerJournal journal = this.saver.getJournal();
+        journal.setSuspended(true);
+        try {
+            LedgerList ledgerList = ManualTracker.getLedgerList();
+            this.ledgerLocations.clear();
+            for (int i = 0; i < ledgers.size(); i++) {
+                Ledger ledger = ledgers.get(i);
+                LedgerLocation location = locations.get(i);
+                if (ledgerList.isItemDuplicate(ledger)) {
+                    continue;
+                }
+                ledger.entryList.setDeferredEntries(location.summary, () -> loadDeferredEntries(ledger, location));
+                ledgerList.addItem(ledger);
+                this.ledgerLocations.put(ledger, location);
+                if (shardLedgerCounts != null) {
+                    shardLedgerCounts.computeIfPresent(YearMonth.from(ledger.getDate()), (month, count) -> count + 1);
+                }
+            }
+            this.isStale = false;
+            // Ledgers loaded in the other layout stay dirty, so that the next save writes them in this one.
+            if (journal.replay(ManualTrackerJournal.getPath(snapshotPath))
+                && this.saver.isShardedLayout() == (shardLedgerCounts != null)) {
+                ledgerList.markClean();
+            }
+        } catch (Exception e) {
+            UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE,
+                    "Manual Tracker load failed: " + e);
+            LoggerCentre.writeStackTraceToLog(e);
+        } finally {
+            journal.setSuspended(false);
+        }
+        return true;
+    }
+
+    private static long getChecksum(byte[] bytes) {
+        CRC32 checksum = new CRC32();
+        checksum.update(bytes);
+        return checksum.getValue();
+    }
+
+    /**
+     * Returns whether the save string at each location has the checksum recorded for it. As the ledgers
+     * fill their save files, every byte of the save files listed is checked.
+     */
+    private static boolean isEachChecksumMatched(List<LedgerLocation> locations) throws IOException {
+        TreeMap<Path, ArrayList<LedgerLocation>> locationsByFile = new TreeMap<>();
+        for (LedgerLocation location : locations) {
+            locationsByFile.computeIfAbsent(location.file, file -> new ArrayList<>()).add(location);
+        }
+        for (Map.Entry<Path, ArrayList<LedgerLocation>> fileLocations : locationsByFile.entrySet()) {
+            try (RandomAccessFile saveFile = new RandomAccessFile(fileLocations.getKey().toFile(), "r")) {
+                for (LedgerLocation location : fileLocations.getValue()) {
+                    byte[] bytes = new byte[location.length];
+                    saveFile.seek(location.offset);
+                    saveFile.readFully(bytes);
+                    if (getChecksum(bytes) != location.checksum) {
+                        LoggerCentre.loggerSystemMessages.info("Save file changed since it was indexed: "
+                            + fileLocations.getKey());
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds the entries of a ledger loaded from the index, reading them from its save file.
+     * Called when the entries of the ledger are first accessed. The location of the ledger is looked up
+     * then, as saves since the ledger was loaded may have moved it within its save file.
+     * @param ledger Ledger whose entries are loaded
+     * @param loadedLocation Location of the ledger when it was loaded, used if it has no location now
+     * @return Whether every entry was loaded
+     */
+    private boolean loadDeferredEntries(Ledger ledger, LedgerLocation loadedLocation) {
+        ManualTrackerJournal journal = this.saver.getJournal();
+        boolean wasJournalSuspended = journal.isSuspended();
+        // Entries that cannot be decoded are created through the entry tracker, which must then be restored.
+        Ledger currLedger = EntryTracker.getCurrLedger();
+        journal.setSuspended(true);
+        boolean isFullyLoaded = true;
+        try {
+            LedgerLocation location = this.ledgerLocations.getOrDefault(ledger, loadedLocation);
+            // The save file may still be being written in the background.
+            PersistenceManager.getInstance().flush();
+            String[] lines = location.readSaveString(ledger).split("\\R");
+            for (int line = 1; line < lines.length; line++) {
+                String[] classContents = LineReader.split(lines[line].trim(), ";");
+                if (!classContents[0].equals("Entry")) {
+                    isFullyLoaded = false;
+                    UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE,
+                            "Ledger " + ledger + " line " + (line + 1) + ": Class is not recognised to load.");
+                    continue;
+                }
+                ManualTrackerSaver.restoreEntry(ledger, classContents, 1);
+            }
+        } catch (Exception e) {
+            isFullyLoaded = false;
+            UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE,
+                    "Ledger " + ledger + " failed to load: " + e);
+            LoggerCentre.writeStackTraceToLog(e);
+        } finally {
+            journal.setSuspended(wasJournalSuspended);
+            if (currLedger != null) {
+                EntryTracker.setCurrLedger(currLedger);
+            }
+        }
+        return isFullyLoaded;
+    }
+
+    /**
+     * Returns the save string of the ledger with the given header in the save file, by reading the file
+     * up to the next ledger.
+     */
+    private static String findSaveString(Path file, String header) throws IOException {
+        StringBuilder saveString = new StringBuilder();
+        boolean isFound = false;
+        for (String line : Files.readAllLines(file, Charset.defaultCharset())) {
+            String lineWithSeparator = line + System.lineSeparator();
+            if (lineWithSeparator.equals(header)) {
+                isFound = true;
+            } else if (isFound && line.startsWith("Ledger;")) {
+                break;
+            }
+            if (isFound) {
+                saveString.append(lineWithSeparator);
+            }
+        }
+        if (!isFound) {
+            throw new IOException("Ledger not found in " + file + ": " + header.trim());
+        }
+        return saveString.toString();
+    }
+
+    private static String getLedgerSaveString(Ledger ledger) {
+        StringBuilder saveString = new StringBuilder(SaveHandler.getSaveString(ledger));
+        EntryList entryList = ledger.entryList;
+        int entryListSize = entryList.getListSize();
+        for (int x = 0; x < entryListSize; x++) {
+            Entry ent = (Entry) entryList.getItemAtIndex(x);
+            saveString.append(SaveHandler.getSaveString(ent));
+        }
+        return saveString.toString();
+    }
+}
@@ -0,0 +1,25 @@
+package seedu.financeit.utils.storage;
+
+import java.io.IOException;
+
+/**
+ * Layout of the default save files of the manual tracker on disk.
+ */
+interface LedgerLayout {
+    /**
+     * Writes the ledger list to the save files of the layout, if it has changed since they were last written,
+     * and discards the journal, whose records the save files then hold.
+     */
+    void save() throws IOException;
+
+    /**
+     * Adds the ledgers and entries in the save files of the layout to the ledger list, and replays the
+     * records in the journal on top of them. Failures are reported rather than thrown.
+     */
+    void load();
+
+    /**
+     * Returns the path of the save file that the journal of the layout is kept next to.
+     */
+    String getSnapshotPath();
+}
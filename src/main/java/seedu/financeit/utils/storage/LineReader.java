@@ -0,0 +1,147 @@
+package seedu.financeit.utils.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+
+/**
+ * Reads a text file line by line, in place of java.util.Scanner for save files.
+ * Scanner matches every line against regular expressions, which is slow on large files. This reader
+ * fills a fixed character buffer from the file and cuts lines out of it directly, reusing the buffer
+ * and the line builder for every line. It is meant to be used in a try-with-resources statement, so
+ * that the file is closed as soon as it has been read.
+ * Lines end with "\n", "\r\n" or "\r", which is not included in the returned line.
+ */
+public class LineReader implements Closeable {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    // Characters of the buffer that have not been read yet are those from position up to limit.
+    private int position = 0;
+    private int limit = 0;
+    private final StringBuilder line = new StringBuilder();
+    private boolean isAfterCarriageReturn = false;
+    private int lineNumber = 0;
+
+    public LineReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Opens the file at the given path for reading.
+     *
+     * @param path Path of the file
+     * @throws IOException If the file cannot be opened
+     */
+    public LineReader(String path) throws IOException {
+        this(new InputStreamReader(Files.newInputStream(Paths.get(path)), Charset.defaultCharset()));
+    }
+
+    /**
+     * Returns the next line of the file, or null if the end of the file has been reached.
+     *
+     * @return Next line, without its line terminator
+     * @throws IOException If the file cannot be read
+     */
+    public String readLine() throws IOException {
+        this.line.setLength(0);
+        while (true) {
+            if (this.position == this.limit && !this.fillBuffer()) {
+                if (this.line.length() == 0) {
+                    return null;
+                }
+                this.lineNumber++;
+                return this.line.toString();
+            }
+            if (this.isAfterCarriageReturn) {
+                // The "\n" of a "\r\n" terminator has already been accounted for.
+                this.isAfterCarriageReturn = false;
+                if (this.buffer[this.position] == '\n') {
+                    this.position++;
+                    continue;
+                }
+            }
+            int start = this.position;
+            while (this.position < this.limit) {
+                char c = this.buffer[this.position];
+                if (c == '\n' || c == '\r') {
+                    this.line.append(this.buffer, start, this.position - start);
+                    this.position++;
+                    this.isAfterCarriageReturn = c == '\r';
+                    this.lineNumber++;
+                    return this.line.toString();
+                }
+                this.position++;
+            }
+            this.line.append(this.buffer, start, this.position - start);
+        }
+    }
+
+    private boolean fillBuffer() throws IOException {
+        int count = this.reader.read(this.buffer, 0, this.buffer.length);
+        this.position = 0;
+        this.limit = Math.max(count, 0);
+        return count > 0;
+    }
+
+    /**
+     * Returns the number of lines read so far, i.e. the line number of the last line read.
+     */
+    public int getLineNumber() {
+        return this.lineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.reader.close();
+    }
+
+    /**
+     * Splits the line around each occurrence of the delimiter, as String.split does, but without
+     * treating the delimiter as a regular expression. Trailing empty fields are removed.
+     *
+     * @param line Line to split
+     * @param delimiter Literal delimiter
+     * @return Fields of the line
+     */
+    public static String[] split(String line, String delimiter) {
+        return split(line, delimiter, 0);
+    }
+
+    /**
+     * Splits the line around occurrences of the delimiter, as String.split does, but without
+     * treating the delimiter as a regular expression.
+     *
+     * @param line Line to split
+     * @param delimiter Literal delimiter, which must not be empty
+     * @param limit Maximum number of fields if positive. If zero, trailing empty fields are removed.
+     * @return Fields of the line
+     */
+    public static String[] split(String line, String delimiter, int limit) {
+        ArrayList<String> fields = new ArrayList<>();
+        int start = 0;
+        int end = line.indexOf(delimiter);
+        while (end >= 0 && (limit <= 0 || fields.size() < limit - 1)) {
+            fields.add(line.substring(start, end));
+            start = end + delimiter.length();
+            end = line.indexOf(delimiter, start);
+        }
+        if (fields.isEmpty()) {
+            return new String[] {line};
+        }
+        fields.add(line.substring(start));
+        int size = fields.size();
+        if (limit == 0) {
+            while (size > 0 && fields.get(size - 1).isEmpty()) {
+                size--;
+            }
+        }
+        return fields.subList(0, size).toArray(new String[0]);
+    }
+}
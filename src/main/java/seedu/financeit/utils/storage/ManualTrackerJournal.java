@@ -0,0 +1,180 @@
+package seedu.financeit.utils.storage;
+
+import seedu.financeit.common.Common;
+import seedu.financeit.common.exceptions.ItemNotFoundException;
+import seedu.financeit.datatrackers.entrytracker.Entry;
+import seedu.financeit.datatrackers.manualtracker.Ledger;
+import seedu.financeit.datatrackers.manualtracker.LedgerList;
+import seedu.financeit.datatrackers.manualtracker.ManualTracker;
+import seedu.financeit.ui.UiManager;
+import seedu.financeit.utils.LoggerCentre;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.LocalDate;
+
+/**
+ * Journal of the manual tracker save files, which records each mutation of the ledgers as a single line
+ * appended next to the snapshot, instead of rewriting the whole snapshot. The records are replayed on top
+ * of the snapshot when it is loaded, and discarded once a full save has folded them into the snapshot.
+ */
+class ManualTrackerJournal {
+    // Number of journal records after which the journal is folded back into the snapshot.
+    private static final int COMPACTION_THRESHOLD = 500;
+    private static final String SUFFIX = "_journal.txt";
+    private static final String CREATE_LEDGER = "+Ledger";
+    private static final String DELETE_LEDGER = "-Ledger";
+    private static final String CREATE_ENTRY = "+Entry";
+    private static final String DELETE_ENTRY = "-Entry";
+    private static final String EDIT_ENTRY = "~Entry";
+
+    private final ManualTrackerSaver saver;
+    private boolean isEnabled = true;
+    private boolean isSuspended = false;
+    private int recordCount = 0;
+
+    ManualTrackerJournal(ManualTrackerSaver saver) {
+        this.saver = saver;
+    }
+
+    static String getPath(String snapshotPath) {
+        return snapshotPath.replaceAll("\\.txt$", "") + SUFFIX;
+    }
+
+    void setEnabled(boolean isEnabled) {
+        this.isEnabled = isEnabled;
+    }
+
+    boolean isSuspended() {
+        return this.isSuspended;
+    }
+
+    /**
+     * Stops or resumes the recording of mutations, e.g. while loading re-creates every ledger and entry.
+     * @param isSuspended true to stop recording mutations
+     */
+    void setSuspended(boolean isSuspended) {
+        this.isSuspended = isSuspended;
+    }
+
+    /**
+     * Forgets the records counted towards compaction, once the journal has been folded into the snapshot.
+     */
+    void clearRecordCount() {
+        this.recordCount = 0;
+    }
+
+    void recordCreateLedger(Ledger ledger) {
+        this.append(CREATE_LEDGER + ";" + ledger);
+    }
+
+    void recordDeleteLedger(Ledger ledger) {
+        this.append(DELETE_LEDGER + ";" + ledger);
+    }
+
+    void recordCreateEntry(Ledger ledger, Entry entry) {
+        this.append(CREATE_ENTRY + ";" + ledger + ";" + entry);
+    }
+
+    void recordDeleteEntry(Ledger ledger, int index) {
+        this.append(DELETE_ENTRY + ";" + ledger + ";" + index);
+    }
+
+    void recordEditEntry(Ledger ledger, int index, Entry entry) {
+        this.append(EDIT_ENTRY + ";" + ledger + ";" + index + ";" + entry);
+    }
+
+    /**
+     * Appends a single mutation record to the journal of the default save files, instead of rewriting
+     * the whole snapshot. The record is written in the background by the PersistenceManager. Once the
+     * journal grows past COMPACTION_THRESHOLD records, it is folded back into the snapshot by a full save.
+     * @param record Mutation record to append
+     */
+    private void append(String record) {
+        // Deferred changes are written by the next full save.
+        if (this.isSuspended || SaveHandler.isSaveDeferred()) {
+            return;
+        }
+        if (!this.isEnabled) {
+            this.saver.save();
+            return;
+        }
+        try {
+            PersistenceManager.getInstance().append(this.saver.getJournalPath(), record + System.lineSeparator());
+            this.recordCount++;
+        } catch (Exception e) {
+            UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE,
+                    "Manual Tracker journal write failed: " + e);
+            LoggerCentre.writeStackTraceToLog(e);
+            return;
+        }
+        if (this.recordCount >= COMPACTION_THRESHOLD) {
+            this.saver.save();
+        }
+    }
+
+    /**
+     * Replays every record of the given journal, in order, on top of the loaded snapshot.
+     * @param journalPath Path of the journal to replay
+     * @return Whether every record was replayed
+     */
+    boolean replay(String journalPath) throws IOException {
+        File file = new File(journalPath);
+        if (!file.exists()) {
+            return true;
+        }
+        int line = 0;
+        boolean isFullyReplayed = true;
+        try (LineReader reader = new LineReader(journalPath)) {
+            String record;
+            while ((record = reader.readLine()) != null) {
+                record = record.trim();
+                line = reader.getLineNumber();
+                if (record.isEmpty()) {
+                    continue;
+                }
+                try {
+                    replayRecord(record);
+                } catch (Exception e) {
+                    isFullyReplayed = false;
+                    UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE,
+                            "Journal line " + line + " failed to replay: " + e);
+                    LoggerCentre.writeStackTraceToLog(e);
+                }
+            }
+        }
+        if (this.saver.getFullPath() != null && journalPath.equals(this.saver.getJournalPath())) {
+            this.recordCount = line;
+        }
+        return isFullyReplayed;
+    }
+
+    private static void replayRecord(String record) throws ItemNotFoundException {
+        String[] classContents = LineReader.split(record, ";", 3);
+        LedgerList ledgerList = ManualTracker.getLedgerList();
+        if (classContents[0].equals(CREATE_LEDGER)) {
+            ManualTrackerSaver.restoreLedger(classContents[1]);
+            return;
+        }
+        Ledger ledger = ledgerList.getLedgerFromDate(LocalDate.parse(classContents[1]));
+        String[] entryContents;
+        switch (classContents[0]) {
+        case DELETE_LEDGER:
+            ledgerList.removeItemAtIndex(ledger.getIndex());
+            break;
+        case CREATE_ENTRY:
+            ManualTrackerSaver.restoreEntry(ledger, LineReader.split(classContents[2], ";", 5), 0);
+            break;
+        case DELETE_ENTRY:
+            ledger.entryList.removeItemAtIndex(Integer.parseInt(classContents[2]));
+            break;
+        case EDIT_ENTRY:
+            entryContents = LineReader.split(classContents[2], ";", 2);
+            ledger.entryList.removeItemAtIndex(Integer.parseInt(entryContents[0]));
+            ManualTrackerSaver.restoreEntry(ledger, LineReader.split(entryContents[1], ";", 5), 0);
+            break;
+        default:
+            throw new IllegalArgumentException("Journal record is not recognised: " + classContents[0]);
+        }
+    }
+}
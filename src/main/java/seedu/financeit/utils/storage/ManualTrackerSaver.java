@@ -2,8 +2,9 @@ package seedu.financeit.utils.storage;
 
 import seedu.financeit.common.CategoryMap;
 import seedu.financeit.common.Common;
+import seedu.financeit.common.Money;
+import seedu.financeit.common.exceptions.ItemNotFoundException;
 import seedu.financeit.datatrackers.entrytracker.Entry;
-import seedu.financeit.datatrackers.entrytracker.EntryList;
 import seedu.financeit.datatrackers.entrytracker.EntryTracker;
 import seedu.financeit.datatrackers.manualtracker.Ledger;
 import seedu.financeit.datatrackers.manualtracker.LedgerList;
@@ -12,14 +13,35 @@ import seedu.financeit.parser.InputParser;
 import seedu.financeit.ui.UiManager;
 import seedu.financeit.utils.LoggerCentre;
 
-import java.io.File;
-import java.io.FileWriter;
-import java.util.Scanner;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
 
 //@@author Feudalord
+/**
+ * Saves and loads the ledgers of the manual tracker. Each layout of the save files on disk is kept by a
+ * LedgerLayout of its own; this class selects the layout, records mutations in the journal between saves,
+ * and decodes the ledgers and entries of the save strings shared by the layouts.
+ */
 public class ManualTrackerSaver extends SaveHandler {
+    private static final String BINARY_SUFFIX = ".bin";
 
     private static ManualTrackerSaver saver;
+    private final ManualTrackerJournal journal = new ManualTrackerJournal(this);
+    private final LedgerIndex index = new LedgerIndex(this);
+    private final TextSnapshotLayout textLayout = new TextSnapshotLayout(this);
+    private final ShardedLayout shardedLayout = new ShardedLayout(this);
+    private final BinaryLayout binaryLayout = new BinaryLayout(this);
+    // Whether ledgers are saved in one file per month, listed in a manifest, instead of in a single file.
+    private boolean isShardedLayout = false;
+    // Whether the single save file is written as a binary snapshot instead of as text.
+    private boolean isBinaryLayout = false;
+    // Whether the last load failed as a whole, leaving saved ledgers out of the ledger list.
+    private volatile boolean isLoadFailed = false;
 
     private ManualTrackerSaver() {
         super();
@@ -45,34 +67,152 @@ public class ManualTrackerSaver extends SaveHandler {
     }
 
     /**
-     * This method obtains ledger list from manual tracker and use this list to capture all objects
-     * in the list in String format and store them in ./data/saveMt.txt
+     * Selects between journaled saves, where every mutation appends a single record to the journal,
+     * and full saves, where every mutation rewrites the whole snapshot.
+     * @param isEnabled true to use the journal, false to rewrite the snapshot on every mutation
+     */
+    public void setJournalEnabled(boolean isEnabled) {
+        journal.setEnabled(isEnabled);
+    }
+
+    /**
+     * Selects between the single file layout, where all ledgers are saved in ./data/saveMt.txt, and the
+     * sharded layout, where the ledgers of each month are saved in their own file in ./data/mt, listed
+     * in ./data/mt/manifest.txt. Save files in the other layout are migrated on the next load.
+     * @param isSharded true to save ledgers in one file per month
+     */
+    public void setShardedLayout(boolean isSharded) {
+        isShardedLayout = isSharded;
+    }
+
+    /**
+     * Selects between the text save file ./data/saveMt.txt and the binary save file ./data/saveMt.bin
+     * for the single file layout. Backups are always written as text. A save file in the other format
+     * is loaded if it is the only one, and is replaced by the next save.
+     * @param isBinary true to save ledgers in the binary save file
+     */
+    public void setBinaryLayout(boolean isBinary) {
+        isBinaryLayout = isBinary;
+    }
+
+    /**
+     * Sets the size from which the save file is read through a memory mapping instead of line by line.
+     * @param bytes Size of the save file in bytes
+     */
+    void setMappedLoadThreshold(long bytes) {
+        textLayout.setMappedLoadThreshold(bytes);
+    }
+
+    boolean isShardedLayout() {
+        return isShardedLayout;
+    }
+
+    boolean isBinaryLayout() {
+        return isBinaryLayout;
+    }
+
+    /**
+     * Returns whether the last load failed as a whole and was reported as failed, so that ledgers in
+     * the save files may be missing from the ledger list.
+     */
+    public boolean isLoadFailed() {
+        return isLoadFailed;
+    }
+
+    void reportLoadFailed(Exception e) {
+        isLoadFailed = true;
+        UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE,
+                "Manual Tracker load failed: " + e);
+        LoggerCentre.writeStackTraceToLog(e);
+    }
+
+    String getFullPath() {
+        return fullPath;
+    }
+
+    String getDirPath() {
+        return dirPath;
+    }
+
+    String getBinaryPath() {
+        return fullPath.replaceAll("\\.txt$", "") + BINARY_SUFFIX;
+    }
+
+    ManualTrackerJournal getJournal() {
+        return journal;
+    }
+
+    LedgerIndex getIndex() {
+        return index;
+    }
+
+    private LedgerLayout getLayout() {
+        if (isShardedLayout) {
+            return shardedLayout;
+        }
+        return isBinaryLayout ? binaryLayout : textLayout;
+    }
+
+    public static String getJournalPath(String snapshotPath) {
+        return ManualTrackerJournal.getPath(snapshotPath);
+    }
+
+    public String getJournalPath() {
+        return getJournalPath(isShardedLayout ? shardedLayout.getSnapshotPath() : fullPath);
+    }
+
+    /**
+     * Deletes the journal and the index of the default save file, e.g. after the snapshot has been replaced
+     * by a backup. Neither describes the new snapshot, even if it has the same size as the one replaced.
+     */
+    public void clearJournal() throws IOException {
+        PersistenceManager.getInstance().flush();
+        Files.deleteIfExists(Paths.get(getJournalPath()));
+        journal.clearRecordCount();
+        Files.deleteIfExists(Paths.get(LedgerIndex.getPath(fullPath)));
+        Files.deleteIfExists(Paths.get(LedgerIndex.getPath(shardedLayout.getSnapshotPath())));
+        index.clear();
+    }
+
+    public void journalCreateLedger(Ledger ledger) {
+        journal.recordCreateLedger(ledger);
+    }
+
+    public void journalDeleteLedger(Ledger ledger) {
+        journal.recordDeleteLedger(ledger);
+    }
+
+    public void journalCreateEntry(Ledger ledger, Entry entry) {
+        journal.recordCreateEntry(ledger, entry);
+    }
+
+    public void journalDeleteEntry(Ledger ledger, int index) {
+        journal.recordDeleteEntry(ledger, index);
+    }
+
+    /**
+     * Records an edit of the entry at the given index. Edited entries are moved to the back of the
+     * entry list, so replay removes the entry at the index and appends the edited entry.
+     */
+    public void journalEditEntry(Ledger ledger, int index, Entry entry) {
+        journal.recordEditEntry(ledger, index, entry);
+    }
+
+    /**
+     * This method writes the ledgers and entries to the default save files, in the layout selected by
+     * setShardedLayout() and setBinaryLayout(), or to the specified single text save file.
+     * As the save files then hold every mutation, the journal of those save files is discarded.
+     * The default save files are only written if the ledgers have changed since they were last written.
      * @param paths Can be called with no param or 2 params depending on whether you wish to specify
      *              a directory path and a file path or use the default paths.
      */
     public void save(String... paths) {
         try {
             if (paths.length == 2) {
-                buildFile(paths[0], paths[1]);
+                textLayout.save(paths[0], paths[1]);
             } else {
-                buildFile();
-            }
-            LedgerList ledList = ManualTracker.getLedgerList();
-            StringBuilder saveString = new StringBuilder();
-            int size = ledList.getListSize();
-            for (int i = 0; i < size; i++) {
-                Ledger ledger = (Ledger) ledList.getItemAtIndex(i);
-                saveString.append(getSaveString(ledger));
-                EntryList entryList = ledger.entryList;
-                int entryListSize = entryList.getListSize();
-                for (int x = 0; x < entryListSize; x++) {
-                    Entry ent = (Entry) entryList.getItemAtIndex(x);
-                    saveString.append(getSaveString(ent));
-                }
+                getLayout().save();
             }
-            FileWriter fileWriter = new FileWriter(paths.length == 2 ? paths[1] : fullPath);
-            fileWriter.write(String.valueOf(saveString));
-            fileWriter.close();
         } catch (Exception e) {
             UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE,
                     "Manual Tracker dynamic save failed: " + e);
@@ -81,68 +221,202 @@ public class ManualTrackerSaver extends SaveHandler {
     }
 
     /**
-     * This method reads from default or specified save file and rearrange the inputs from each line
-     * into the correct format to be parsed by parseInput(). parseInput() will provide command packet
-     * that is used to create each entry or ledger.
+     * Writes the ledgers to the default save files as save() does, and waits until they have been written.
+     * @throws IOException If the save files could not be written
+     */
+    public void saveAndFlush() throws IOException {
+        getLayout().save();
+        if (!PersistenceManager.getInstance().flush()) {
+            throw new IOException("Manual Tracker save files were not written");
+        }
+    }
+
+    /**
+     * This method loads the ledgers and entries from the default save files, in the layout selected by
+     * setShardedLayout(), or from the specified single save file. If the default save files are in the
+     * other layout, they are loaded instead and migrated to the selected layout by the next save; a
+     * single save file is migrated to month shards straight away.
      * @param paths Can be called with no param or 2 params depending on whether you wish to specify
      *              a directory path and a file path or use the default paths.
      */
     public void load(String... paths) {
-        try {
-            Scanner scanner = null;
-            if (paths.length == 2) {
-                buildFile(paths[0], paths[1]);
-            } else {
-                buildFile();
+        isLoadFailed = false;
+        if (paths.length == 2) {
+            textLayout.load(paths[0], paths[1]);
+            return;
+        }
+        if (fullPath != null) {
+            boolean hasSnapshot = Files.exists(Paths.get(fullPath));
+            if (isShardedLayout && hasSnapshot) {
+                shardedLayout.migrateFrom(textLayout);
+                return;
             }
-            File file = new File(paths.length == 2 ? paths[1] : fullPath);
-            scanner = new Scanner(file);
-
-            String[] classContents;
-            String inputString = "";
-            int ledgerIndex = -1;
-            int line = 0;
-            while (scanner.hasNext()) {
-                try {
-                    String saveString = scanner.nextLine().trim();
-                    line++;
-                    classContents = saveString.split(";");
-                    switch (classContents[0]) {
-                    case "Entry":
-                        if (classContents[1].equals("Expense")) {
-                            classContents[1] = " -e";
-                        } else if (classContents[1].equals("Income")) {
-                            classContents[1] = " -i";
-                        }
-                        classContents[2] = CategoryMap.categoryToInputMap.get(classContents[2]);
-                        EntryTracker.setCurrLedger((Ledger) ManualTracker.getLedgerList().getItemAtIndex(ledgerIndex));
-                        inputString = "new /time " + classContents[4] + " /cat "
-                                + classContents[2] + " /desc " + classContents[5] + " /amt "
-                                + classContents[3] + classContents[1];
-                        EntryTracker.setCommandPacket(InputParser.getInstance().parseInput(inputString));
-                        EntryTracker.createEntry();
-                        break;
-                    case "Ledger":
-                        inputString = "new /date " + classContents[1];
-                        ManualTracker.setCommandPacket(InputParser.getInstance().parseInput(inputString));
-                        ManualTracker.createLedger();
-                        ledgerIndex++;
-                        break;
-                    default:
-                        UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE,
-                                "Class is not recognised to load.");
-                        break;
-                    }
-                } catch (Exception e) {
-                    UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE,
-                            "saveMt.txt line " + line + " failed to load: " + e);
-                    LoggerCentre.writeStackTraceToLog(e);
-                }
+            if (isShardedLayout || (shardedLayout.hasSaveFiles() && !hasSnapshot)) {
+                shardedLayout.load();
+                return;
             }
-        } catch (Exception e) {
-            UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE,
-                    "Manual Tracker load failed: " + e);
-            LoggerCentre.writeStackTraceToLog(e);
+            // The text save file is only left next to the binary save file if it was restored from a backup
+            // after the binary save file was written, or if deleting it failed after the binary save file
+            // was written.
+            if (!hasSnapshot && binaryLayout.hasSaveFiles()) {
+                binaryLayout.load();
+                return;
+            }
+        }
+        textLayout.load();
+    }
+
+    /**
+     * Adds the saved ledger to the ledger list, constructing it directly from its date. Only if the
+     * date cannot be decoded is the ledger created through the command path, which reports the error.
+     * @param date Saved date of the ledger
+     * @return The ledger in the ledger list with that date, or null if it could not be created
+     */
+    static Ledger restoreLedger(String date) throws ItemNotFoundException {
+        LedgerList ledgerList = ManualTracker.getLedgerList();
+        Ledger ledger;
+        try {
+            ledger = decodeLedger(date);
+        } catch (DateTimeException e) {
+            LoggerCentre.loggerSystemMessages.warning("Ledger could not be decoded, falling back: " + e);
+            int ledgerCount = ledgerList.getListSize();
+            loadLedger(date);
+            return ledgerList.getListSize() > ledgerCount
+                ? (Ledger) ledgerList.getItemAtIndex(ledgerCount)
+                : null;
+        }
+        return addRestoredLedger(ledger.getDate());
+    }
+
+    /**
+     * Adds a ledger of the given date to the ledger list, unless the list already has one.
+     * @param date Date of the ledger
+     * @return The ledger in the ledger list with that date
+     */
+    static Ledger addRestoredLedger(LocalDate date) throws ItemNotFoundException {
+        LedgerList ledgerList = ManualTracker.getLedgerList();
+        Ledger ledger = new Ledger();
+        ledger.setDate(date);
+        if (!ledgerList.isItemDuplicate(ledger)) {
+            ledgerList.addItem(ledger);
+            return ledger;
+        }
+        return ledgerList.getLedgerFromDate(date);
+    }
+
+    /**
+     * Adds the saved entry to the ledger, constructing it directly from its fields. The saved entries
+     * were checked for duplicates when they were created, so no duplicate check is done here. Only if
+     * the fields cannot be decoded is the entry created through the command path, which reports the error.
+     * @param ledger Ledger the entry belongs to
+     * @param classContents Saved fields, in the order entry type, category, amount, time and description
+     * @param offset Index of the entry type within classContents
+     */
+    static void restoreEntry(Ledger ledger, String[] classContents, int offset) {
+        try {
+            ledger.entryList.addItem(decodeEntry(ledger, classContents, offset));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            LoggerCentre.loggerSystemMessages.warning("Entry could not be decoded, falling back: " + e);
+            loadEntry(ledger, classContents, offset);
+        }
+    }
+
+    public static Ledger decodeLedger(String date) throws DateTimeException {
+        Ledger ledger = new Ledger();
+        ledger.setDate(LocalDate.parse(date));
+        return ledger;
+    }
+
+    /**
+     * Constructs an entry from its saved fields, applying the same validation as the command path.
+     * @param ledger Ledger the entry belongs to
+     * @param classContents Saved fields, in the order entry type, category, amount, time and description
+     * @param offset Index of the entry type within classContents
+     * @return Entry constructed from the fields
+     * @throws IllegalArgumentException If a field is missing or invalid
+     * @throws DateTimeException If the time cannot be decoded
+     */
+    public static Entry decodeEntry(Ledger ledger, String[] classContents, int offset)
+        throws IllegalArgumentException, DateTimeException {
+        if (classContents.length - offset < 5) {
+            throw new IllegalArgumentException("Entry has missing fields");
+        }
+        Common.EntryType entryType = decodeEntryType(classContents[offset]);
+        String category = classContents[offset + 1];
+        if (!getValidCategories(entryType).contains(category)) {
+            throw new IllegalArgumentException("Category is not compatible with entry type: " + category);
+        }
+        return createEntry(ledger, entryType, category, decodeAmount(classContents[offset + 2]),
+            LocalTime.parse(classContents[offset + 3]), classContents[offset + 4]);
+    }
+
+    static List<String> getValidCategories(Common.EntryType entryType) {
+        return entryType == Common.EntryType.EXP
+            ? CategoryMap.expenseCategories
+            : CategoryMap.incomeCategories;
+    }
+
+    static Entry createEntry(Ledger ledger, Common.EntryType entryType, String category, Money amount,
+                                     LocalTime time, String description) {
+        Entry entry = new Entry();
+        entry.setEntryType(entryType);
+        entry.setCategory(CategoryMap.categoryToInputMap.get(category));
+        entry.setAmount(amount);
+        entry.setTime(time);
+        entry.setDescription(description);
+        entry.setLedger(ledger);
+        return entry;
+    }
+
+    private static Common.EntryType decodeEntryType(String entryType) throws IllegalArgumentException {
+        for (Common.EntryType type : Common.EntryType.values()) {
+            if (type.literal.equals(entryType)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Entry type is not recognised: " + entryType);
+    }
+
+    private static Money decodeAmount(String amount) throws IllegalArgumentException {
+        if (!amount.startsWith("$")) {
+            throw new IllegalArgumentException("Amount is not recognised: " + amount);
+        }
+        Money value = Money.parse(amount.substring(1));
+        if (value.isNegative()) {
+            throw new IllegalArgumentException("Amount cannot be negative: " + amount);
+        }
+        return value;
+    }
+
+    private static void loadLedger(String date) {
+        String inputString = "new /date " + date;
+        synchronized (COMMAND_PATH_LOCK) {
+            ManualTracker.setCommandPacket(InputParser.getInstance().parseInput(inputString));
+            ManualTracker.createLedger();
+        }
+    }
+
+    /**
+     * Creates an entry under the given ledger from its saved fields.
+     * @param ledger Ledger the entry belongs to
+     * @param classContents Saved fields, in the order entry type, category, amount, time and description
+     * @param offset Index of the entry type within classContents
+     */
+    static void loadEntry(Ledger ledger, String[] classContents, int offset) {
+        String entryType = "";
+        if (classContents[offset].equals("Expense")) {
+            entryType = " -e";
+        } else if (classContents[offset].equals("Income")) {
+            entryType = " -i";
+        }
+        String category = CategoryMap.categoryToInputMap.get(classContents[offset + 1]);
+        String inputString = "new /time " + classContents[offset + 3] + " /cat "
+                + category + " /desc " + classContents[offset + 4] + " /amt "
+                + classContents[offset + 2] + entryType;
+        synchronized (COMMAND_PATH_LOCK) {
+            EntryTracker.setCurrLedger(ledger);
+            EntryTracker.setCommandPacket(InputParser.getInstance().parseInput(inputString));
+            EntryTracker.createEntry();
         }
     }
 }
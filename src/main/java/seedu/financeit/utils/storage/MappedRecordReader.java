@@ -0,0 +1,193 @@
+package seedu.financeit.utils.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads a save file of records separated by newlines, whose fields are separated by a single-byte
+ * delimiter, through a memory mapping of the file. Lines and fields are located by scanning the bytes
+ * of the mapping, so no String is created for a line or field unless it is asked for.
+ * Only charsets in which the delimiter and line terminators are encoded as single bytes that do not
+ * occur within other characters, such as UTF-8, can be read this way; see {@link #isSupported(Charset)}.
+ */
+class MappedRecordReader {
+    private final MappedByteBuffer buffer;
+    private final Charset charset;
+    private final byte delimiter;
+    // Start of each field of the current line, and the position after its end.
+    private final int[] fieldStarts;
+    private final int[] fieldEnds;
+    private int fieldCount = 0;
+    private int lineStart = 0;
+    private int lineEnd = 0;
+    private int position = 0;
+    private int lineNumber = 0;
+
+    /**
+     * Maps the whole file for reading. The file must be smaller than 2 GB.
+     *
+     * @param file Save file
+     * @param charset Charset of the file
+     * @param delimiter Delimiter of fields, which must be a single-byte character
+     * @param maxFieldCount Number of fields of a line that are located. Later fields are part of the last one.
+     * @throws IOException If the file cannot be mapped
+     */
+    MappedRecordReader(Path file, Charset charset, char delimiter, int maxFieldCount) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed.
+            this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        this.charset = charset;
+        this.delimiter = (byte) delimiter;
+        this.fieldStarts = new int[maxFieldCount];
+        this.fieldEnds = new int[maxFieldCount];
+    }
+
+    /**
+     * Returns whether files in the given charset can be read by this reader.
+     */
+    static boolean isSupported(Charset charset) {
+        String name = charset.name();
+        return name.equals("UTF-8") || name.equals("US-ASCII") || name.startsWith("ISO-8859-")
+            || name.startsWith("windows-125");
+    }
+
+    /**
+     * Moves to the next line that is not blank, and locates its fields. Whitespace around the line is
+     * left out, as String.trim() does.
+     *
+     * @return Whether there is such a line
+     */
+    boolean nextLine() {
+        int limit = this.buffer.limit();
+        while (this.position < limit) {
+            int start = this.position;
+            int end = start;
+            while (end < limit && this.buffer.get(end) != '\n' && this.buffer.get(end) != '\r') {
+                end++;
+            }
+            this.position = end;
+            if (this.position < limit) {
+                byte terminator = this.buffer.get(this.position);
+                this.position++;
+                if (terminator == '\r' && this.position < limit && this.buffer.get(this.position) == '\n') {
+                    this.position++;
+                }
+            }
+            this.lineNumber++;
+            while (start < end && (this.buffer.get(start) & 0xff) <= ' ') {
+                start++;
+            }
+            while (end > start && (this.buffer.get(end - 1) & 0xff) <= ' ') {
+                end--;
+            }
+            if (start < end) {
+                this.lineStart = start;
+                this.lineEnd = end;
+                this.locateFields();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void locateFields() {
+        this.fieldCount = 0;
+        int start = this.lineStart;
+        for (int i = this.lineStart; i < this.lineEnd; i++) {
+            if (this.buffer.get(i) == this.delimiter && this.fieldCount < this.fieldStarts.length - 1) {
+                this.fieldStarts[this.fieldCount] = start;
+                this.fieldEnds[this.fieldCount] = i;
+                this.fieldCount++;
+                start = i + 1;
+            }
+        }
+        this.fieldStarts[this.fieldCount] = start;
+        this.fieldEnds[this.fieldCount] = this.lineEnd;
+        this.fieldCount++;
+    }
+
+    /**
+     * Returns the number of lines read so far, including blank lines, i.e. the line number of the current line.
+     */
+    int getLineNumber() {
+        return this.lineNumber;
+    }
+
+    /**
+     * Returns the number of fields located in the current line.
+     */
+    int getFieldCount() {
+        return this.fieldCount;
+    }
+
+    int getFieldLength(int field) {
+        return this.fieldEnds[field] - this.fieldStarts[field];
+    }
+
+    /**
+     * Returns whether the field consists of the given bytes.
+     */
+    boolean isField(int field, byte[] bytes) {
+        int start = this.fieldStarts[field];
+        if (this.fieldEnds[field] - start != bytes.length) {
+            return false;
+        }
+        for (int i = 0; i < bytes.length; i++) {
+            if (this.buffer.get(start + i) != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the byte at the given position within the field.
+     */
+    byte getByte(int field, int index) {
+        return this.buffer.get(this.fieldStarts[field] + index);
+    }
+
+    /**
+     * Returns the value of the decimal digits at the given positions within the field, or -1 if they
+     * are not all digits.
+     */
+    long getDigits(int field, int fromIndex, int toIndex) {
+        long value = 0;
+        for (int i = this.fieldStarts[field] + fromIndex; i < this.fieldStarts[field] + toIndex; i++) {
+            int digit = this.buffer.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * Decodes the field into a String.
+     */
+    String getField(int field) {
+        return this.decode(this.fieldStarts[field], this.fieldEnds[field]);
+    }
+
+    /**
+     * Decodes the whole current line into a String.
+     */
+    String getLine() {
+        return this.decode(this.lineStart, this.lineEnd);
+    }
+
+    private String decode(int start, int end) {
+        byte[] bytes = new byte[end - start];
+        ByteBuffer field = this.buffer.duplicate();
+        field.position(start);
+        field.get(bytes);
+        return new String(bytes, this.charset);
+    }
+}
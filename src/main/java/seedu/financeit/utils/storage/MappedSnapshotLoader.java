@@ -0,0 +1,183 @@
+package seedu.financeit.utils.storage;
+
+import seedu.financeit.common.Common;
+import seedu.financeit.common.Money;
+import seedu.financeit.common.exceptions.ItemNotFoundException;
+import seedu.financeit.datatrackers.entrytracker.Entry;
+import seedu.financeit.datatrackers.manualtracker.Ledger;
+import seedu.financeit.ui.UiManager;
+import seedu.financeit.utils.LoggerCentre;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * Loads a large text save file of the manual tracker through a memory mapping. Ledgers and entries in
+ * the format written by the saver are decoded directly from the bytes of each field, so that only the
+ * description of an entry is decoded into a String.
+ */
+class MappedSnapshotLoader {
+    // Fields of a saved entry: class, entry type, category, amount, time and description.
+    private static final int ENTRY_FIELD_COUNT = 6;
+
+    /**
+     * Returns whether the save file is large enough to be read through a memory mapping, and can be.
+     * @param snapshot Path of the save file
+     * @param threshold Size from which the save file is read through a memory mapping, in bytes
+     */
+    static boolean isUsed(Path snapshot, long threshold) throws IOException {
+        long size = Files.size(snapshot);
+        // A mapped file cannot be truncated on Windows until the mapping is garbage collected, which
+        // would make the next save of the file fail.
+        return size >= threshold && size < Integer.MAX_VALUE
+            && MappedRecordReader.isSupported(Charset.defaultCharset())
+            && !System.getProperty("os.name", "").startsWith("Windows");
+    }
+
+    /**
+     * Reads the save file through a memory mapping, adding its ledgers and entries to the ledger list.
+     * Any line not in the format written by the saver is decoded into a String and loaded as a line read
+     * line by line would be, which reports the line if it cannot be loaded.
+     * @param snapshot Path of the save file
+     * @return Whether every line was loaded
+     */
+    static boolean load(Path snapshot) throws IOException {
+        Charset charset = Charset.defaultCharset();
+        byte[] ledgerClass = "Ledger".getBytes(charset);
+        byte[] entryClass = "Entry".getBytes(charset);
+        byte[][] entryTypes = new byte[Common.EntryType.values().length][];
+        byte[][][] categories = new byte[entryTypes.length][][];
+        for (Common.EntryType entryType : Common.EntryType.values()) {
+            entryTypes[entryType.ordinal()] = entryType.literal.getBytes(charset);
+            List<String> validCategories = ManualTrackerSaver.getValidCategories(entryType);
+            categories[entryType.ordinal()] = new byte[validCategories.size()][];
+            for (int i = 0; i < validCategories.size(); i++) {
+                categories[entryType.ordinal()][i] = validCategories.get(i).getBytes(charset);
+            }
+        }
+
+        MappedRecordReader reader = new MappedRecordReader(snapshot, charset, ';', ENTRY_FIELD_COUNT + 1);
+        Ledger currLedger = null;
+        boolean isFullyLoaded = true;
+        while (reader.nextLine()) {
+            try {
+                if (reader.isField(0, ledgerClass)) {
+                    // Entries after a ledger that fails to load must not go to the previous ledger.
+                    currLedger = null;
+                    LocalDate date = decodeDate(reader);
+                    currLedger = (date == null)
+                        ? ManualTrackerSaver.restoreLedger(LineReader.split(reader.getLine(), ";")[1])
+                        : ManualTrackerSaver.addRestoredLedger(date);
+                } else if (reader.isField(0, entryClass)) {
+                    if (currLedger == null) {
+                        throw new ItemNotFoundException();
+                    }
+                    Entry entry = decodeEntry(reader, currLedger, entryTypes, categories);
+                    if (entry == null) {
+                        ManualTrackerSaver.restoreEntry(currLedger, LineReader.split(reader.getLine(), ";"), 1);
+                    } else {
+                        currLedger.entryList.addItem(entry);
+                    }
+                } else {
+                    UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE,
+                            "Class is not recognised to load.");
+                }
+            } catch (Exception e) {
+                isFullyLoaded = false;
+                UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE,
+                        "saveMt.txt line " + reader.getLineNumber() + " failed to load: " + e);
+                LoggerCentre.writeStackTraceToLog(e);
+            }
+        }
+        return isFullyLoaded;
+    }
+
+    /**
+     * Returns the date of the ledger on the current line, if it is written as YYYY-MM-DD, or null.
+     */
+    private static LocalDate decodeDate(MappedRecordReader reader) {
+        if (reader.getFieldCount() != 2 || reader.getFieldLength(1) != 10
+            || reader.getByte(1, 4) != '-' || reader.getByte(1, 7) != '-') {
+            return null;
+        }
+        long year = reader.getDigits(1, 0, 4);
+        long month = reader.getDigits(1, 5, 7);
+        long day = reader.getDigits(1, 8, 10);
+        if (year < 0 || month < 0 || day < 0) {
+            return null;
+        }
+        try {
+            return LocalDate.of((int) year, (int) month, (int) day);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the entry on the current line, if it is in the format written by the saver, or null.
+     */
+    private static Entry decodeEntry(MappedRecordReader reader, Ledger ledger, byte[][] entryTypes,
+                                     byte[][][] categories) {
+        if (reader.getFieldCount() < ENTRY_FIELD_COUNT || reader.getFieldLength(5) == 0) {
+            return null;
+        }
+        Common.EntryType entryType = null;
+        for (Common.EntryType type : Common.EntryType.values()) {
+            if (reader.isField(1, entryTypes[type.ordinal()])) {
+                entryType = type;
+            }
+        }
+        if (entryType == null) {
+            return null;
+        }
+        String category = null;
+        byte[][] validCategories = categories[entryType.ordinal()];
+        for (int i = 0; i < validCategories.length; i++) {
+            if (reader.isField(2, validCategories[i])) {
+                category = ManualTrackerSaver.getValidCategories(entryType).get(i);
+            }
+        }
+        long cents = decodeCents(reader, 3);
+        if (category == null || cents < 0 || reader.getFieldLength(4) != 5 || reader.getByte(4, 2) != ':') {
+            return null;
+        }
+        long hour = reader.getDigits(4, 0, 2);
+        long minute = reader.getDigits(4, 3, 5);
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+            return null;
+        }
+        return ManualTrackerSaver.createEntry(ledger, entryType, category, Money.ofCents(cents),
+            LocalTime.of((int) hour, (int) minute), reader.getField(5));
+    }
+
+    /**
+     * Returns the amount in the field, in cents, if it is written as $DOLLARS[.CENTS], or -1.
+     */
+    private static long decodeCents(MappedRecordReader reader, int field) {
+        int length = reader.getFieldLength(field);
+        int point = length;
+        for (int i = 1; i < length; i++) {
+            if (reader.getByte(field, i) == '.') {
+                point = i;
+            }
+        }
+        int centDigits = length - Math.min(point + 1, length);
+        // Larger amounts are left to Money.parse(), which checks them for overflow.
+        if (length < 2 || reader.getByte(field, 0) != '$' || point == 1 || point > 16 || centDigits > 2
+            || (point < length && centDigits == 0)) {
+            return -1;
+        }
+        long dollars = reader.getDigits(field, 1, point);
+        long cents = (centDigits == 0) ? 0 : reader.getDigits(field, point + 1, length);
+        if (dollars < 0 || cents < 0) {
+            return -1;
+        }
+        return dollars * 100 + ((centDigits == 1) ? cents * 10 : cents);
+    }
+}
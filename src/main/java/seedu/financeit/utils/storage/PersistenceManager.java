@@ -0,0 +1,228 @@
+package seedu.financeit.utils.storage;
+
+import seedu.financeit.common.Common;
+import seedu.financeit.ui.UiManager;
+import seedu.financeit.utils.LoggerCentre;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes save files on a background thread, so that commands do not wait for the disk.
+ * Callers hand over the text to write, which does not change after it is handed over.
+ * Changes to a file that are handed over in quick succession are coalesced into a single write:
+ * a later full write or delete of a file replaces any change to it that is still pending, and
+ * appends that are still pending are joined into one.
+ * Changes to different files are written in the order in which their latest full write or delete
+ * was handed over, so that e.g. a snapshot is written before the journal that it replaces is deleted.
+ */
+public class PersistenceManager {
+    // Time to wait for further changes before writing, so that bursts of changes are written once.
+    private static final long COALESCE_DELAY_MILLIS = 50;
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private static PersistenceManager manager = null;
+
+    private final ScheduledExecutorService executor;
+    // Changes not yet written, by file. Guarded by this.
+    private LinkedHashMap<Path, PendingChange> pendingChanges = new LinkedHashMap<>();
+    private boolean isWriteScheduled = false;
+    // Failures of background writes, reported to the user on the next call from the UI thread. Guarded by this.
+    private ArrayList<String> failures = new ArrayList<>();
+
+    /**
+     * Change to a single file that has not been written yet.
+     */
+    private static class PendingChange {
+        private boolean isDelete = false;
+        // Full contents of the file, or null if the file is only appended to.
+        private String contents = null;
+        // Full binary contents of the file, written to a temporary file first, or null if none.
+        private byte[] bytes = null;
+        private StringBuilder appended = new StringBuilder();
+    }
+
+    private PersistenceManager() {
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "persistence-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Changes still pending when the program ends without a final save are written before it exits.
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flushQuietly, "persistence-flush"));
+    }
+
+    public static synchronized PersistenceManager getInstance() {
+        if (manager == null) {
+            manager = new PersistenceManager();
+        }
+        return manager;
+    }
+
+    /**
+     * Replaces the contents of the file, creating it and its directory if needed.
+     * @param path Path of the file
+     * @param contents New contents of the file
+     */
+    public void write(String path, String contents) {
+        PendingChange change = this.replacePendingChange(path);
+        change.contents = contents;
+        this.scheduleWrite();
+    }
+
+    /**
+     * Replaces the contents of the file with the given bytes, creating it and its directory if needed.
+     * The bytes are written to a temporary file that then replaces the file, so that the file is never
+     * left half written.
+     * @param path Path of the file
+     * @param bytes New contents of the file
+     */
+    public void writeAtomically(String path, byte[] bytes) {
+        PendingChange change = this.replacePendingChange(path);
+        change.bytes = bytes;
+        this.scheduleWrite();
+    }
+
+    /**
+     * Appends to the file, creating it and its directory if needed.
+     * @param path Path of the file
+     * @param text Text to append
+     */
+    public void append(String path, String text) {
+        synchronized (this) {
+            Path file = Paths.get(Objects.requireNonNull(path));
+            this.pendingChanges.computeIfAbsent(file, key -> new PendingChange()).appended.append(text);
+        }
+        this.scheduleWrite();
+    }
+
+    /**
+     * Deletes the file, if it exists.
+     * @param path Path of the file
+     */
+    public void delete(String path) {
+        PendingChange change = this.replacePendingChange(path);
+        change.isDelete = true;
+        this.scheduleWrite();
+    }
+
+    /**
+     * Writes all pending changes, and waits until they have been written.
+     * Failures of earlier background writes are reported.
+     * @return Whether every write since failures were last reported succeeded
+     */
+    public boolean flush() {
+        try {
+            this.executor.submit(this::writePendingChanges).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            this.recordFailure(e);
+        } catch (ExecutionException e) {
+            this.recordFailure(e.getCause());
+        }
+        return !this.reportFailures();
+    }
+
+    private void flushQuietly() {
+        try {
+            this.executor.submit(this::writePendingChanges).get();
+        } catch (InterruptedException | ExecutionException e) {
+            LoggerCentre.writeStackTraceToLog(e);
+        }
+    }
+
+    private synchronized PendingChange replacePendingChange(String path) {
+        Path file = Paths.get(Objects.requireNonNull(path));
+        // Re-inserting moves the file after files whose changes were handed over earlier.
+        this.pendingChanges.remove(file);
+        PendingChange change = new PendingChange();
+        this.pendingChanges.put(file, change);
+        return change;
+    }
+
+    private void scheduleWrite() {
+        this.reportFailures();
+        synchronized (this) {
+            if (this.isWriteScheduled) {
+                return;
+            }
+            this.isWriteScheduled = true;
+        }
+        this.executor.schedule(this::writePendingChanges, COALESCE_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Writes all changes pending at the time of the call. Runs on the background thread.
+     */
+    private void writePendingChanges() {
+        LinkedHashMap<Path, PendingChange> changes;
+        synchronized (this) {
+            changes = this.pendingChanges;
+            this.pendingChanges = new LinkedHashMap<>();
+            this.isWriteScheduled = false;
+        }
+        for (Map.Entry<Path, PendingChange> change : changes.entrySet()) {
+            try {
+                writeChange(change.getKey(), change.getValue());
+            } catch (IOException e) {
+                this.recordFailure(e);
+            }
+        }
+    }
+
+    private static void writeChange(Path file, PendingChange change) throws IOException {
+        if (change.isDelete) {
+            Files.deleteIfExists(file);
+        }
+        if (change.contents == null && change.bytes == null && change.appended.length() == 0) {
+            return;
+        }
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        if (change.bytes != null) {
+            Path tempFile = Paths.get(file + TEMP_SUFFIX);
+            Files.write(tempFile, change.bytes);
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        if (change.contents != null) {
+            Files.writeString(file, change.contents, Charset.defaultCharset());
+        }
+        if (change.appended.length() > 0) {
+            Files.writeString(file, change.appended, Charset.defaultCharset(),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+    }
+
+    private synchronized void recordFailure(Throwable e) {
+        LoggerCentre.writeStackTraceToLog(e instanceof Exception ? (Exception) e : new Exception(e));
+        this.failures.add("Save failed: " + e);
+    }
+
+    // Returns whether there were failures to report.
+    private boolean reportFailures() {
+        String[] messages;
+        synchronized (this) {
+            if (this.failures.isEmpty()) {
+                return false;
+            }
+            messages = this.failures.toArray(new String[0]);
+            this.failures.clear();
+        }
+        UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE, messages);
+        return true;
+    }
+}
@@ -8,10 +8,6 @@ import seedu.financeit.parser.InputParser;
 import seedu.financeit.ui.UiManager;
 import seedu.financeit.utils.LoggerCentre;
 
-import java.io.File;
-import java.io.FileWriter;
-import java.util.Scanner;
-
 //@@author Feudalord
 public class RecurringTrackerSaver extends SaveHandler {
 
@@ -43,26 +39,26 @@ public class RecurringTrackerSaver extends SaveHandler {
     /**
      * This method obtains RecurringEntryList from RecurringTracker and use that to get a list of
      * entries to be stored onto a text file from the default or specified location.
+     * The default file is only written if the entries have changed since it was last written.
      * @param paths Can be called with no param or 2 params depending on whether you wish to specify
      *              a directory path and a file path or use the default paths.
      */
     public void save(String... paths) {
         try {
-            if (paths.length == 2) {
-                buildFile(paths[0], paths[1]);
-            } else {
-                buildFile();
-            }
             RecurringEntryList entries = RecurringTracker.getEntries();
+            if (paths.length != 2 && !entries.isDirty()) {
+                return;
+            }
             StringBuilder saveString = new StringBuilder();
             int size = entries.getListSize();
             for (int i = 0; i < size; i++) {
                 RecurringEntry entry = (RecurringEntry) entries.getItemAtIndex(i);
                 saveString.append(entry.toSave() + System.lineSeparator());
             }
-            FileWriter fileWriter = new FileWriter(paths.length == 2 ? paths[1] : fullPath);
-            fileWriter.write(String.valueOf(saveString));
-            fileWriter.close();
+            writeSaveString(saveString.toString(), paths);
+            if (paths.length != 2) {
+                entries.markClean();
+            }
         } catch (Exception e) {
 
             UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE,
@@ -85,43 +81,57 @@ public class RecurringTrackerSaver extends SaveHandler {
             } else {
                 buildFile();
             }
-            File file = new File(paths.length == 2 ? paths[1] : fullPath);
-            Scanner scanner = new Scanner(file);
             String[] classContents;
             String inputString;
             String incomeExpense;
-            int line = 0;
-            while (scanner.hasNext()) {
-                try {
-                    String saveString = scanner.nextLine().trim();
-                    line++;
-                    classContents = saveString.split(">&@#<");
-                    if (!classContents[2].equals("")) {
-                        classContents[2] = classContents[2].substring(2, classContents[2].length() - 2);
-                        incomeExpense = "-e ";
-                    } else {
-                        classContents[3] = classContents[3].substring(2, classContents[3].length() - 2);
-                        incomeExpense = "-i ";
+            boolean isFullyLoaded = true;
+            try (LineReader reader = new LineReader(paths.length == 2 ? paths[1] : fullPath)) {
+                String saveString;
+                while ((saveString = reader.readLine()) != null) {
+                    saveString = saveString.trim();
+                    if (saveString.isEmpty()) {
+                        continue;
                     }
+                    try {
+                        classContents = LineReader.split(saveString, ">&@#<");
+                        if (!classContents[2].equals("")) {
+                            classContents[2] = classContents[2].substring(2, classContents[2].length() - 2);
+                            incomeExpense = "-e ";
+                        } else {
+                            classContents[3] = classContents[3].substring(2, classContents[3].length() - 2);
+                            incomeExpense = "-i ";
+                        }
 
-                    if (classContents[5].equals("Auto deduction")) {
-                        classContents[5] = "-auto ";
-                    } else {
-                        classContents[5] = "";
-                    }
-                    inputString = "add " + incomeExpense + classContents[5] + "/desc " + classContents[1]
-                            + " /amt " + classContents[2] + classContents[3] + " /day " + classContents[0];
+                        if (classContents[5].equals("Auto deduction")) {
+                            classContents[5] = "-auto ";
+                        } else {
+                            classContents[5] = "";
+                        }
+                        inputString = "add " + incomeExpense + classContents[5] + "/desc " + classContents[1]
+                                + " /amt " + classContents[2] + classContents[3] + " /day " + classContents[0];
 
-                    if (classContents.length == 7) {
-                        inputString += " /notes " + classContents[6];
+                        if (classContents.length >= 7) {
+                            inputString += " /notes " + classContents[6];
+                        }
+                        // Entries with a recurrence rule have it appended, including the date of its first period.
+                        if (classContents.length >= 8) {
+                            inputString += " /rule " + classContents[7];
+                        }
+                        synchronized (COMMAND_PATH_LOCK) {
+                            RecurringTracker.loadEntry(InputParser.getInstance().parseInput(inputString));
+                        }
+                    } catch (Exception e) {
+                        isFullyLoaded = false;
+                        UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE,
+                                "saveAt.txt line " + reader.getLineNumber() + " failed to load: " + e);
+                        LoggerCentre.writeStackTraceToLog(e);
                     }
-                    RecurringTracker.loadEntry(InputParser.getInstance().parseInput(inputString));
-                } catch (Exception e) {
-                    UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE,
-                            "saveAt.txt line " + line + " failed to load: " + e);
-                    LoggerCentre.writeStackTraceToLog(e);
                 }
             }
+            // The save file is rewritten on the next save if some of it could not be loaded.
+            if (paths.length != 2 && isFullyLoaded) {
+                RecurringTracker.getEntries().markClean();
+            }
         } catch (Exception e) {
             UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE,
                     "Recurring Tracker load failed: " + e);
@@ -1,14 +1,22 @@
 package seedu.financeit.utils.storage;
 
-import java.io.File;
+import seedu.financeit.common.Common;
+import seedu.financeit.ui.UiManager;
+import seedu.financeit.utils.LoggerCentre;
+
 import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
-import java.util.Scanner;
+import java.util.NoSuchElementException;
 
 //@@author Feudalord
 public abstract class SaveHandler {
+    // Whether saves after each change are deferred to a later full save, e.g. while running a batch of commands.
+    private static boolean isSaveDeferred = false;
+    // Held while a save file is loaded through the command path, whose parser and param handlers are shared
+    // singletons, since trackers are loaded concurrently. Commands are not run until all loads are done.
+    protected static final Object COMMAND_PATH_LOCK = new Object();
 
     protected String fullPath;
     protected String dirPath;
@@ -23,9 +31,7 @@ public abstract class SaveHandler {
     }
 
     protected void buildFile() throws IOException {
-        if (!Files.exists(Paths.get(dirPath))) {
-            Files.createDirectory(Paths.get(dirPath));
-        }
+        Files.createDirectories(Paths.get(dirPath));
         if (!Files.exists(Paths.get(fullPath))) {
             Files.createFile(Paths.get(fullPath));
         }
@@ -38,9 +44,7 @@ public abstract class SaveHandler {
      * @throws IOException File creation may throw IO exception if given path is invalid
      */
     public static void buildFile(String dirPath, String fullPath) throws IOException {
-        if (!Files.exists(Paths.get(dirPath))) {
-            Files.createDirectory(Paths.get(dirPath));
-        }
+        Files.createDirectories(Paths.get(dirPath));
         if (!Files.exists(Paths.get(fullPath))) {
             Files.createFile(Paths.get(fullPath));
         }
@@ -67,9 +71,13 @@ public abstract class SaveHandler {
      */
     public static String takeString(String fileName) throws IOException {
         buildFile("./data", "./data/" + fileName + ".txt");
-        File file = new File("./data/" + fileName + ".txt");
-        Scanner scanner = new Scanner(file);
-        return scanner.nextLine();
+        try (LineReader reader = new LineReader("./data/" + fileName + ".txt")) {
+            String line = reader.readLine();
+            if (line == null) {
+                throw new NoSuchElementException("No line found");
+            }
+            return line;
+        }
     }
 
     /**
@@ -85,6 +93,48 @@ public abstract class SaveHandler {
         return str.substring(0, p) + str.substring(p + 1);
     }
 
+    public static void setSaveDeferred(boolean isDeferred) {
+        isSaveDeferred = isDeferred;
+    }
+
+    public static boolean isSaveDeferred() {
+        return isSaveDeferred;
+    }
+
+    /**
+     * Saves to the default save file after a change, unless saves are deferred.
+     */
+    public void saveChange() {
+        if (isSaveDeferred) {
+            return;
+        }
+        try {
+            this.save();
+        } catch (IOException e) {
+            UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE, "Save failed: " + e);
+            LoggerCentre.writeStackTraceToLog(e);
+        }
+    }
+
+    /**
+     * Writes the save string to the given save file, or hands it to the PersistenceManager to be
+     * written to the default save file in the background.
+     * @param saveString Contents of the save file
+     * @param paths Can be called with no param or 2 params depending on whether you wish to specify
+     *              a directory path and a file path or use the default paths.
+     * @throws IOException File creation may throw IO exception if given path is invalid
+     */
+    protected void writeSaveString(String saveString, String... paths) throws IOException {
+        if (paths.length != 2) {
+            PersistenceManager.getInstance().write(fullPath, saveString);
+            return;
+        }
+        buildFile(paths[0], paths[1]);
+        FileWriter fileWriter = new FileWriter(paths[1]);
+        fileWriter.write(saveString);
+        fileWriter.close();
+    }
+
     public void save(String... paths) throws IOException {
 
     }
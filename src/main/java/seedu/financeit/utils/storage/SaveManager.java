@@ -8,22 +8,27 @@ import seedu.financeit.datatrackers.recurringtracker.RecurringTracker;
 import seedu.financeit.parser.InputParser;
 import seedu.financeit.ui.TablePrinter;
 import seedu.financeit.ui.UiManager;
+import seedu.financeit.utils.RegexMatcher;
 
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.FileWriter;
-import java.nio.channels.FileChannel;
+import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Scanner;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 
 public class SaveManager {
     public static final String fullPath = "./data/backup/names.txt";
     public static final String dirPath = "./data/backup";
+    // Suffixes of the save files of the Goal, Manual and Recurring Trackers within a backup.
+    private static final String[] SAVE_FILE_SUFFIXES = {"_gt.txt", "_mt.txt", "_at.txt"};
+    // Suffix of the archived ledgers within a backup, which backups taken before the archive do not have.
+    private static final String ARCHIVE_FILE_SUFFIX = "_ar.txt";
+    private static final BackupStore backupStore = new BackupStore(Paths.get(dirPath));
     private static String prompt = "";
     private static boolean menu = true;
 
@@ -85,8 +90,7 @@ public class SaveManager {
             return false;
         }
 
-        Pattern p = Pattern.compile("[^A-Za-z0-9]");
-        Matcher m = p.matcher(packet.getParam("/name"));
+        Matcher m = RegexMatcher.regexMatcher(packet.getParam("/name"), "[^A-Za-z0-9]");
         if (m.find()) {
             prompt = "No spaces or special characters allowed! Alphanumeric only!";
             return false;
@@ -134,7 +138,8 @@ public class SaveManager {
 
     /**
      * This method prints a list of backup saves using the names provided
-     * in text file names.txt
+     * in text file names.txt, with the size of the save files of each backup save, and the
+     * size of the data stored for it alone, which deleting it would free.
      * @param packet packet containing parsed command from user
      */
     private static void listSaves(CommandPacket packet) {
@@ -143,18 +148,30 @@ public class SaveManager {
             UiManager.refreshPage();
             helpMsg();
             TablePrinter.setTitle("List Saves");
-            TablePrinter.addRow("No.; Names                                           ");
+            TablePrinter.addRow("No.; Names                                           ; Size      ; Stored size");
             SaveHandler.buildFile(dirPath, fullPath);
-            File file = new File(fullPath);
-            Scanner scanner = new Scanner(file);
-            for (int i = 1; scanner.hasNext(); ) {
-                String name = scanner.nextLine();
-                if (!name.equals("")) {
-                    TablePrinter.addRow("[" + i + "]; " + name);
-                    i++;
+            Map<String, BackupStore.Usage> usages = backupStore.getUsage();
+            long logicalSize = 0;
+            long storedSize = backupStore.getStoredSize();
+            try (LineReader reader = new LineReader(fullPath)) {
+                String name;
+                for (int i = 1; (name = reader.readLine()) != null; ) {
+                    if (!name.equals("")) {
+                        BackupStore.Usage usage = usages.get(name);
+                        if (usage == null) {
+                            usage = getLegacyUsage(name);
+                            storedSize += usage.storedSize;
+                        }
+                        TablePrinter.addRow("[" + i + "]; " + name + "; " + formatSize(usage.logicalSize)
+                            + "; " + formatSize(usage.storedSize));
+                        logicalSize += usage.logicalSize;
+                        i++;
+                    }
                 }
             }
             TablePrinter.printList();
+            System.out.println("Saves of " + formatSize(logicalSize) + " in total are stored in "
+                + formatSize(storedSize));
         } catch (Exception e) {
             menu = true;
             prompt = e.toString();
@@ -162,29 +179,66 @@ public class SaveManager {
     }
 
     /**
-     * This method creates a backup save in data/backup directory. This save consists of
-     * 3 text files ending with _gt, _mt, _at and an entry in the names.txt file. If entered
+     * Returns the size of a backup save taken before backup saves were stored as chunks, whose
+     * save files are stored in full.
+     */
+    private static BackupStore.Usage getLegacyUsage(String name) throws IOException {
+        long size = 0;
+        for (String suffix : SAVE_FILE_SUFFIXES) {
+            Path file = Paths.get(dirPath + "/" + name + suffix);
+            if (Files.exists(file)) {
+                size += Files.size(file);
+            }
+        }
+        return new BackupStore.Usage(size, size);
+    }
+
+    private static String formatSize(long bytes) {
+        if (bytes < 1024) {
+            return bytes + " B";
+        }
+        if (bytes < 1024 * 1024) {
+            return String.format("%.1f KB", bytes / 1024.0);
+        }
+        return String.format("%.1f MB", bytes / (1024.0 * 1024));
+    }
+
+    /**
+     * This method creates a backup save in data/backup directory. The save files of the 3 trackers
+     * are written as text and stored in the BackupStore, which stores only the parts of them that no
+     * other backup save has stored already, and an entry is added to the names.txt file. If entered
      * name already exist, then the function overwrites the existing save, otherwise, new
      * save will be created.
      * @param packet packet containing parsed command from user
      */
     public static void addSave(CommandPacket packet) {
         try {
+            // Changes to the default save files are written before the backup is taken.
+            PersistenceManager.getInstance().flush();
             String name = packet.getParam("/name");
             String path = dirPath + "/" + name;
-            GoalTrackerSaver.getInstance().save(dirPath, path + "_gt.txt");
-            ManualTrackerSaver.getInstance().save(dirPath, path + "_mt.txt");
-            RecurringTrackerSaver.getInstance().save(dirPath, path + "_at.txt");
-            SaveHandler.buildFile(dirPath, fullPath);
-            File file = new File(fullPath);
-            Scanner scanner = new Scanner(file);
-            while (scanner.hasNext()) {
-                String saveString = scanner.nextLine();
-                if (saveString.equals(name)) {
-                    prompt = name + " has been overwritten!";
-                    return;
+            LinkedHashMap<String, Path> files = new LinkedHashMap<>();
+            for (String suffix : SAVE_FILE_SUFFIXES) {
+                files.put(suffix, Paths.get(path + suffix + ".tmp"));
+            }
+            files.put(ARCHIVE_FILE_SUFFIX, Paths.get(path + ARCHIVE_FILE_SUFFIX + ".tmp"));
+            GoalTrackerSaver.getInstance().save(dirPath, files.get("_gt.txt").toString());
+            ManualTrackerSaver.getInstance().save(dirPath, files.get("_mt.txt").toString());
+            RecurringTrackerSaver.getInstance().save(dirPath, files.get("_at.txt").toString());
+            ArchiveManager.getInstance().saveBackup(files.get(ARCHIVE_FILE_SUFFIX));
+            try {
+                backupStore.store(name, files);
+            } finally {
+                for (Path file : files.values()) {
+                    Files.deleteIfExists(file);
                 }
             }
+            deleteLegacySaveFiles(name);
+            SaveHandler.buildFile(dirPath, fullPath);
+            if (containsName(name)) {
+                prompt = name + " has been overwritten!";
+                return;
+            }
             FileWriter fileWriter = new FileWriter(fullPath, true);
             fileWriter.write(name + "\n");
             fileWriter.close();
@@ -197,14 +251,16 @@ public class SaveManager {
 
     /**
      * This method searches for a matching name entry in names.txt. Once found, it will
-     * use this name to access contents of 3 text files containing saved data for Goal
-     * Tracker, Manual Tracker and Auto Tracker respectively. The 3 text files in ./data/backup
-     * directory is subsequently copied to the main save found in ./data directory where it
-     * is then loaded using the load method.
+     * use this name to restore the saved data for Goal Tracker, Manual Tracker and Auto
+     * Tracker respectively from the BackupStore, or from the 3 text files in ./data/backup for
+     * saves taken before backups were stored as chunks, to the main save found in ./data
+     * directory where it is then loaded using the load method.
      * @param packet packet containing parsed command from user
      */
     public static void loadSave(CommandPacket packet) {
         try {
+            // Pending changes must not overwrite the save files after the backup is copied over them.
+            PersistenceManager.getInstance().flush();
             String name = packet.getParam("/name");
             String path = dirPath + "/" + name;
             String desAuto = RecurringTrackerSaver.getInstance().fullPath;
@@ -213,40 +269,38 @@ public class SaveManager {
             RecurringTrackerSaver.getInstance().buildFile();
             GoalTrackerSaver.getInstance().buildFile();
             ManualTrackerSaver.getInstance().buildFile();
-            File file = new File(fullPath);
-            Scanner scanner = new Scanner(file);
-            while (scanner.hasNext()) {
-                String saveString = scanner.nextLine();
-                if (saveString.equals(name)) {
-                    FileInputStream inGt = new FileInputStream(path + "_gt.txt");
-                    FileOutputStream outGt = new FileOutputStream(desGoal);
-                    FileChannel sourceChannel = inGt.getChannel();
-                    FileChannel destChannel = outGt.getChannel();
-                    destChannel.transferFrom(sourceChannel, 0, sourceChannel.size());
-
-                    FileInputStream inMt = new FileInputStream(path + "_mt.txt");
-                    FileOutputStream outMt = new FileOutputStream(desManual);
-                    sourceChannel = inMt.getChannel();
-                    destChannel = outMt.getChannel();
-                    destChannel.transferFrom(sourceChannel, 0, sourceChannel.size());
-
-                    FileInputStream inAt = new FileInputStream(path + "_at.txt");
-                    FileOutputStream outAt = new FileOutputStream(desAuto);
-                    sourceChannel = inAt.getChannel();
-                    destChannel = outAt.getChannel();
-                    destChannel.transferFrom(sourceChannel, 0, sourceChannel.size());
-
-                    inGt.close();
-                    inMt.close();
-                    inAt.close();
-                    outMt.close();
-                    outGt.close();
-                    outAt.close();
-                    clear();
-                    Financeit.load();
-                    prompt = name + " has been loaded!";
-                    return;
+            if (containsName(name)) {
+                LinkedHashMap<String, Path> destinations = new LinkedHashMap<>();
+                destinations.put("_gt.txt", Paths.get(desGoal));
+                destinations.put("_mt.txt", Paths.get(desManual));
+                destinations.put("_at.txt", Paths.get(desAuto));
+                Path archiveFile = null;
+                if (backupStore.containsFile(name, ARCHIVE_FILE_SUFFIX)) {
+                    archiveFile = Paths.get(path + ARCHIVE_FILE_SUFFIX);
+                    destinations.put(ARCHIVE_FILE_SUFFIX, archiveFile);
+                }
+                if (backupStore.contains(name)) {
+                    backupStore.restore(name, destinations);
+                } else {
+                    for (Map.Entry<String, Path> destination : destinations.entrySet()) {
+                        Files.copy(Paths.get(path + destination.getKey()), destination.getValue(),
+                            StandardCopyOption.REPLACE_EXISTING);
+                    }
                 }
+                // The journal and index describe the replaced snapshot, so they must not be used.
+                ManualTrackerSaver.getInstance().clearJournal();
+                clear();
+                // The archive is replaced too, so that the restored ledgers are not mixed with the current archive.
+                try {
+                    ArchiveManager.getInstance().restoreBackup(archiveFile);
+                } finally {
+                    if (archiveFile != null) {
+                        Files.deleteIfExists(archiveFile);
+                    }
+                }
+                Financeit.load();
+                prompt = name + " has been loaded!";
+                return;
             }
             prompt = name + " cannot be found!";
         } catch (Exception e) {
@@ -254,12 +308,39 @@ public class SaveManager {
         }
     }
 
+    /**
+     * Returns whether the given name is listed in names.txt.
+     * @param name name of the backup save
+     * @return whether a backup save of that name exists
+     * @throws IOException if names.txt cannot be read
+     */
+    private static boolean containsName(String name) throws IOException {
+        try (LineReader reader = new LineReader(fullPath)) {
+            String saveString;
+            while ((saveString = reader.readLine()) != null) {
+                if (saveString.equals(name)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     public static void clear() {
         GoalTrackerSaver.clear();
         RecurringTrackerSaver.clear();
         ManualTrackerSaver.clear();
     }
 
+    /**
+     * Deletes the save files of a backup save taken before backup saves were stored as chunks.
+     */
+    private static void deleteLegacySaveFiles(String name) throws IOException {
+        for (String suffix : SAVE_FILE_SUFFIXES) {
+            Files.deleteIfExists(Paths.get(dirPath + "/" + name + suffix));
+        }
+    }
+
     /**
      * This method deletes the given entry in names.txt as well as the save files
      * associated with that name.
@@ -269,19 +350,17 @@ public class SaveManager {
         try {
             String name = packet.getParam("/name");
             StringBuilder nameList = new StringBuilder();
-            File file = new File(fullPath);
-            Scanner scanner = new Scanner(file);
             prompt = name + " is not found!";
-            while (scanner.hasNext()) {
-                String saveString = scanner.nextLine();
-                if (!saveString.equals(name)) {
-                    nameList.append(saveString + "\n");
-                } else {
-                    String path = dirPath + "/" + name;
-                    Files.deleteIfExists(Paths.get(path + "_gt.txt"));
-                    Files.deleteIfExists(Paths.get(path + "_mt.txt"));
-                    Files.deleteIfExists(Paths.get(path + "_at.txt"));
-                    prompt = name + " has been removed!";
+            try (LineReader reader = new LineReader(fullPath)) {
+                String saveString;
+                while ((saveString = reader.readLine()) != null) {
+                    if (!saveString.equals(name)) {
+                        nameList.append(saveString + "\n");
+                    } else {
+                        backupStore.delete(name);
+                        deleteLegacySaveFiles(name);
+                        prompt = name + " has been removed!";
+                    }
                 }
             }
             FileWriter fileWriter = new FileWriter(fullPath, false);
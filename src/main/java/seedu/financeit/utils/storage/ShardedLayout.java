@@ -0,0 +1,304 @@
+package seedu.financeit.utils.storage;
+
+import seedu.financeit.common.Common;
+import seedu.financeit.common.exceptions.ItemNotFoundException;
+import seedu.financeit.data.Item;
+import seedu.financeit.datatrackers.manualtracker.Ledger;
+import seedu.financeit.datatrackers.manualtracker.LedgerList;
+import seedu.financeit.datatrackers.manualtracker.ManualTracker;
+import seedu.financeit.ui.UiManager;
+import seedu.financeit.utils.LoggerCentre;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.DateTimeException;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Layout that saves the ledgers of each month in their own text file in ./data/mt, listed in the manifest
+ * ./data/mt/manifest.txt, with an index of where each ledger is in its shard.
+ */
+class ShardedLayout implements LedgerLayout {
+    private static final String DIRECTORY = "mt";
+    private static final String MANIFEST_FILE = "manifest.txt";
+    private static final String SHARD_SUFFIX = ".txt";
+
+    private final ManualTrackerSaver saver;
+    // Number of ledgers in each month shard, as last written or loaded.
+    private TreeMap<YearMonth, Integer> shardLedgerCounts = new TreeMap<>();
+
+    /**
+     * Ledgers and entries read from a month shard, to be added to the ledger list.
+     */
+    private static class LoadedShard {
+        private ArrayList<Ledger> ledgers = new ArrayList<>();
+        // Entry lines that could not be decoded, and the ledgers they belong to.
+        private ArrayList<String[]> undecodedEntries = new ArrayList<>();
+        private ArrayList<Ledger> undecodedEntryLedgers = new ArrayList<>();
+        private ArrayList<String> errors = new ArrayList<>();
+    }
+
+    ShardedLayout(ManualTrackerSaver saver) {
+        this.saver = saver;
+    }
+
+    @Override
+    public String getSnapshotPath() {
+        return Paths.get(this.saver.getDirPath(), DIRECTORY, MANIFEST_FILE).toString();
+    }
+
+    private String getShardPath(YearMonth month) {
+        return Paths.get(this.saver.getDirPath(), DIRECTORY, month + SHARD_SUFFIX).toString();
+    }
+
+    boolean hasSaveFiles() {
+        return Files.exists(Paths.get(this.getSnapshotPath()));
+    }
+
+    /**
+     * Writes the ledgers of each month to the shard of that month, and lists the shards in the manifest.
+     * Only shards with a ledger that has been added or changed, or with fewer ledgers than before, are
+     * written, and shards with no ledgers left are deleted.
+     */
+    @Override
+    public void save() throws IOException {
+        this.save(false);
+    }
+
+    /**
+     * Writes the ledgers of each month to the shard of that month, as in save().
+     * @param isRewriteForced true to write every shard, e.g. when migrating from the single file layout
+     */
+    private void save(boolean isRewriteForced) throws IOException {
+        LedgerIndex index = this.saver.getIndex();
+        LedgerList ledList = ManualTracker.getLedgerList();
+        isRewriteForced |= index.isStale();
+        if (!isRewriteForced && !ledList.isDirty()) {
+            return;
+        }
+        TreeMap<YearMonth, ArrayList<Ledger>> ledgersByMonth = new TreeMap<>();
+        for (Item item : ledList.getItems()) {
+            Ledger ledger = (Ledger) item;
+            ledgersByMonth.computeIfAbsent(YearMonth.from(ledger.getDate()), month -> new ArrayList<>()).add(ledger);
+        }
+
+        PersistenceManager persistenceManager = PersistenceManager.getInstance();
+        IdentityHashMap<Ledger, LedgerIndex.LedgerLocation> currLedgerLocations = new IdentityHashMap<>();
+        TreeMap<YearMonth, Integer> currShardLedgerCounts = new TreeMap<>();
+        for (Map.Entry<YearMonth, ArrayList<Ledger>> shard : ledgersByMonth.entrySet()) {
+            ArrayList<Ledger> ledgers = shard.getValue();
+            currShardLedgerCounts.put(shard.getKey(), ledgers.size());
+            // Ledgers are marked dirty when they are added, so a shard of the same size with a
+            // ledger replaced is dirty too.
+            boolean isShardDirty = isRewriteForced
+                || !Integer.valueOf(ledgers.size()).equals(this.shardLedgerCounts.get(shard.getKey()));
+            for (Ledger ledger : ledgers) {
+                isShardDirty |= ledger.isDirty();
+            }
+            if (!isShardDirty) {
+                index.keepLocations(ledgers, currLedgerLocations);
+                continue;
+            }
+            List<String> ledgerSaveStrings = index.getCurrentSaveStrings(ledgers);
+            Path shardPath = Paths.get(this.getShardPath(shard.getKey()));
+            persistenceManager.write(shardPath.toString(), String.join("", ledgerSaveStrings));
+            index.locateLedgers(shardPath, ledgers, ledgerSaveStrings, currLedgerLocations);
+        }
+        for (YearMonth month : this.shardLedgerCounts.keySet()) {
+            if (!ledgersByMonth.containsKey(month)) {
+                persistenceManager.delete(this.getShardPath(month));
+            }
+        }
+        if (isRewriteForced || !this.shardLedgerCounts.keySet().equals(ledgersByMonth.keySet())) {
+            StringBuilder manifest = new StringBuilder();
+            for (YearMonth month : ledgersByMonth.keySet()) {
+                manifest.append(month).append(SHARD_SUFFIX).append(System.lineSeparator());
+            }
+            persistenceManager.write(this.getSnapshotPath(), manifest.toString());
+        }
+        ArrayList<Ledger> ledgers = new ArrayList<>();
+        for (Item item : ledList.getItems()) {
+            ledgers.add((Ledger) item);
+        }
+        index.write(LedgerIndex.getPath(this.getSnapshotPath()), ledgers, currLedgerLocations, null);
+        // Deleted only once the shards holding its records have been written.
+        persistenceManager.delete(this.saver.getJournalPath());
+        this.saver.getJournal().clearRecordCount();
+        this.shardLedgerCounts = currShardLedgerCounts;
+        ledList.markClean();
+    }
+
+    /**
+     * Loads the given single file layout and writes its ledgers to month shards, replacing the single save file.
+     * @param snapshotLayout Layout of the single save file
+     */
+    void migrateFrom(TextSnapshotLayout snapshotLayout) {
+        try {
+            this.shardLedgerCounts = this.readManifest();
+        } catch (Exception e) {
+            // Shards not listed in a broken manifest are left behind, but are no longer loaded.
+            this.shardLedgerCounts = new TreeMap<>();
+            LoggerCentre.writeStackTraceToLog(e);
+        }
+        snapshotLayout.loadSnapshot();
+        try {
+            this.save(true);
+        } catch (IOException e) {
+            // The single save file is kept, so that the migration is tried again on the next load.
+            UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE,
+                    "Manual Tracker save file migration failed: " + e);
+            LoggerCentre.writeStackTraceToLog(e);
+            return;
+        }
+        String snapshotPath = snapshotLayout.getSnapshotPath();
+        PersistenceManager persistenceManager = PersistenceManager.getInstance();
+        persistenceManager.delete(snapshotPath);
+        persistenceManager.delete(ManualTrackerJournal.getPath(snapshotPath));
+        persistenceManager.delete(LedgerIndex.getPath(snapshotPath));
+        persistenceManager.flush();
+        UiManager.printWithStatusIcon(Common.PrintType.SYS_MSG,
+                "Manual Tracker save file migrated to " + Paths.get(this.saver.getDirPath(), DIRECTORY));
+    }
+
+    /**
+     * This method reads every month shard listed in the manifest. Shards are read and decoded in parallel,
+     * each into ledgers of its own, which are then added to the ledger list in month order. Lines that
+     * cannot be decoded are loaded through the command path, as in the single file layout. Records in the
+     * journal of the manifest are then replayed on top of the shards.
+     */
+    @Override
+    public void load() {
+        LedgerIndex index = this.saver.getIndex();
+        try {
+            TreeMap<YearMonth, Integer> indexedShardLedgerCounts = this.readManifest();
+            if (index.load(LedgerIndex.getPath(this.getSnapshotPath()), this.getSnapshotPath(),
+                indexedShardLedgerCounts)) {
+                this.shardLedgerCounts = indexedShardLedgerCounts;
+                return;
+            }
+        } catch (Exception e) {
+            LoggerCentre.writeStackTraceToLog(e);
+        }
+        ManualTrackerJournal journal = this.saver.getJournal();
+        journal.setSuspended(true);
+        try {
+            TreeMap<YearMonth, Integer> currShardLedgerCounts = this.readManifest();
+            List<YearMonth> months = new ArrayList<>(currShardLedgerCounts.keySet());
+            List<LoadedShard> shards = months.parallelStream()
+                .map(this::readShard)
+                .collect(Collectors.toList());
+
+            LedgerList ledgerList = ManualTracker.getLedgerList();
+            boolean isFullyLoaded = true;
+            for (int i = 0; i < shards.size(); i++) {
+                LoadedShard shard = shards.get(i);
+                if (!shard.errors.isEmpty()) {
+                    isFullyLoaded = false;
+                    UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE,
+                            shard.errors.toArray(new String[0]));
+                }
+                for (Ledger ledger : shard.ledgers) {
+                    if (ledgerList.isItemDuplicate(ledger)) {
+                        isFullyLoaded = false;
+                        UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE,
+                                "Duplicate ledger failed to load: " + ledger);
+                        continue;
+                    }
+                    ledgerList.addItem(ledger);
+                }
+                for (int j = 0; j < shard.undecodedEntries.size(); j++) {
+                    ManualTrackerSaver.loadEntry(shard.undecodedEntryLedgers.get(j), shard.undecodedEntries.get(j), 1);
+                }
+                currShardLedgerCounts.put(months.get(i), shard.ledgers.size());
+            }
+            isFullyLoaded &= journal.replay(ManualTrackerJournal.getPath(this.getSnapshotPath()));
+            this.shardLedgerCounts = currShardLedgerCounts;
+            index.clear();
+            index.setStale(true);
+            // Without the sharded layout the ledgers stay dirty, so that the next save writes the single file.
+            if (this.saver.isShardedLayout() && isFullyLoaded) {
+                ledgerList.markClean();
+            }
+        } catch (Exception e) {
+            this.saver.reportLoadFailed(e);
+        } finally {
+            journal.setSuspended(false);
+        }
+    }
+
+    /**
+     * Returns the months listed in the manifest, each with no ledgers counted yet.
+     */
+    private TreeMap<YearMonth, Integer> readManifest() throws IOException, DateTimeException {
+        TreeMap<YearMonth, Integer> months = new TreeMap<>();
+        Path manifestPath = Paths.get(this.getSnapshotPath());
+        if (!Files.exists(manifestPath)) {
+            return months;
+        }
+        for (String line : Files.readAllLines(manifestPath)) {
+            String shardName = line.trim();
+            if (shardName.endsWith(SHARD_SUFFIX)) {
+                months.put(YearMonth.parse(shardName.substring(0, shardName.length() - SHARD_SUFFIX.length())), 0);
+            }
+        }
+        return months;
+    }
+
+    /**
+     * Reads the ledgers and entries of a month shard, without adding them to the ledger list.
+     * Runs in parallel with the reading of other shards, so only the shard's own ledgers are modified.
+     * @param month Month of the shard
+     * @return Ledgers, entries that could not be decoded and errors of the shard
+     */
+    private LoadedShard readShard(YearMonth month) {
+        LoadedShard shard = new LoadedShard();
+        String shardName = month + SHARD_SUFFIX;
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(Paths.get(this.getShardPath(month)));
+        } catch (IOException e) {
+            LoggerCentre.writeStackTraceToLog(e);
+            shard.errors.add(shardName + " failed to load: " + e);
+            return shard;
+        }
+        Ledger currLedger = null;
+        for (int line = 1; line <= lines.size(); line++) {
+            try {
+                String[] classContents = LineReader.split(lines.get(line - 1).trim(), ";");
+                switch (classContents[0]) {
+                case "Entry":
+                    if (currLedger == null) {
+                        throw new ItemNotFoundException();
+                    }
+                    try {
+                        currLedger.entryList.addItem(ManualTrackerSaver.decodeEntry(currLedger, classContents, 1));
+                    } catch (IllegalArgumentException | DateTimeException e) {
+                        shard.undecodedEntries.add(classContents);
+                        shard.undecodedEntryLedgers.add(currLedger);
+                    }
+                    break;
+                case "Ledger":
+                    currLedger = null;
+                    currLedger = ManualTrackerSaver.decodeLedger(classContents[1]);
+                    shard.ledgers.add(currLedger);
+                    break;
+                default:
+                    shard.errors.add(shardName + " line " + line + ": Class is not recognised to load.");
+                    break;
+                }
+            } catch (Exception e) {
+                LoggerCentre.writeStackTraceToLog(e);
+                shard.errors.add(shardName + " line " + line + " failed to load: " + e);
+            }
+        }
+        return shard;
+    }
+}
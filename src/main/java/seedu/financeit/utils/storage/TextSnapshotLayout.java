@@ -0,0 +1,213 @@
+package seedu.financeit.utils.storage;
+
+import seedu.financeit.common.Common;
+import seedu.financeit.common.exceptions.ItemNotFoundException;
+import seedu.financeit.datatrackers.manualtracker.Ledger;
+import seedu.financeit.datatrackers.manualtracker.LedgerList;
+import seedu.financeit.datatrackers.manualtracker.ManualTracker;
+import seedu.financeit.ui.UiManager;
+import seedu.financeit.utils.LoggerCentre;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+/**
+ * Layout that saves every ledger in a single text save file, ./data/saveMt.txt by default, with an index of
+ * where each ledger is in it. Save files in this format are also written to and loaded from other paths,
+ * e.g. for backups, without an index.
+ */
+class TextSnapshotLayout implements LedgerLayout {
+    // Save files at least this large are read through a memory mapping by MappedSnapshotLoader.
+    private static final long MAPPED_LOAD_THRESHOLD = 4 * 1024 * 1024;
+
+    private final ManualTrackerSaver saver;
+    private long mappedLoadThreshold = MAPPED_LOAD_THRESHOLD;
+
+    TextSnapshotLayout(ManualTrackerSaver saver) {
+        this.saver = saver;
+    }
+
+    /**
+     * Sets the size from which the save file is read through a memory mapping instead of line by line.
+     * @param bytes Size of the save file in bytes
+     */
+    void setMappedLoadThreshold(long bytes) {
+        this.mappedLoadThreshold = bytes;
+    }
+
+    @Override
+    public String getSnapshotPath() {
+        return this.saver.getFullPath();
+    }
+
+    /**
+     * Writes the default save file and its index, if the ledgers have changed since it was last written.
+     * Only ledgers that have changed are formatted again.
+     */
+    @Override
+    public void save() throws IOException {
+        this.write();
+    }
+
+    /**
+     * Writes every ledger to the given save file, and deletes the journal of that save file.
+     * @param directory Directory of the save file
+     * @param file Path of the save file
+     */
+    void save(String directory, String file) throws IOException {
+        this.write(directory, file);
+    }
+
+    private void write(String... paths) throws IOException {
+        boolean isDefaultPath = paths.length != 2;
+        String fullPath = this.saver.getFullPath();
+        LedgerIndex index = this.saver.getIndex();
+        ManualTrackerJournal journal = this.saver.getJournal();
+        LedgerList ledList = ManualTracker.getLedgerList();
+        if (isDefaultPath && !ledList.isDirty() && !index.isStale()) {
+            return;
+        }
+        ArrayList<Ledger> ledgers = new ArrayList<>();
+        int size = ledList.getListSize();
+        for (int i = 0; i < size; i++) {
+            ledgers.add((Ledger) ledList.getItemAtIndex(i));
+        }
+        List<String> ledgerSaveStrings = index.getCurrentSaveStrings(ledgers);
+        this.saver.writeSaveString(String.join("", ledgerSaveStrings), paths);
+        if (isDefaultPath) {
+            // Locations of deleted ledgers are dropped.
+            IdentityHashMap<Ledger, LedgerIndex.LedgerLocation> currLedgerLocations = new IdentityHashMap<>();
+            index.locateLedgers(Paths.get(fullPath), ledgers, ledgerSaveStrings, currLedgerLocations);
+            index.write(LedgerIndex.getPath(fullPath), ledgers, currLedgerLocations, Paths.get(fullPath));
+            ledList.markClean();
+            if (Files.exists(Paths.get(this.saver.getBinaryPath()))) {
+                PersistenceManager.getInstance().delete(this.saver.getBinaryPath());
+            }
+        }
+        if (paths.length == 2) {
+            Files.deleteIfExists(Paths.get(ManualTrackerJournal.getPath(paths[1])));
+            if (paths[1].equals(fullPath)) {
+                PersistenceManager.getInstance().flush();
+                Files.deleteIfExists(Paths.get(LedgerIndex.getPath(fullPath)));
+                journal.clearRecordCount();
+            }
+        } else {
+            // Deleted only once the snapshot holding its records has been written.
+            PersistenceManager.getInstance().delete(this.saver.getJournalPath());
+            journal.clearRecordCount();
+        }
+    }
+
+    /**
+     * Loads the ledgers listed in the index of the default save file without their entries, or the
+     * whole default save file if its index cannot be used.
+     */
+    @Override
+    public void load() {
+        String fullPath = this.saver.getFullPath();
+        if (fullPath != null && this.saver.getIndex().load(LedgerIndex.getPath(fullPath), fullPath, null)) {
+            return;
+        }
+        this.loadSnapshot();
+    }
+
+    /**
+     * Loads every ledger in the given save file, and replays the records in its journal.
+     * @param directory Directory of the save file
+     * @param file Path of the save file
+     */
+    void load(String directory, String file) {
+        this.loadSnapshot(directory, file);
+    }
+
+    /**
+     * This method reads from default or specified save file and constructs each ledger and entry
+     * directly from the fields of each line. Lines that cannot be decoded are rearranged into the
+     * correct format to be parsed by parseInput(), which provides the command packet used to create
+     * the entry or ledger. Records in the journal of the save file are then replayed on top of the snapshot.
+     * @param paths Can be called with no param or 2 params depending on whether you wish to specify
+     *              a directory path and a file path or use the default paths.
+     */
+    void loadSnapshot(String... paths) {
+        LedgerIndex index = this.saver.getIndex();
+        ManualTrackerJournal journal = this.saver.getJournal();
+        // Loading re-creates every ledger and entry, which must not be journaled again.
+        journal.setSuspended(true);
+        try {
+            if (paths.length == 2) {
+                SaveHandler.buildFile(paths[0], paths[1]);
+            } else {
+                this.saver.buildFile();
+            }
+            String snapshotPath = paths.length == 2 ? paths[1] : this.saver.getFullPath();
+
+            Path snapshot = Paths.get(snapshotPath);
+            boolean isFullyLoaded = MappedSnapshotLoader.isUsed(snapshot, this.mappedLoadThreshold)
+                ? MappedSnapshotLoader.load(snapshot)
+                : loadLines(snapshotPath);
+            isFullyLoaded &= journal.replay(ManualTrackerJournal.getPath(snapshotPath));
+            index.clear();
+            // The index is written by the next save, so that the next load can defer loading the entries.
+            index.setStale(paths.length != 2);
+            // The save file is rewritten on the next save if some of it could not be loaded.
+            if (paths.length != 2 && isFullyLoaded) {
+                ManualTracker.getLedgerList().markClean();
+            }
+        } catch (Exception e) {
+            this.saver.reportLoadFailed(e);
+        } finally {
+            journal.setSuspended(false);
+        }
+    }
+
+    /**
+     * Reads the save file line by line, splitting each line into its fields.
+     * @param snapshotPath Path of the save file
+     * @return Whether every line was loaded
+     */
+    private static boolean loadLines(String snapshotPath) throws IOException {
+        String[] classContents;
+        Ledger currLedger = null;
+        boolean isFullyLoaded = true;
+        try (LineReader reader = new LineReader(snapshotPath)) {
+            String saveString;
+            while ((saveString = reader.readLine()) != null) {
+                saveString = saveString.trim();
+                if (saveString.isEmpty()) {
+                    continue;
+                }
+                try {
+                    classContents = LineReader.split(saveString, ";");
+                    switch (classContents[0]) {
+                    case "Entry":
+                        if (currLedger == null) {
+                            throw new ItemNotFoundException();
+                        }
+                        ManualTrackerSaver.restoreEntry(currLedger, classContents, 1);
+                        break;
+                    case "Ledger":
+                        // Entries after a ledger that fails to load must not go to the previous ledger.
+                        currLedger = null;
+                        currLedger = ManualTrackerSaver.restoreLedger(classContents[1]);
+                        break;
+                    default:
+                        UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE,
+                                "Class is not recognised to load.");
+                        break;
+                    }
+                } catch (Exception e) {
+                    isFullyLoaded = false;
+                    UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE,
+                            "saveMt.txt line " + reader.getLineNumber() + " failed to load: " + e);
+                    LoggerCentre.writeStackTraceToLog(e);
+                }
+            }
+        }
+        return isFullyLoaded;
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.financeit.common;
+
+import org.junit.jupiter.api.Test;
+import seedu.financeit.common.exceptions.IncompatibleParamsException;
+import seedu.financeit.common.exceptions.InsufficientParamsException;
+import seedu.financeit.parser.InputParser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ListWindowHandlerTest {
+    private static final int LIST_SIZE = 45;
+
+    private static ListWindowHandler handle(String input, boolean isDateRangeAllowed) throws Exception {
+        ListWindowHandler handler = ListWindowHandler.getInstance();
+        handler.handlePacket(InputParser.getInstance().parseInput(input), LIST_SIZE, isDateRangeAllowed);
+        return handler;
+    }
+
+    private static void assertWindow(int fromIndex, int toIndex, String input) throws Exception {
+        ListWindowHandler handler = handle(input, false);
+        assertEquals(fromIndex, handler.getFromIndex());
+        assertEquals(toIndex, handler.getToIndex());
+    }
+
+    @Test
+    public void handlePacket_windowParams_windowComputed() throws Exception {
+        assertWindow(0, LIST_SIZE, "list");
+        assertWindow(0, 20, "list /page 1");
+        assertWindow(40, LIST_SIZE, "list /page 3");
+        assertWindow(10, 20, "list /page 2 /size 10");
+        assertWindow(0, 5, "list /size 5");
+        assertWindow(0, 3, "list /head 3");
+        assertWindow(0, LIST_SIZE, "list /head 100");
+        assertWindow(42, LIST_SIZE, "list /tail 3");
+    }
+
+    @Test
+    public void handlePacket_invalidWindowParams_exceptionThrown() {
+        assertThrows(InsufficientParamsException.class, () -> handle("list /page 4", false));
+        assertThrows(InsufficientParamsException.class, () -> handle("list /size 0", false));
+        assertThrows(InsufficientParamsException.class, () -> handle("list /from 200101", false));
+        assertThrows(IncompatibleParamsException.class, () -> handle("list /head 1 /page 2", false));
+        assertThrows(IncompatibleParamsException.class, () -> handle("list /tail 1 /to 200101", true));
+    }
+}
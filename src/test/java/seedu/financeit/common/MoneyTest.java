@@ -0,0 +1,35 @@
+package seedu.financeit.common;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MoneyTest {
+    @Test
+    public void toString_variousAmounts_formattedLikeTwoDecimalPlaces() {
+        assertEquals("0.00", Money.ZERO.toString());
+        assertEquals("0.05", Money.ofCents(5).toString());
+        assertEquals("3490.34", Money.parse("3490.34").toString());
+        assertEquals("-12.50", Money.ofCents(-1250).toString());
+        assertEquals(String.format("%.2f", 1999.99), Money.of(1999.99).toString());
+    }
+
+    @Test
+    public void add_manySmallAmounts_sumIsExact() {
+        Money total = Money.ZERO;
+        for (int i = 0; i < 1000; i++) {
+            total = total.add(Money.parse("0.10"));
+        }
+        assertEquals(Money.parse("100"), total);
+        assertTrue(total.subtract(Money.parse("100.01")).isNegative());
+    }
+
+    @Test
+    public void parse_moreThanTwoDecimalPlaces_exceptionThrown() {
+        assertEquals(Money.parse("2.5"), Money.parse("2.500"));
+        assertThrows(NumberFormatException.class, () -> Money.parse("2.505"));
+        assertThrows(NumberFormatException.class, () -> Money.parse("NaN"));
+    }
+}
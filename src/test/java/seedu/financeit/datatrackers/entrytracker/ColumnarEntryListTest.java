@@ -0,0 +1,159 @@
+package seedu.financeit.datatrackers.entrytracker;
+
+import org.junit.jupiter.api.Test;
+import seedu.financeit.common.Common;
+import seedu.financeit.common.Money;
+import seedu.financeit.datatrackers.manualtracker.Ledger;
+import seedu.financeit.datatrackers.manualtracker.MonthlyTotals;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ColumnarEntryListTest {
+    private static final int NUM_ENTRIES = 10;
+
+    private static Entry generateEntry(int seed) {
+        Entry entry = new Entry();
+        entry.setEntryType((seed % 2 == 0) ? Common.EntryType.EXP : Common.EntryType.INC);
+        entry.setCategory((seed % 2 == 0) ? "fd" : "slr");
+        entry.setAmount(Money.ofCents(seed * 100 + 25));
+        entry.setTime(LocalTime.of(seed, seed));
+        entry.setDescription("entry " + seed);
+        return entry;
+    }
+
+    private static ColumnarEntryList generateEntryList() {
+        Ledger ledger = new Ledger();
+        ledger.setDate(LocalDate.of(2020, 1, 1));
+        ColumnarEntryList entryList = new ColumnarEntryList(ledger);
+        for (int i = 0; i < NUM_ENTRIES; i++) {
+            entryList.addItem(generateEntry(i));
+        }
+        return entryList;
+    }
+
+    @Test
+    public void getItemAtIndex_addedEntries_viewsEqualToAddedEntries() {
+        ColumnarEntryList entryList = generateEntryList();
+        assertEquals(NUM_ENTRIES, entryList.getListSize());
+        for (int i = 0; i < NUM_ENTRIES; i++) {
+            Entry entry = (Entry) entryList.getItemAtIndex(i);
+            assertEquals(generateEntry(i), entry);
+            assertEquals(generateEntry(i).toString(), entry.toString());
+            assertEquals(generateEntry(i).toString(), entryList.getEntryString(i));
+            assertEquals(i, entry.getIndex());
+        }
+    }
+
+    @Test
+    public void removeItemAtIndex_entryRemoved_laterEntriesShifted() {
+        ColumnarEntryList entryList = generateEntryList();
+        assertTrue(entryList.isItemDuplicate(generateEntry(4)));
+
+        assertEquals(generateEntry(4), entryList.removeItemAtIndex(4));
+        assertFalse(entryList.isItemDuplicate(generateEntry(4)));
+        assertEquals(4, entryList.findIndexOfItem(generateEntry(5)));
+        assertEquals(NUM_ENTRIES - 1, entryList.getItems().size());
+
+        entryList.removeAllItems();
+        assertEquals(0, entryList.getListSize());
+        assertFalse(entryList.isItemDuplicate(generateEntry(5)));
+    }
+
+    @Test
+    public void addItemAtIndex_removedEntryPutBack_sameOrderAsBefore() {
+        ColumnarEntryList entryList = generateEntryList();
+
+        Entry entry = (Entry) entryList.removeItemAtIndex(4);
+        entryList.addItemAtIndex(4, entry);
+        assertEquals(NUM_ENTRIES, entryList.getListSize());
+        for (int i = 0; i < NUM_ENTRIES; i++) {
+            assertEquals(generateEntry(i), entryList.getItemAtIndex(i));
+            assertEquals(i, entryList.findIndexOfItem(generateEntry(i)));
+        }
+    }
+
+    private static Entry generateBulkEntry(int seed) {
+        Entry entry = generateEntry(seed % NUM_ENTRIES);
+        entry.setDescription("bulk entry " + seed);
+        return entry;
+    }
+
+    @Test
+    public void findIndexOfItem_entriesRemovedAndAddedBeforeLookup_shiftedEntriesFound() {
+        ColumnarEntryList entryList = generateEntryList();
+        for (int i = 0; i < 1000; i++) {
+            entryList.addItem(generateBulkEntry(i));
+        }
+
+        for (int i = 0; i < NUM_ENTRIES; i++) {
+            entryList.removeItemAtIndex(0);
+        }
+        entryList.addItem(generateEntry(0));
+        entryList.addItemAtIndex(1, generateEntry(1));
+        assertEquals(1000, entryList.findIndexOfItem(generateBulkEntry(999)));
+        assertEquals(1001, entryList.findIndexOfItem(generateEntry(0)));
+        assertEquals(1, entryList.findIndexOfItem(generateEntry(1)));
+        assertEquals(2, entryList.findIndexOfItem(generateBulkEntry(1)));
+        assertFalse(entryList.isItemDuplicate(generateEntry(2)));
+    }
+
+    @Test
+    public void findIndexOfItem_manyEntriesWithEqualOnes_firstEqualEntryFound() {
+        ColumnarEntryList entryList = generateEntryList();
+        for (int i = 0; i < 1000; i++) {
+            entryList.addItem(generateEntry(i % NUM_ENTRIES));
+        }
+
+        assertEquals(3, entryList.findIndexOfItem(generateEntry(3)));
+        entryList.removeItemAtIndex(3);
+        assertEquals(NUM_ENTRIES + 2, entryList.findIndexOfItem(generateEntry(3)));
+        Entry otherTime = generateEntry(3);
+        otherTime.setTime(LocalTime.of(3, 4));
+        assertFalse(entryList.isItemDuplicate(otherTime));
+    }
+
+    @Test
+    public void addItem_timeWithSeconds_storedToTheMinute() {
+        ColumnarEntryList entryList = generateEntryList();
+        Entry entry = generateEntry(NUM_ENTRIES);
+        entry.setTime(LocalTime.of(15, 30, 45));
+        entryList.addItem(entry);
+
+        Entry view = (Entry) entryList.getItemAtIndex(NUM_ENTRIES);
+        assertEquals(LocalTime.of(15, 30), view.getTime());
+        assertEquals(entry.toString(), view.toString());
+        assertEquals(NUM_ENTRIES, entryList.findIndexOfItem(entry));
+    }
+
+    @Test
+    public void getEntryString_entryWithoutTime_timeLeftEmpty() {
+        ColumnarEntryList entryList = generateEntryList();
+        Entry entry = generateEntry(NUM_ENTRIES);
+        entry.setTime(null);
+        entryList.addItem(entry);
+
+        assertEquals("Expense;FOOD;$10.25;;entry 10", entryList.getEntryString(NUM_ENTRIES));
+    }
+
+    @Test
+    public void attachMonthlyTotals_entriesAddedAndRemoved_totalsUpdated() {
+        ColumnarEntryList entryList = generateEntryList();
+        MonthlyTotals monthlyTotals = new MonthlyTotals();
+        entryList.attachMonthlyTotals(monthlyTotals);
+        YearMonth yearMonth = YearMonth.of(2020, 1);
+        assertEquals(Money.parse("21.25"), monthlyTotals.getTotal(yearMonth, Common.EntryType.EXP));
+        assertEquals(Money.parse("26.25"), monthlyTotals.getTotal(yearMonth, Common.EntryType.INC, "SALARY"));
+
+        entryList.removeItemAtIndex(0);
+        assertEquals(Money.parse("21.00"), monthlyTotals.getTotal(yearMonth, Common.EntryType.EXP));
+
+        entryList.detachMonthlyTotals();
+        assertEquals(Money.parse("0"), monthlyTotals.getTotal(yearMonth, Common.EntryType.INC));
+    }
+}
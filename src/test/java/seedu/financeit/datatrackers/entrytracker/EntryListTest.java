@@ -0,0 +1,70 @@
+package seedu.financeit.datatrackers.entrytracker;
+
+import org.junit.jupiter.api.Test;
+import seedu.financeit.common.Common;
+import seedu.financeit.common.Money;
+import seedu.financeit.datatrackers.manualtracker.Ledger;
+
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EntryListTest {
+    private static final int NUM_ENTRIES = 10;
+
+    private static Entry generateEntry(int seed) {
+        Entry entry = new Entry();
+        entry.setEntryType(Common.EntryType.EXP);
+        entry.setCategory("fd");
+        entry.setAmount(Money.ofCents(seed * 100 + 50));
+        entry.setTime(LocalTime.of(seed, 0));
+        entry.setDescription("meal " + seed);
+        return entry;
+    }
+
+    private static EntryList generateEntryList() {
+        EntryList entryList = new EntryList(new Ledger());
+        for (int i = 0; i < NUM_ENTRIES; i++) {
+            entryList.addItem(generateEntry(i));
+        }
+        return entryList;
+    }
+
+    @Test
+    public void hashCode_equalEntries_sameHashCode() {
+        assertEquals(generateEntry(3), generateEntry(3));
+        assertEquals(generateEntry(3).hashCode(), generateEntry(3).hashCode());
+        assertEquals(generateEntry(3).hashCode(), new Entry(generateEntry(3)).hashCode());
+    }
+
+    @Test
+    public void isItemDuplicate_afterRemoval_reflectsCurrentItems() {
+        EntryList entryList = generateEntryList();
+        assertTrue(entryList.isItemDuplicate(generateEntry(4)));
+
+        entryList.removeItemAtIndex(4);
+        assertFalse(entryList.isItemDuplicate(generateEntry(4)));
+        assertTrue(entryList.isItemDuplicate(generateEntry(5)));
+
+        entryList.removeAllItems();
+        assertFalse(entryList.isItemDuplicate(generateEntry(5)));
+    }
+
+    @Test
+    public void findIndexOfItem_afterPopAndAdd_returnsCurrentPosition() throws Exception {
+        EntryList entryList = generateEntryList();
+        entryList.setIndexToModify(2, "/id");
+        Entry entry = (Entry) entryList.popItemAtCurrIndex();
+        entry.setDescription("edited meal");
+        entryList.addItem(entry);
+
+        assertEquals(-1, entryList.findIndexOfItem(generateEntry(2)));
+        assertEquals(NUM_ENTRIES - 1, entryList.findIndexOfItem(entry));
+        assertEquals(2, entryList.findIndexOfItem(generateEntry(3)));
+        for (int i = 0; i < entryList.getListSize(); i++) {
+            assertEquals(i, entryList.findIndexOfItem(entryList.getItemAtIndex(i)));
+        }
+    }
+}
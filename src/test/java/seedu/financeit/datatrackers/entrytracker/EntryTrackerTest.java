@@ -2,8 +2,23 @@ package seedu.financeit.datatrackers.entrytracker;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import seedu.financeit.common.CommandPacket;
+import seedu.financeit.data.Item;
+import seedu.financeit.datatrackers.manualtracker.Ledger;
+import seedu.financeit.datatrackers.manualtracker.ManualTracker;
 import seedu.financeit.datatrackers.manualtracker.TypicalLedgerEntries;
+import seedu.financeit.testutil.TestUtil;
+import seedu.financeit.utils.storage.ManualTrackerSaver;
+import seedu.financeit.utils.storage.PersistenceManager;
+import seedu.financeit.utils.storage.SaveHandlerTestUtil;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.financeit.datatrackers.entrytracker.TestCommands.generateCreateEntryCorrectCommand;
@@ -11,11 +26,16 @@ import static seedu.financeit.datatrackers.entrytracker.TestCommands.generateCre
 import static seedu.financeit.datatrackers.entrytracker.TestCommands.generateDeleteEntryByIdCorrectCommand;
 import static seedu.financeit.datatrackers.entrytracker.TestCommands.generateDeleteEntryByIdErrorCommand;
 import static seedu.financeit.datatrackers.entrytracker.TestCommands.generateEditEntryCorrectCommand;
+import static seedu.financeit.utils.ParamChecker.PARAM_INC;
+import static seedu.financeit.utils.ParamChecker.PARAM_INDEX;
 
 public class EntryTrackerTest {
     private static final int FREQUENCY_ERROR_ENTRY = 3;
     private static final int NUM_ENTRIES = 50;
 
+    @TempDir
+    Path tempDir;
+
     /**
      * Function sets up the "opened" ledger whereby entry operations will be performed upon.
      */
@@ -123,4 +143,56 @@ public class EntryTrackerTest {
         assertEquals(2, EntryTracker.entryList.getListSize());
         EntryTracker.entryList.removeAllItems();
     }
+
+    /**
+     * Test handleEditEntry that evaluates if a failed edit leaves the entries in the order that
+     * the journal replays, so that later journal records refer to the same entries.
+     */
+    @Test
+    public void testEntryTrackerByFailedEditThenDelete() throws IOException {
+        Path snapshot = tempDir.resolve("saveMt.txt");
+        Files.write(snapshot, Arrays.asList(
+            "Ledger;2020-01-01",
+            "Entry;Expense;TRANSPORT;$15.00;11:51;bus",
+            "Entry;Expense;FOOD;$5.50;12:30;lunch",
+            "Entry;Expense;SHOPPING;$20.00;18:00;shirt"));
+        ManualTrackerSaver saver = ManualTrackerSaver.getInstance();
+        ManualTrackerSaver.clear();
+        saver.load(tempDir.toString(), snapshot.toString());
+        String[] previousPaths = SaveHandlerTestUtil.setDefaultPaths(saver, tempDir.toString(), snapshot.toString());
+        List<String> expectedEntries;
+        try {
+            Ledger ledger = (Ledger) ManualTracker.getLedgerList().getItemAtIndex(0);
+            EntryTracker.setCurrLedger(ledger);
+
+            // An expense cannot take an income type, so the edit fails after the entry is taken out.
+            EntryTracker.setTestPacket(TestUtil.createCommandPacket("edit",
+                new String[][] {{PARAM_INDEX, "1"}, {PARAM_INC, ""}}));
+            EntryTracker.handleEditEntry();
+            EntryTracker.setTestPacket(TestUtil.createCommandPacket("delete",
+                new String[][] {{PARAM_INDEX, "2"}}));
+            EntryTracker.handleDeleteEntry();
+            expectedEntries = getEntryStrings(ledger);
+            PersistenceManager.getInstance().flush();
+        } finally {
+            SaveHandlerTestUtil.setDefaultPaths(saver, previousPaths[0], previousPaths[1]);
+        }
+
+        ManualTrackerSaver.clear();
+        saver.load(tempDir.toString(), snapshot.toString());
+        Ledger replayedLedger = (Ledger) ManualTracker.getLedgerList().getItemAtIndex(0);
+
+        assertEquals(Arrays.asList("Expense;TRANSPORT;$15.00;11:51;bus", "Expense;SHOPPING;$20.00;18:00;shirt"),
+            expectedEntries);
+        assertEquals(expectedEntries, getEntryStrings(replayedLedger));
+        ManualTrackerSaver.clear();
+    }
+
+    private static List<String> getEntryStrings(Ledger ledger) {
+        List<String> entryStrings = new ArrayList<>();
+        for (Item entry : ledger.entryList.getItems()) {
+            entryStrings.add(entry.toString());
+        }
+        return entryStrings;
+    }
 }
@@ -0,0 +1,24 @@
+package seedu.financeit.datatrackers.entrytracker;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class StringTableTest {
+    @Test
+    public void release_eachAcquireReleased_stringRemovedAndIdReused() {
+        StringTable table = new StringTable();
+        int id = table.acquire("lunch");
+        assertEquals(id, table.acquire("lunch"));
+        int otherId = table.acquire("dinner");
+
+        table.release(id);
+        assertEquals(id, table.findId("lunch"));
+        table.release(id);
+        assertEquals(-1, table.findId("lunch"));
+        assertEquals(otherId, table.findId("dinner"));
+
+        assertEquals(id, table.acquire("supper"));
+        assertEquals("supper", table.getString(id));
+    }
+}
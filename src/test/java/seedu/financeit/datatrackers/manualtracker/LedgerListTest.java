@@ -0,0 +1,268 @@
+package seedu.financeit.datatrackers.manualtracker;
+
+import org.junit.jupiter.api.Test;
+import seedu.financeit.common.Common;
+import seedu.financeit.common.Money;
+import seedu.financeit.common.exceptions.ItemNotFoundException;
+import seedu.financeit.datatrackers.entrytracker.Entry;
+import seedu.financeit.datatrackers.entrytracker.EntrySummary;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LedgerListTest {
+    private static final LocalDate START_DATE = LocalDate.parse("2020-01-01");
+    private static final int NUM_LEDGERS = 20;
+
+    private static LedgerList generateLedgerList() {
+        LedgerList ledgerList = new LedgerList();
+        // Added out of date order, so that positions and dates do not line up.
+        for (int i = NUM_LEDGERS - 1; i >= 0; i--) {
+            Ledger ledger = new Ledger();
+            ledger.setDate(START_DATE.plusDays(i * 7));
+            ledgerList.addItem(ledger);
+        }
+        return ledgerList;
+    }
+
+    @Test
+    public void getIndexFromDate_afterRemoval_returnsCurrentPosition() throws ItemNotFoundException {
+        LedgerList ledgerList = generateLedgerList();
+        ledgerList.removeItemAtIndex(3);
+
+        for (int i = 0; i < ledgerList.getListSize(); i++) {
+            Ledger ledger = (Ledger) ledgerList.getItemAtIndex(i);
+            assertEquals(i, ledgerList.getIndexFromDate(ledger.getDate()));
+        }
+        LocalDate removedDate = START_DATE.plusDays((NUM_LEDGERS - 4) * 7);
+        assertThrows(ItemNotFoundException.class, () -> ledgerList.getIndexFromDate(removedDate));
+    }
+
+    @Test
+    public void isItemDuplicate_sameDate_returnsTrue() {
+        LedgerList ledgerList = generateLedgerList();
+        Ledger ledger = new Ledger();
+        ledger.setDate(START_DATE.plusDays(14));
+        assertTrue(ledgerList.isItemDuplicate(ledger));
+        ledger.setDate(START_DATE.plusDays(15));
+        assertFalse(ledgerList.isItemDuplicate(ledger));
+    }
+
+    @Test
+    public void getLedgersBetween_dateRange_returnsLedgersInDateOrder() {
+        LedgerList ledgerList = generateLedgerList();
+
+        List<LocalDate> dates = new ArrayList<>();
+        for (Ledger ledger : ledgerList.getLedgersBetween(START_DATE.plusDays(10), START_DATE.plusDays(35))) {
+            dates.add(ledger.getDate());
+        }
+
+        List<LocalDate> expected = new ArrayList<>();
+        for (int i = 2; i <= 5; i++) {
+            expected.add(START_DATE.plusDays(i * 7));
+        }
+        assertEquals(expected, dates);
+        assertTrue(ledgerList.getLedgersBetween(START_DATE.plusDays(1), START_DATE).isEmpty());
+    }
+
+    private static Entry generateEntry(Common.EntryType entryType, String category, String amount) {
+        Entry entry = new Entry();
+        entry.setEntryType(entryType);
+        entry.setCategory(category);
+        entry.setAmount(Money.parse(amount));
+        entry.setTime(LocalTime.NOON);
+        entry.setDescription(category + amount);
+        return entry;
+    }
+
+    @Test
+    public void getMonthlyTotals_entriesAddedAndRemoved_totalsUpdated() {
+        LedgerList ledgerList = new LedgerList();
+        Ledger ledger = new Ledger();
+        ledger.setDate(LocalDate.parse("2020-03-15"));
+        // Entries added before the ledger is in the list are counted once it is added.
+        ledger.entryList.addItem(generateEntry(Common.EntryType.EXP, "fd", "10.25"));
+        ledgerList.addItem(ledger);
+        ledger.entryList.addItem(generateEntry(Common.EntryType.EXP, "tpt", "2.50"));
+        ledger.entryList.addItem(generateEntry(Common.EntryType.INC, "slr", "3000"));
+
+        Ledger nextYearLedger = new Ledger();
+        nextYearLedger.setDate(LocalDate.parse("2021-03-01"));
+        nextYearLedger.entryList.addItem(generateEntry(Common.EntryType.EXP, "fd", "4.00"));
+        ledgerList.addItem(nextYearLedger);
+
+        MonthlyTotals monthlyTotals = ledgerList.getMonthlyTotals();
+        assertEquals(Money.parse("16.75"), monthlyTotals.getTotal(Month.MARCH, Common.EntryType.EXP));
+        assertEquals(Money.parse("12.75"), monthlyTotals.getTotal(YearMonth.of(2020, 3), Common.EntryType.EXP));
+        assertEquals(Money.parse("10.25"), monthlyTotals.getTotal(YearMonth.of(2020, 3), Common.EntryType.EXP, "FOOD"));
+        assertEquals(Money.parse("3000"), monthlyTotals.getTotal(Month.MARCH, Common.EntryType.INC));
+
+        ledger.entryList.removeItemAtIndex(0);
+        assertEquals(Money.parse("6.50"), monthlyTotals.getTotal(Month.MARCH, Common.EntryType.EXP));
+
+        ledgerList.removeItemAtIndex(nextYearLedger.getIndex());
+        assertEquals(Money.parse("2.50"), monthlyTotals.getTotal(Month.MARCH, Common.EntryType.EXP));
+        assertEquals(Money.parse("0"), monthlyTotals.getTotal(YearMonth.of(2021, 3), Common.EntryType.EXP));
+
+        ledgerList.removeAllItems();
+        assertEquals(Money.parse("0"), monthlyTotals.getTotal(Month.MARCH, Common.EntryType.INC));
+    }
+
+    @Test
+    public void isDirty_ledgersAndEntriesChanged_dirtyUntilMarkedClean() {
+        LedgerList ledgerList = generateLedgerList();
+        assertTrue(ledgerList.isDirty());
+        ledgerList.markClean();
+        assertFalse(ledgerList.isDirty());
+
+        Ledger ledger = (Ledger) ledgerList.getItemAtIndex(5);
+        ledger.entryList.addItem(generateEntry(Common.EntryType.EXP, "fd", "1.00"));
+        assertTrue(ledger.isDirty());
+        assertFalse(((Ledger) ledgerList.getItemAtIndex(6)).isDirty());
+        assertTrue(ledgerList.isDirty());
+        ledgerList.markClean();
+        assertFalse(ledger.isDirty());
+
+        ledgerList.removeItemAtIndex(0);
+        assertTrue(ledgerList.isDirty());
+    }
+
+    @Test
+    public void setDeferredEntries_firstAccess_entriesLoadedAndTotalsReplaced() {
+        LedgerList ledgerList = new LedgerList();
+        Ledger ledger = new Ledger();
+        ledger.setDate(LocalDate.parse("2020-03-15"));
+        int[] loadCount = {0};
+        ledger.entryList.setDeferredEntries(EntrySummary.parse(2, "EXP:FOOD:1025,INC:SALARY:300000"), () -> {
+            loadCount[0]++;
+            ledger.entryList.addItem(generateEntry(Common.EntryType.EXP, "fd", "10.25"));
+            ledger.entryList.addItem(generateEntry(Common.EntryType.INC, "slr", "3000"));
+            return true;
+        });
+        ledgerList.addItem(ledger);
+        ledgerList.markClean();
+
+        // The summary stands in for the entries until they are accessed.
+        MonthlyTotals monthlyTotals = ledgerList.getMonthlyTotals();
+        assertEquals(2, ledger.entryList.getListSize());
+        assertEquals(Money.parse("10.25"), monthlyTotals.getTotal(Month.MARCH, Common.EntryType.EXP));
+        assertFalse(ledger.entryList.isLoaded());
+
+        assertEquals("Income;SALARY;$3000.00;12:00;slr3000", ledger.entryList.getItemAtIndex(1).toString());
+        assertTrue(ledger.entryList.isLoaded());
+        assertFalse(ledgerList.isDirty());
+        assertEquals(Money.parse("10.25"), monthlyTotals.getTotal(Month.MARCH, Common.EntryType.EXP));
+        assertEquals(Money.parse("3000"),
+            monthlyTotals.getTotal(YearMonth.of(2020, 3), Common.EntryType.INC, "SALARY"));
+
+        ledger.entryList.removeItemAtIndex(0);
+        assertEquals(1, loadCount[0]);
+        assertEquals(Money.parse("0"), monthlyTotals.getTotal(Month.MARCH, Common.EntryType.EXP));
+    }
+
+    /**
+     * Returns an archive holding one ledger of the given date, with an expense of $7.00.
+     */
+    private static LedgerArchive generateArchive(LocalDate archivedDate) {
+        EntrySummary archivedSummary = EntrySummary.parse(1, "EXP:FOOD:700");
+        return new LedgerArchive() {
+            private boolean isArchived = true;
+
+            @Override
+            public boolean contains(LocalDate date) {
+                return this.isArchived && date.equals(archivedDate);
+            }
+
+            @Override
+            public List<LocalDate> getDatesBetween(LocalDate startDate, LocalDate endDate) {
+                ArrayList<LocalDate> dates = new ArrayList<>();
+                if (this.isArchived && !archivedDate.isBefore(startDate) && !archivedDate.isAfter(endDate)) {
+                    dates.add(archivedDate);
+                }
+                return dates;
+            }
+
+            @Override
+            public List<Ledger> restoreBetween(LocalDate startDate, LocalDate endDate, MonthlyTotals monthlyTotals) {
+                ArrayList<Ledger> restored = new ArrayList<>();
+                if (this.isArchived && !archivedDate.isBefore(startDate) && !archivedDate.isAfter(endDate)) {
+                    this.discard(archivedDate, monthlyTotals);
+                    Ledger ledger = new Ledger();
+                    ledger.setDate(archivedDate);
+                    ledger.entryList.addItem(generateEntry(Common.EntryType.EXP, "fd", "7.00"));
+                    restored.add(ledger);
+                }
+                return restored;
+            }
+
+            @Override
+            public void discard(LocalDate date, MonthlyTotals monthlyTotals) {
+                if (this.contains(date)) {
+                    archivedSummary.applyTo(monthlyTotals, date, false);
+                    this.isArchived = false;
+                }
+            }
+
+            @Override
+            public void addTotalsTo(MonthlyTotals monthlyTotals) {
+                if (this.isArchived) {
+                    archivedSummary.applyTo(monthlyTotals, archivedDate, true);
+                }
+            }
+        };
+    }
+
+    @Test
+    public void setArchive_archivedLedgerLookedUp_ledgerRestoredAndTotalsKept() throws ItemNotFoundException {
+        LocalDate archivedDate = LocalDate.parse("2019-12-25");
+        LedgerArchive archive = generateArchive(archivedDate);
+        LedgerList ledgerList = generateLedgerList();
+        ledgerList.setArchive(archive);
+
+        // The archived ledger is not in the list, but its entries count towards the totals.
+        MonthlyTotals monthlyTotals = ledgerList.getMonthlyTotals();
+        assertTrue(ledgerList.isArchived(archivedDate));
+        assertEquals(NUM_LEDGERS, ledgerList.getListSize());
+        assertEquals(Money.parse("7"), monthlyTotals.getTotal(Month.DECEMBER, Common.EntryType.EXP));
+        assertTrue(ledgerList.getListedLedgersBetween(archivedDate, archivedDate).isEmpty());
+
+        Ledger ledger = ledgerList.getLedgerFromDate(archivedDate);
+        assertEquals(archivedDate, ledger.getDate());
+        assertFalse(ledgerList.isArchived(archivedDate));
+        assertEquals(NUM_LEDGERS + 1, ledgerList.getListSize());
+        assertEquals(Money.parse("7"), monthlyTotals.getTotal(Month.DECEMBER, Common.EntryType.EXP));
+    }
+
+    @Test
+    public void printLedgersBetween_archivedLedgerInRange_listedWithoutRestoring() {
+        LocalDate archivedDate = LocalDate.parse("2019-12-25");
+        LedgerList ledgerList = generateLedgerList();
+        ledgerList.setArchive(generateArchive(archivedDate));
+
+        PrintStream previousOut = System.out;
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(output));
+        try {
+            ledgerList.printLedgersBetween(LocalDate.MIN, START_DATE);
+        } finally {
+            System.setOut(previousOut);
+        }
+
+        assertTrue(output.toString().contains(archivedDate.toString()));
+        assertTrue(output.toString().contains(START_DATE.toString()));
+        assertTrue(ledgerList.isArchived(archivedDate));
+        assertEquals(NUM_LEDGERS, ledgerList.getListSize());
+        assertEquals(Money.parse("7"), ledgerList.getMonthlyTotals().getTotal(Month.DECEMBER, Common.EntryType.EXP));
+    }
+}
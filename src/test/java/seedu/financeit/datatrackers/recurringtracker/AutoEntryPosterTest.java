@@ -0,0 +1,101 @@
+package seedu.financeit.datatrackers.recurringtracker;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.financeit.common.Common;
+import seedu.financeit.common.Money;
+import seedu.financeit.common.exceptions.ItemNotFoundException;
+import seedu.financeit.datatrackers.manualtracker.Ledger;
+import seedu.financeit.datatrackers.manualtracker.ManualTracker;
+import seedu.financeit.utils.storage.ManualTrackerSaver;
+import seedu.financeit.utils.storage.SaveHandlerTestUtil;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AutoEntryPosterTest {
+    @TempDir
+    Path tempDir;
+
+    private static RecurringEntry addEntry(int day, boolean isAuto) {
+        RecurringEntry entry = new RecurringEntry();
+        entry.setDay(day);
+        entry.setDescription((isAuto ? "auto " : "manual ") + day);
+        entry.setEntryType(Common.EntryType.EXP);
+        entry.setAmount(Money.parse("10"));
+        entry.setAuto(isAuto);
+        RecurringTracker.getEntries().addItem(entry);
+        return entry;
+    }
+
+    @AfterEach
+    public void removeEntries() {
+        RecurringTracker.getEntries().removeAllItems();
+    }
+
+    @Test
+    public void getOccurrencesToPost_monthsSinceLastRun_autoEntriesAfterLastRunDayOnly() {
+        RecurringTracker.getEntries().removeAllItems();
+        RecurringEntry autoFirst = addEntry(1, true);
+        addEntry(2, false);
+        RecurringEntry autoFifteenth = addEntry(15, true);
+
+        List<OccurrenceIterator.Occurrence> occurrences = AutoEntryPoster.getOccurrencesToPost(
+            LocalDate.of(2020, 1, 15), LocalDate.of(2020, 3, 15));
+
+        assertEquals(4, occurrences.size());
+        assertEquals(LocalDate.of(2020, 2, 1), occurrences.get(0).getDate());
+        assertSame(autoFirst, occurrences.get(0).getEntry());
+        assertEquals(LocalDate.of(2020, 3, 15), occurrences.get(3).getDate());
+        assertSame(autoFifteenth, occurrences.get(3).getEntry());
+        for (OccurrenceIterator.Occurrence occurrence : occurrences) {
+            assertTrue(occurrence.getEntry().isAuto());
+        }
+    }
+
+    @Test
+    public void getOccurrencesToPost_lastRunToday_noOccurrences() {
+        RecurringTracker.getEntries().removeAllItems();
+        addEntry(15, true);
+
+        assertEquals(0, AutoEntryPoster.getOccurrencesToPost(LocalDate.of(2020, 3, 15),
+            LocalDate.of(2020, 3, 15)).size());
+    }
+
+    @Test
+    public void post_identicalEntriesDueOnSameDay_eachPostedOnceAcrossRuns() throws IOException, ItemNotFoundException {
+        RecurringTracker.getEntries().removeAllItems();
+        addEntry(15, true);
+        addEntry(15, true);
+        ManualTrackerSaver saver = ManualTrackerSaver.getInstance();
+        ManualTrackerSaver.clear();
+        String[] previousPaths = SaveHandlerTestUtil.setDefaultPaths(saver, tempDir.toString(),
+            tempDir.resolve("saveMt.txt").toString());
+        try {
+            List<OccurrenceIterator.Occurrence> occurrences = AutoEntryPoster.getOccurrencesToPost(
+                LocalDate.of(2020, 3, 1), LocalDate.of(2020, 3, 31));
+            assertEquals(2, occurrences.size());
+
+            assertEquals(2, AutoEntryPoster.post(occurrences));
+            // A run that did not record its last run posts the same occurrences again.
+            assertEquals(0, AutoEntryPoster.post(occurrences));
+            ManualTrackerSaver.clear();
+            saver.load();
+            assertEquals(0, AutoEntryPoster.post(occurrences));
+
+            Ledger ledger = ManualTracker.getLedgerList().getLedgerFromDate(LocalDate.of(2020, 3, 15));
+            assertEquals(2, ledger.entryList.getListSize());
+            assertEquals(ledger.entryList.getItemAtIndex(0), ledger.entryList.getItemAtIndex(1));
+        } finally {
+            SaveHandlerTestUtil.setDefaultPaths(saver, previousPaths[0], previousPaths[1]);
+            ManualTrackerSaver.clear();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package seedu.financeit.datatrackers.recurringtracker;
+
+import org.junit.jupiter.api.Test;
+import seedu.financeit.common.Common;
+import seedu.financeit.common.Money;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OccurrenceIteratorTest {
+    private static RecurringEntry createEntry(int day, Common.EntryType entryType, String amount) {
+        RecurringEntry entry = new RecurringEntry();
+        entry.setDay(day);
+        entry.setDescription("day " + day);
+        entry.setEntryType(entryType);
+        entry.setAmount(Money.parse(amount));
+        return entry;
+    }
+
+    private static List<LocalDate> getDates(OccurrenceIterator occurrences) {
+        ArrayList<LocalDate> dates = new ArrayList<>();
+        while (occurrences.hasNext()) {
+            dates.add(occurrences.next().getDate());
+        }
+        return dates;
+    }
+
+    @Test
+    public void next_dayMissingFromShortMonths_shortMonthsSkipped() {
+        RecurringEntryList entries = new RecurringEntryList();
+        entries.addItem(createEntry(31, Common.EntryType.EXP, "1"));
+
+        List<LocalDate> dates = getDates(new OccurrenceIterator(entries,
+            LocalDate.of(2019, 12, 31), LocalDate.of(2020, 6, 1)));
+
+        assertEquals(List.of(LocalDate.of(2019, 12, 31), LocalDate.of(2020, 1, 31), LocalDate.of(2020, 3, 31),
+            LocalDate.of(2020, 5, 31)), dates);
+    }
+
+    @Test
+    public void next_29thOfMonth_februaryOfLeapYearsOnly() {
+        RecurringEntryList entries = new RecurringEntryList();
+        entries.addItem(createEntry(29, Common.EntryType.EXP, "1"));
+
+        List<LocalDate> dates = getDates(new OccurrenceIterator(entries,
+            LocalDate.of(2020, 2, 1), LocalDate.of(2021, 4, 1)));
+
+        assertTrue(dates.contains(LocalDate.of(2020, 2, 29)));
+        assertFalse(dates.stream().anyMatch(date -> date.getYear() == 2021 && date.getMonthValue() == 2));
+        assertEquals(13, dates.size());
+    }
+
+    @Test
+    public void next_severalEntriesWithNoEnd_occurrencesInOrderOfDateThenList() {
+        RecurringEntryList entries = new RecurringEntryList();
+        RecurringEntry fifth = createEntry(5, Common.EntryType.EXP, "1");
+        RecurringEntry alsoFifth = createEntry(5, Common.EntryType.INC, "2");
+        RecurringEntry thirtieth = createEntry(30, Common.EntryType.EXP, "3");
+        entries.addItem(thirtieth);
+        entries.addItem(fifth);
+        entries.addItem(alsoFifth);
+
+        OccurrenceIterator occurrences = new OccurrenceIterator(entries, LocalDate.of(2020, 1, 10), null);
+        ArrayList<OccurrenceIterator.Occurrence> firstHundred = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            firstHundred.add(occurrences.next());
+        }
+
+        assertTrue(occurrences.hasNext());
+        assertSame(thirtieth, firstHundred.get(0).getEntry());
+        assertEquals(LocalDate.of(2020, 1, 30), firstHundred.get(0).getDate());
+        assertSame(fifth, firstHundred.get(1).getEntry());
+        assertSame(alsoFifth, firstHundred.get(2).getEntry());
+        assertEquals(LocalDate.of(2020, 2, 5), firstHundred.get(2).getDate());
+        // February has no 30th, so the next occurrence after the 5th of February is the 5th of March.
+        assertEquals(LocalDate.of(2020, 3, 5), firstHundred.get(3).getDate());
+        for (int i = 1; i < firstHundred.size(); i++) {
+            assertTrue(firstHundred.get(i - 1).compareTo(firstHundred.get(i)) < 0);
+        }
+    }
+
+    @Test
+    public void next_entriesWithAndWithoutRule_occurrencesMergedInOrderOfDate() {
+        RecurringEntryList entries = new RecurringEntryList();
+        RecurringEntry tenth = createEntry(10, Common.EntryType.EXP, "1");
+        RecurringEntry everyOtherFriday = createEntry(1, Common.EntryType.EXP, "2");
+        // 2020-01-03 is a Friday.
+        everyOtherFriday.setRule(RecurrenceRule.parse("FREQ=WEEKLY;INTERVAL=2;BYDAY=FR",
+            LocalDate.of(2020, 1, 3)));
+        entries.addItem(tenth);
+        entries.addItem(everyOtherFriday);
+
+        List<LocalDate> dates = getDates(new OccurrenceIterator(entries,
+            LocalDate.of(2020, 1, 4), LocalDate.of(2020, 2, 15)));
+
+        assertEquals(List.of(LocalDate.of(2020, 1, 10), LocalDate.of(2020, 1, 17), LocalDate.of(2020, 1, 31),
+            LocalDate.of(2020, 2, 10), LocalDate.of(2020, 2, 14)), dates);
+    }
+
+    @Test
+    public void getProjectedTotal_expensesOverTwoMonths_eachOccurrenceCounted() {
+        RecurringEntryList entries = new RecurringEntryList();
+        entries.addItem(createEntry(1, Common.EntryType.EXP, "10.50"));
+        entries.addItem(createEntry(15, Common.EntryType.INC, "100"));
+        entries.addItem(createEntry(30, Common.EntryType.EXP, "2"));
+
+        Money total = entries.getProjectedTotal(LocalDate.of(2020, 1, 1), LocalDate.of(2020, 3, 1),
+            Common.EntryType.EXP);
+
+        assertEquals(Money.parse("23"), total);
+    }
+}
@@ -0,0 +1,127 @@
+package seedu.financeit.datatrackers.recurringtracker;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RecurrenceRuleTest {
+    private static List<LocalDate> getOccurrences(RecurrenceRule rule, LocalDate from, int max) {
+        ArrayList<LocalDate> dates = new ArrayList<>();
+        LocalDate date = rule.getNextOccurrence(from);
+        while (date != null && dates.size() < max) {
+            dates.add(date);
+            date = rule.getNextOccurrence(date.plusDays(1));
+        }
+        return dates;
+    }
+
+    @Test
+    public void getNextOccurrence_everyOtherFriday_alternateWeeksFromStart() {
+        // 2020-11-06 is a Friday.
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY;INTERVAL=2;BYDAY=FR", LocalDate.of(2020, 11, 4));
+
+        assertEquals(List.of(LocalDate.of(2020, 11, 6), LocalDate.of(2020, 11, 20), LocalDate.of(2020, 12, 4)),
+            getOccurrences(rule, LocalDate.of(2020, 11, 1), 3));
+        assertEquals(LocalDate.of(2021, 1, 1), rule.getNextOccurrence(LocalDate.of(2020, 12, 19)));
+    }
+
+    @Test
+    public void getNextOccurrence_lastFridayOfMonth_lastFridays() {
+        RecurrenceRule rule = RecurrenceRule.parse("freq=monthly;byday=-1fr", LocalDate.of(2020, 1, 1));
+
+        assertEquals(List.of(LocalDate.of(2020, 1, 31), LocalDate.of(2020, 2, 28), LocalDate.of(2020, 3, 27)),
+            getOccurrences(rule, LocalDate.of(2020, 1, 1), 3));
+    }
+
+    @Test
+    public void getNextOccurrence_yearlyOn29thOfFebruary_leapYearsOnly() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=YEARLY;BYMONTH=2;BYMONTHDAY=29;DTSTART=20200101",
+            LocalDate.of(1999, 1, 1));
+
+        assertEquals(List.of(LocalDate.of(2020, 2, 29), LocalDate.of(2024, 2, 29), LocalDate.of(2028, 2, 29)),
+            getOccurrences(rule, LocalDate.of(2019, 1, 1), 3));
+    }
+
+    @Test
+    public void getNextOccurrence_countOrUntil_noOccurrencesAfterEnd() {
+        RecurrenceRule counted = RecurrenceRule.parse("FREQ=DAILY;INTERVAL=3;COUNT=3", LocalDate.of(2020, 12, 30));
+        RecurrenceRule until = RecurrenceRule.parse("FREQ=MONTHLY;UNTIL=20210315", LocalDate.of(2020, 12, 15));
+
+        assertEquals(List.of(LocalDate.of(2020, 12, 30), LocalDate.of(2021, 1, 2), LocalDate.of(2021, 1, 5)),
+            getOccurrences(counted, LocalDate.of(2020, 1, 1), 10));
+        assertEquals(LocalDate.of(2021, 3, 15), until.getNextOccurrence(LocalDate.of(2021, 2, 16)));
+        assertNull(until.getNextOccurrence(LocalDate.of(2021, 3, 16)));
+    }
+
+    @Test
+    public void getNextOccurrence_countOnSkippedDaysAndWeekdays_countthOccurrenceIsLast() {
+        // 2020-01-01 is a Wednesday.
+        RecurrenceRule weekly = RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=MO,WE,FR;COUNT=5",
+            LocalDate.of(2020, 1, 1));
+        RecurrenceRule monthly = RecurrenceRule.parse("FREQ=MONTHLY;INTERVAL=5;BYMONTHDAY=31;COUNT=4",
+            LocalDate.of(2020, 1, 1));
+        RecurrenceRule leapDay = RecurrenceRule.parse("FREQ=YEARLY;BYMONTH=2;BYMONTHDAY=29;COUNT=3",
+            LocalDate.of(2020, 3, 1));
+
+        assertEquals(List.of(LocalDate.of(2020, 1, 1), LocalDate.of(2020, 1, 3), LocalDate.of(2020, 1, 6),
+            LocalDate.of(2020, 1, 8), LocalDate.of(2020, 1, 10)),
+            getOccurrences(weekly, LocalDate.of(2020, 1, 1), 10));
+        // Of every fifth month from January 2020, those up to June 2022 have no 31st but the first.
+        assertEquals(List.of(LocalDate.of(2020, 1, 31), LocalDate.of(2022, 7, 31), LocalDate.of(2022, 12, 31),
+            LocalDate.of(2023, 5, 31)), getOccurrences(monthly, LocalDate.of(2020, 1, 1), 10));
+        // The 29th of February 2020 is before the start, so it is not counted.
+        assertEquals(List.of(LocalDate.of(2024, 2, 29), LocalDate.of(2028, 2, 29), LocalDate.of(2032, 2, 29)),
+            getOccurrences(leapDay, LocalDate.of(2020, 1, 1), 10));
+    }
+
+    @Test
+    public void parse_largeCount_lastOccurrenceWorkedOutAtOnce() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=DAILY;COUNT=300000000", LocalDate.of(2020, 1, 1));
+
+        LocalDate last = LocalDate.of(2020, 1, 1).plusDays(300000000 - 1);
+        assertEquals(last, rule.getNextOccurrence(last));
+        assertNull(rule.getNextOccurrence(last.plusDays(1)));
+    }
+
+    @Test
+    public void getNextOccurrence_intervalPastLastYear_noOccurrence() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=YEARLY;INTERVAL=1000;COUNT=5000000",
+            LocalDate.of(2020, 1, 1));
+
+        assertEquals(LocalDate.of(2020, 1, 1), rule.getNextOccurrence(LocalDate.of(2020, 1, 1)));
+        assertNull(rule.getNextOccurrence(LocalDate.of(999999020, 1, 2)));
+        assertThrows(IllegalArgumentException.class,
+            () -> RecurrenceRule.parse("FREQ=YEARLY;INTERVAL=1000000000", LocalDate.of(2020, 1, 1)));
+    }
+
+    @Test
+    public void parse_invalidRules_exceptionThrown() {
+        LocalDate start = LocalDate.of(2020, 1, 1);
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("INTERVAL=2", start));
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=HOURLY", start));
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=XX", start));
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=MONTHLY;BYDAY=6MO", start));
+        assertThrows(IllegalArgumentException.class,
+            () -> RecurrenceRule.parse("FREQ=DAILY;COUNT=2;UNTIL=20200301", start));
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=WEEKLY;BYMONTHDAY=3", start));
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=DAILY;BYSETPOS=1", start));
+    }
+
+    @Test
+    public void toString_parsedAgain_sameRule() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=YEARLY;BYDAY=2TU;BYMONTH=3,9;COUNT=4",
+            LocalDate.of(2020, 5, 5));
+
+        RecurrenceRule parsed = RecurrenceRule.parse(rule.toString(), LocalDate.of(2000, 1, 1));
+
+        assertEquals(rule, parsed);
+        assertEquals(LocalDate.of(2020, 5, 5), parsed.getStart());
+        assertEquals(LocalDate.of(2020, 9, 8), parsed.getNextOccurrence(LocalDate.of(2020, 1, 1)));
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.financeit.datatrackers.recurringtracker;
+
+import org.junit.jupiter.api.Test;
+import seedu.financeit.datatrackers.recurringtracker.comparators.SortByDay;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RecurringEntryListTest {
+    private static RecurringEntry createEntry(int day, String description) {
+        RecurringEntry entry = new RecurringEntry();
+        entry.setDay(day);
+        entry.setDescription(description);
+        return entry;
+    }
+
+    @Test
+    public void addItem_randomDays_sameOrderAsStableSort() {
+        RecurringEntryList entries = new RecurringEntryList();
+        ArrayList<RecurringEntry> expected = new ArrayList<>();
+        Random random = new Random(1);
+        for (int i = 0; i < 200; i++) {
+            RecurringEntry entry = createEntry(random.nextInt(31) + 1, "entry " + i);
+            entries.addItem(entry);
+            expected.add(entry);
+        }
+        expected.sort(new SortByDay());
+
+        assertEquals(expected.size(), entries.getListSize());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), entries.getItemAtIndex(i));
+            assertEquals(i, entries.getItemAtIndex(i).getIndex());
+        }
+        ArrayList<RecurringEntry> window = entries.getEntriesFromDayXtoY(10, 12);
+        assertEquals(expected.stream().filter(entry -> entry.getDay() >= 10 && entry.getDay() <= 12).count(),
+            window.size());
+        for (RecurringEntry entry : window) {
+            assertTrue(entry.getDay() >= 10 && entry.getDay() <= 12);
+        }
+    }
+
+    @Test
+    public void getEntriesFromDayXtoY_dayEditedInPlace_editedEntryFound() {
+        RecurringEntryList entries = new RecurringEntryList();
+        RecurringEntry first = createEntry(5, "first");
+        RecurringEntry second = createEntry(10, "second");
+        entries.addItem(first);
+        entries.addItem(second);
+
+        entries.removeFromLookup(first);
+        first.setDay(20);
+        entries.addToLookup(first);
+
+        assertSame(first, entries.getItemAtIndex(0));
+        assertEquals(1, entries.getEntriesFromDayXtoY(15, 25).size());
+        assertEquals(0, entries.getEntriesFromDayXtoY(1, 9).size());
+
+        // Adding an entry sorts the whole list again.
+        entries.addItem(createEntry(1, "third"));
+        assertSame(second, entries.getItemAtIndex(1));
+        assertSame(first, entries.getItemAtIndex(2));
+        assertSame(first, entries.getEntriesFromDayXtoY(15, 25).get(0));
+    }
+}
@@ -8,6 +8,9 @@ import seedu.financeit.datatrackers.recurringtracker.recurringhandlers.EditEntry
 import seedu.financeit.datatrackers.recurringtracker.recurringhandlers.RetrieveEntryHandler;
 import seedu.financeit.testutil.TestUtil;
 
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -155,4 +158,18 @@ public class RecurringTrackerTest {
         RecurringTracker.getEntries().removeAllItems();
     }
 
+
+    @Test
+    public void showHelp_helpTable_everyRowPrinted() {
+        PrintStream console = System.out;
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(output));
+        try {
+            RecurringTracker.showHelp();
+        } finally {
+            System.setOut(console);
+        }
+        assertTrue(output.toString().contains("e.g. /rule FREQ=WEEKLY"));
+        assertTrue(output.toString().contains("Exit to main menu"));
+    }
 }
@@ -0,0 +1,41 @@
+package seedu.financeit.parser;
+
+import org.junit.jupiter.api.Test;
+import seedu.financeit.common.CommandPacket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class InputParserTest {
+    @Test
+    public void parseInput_paramsWithSpacedArguments_argumentsSlicedBetweenParams() {
+        CommandPacket packet = InputParser.getInstance()
+            .parseInput("NEW /time 1200 /desc lunch at   home/mall /cat fd -e /amt 5.50");
+        assertEquals("new", packet.getCommandString());
+        assertEquals(5, packet.getParamMap().size());
+        assertEquals("1200", packet.getParam("/time"));
+        assertEquals("lunch at   home/mall", packet.getParam("/desc"));
+        assertEquals("fd", packet.getParam("/cat"));
+        assertEquals("", packet.getParam("-e"));
+        assertEquals("5.50", packet.getParam("/amt"));
+    }
+
+    @Test
+    public void parseInput_noParams_wholeInputIsCommand() {
+        CommandPacket packet = InputParser.getInstance().parseInput("  expense 2000 for 08 ");
+        assertEquals("expense 2000 for 08", packet.getCommandString());
+        assertTrue(packet.getParamMap().isEmpty());
+
+        // The first word is always part of the command.
+        packet = InputParser.getInstance().parseInput("/date 200101");
+        assertEquals("/date 200101", packet.getCommandString());
+        assertTrue(packet.getParamMap().isEmpty());
+    }
+
+    @Test
+    public void parseInput_duplicateParamType_firstArgumentKept() {
+        CommandPacket packet = InputParser.getInstance().parseInput("new /date 200101 /date 200102 /id");
+        assertEquals("200101", packet.getParam("/date"));
+        assertEquals("", packet.getParam("/id"));
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.financeit.ui;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class TablePrinterTest {
+    private static final String HEADER = "No.;Description                    ;Amount";
+
+    private static String captureOutput(Runnable printer) {
+        PrintStream console = System.out;
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(output));
+        try {
+            printer.run();
+        } finally {
+            System.setOut(console);
+        }
+        return output.toString();
+    }
+
+    @Test
+    public void printList_streamedRows_sameAsPrintingEachLine() {
+        List<String> rows = List.of("lunch;5.50", "a description long enough to wrap over several lines;1000.00");
+        String printed = captureOutput(() -> TablePrinter.printList("Title", HEADER,
+            TablePrinter.getNumberedRows(rows.size(), rows::get)));
+
+        String[] header = HEADER.split(";");
+        TablePrinter.setColWidth(header);
+        int rowWidth = TablePrinter.getHeaderRowWidth(header);
+        ArrayList<String> expected = new ArrayList<>();
+        expected.add(TablePrinter.formatTitle("Title", rowWidth));
+        expected.add(TablePrinter.getPrintListRow(header) + "|");
+        expected.add(UiManager.getLineWithSymbol(rowWidth, "-"));
+        for (int i = 0; i < rows.size(); i++) {
+            expected.add(TablePrinter.getPrintListRow((i + 1 + ";" + rows.get(i)).split(";")) + "|");
+            expected.add(UiManager.getLineWithSymbol(rowWidth / 2, " -"));
+        }
+        String lineSeparator = System.lineSeparator();
+        assertEquals(String.join(lineSeparator, expected) + lineSeparator, printed);
+    }
+
+    @Test
+    public void getNumberedRows_rowsRequested_rowsNumberedFromOne() {
+        Iterator<String> rows = TablePrinter.getNumberedRows(2, i -> "row " + i);
+        assertEquals("1;row 0", rows.next());
+        assertEquals("2;row 1", rows.next());
+        assertFalse(rows.hasNext());
+    }
+}
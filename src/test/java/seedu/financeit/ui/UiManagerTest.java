@@ -0,0 +1,36 @@
+package seedu.financeit.ui;
+
+import org.junit.jupiter.api.Test;
+import seedu.financeit.common.Common;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class UiManagerTest {
+    @Test
+    public void getFailedInputCount_errorsOfSucceededAndFailedInputs_onlyFailedInputsCounted() {
+        UiManager.setInput(new ByteArrayInputStream("open\nentry\ngoal\n".getBytes()));
+        UiManager.setQuiet(true);
+        try {
+            UiManager.handleInput();
+            UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE, "Ledger not found");
+            UiManager.reportInputSucceeded();
+            UiManager.handleInput();
+            UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE, "Input failed due to param error.");
+            UiManager.printWithStatusIcon(Common.PrintType.SYS_MSG, "Not an error");
+            UiManager.handleInput();
+            UiManager.printWithStatusIcon(Common.PrintType.ERROR_MESSAGE, "Please enter a valid int month");
+            UiManager.recordInputOutcome();
+
+            assertEquals(3, UiManager.getInputLineCount());
+            assertEquals(2, UiManager.getFailedInputCount());
+            assertEquals(List.of("Line 2: Input failed due to param error.", "Line 3: Please enter a valid int month"),
+                UiManager.getRecordedErrors());
+        } finally {
+            UiManager.setQuiet(false);
+            UiManager.setInput(System.in);
+        }
+    }
+}
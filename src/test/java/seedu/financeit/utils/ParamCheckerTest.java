@@ -2,6 +2,7 @@ package seedu.financeit.utils;
 
 import org.junit.jupiter.api.Test;
 import seedu.financeit.common.CommandPacket;
+import seedu.financeit.common.Money;
 import seedu.financeit.common.exceptions.ParseFailParamException;
 import seedu.financeit.testutil.TestUtil;
 
@@ -299,6 +300,57 @@ public class ParamCheckerTest {
         }
     }
 
+    @Test
+    public void testMoneyLargeAmountsExactToTheCent() throws ParseFailParamException {
+        String testParam = "/amt";
+        String[][] validInputs = {
+            {"$999999999.99", "999999999.99"},
+            {"987654321.05", "987654321.05"},
+            {"1.231", "1.24"},
+            {"7", "7.00"},
+        };
+        for (String[] validInput : validInputs) {
+            testPacket = TestUtil.createCommandPacket("", new String[][]{{testParam, validInput[0]}});
+            ParamChecker.getInstance().setPacket(testPacket);
+            assertEquals(Money.parse(validInput[1]), ParamChecker.getInstance().checkAndReturnMoney(testParam));
+        }
+
+        testPacket = TestUtil.createCommandPacket("", new String[][]{{testParam, "1000000000.01"}});
+        ParamChecker.getInstance().setPacket(testPacket);
+        try {
+            ParamChecker.getInstance().checkAndReturnMoney(testParam);
+            fail();
+        } catch (ParseFailParamException exception) {
+            assertEquals("Failed to parse the following param: " + testParam, exception.getMessage());
+        }
+    }
+
+    @Test
+    public void testMoneyInvalidAmounts() {
+        String testParam = "/amt";
+        String tooLongInput = "1" + "0".repeat(101);
+        String[][] invalidInputs = {
+            {"abc", "abc", ""},
+            {"1.2.3", "1.2.3", ""},
+            {"-5", "-5", "Expected a positive number."},
+            {"$-1.50", "-1.50", "Expected a positive number."},
+            {tooLongInput, tooLongInput,
+                "Amount provided is too long in length! Maximum amount is of 100 digits long."},
+        };
+        for (String[] invalidInput : invalidInputs) {
+            testPacket = TestUtil.createCommandPacket("", new String[][]{{testParam, invalidInput[0]}});
+            ParamChecker.getInstance().setPacket(testPacket);
+            try {
+                ParamChecker.getInstance().checkAndReturnMoney(testParam);
+                fail("Input that did not throw error when it was supposed to: " + invalidInput[0]);
+            } catch (ParseFailParamException exception) {
+                assertCorrectErrorMessage(ParamChecker.getInstance(),
+                    ParamChecker.getErrorMessageDoubleNumberFormatException(invalidInput[1], invalidInput[2]));
+                assertEquals("Failed to parse the following param: " + testParam, exception.getMessage());
+            }
+        }
+    }
+
     /**
      * Asserts that the correct error message has been set.
      * @param paramChecker Actual ParamChecker instance used for testing, after checking some value
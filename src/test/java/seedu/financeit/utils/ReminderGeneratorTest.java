@@ -1,10 +1,11 @@
 package seedu.financeit.utils;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 
 import org.junit.jupiter.api.Test;
 import seedu.financeit.common.CommandPacket;
-import seedu.financeit.datatrackers.recurringtracker.RecurringEntry;
+import seedu.financeit.datatrackers.recurringtracker.OccurrenceIterator;
 import seedu.financeit.datatrackers.recurringtracker.RecurringTracker;
 import seedu.financeit.datatrackers.recurringtracker.RecurringTrackerTest;
 import seedu.financeit.testutil.TestUtil;
@@ -33,10 +34,12 @@ public class ReminderGeneratorTest {
     public void filterEntriesToRemind_positiveTestOne_correctEntriesReturned() {
         final int numEntriesToRemind = 4;
         createEntriesFromDay1To15();
-        ArrayList<RecurringEntry> entriesToRemind = ReminderGenerator.filterEntriesToRemind(29, 30, 4, true);
+        ArrayList<OccurrenceIterator.Occurrence> entriesToRemind = ReminderGenerator.filterEntriesToRemind(
+                LocalDate.of(2020, 4, 29), LocalDate.of(2020, 5, 4));
         assertEquals(numEntriesToRemind, entriesToRemind.size());
         for (int i = 0; i < numEntriesToRemind; i++) {
-            assertEquals(i + 1, entriesToRemind.get(i).getDay());
+            assertEquals(i + 1, entriesToRemind.get(i).getEntry().getDay());
+            assertEquals(LocalDate.of(2020, 5, i + 1), entriesToRemind.get(i).getDate());
         }
     }
 
@@ -44,7 +47,8 @@ public class ReminderGeneratorTest {
     public void filterEntriesToRemind_positiveTestTwo_correctEntriesReturned() {
         final int numEntriesToRemind = 0;
         createEntriesFromDay1To15();
-        ArrayList<RecurringEntry> entriesToRemind = ReminderGenerator.filterEntriesToRemind(17, 30, 22, false);
+        ArrayList<OccurrenceIterator.Occurrence> entriesToRemind = ReminderGenerator.filterEntriesToRemind(
+                LocalDate.of(2020, 4, 17), LocalDate.of(2020, 4, 22));
         assertEquals(numEntriesToRemind, entriesToRemind.size());
     }
 
@@ -0,0 +1,141 @@
+package seedu.financeit.utils.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.financeit.common.Common;
+import seedu.financeit.common.Money;
+import seedu.financeit.common.exceptions.ItemNotFoundException;
+import seedu.financeit.datatrackers.manualtracker.Ledger;
+import seedu.financeit.datatrackers.manualtracker.LedgerList;
+import seedu.financeit.datatrackers.manualtracker.ManualTracker;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ArchiveManagerTest {
+    private static final YearMonth JANUARY = YearMonth.of(2020, 1);
+    private static final YearMonth FEBRUARY = YearMonth.of(2020, 2);
+    private static final YearMonth MARCH = YearMonth.of(2020, 3);
+
+    @TempDir
+    Path tempDir;
+
+    private String[] previousPaths;
+
+    @BeforeEach
+    public void setUp() {
+        SaveManager.clear();
+        this.previousPaths = SaveHandlerTestUtil.setDefaultPaths(ManualTrackerSaver.getInstance(),
+            tempDir.toString(), tempDir.resolve("saveMt.txt").toString());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        // Later tests must not count the totals of the archive of this test.
+        new ArchiveManager(tempDir.resolve("emptyArchive").toString()).load();
+        SaveHandlerTestUtil.setDefaultPaths(ManualTrackerSaver.getInstance(), previousPaths[0], previousPaths[1]);
+        SaveManager.clear();
+    }
+
+    private static void addLedger(String date, String amount) {
+        Ledger ledger = ManualTrackerSaver.decodeLedger(date);
+        ledger.entryList.addItem(ManualTrackerSaver.decodeEntry(ledger,
+            new String[]{"Expense", "FOOD", amount, "12:00", "meal on " + date}, 0));
+        ManualTracker.getLedgerList().addItem(ledger);
+    }
+
+    private static Money getExpenses(YearMonth yearMonth) {
+        return ManualTracker.getLedgerList().getMonthlyTotals().getTotal(yearMonth, Common.EntryType.EXP);
+    }
+
+    private static void reload(ArchiveManager archive) {
+        ManualTrackerSaver.clear();
+        archive.load();
+        ManualTrackerSaver.getInstance().load();
+        ManualTrackerSaver.getInstance().save();
+        PersistenceManager.getInstance().flush();
+    }
+
+    private ArchiveManager archiveBeforeMarch() throws IOException {
+        ArchiveManager archive = new ArchiveManager(tempDir.resolve("archive").toString());
+        archive.load();
+        addLedger("2020-01-10", "$10");
+        addLedger("2020-02-10", "$25");
+        addLedger("2020-03-10", "$5");
+        ManualTrackerSaver.getInstance().save();
+        assertEquals(2, archive.archiveBefore(LocalDate.of(2020, 3, 1)));
+        return archive;
+    }
+
+    @Test
+    public void archiveBefore_reloadedTwice_archivedTotalsCountedOnce() throws IOException {
+        ArchiveManager archive = archiveBeforeMarch();
+        LedgerList ledgerList = ManualTracker.getLedgerList();
+        assertEquals(1, ledgerList.getListSize());
+        assertTrue(ledgerList.isArchived(LocalDate.of(2020, 1, 10)));
+
+        for (int i = 0; i < 2; i++) {
+            reload(archive);
+            assertEquals(1, ledgerList.getListSize());
+            assertEquals(Money.parse("10"), getExpenses(JANUARY));
+            assertEquals(Money.parse("25"), getExpenses(FEBRUARY));
+            assertEquals(Money.parse("5"), getExpenses(MARCH));
+        }
+    }
+
+    @Test
+    public void getLedgerFromDate_archivedLedgerRestoredThenReloaded_ledgerKeptAndTotalsCountedOnce()
+            throws IOException, ItemNotFoundException {
+        ArchiveManager archive = archiveBeforeMarch();
+        Ledger restored = ManualTracker.getLedgerList().getLedgerFromDate(LocalDate.of(2020, 1, 10));
+        assertEquals(1, restored.entryList.getListSize());
+        assertEquals(Money.parse("10"), getExpenses(JANUARY));
+        ManualTrackerSaver.getInstance().save();
+        archive.save();
+        PersistenceManager.getInstance().flush();
+
+        reload(archive);
+        LedgerList ledgerList = ManualTracker.getLedgerList();
+        assertEquals(2, ledgerList.getListSize());
+        assertFalse(ledgerList.isArchived(LocalDate.of(2020, 1, 10)));
+        assertTrue(ledgerList.isArchived(LocalDate.of(2020, 2, 10)));
+        assertEquals(Money.parse("10"), getExpenses(JANUARY));
+        assertEquals(Money.parse("25"), getExpenses(FEBRUARY));
+    }
+
+    @Test
+    public void restoreBackup_archiveChangedAfterBackup_archiveOfBackupRestored() throws IOException {
+        ArchiveManager archive = archiveBeforeMarch();
+        Path backup = tempDir.resolve("backup_ar.txt");
+        archive.saveBackup(backup);
+
+        addLedger("2019-06-10", "$7");
+        assertEquals(1, archive.archiveBefore(LocalDate.of(2020, 1, 1)));
+        assertTrue(Files.exists(tempDir.resolve("archive").resolve("2019.txt.gz")));
+
+        ManualTrackerSaver.clear();
+        archive.restoreBackup(backup);
+        reload(archive);
+        LedgerList ledgerList = ManualTracker.getLedgerList();
+        assertFalse(ledgerList.isArchived(LocalDate.of(2019, 6, 10)));
+        assertFalse(Files.exists(tempDir.resolve("archive").resolve("2019.txt.gz")));
+        assertEquals(Money.parse("0"), getExpenses(YearMonth.of(2019, 6)));
+        assertEquals(Money.parse("10"), getExpenses(JANUARY));
+        assertEquals(Money.parse("25"), getExpenses(FEBRUARY));
+        assertTrue(ledgerList.isArchived(LocalDate.of(2020, 2, 10)));
+
+        archive.restoreBackup(null);
+        reload(archive);
+        assertFalse(ledgerList.isArchived(LocalDate.of(2020, 2, 10)));
+        assertEquals(Money.parse("0"), getExpenses(FEBRUARY));
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.financeit.utils.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BackupStoreTest {
+    @TempDir
+    Path tempDir;
+
+    private static byte[] createSaveFile(int lineCount) {
+        StringBuilder saveFile = new StringBuilder();
+        Random random = new Random(1);
+        for (int i = 0; i < lineCount; i++) {
+            saveFile.append("Entry;Expense;FOOD;$").append(random.nextInt(1000)).append(".50;12:00;lunch\n");
+        }
+        return saveFile.toString().getBytes();
+    }
+
+    @Test
+    public void store_changedFile_onlyChangedChunksStored() throws IOException {
+        BackupStore backupStore = new BackupStore(tempDir.resolve("backup"));
+        Path file = tempDir.resolve("saveMt.txt");
+        byte[] contents = createSaveFile(20000);
+        Files.write(file, contents);
+        backupStore.store("first", Collections.singletonMap("_mt.txt", file));
+        long firstStoredSize = backupStore.getStoredSize();
+
+        // A line is inserted near the start, which shifts every byte after it.
+        String changedContents = "Ledger;2020-01-01\n" + new String(contents);
+        Files.write(file, changedContents.getBytes());
+        backupStore.store("second", Collections.singletonMap("_mt.txt", file));
+
+        Map<String, BackupStore.Usage> usages = backupStore.getUsage();
+        assertEquals(contents.length, usages.get("first").logicalSize);
+        assertEquals(changedContents.length(), usages.get("second").logicalSize);
+        assertTrue(usages.get("second").storedSize < 64 * 1024);
+        assertEquals(firstStoredSize + usages.get("second").storedSize, backupStore.getStoredSize());
+
+        Path restored = tempDir.resolve("restored.txt");
+        backupStore.restore("first", Collections.singletonMap("_mt.txt", restored));
+        assertArrayEquals(contents, Files.readAllBytes(restored));
+    }
+
+    @Test
+    public void delete_sharedChunks_onlyUnusedChunksDeleted() throws IOException {
+        BackupStore backupStore = new BackupStore(tempDir.resolve("backup"));
+        Path file = tempDir.resolve("saveMt.txt");
+        byte[] contents = createSaveFile(5000);
+        Files.write(file, contents);
+        backupStore.store("first", Collections.singletonMap("_mt.txt", file));
+        backupStore.store("second", Collections.singletonMap("_mt.txt", file));
+
+        assertTrue(backupStore.delete("first"));
+
+        assertFalse(backupStore.contains("first"));
+        assertEquals(contents.length, backupStore.getStoredSize());
+        Path restored = tempDir.resolve("restored.txt");
+        backupStore.restore("second", Collections.singletonMap("_mt.txt", restored));
+        assertArrayEquals(contents, Files.readAllBytes(restored));
+        assertTrue(backupStore.delete("second"));
+        assertEquals(0, backupStore.getStoredSize());
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.financeit.utils.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.financeit.datatrackers.manualtracker.Ledger;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BinarySnapshotTest {
+    private static List<Ledger> createLedgers(int ledgerCount) {
+        ArrayList<Ledger> ledgers = new ArrayList<>();
+        for (int i = 0; i < ledgerCount; i++) {
+            // Ledgers are not in date order, so that dates go back as well as forward.
+            LocalDate date = LocalDate.of(2020, 1, 1).plusDays((i * 7) % 100);
+            Ledger ledger = ManualTrackerSaver.decodeLedger(date.toString());
+            ledger.entryList.addItem(ManualTrackerSaver.decodeEntry(ledger,
+                new String[] {"Expense", "FOOD", "$" + i + ".05", "12:30", "lunch"}, 0));
+            ledger.entryList.addItem(ManualTrackerSaver.decodeEntry(ledger,
+                new String[] {"Income", "SALARY", "$1000000000", "09:00", "pay \u00a2 " + i}, 0));
+            ledger.entryList.addItem(ManualTrackerSaver.decodeEntry(ledger,
+                new String[] {"Expense", "TRANSPORT", "$0.50", "23:59", "lunch"}, 0));
+            ledgers.add(ledger);
+        }
+        return ledgers;
+    }
+
+    private static List<String> getSaveStrings(List<Ledger> ledgers) {
+        ArrayList<String> saveStrings = new ArrayList<>();
+        for (Ledger ledger : ledgers) {
+            saveStrings.add(ledger.toString());
+            for (int i = 0; i < ledger.entryList.getListSize(); i++) {
+                saveStrings.add(ledger.entryList.getItemAtIndex(i).toString());
+            }
+        }
+        return saveStrings;
+    }
+
+    @Test
+    public void decode_encodedLedgers_sameLedgersAndEntries() throws IOException {
+        List<Ledger> ledgers = createLedgers(100);
+
+        BinarySnapshot.Contents contents = BinarySnapshot.decode(BinarySnapshot.encode(ledgers));
+
+        assertEquals(0, contents.errors.size());
+        assertEquals(getSaveStrings(ledgers), getSaveStrings(contents.ledgers));
+    }
+
+    @Test
+    public void decode_damagedBlock_otherBlocksLoaded() throws IOException {
+        List<Ledger> ledgers = createLedgers(100);
+        byte[] bytes = BinarySnapshot.encode(ledgers);
+        // The last block holds the ledgers after the first 64, and is followed by its checksum and the end.
+        bytes[bytes.length - 10] ^= 1;
+
+        BinarySnapshot.Contents contents = BinarySnapshot.decode(bytes);
+
+        assertEquals(1, contents.errors.size());
+        assertEquals(getSaveStrings(ledgers.subList(0, 64)), getSaveStrings(contents.ledgers));
+    }
+
+    @Test
+    public void decode_textSaveFile_exceptionThrown() {
+        assertThrows(IOException.class, () -> BinarySnapshot.decode("Ledger;2020-01-01".getBytes()));
+    }
+}
@@ -0,0 +1,129 @@
+package seedu.financeit.utils.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.financeit.common.Common;
+import seedu.financeit.common.Money;
+import seedu.financeit.datatrackers.manualtracker.Ledger;
+import seedu.financeit.datatrackers.manualtracker.LedgerList;
+import seedu.financeit.datatrackers.manualtracker.ManualTracker;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.YearMonth;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LedgerIndexTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void getCurrentSaveStrings_unchangedLedgerStillBeingWritten_readFromWrittenFile() throws IOException {
+        Ledger ledger = ManualTrackerSaver.decodeLedger("2020-01-01");
+        ledger.entryList.addItem(ManualTrackerSaver.decodeEntry(ledger,
+            new String[]{"Expense", "FOOD", "$5.50", "12:30", "lunch"}, 0));
+        Ledger otherLedger = ManualTrackerSaver.decodeLedger("2020-01-02");
+        List<Ledger> ledgers = List.of(otherLedger, ledger);
+        LedgerIndex index = new LedgerIndex(ManualTrackerSaver.getInstance());
+        List<String> saveStrings = index.getCurrentSaveStrings(ledgers);
+        assertEquals("Ledger;2020-01-01" + System.lineSeparator()
+            + "Entry;Expense;FOOD;$5.50;12:30;lunch" + System.lineSeparator(), saveStrings.get(1));
+
+        Path file = tempDir.resolve("saveMt.txt");
+        PersistenceManager.getInstance().write(file.toString(), String.join("", saveStrings));
+        IdentityHashMap<Ledger, LedgerIndex.LedgerLocation> locations = new IdentityHashMap<>();
+        index.locateLedgers(file, ledgers, saveStrings, locations);
+        index.write(LedgerIndex.getPath(file.toString()), ledgers, locations, file);
+        ledger.markClean();
+        otherLedger.entryList.addItem(ManualTrackerSaver.decodeEntry(otherLedger,
+            new String[]{"Income", "SALARY", "$100", "09:00", "pay"}, 0));
+
+        List<String> currSaveStrings = index.getCurrentSaveStrings(ledgers);
+        assertEquals(saveStrings.get(1), currSaveStrings.get(1));
+        assertEquals("Ledger;2020-01-02" + System.lineSeparator()
+            + "Entry;Income;SALARY;$100.00;09:00;pay" + System.lineSeparator(), currSaveStrings.get(0));
+        assertEquals("File;saveMt.txt;" + Files.size(file),
+            Files.readAllLines(Path.of(LedgerIndex.getPath(file.toString()))).get(0));
+    }
+
+    private static void writeWithIndex(LedgerIndex index, Path file, List<Ledger> ledgers) throws IOException {
+        List<String> saveStrings = index.getCurrentSaveStrings(ledgers);
+        PersistenceManager.getInstance().write(file.toString(), String.join("", saveStrings));
+        IdentityHashMap<Ledger, LedgerIndex.LedgerLocation> locations = new IdentityHashMap<>();
+        index.locateLedgers(file, ledgers, saveStrings, locations);
+        index.write(LedgerIndex.getPath(file.toString()), ledgers, locations, file);
+        PersistenceManager.getInstance().flush();
+    }
+
+    @Test
+    public void load_deferredLedgerMovedBySave_entriesReadFromNewLocation() throws IOException {
+        SaveManager.clear();
+        Ledger ledger = ManualTrackerSaver.decodeLedger("2020-01-01");
+        ledger.entryList.addItem(ManualTrackerSaver.decodeEntry(ledger,
+            new String[]{"Expense", "FOOD", "$5.50", "12:30", "lunch"}, 0));
+        Path file = tempDir.resolve("saveMt.txt");
+        LedgerIndex index = new LedgerIndex(ManualTrackerSaver.getInstance());
+        writeWithIndex(index, file, List.of(ledger));
+
+        index.load(LedgerIndex.getPath(file.toString()), file.toString(), null);
+        LedgerList ledgerList = ManualTracker.getLedgerList();
+        Ledger deferredLedger = (Ledger) ledgerList.getItemAtIndex(0);
+        assertFalse(deferredLedger.entryList.isLoaded());
+        // A save moves the unloaded ledger behind a new ledger, in a save file that replaces the old one.
+        Ledger newLedger = ManualTrackerSaver.decodeLedger("2019-12-31");
+        newLedger.entryList.addItem(ManualTrackerSaver.decodeEntry(newLedger,
+            new String[]{"Income", "SALARY", "$100", "09:00", "pay"}, 0));
+        Path movedFile = tempDir.resolve("saveMtMoved.txt");
+        writeWithIndex(index, movedFile, List.of(newLedger, deferredLedger));
+        Files.delete(file);
+
+        assertEquals(1, deferredLedger.entryList.getListSize());
+        assertEquals("Expense;FOOD;$5.50;12:30;lunch", deferredLedger.entryList.getItemAtIndex(0).toString());
+        assertFalse(deferredLedger.isDirty());
+        SaveManager.clear();
+    }
+
+    @Test
+    public void load_saveFileReplacedBySameSizeFile_indexNotUsed() throws IOException {
+        SaveManager.clear();
+        ManualTrackerSaver saver = ManualTrackerSaver.getInstance();
+        Path file = tempDir.resolve("saveMt.txt");
+        String[] previousPaths = SaveHandlerTestUtil.setDefaultPaths(saver, tempDir.toString(), file.toString());
+        try {
+            Ledger ledger = ManualTrackerSaver.decodeLedger("2020-01-01");
+            ledger.entryList.addItem(ManualTrackerSaver.decodeEntry(ledger,
+                new String[]{"Expense", "FOOD", "$10", "12:30", "lunch"}, 0));
+            ManualTracker.getLedgerList().addItem(ledger);
+            saver.save();
+            PersistenceManager.getInstance().flush();
+            Path backup = Files.copy(file, tempDir.resolve("backup.txt"));
+
+            ledger.entryList.removeItemAtIndex(0);
+            ledger.entryList.addItem(ManualTrackerSaver.decodeEntry(ledger,
+                new String[]{"Expense", "FOOD", "$20", "12:30", "lunch"}, 0));
+            saver.save();
+            PersistenceManager.getInstance().flush();
+            assertTrue(Files.exists(Path.of(LedgerIndex.getPath(file.toString()))));
+            Files.copy(backup, file, StandardCopyOption.REPLACE_EXISTING);
+
+            SaveManager.clear();
+            saver.load();
+            assertEquals(Money.parse("10"), ManualTracker.getLedgerList().getMonthlyTotals()
+                .getTotal(YearMonth.of(2020, 1), Common.EntryType.EXP));
+            assertTrue(((Ledger) ManualTracker.getLedgerList().getItemAtIndex(0)).entryList.isLoaded());
+
+            saver.clearJournal();
+            assertFalse(Files.exists(Path.of(LedgerIndex.getPath(file.toString()))));
+        } finally {
+            SaveHandlerTestUtil.setDefaultPaths(saver, previousPaths[0], previousPaths[1]);
+            SaveManager.clear();
+        }
+    }
+}
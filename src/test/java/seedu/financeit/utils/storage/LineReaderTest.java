@@ -0,0 +1,48 @@
+package seedu.financeit.utils.storage;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class LineReaderTest {
+    @Test
+    public void readLine_mixedLineTerminators_linesWithoutTerminators() throws IOException {
+        try (LineReader reader = new LineReader(new StringReader("a;b\r\n\nc\rd\n\re"))) {
+            assertEquals("a;b", reader.readLine());
+            assertEquals("", reader.readLine());
+            assertEquals("c", reader.readLine());
+            assertEquals("d", reader.readLine());
+            assertEquals("", reader.readLine());
+            assertEquals("e", reader.readLine());
+            assertEquals(6, reader.getLineNumber());
+            assertNull(reader.readLine());
+        }
+    }
+
+    @Test
+    public void readLine_lineLongerThanBuffer_wholeLineReturned() throws IOException {
+        String longLine = "x".repeat(200_000);
+        try (LineReader reader = new LineReader(new StringReader(longLine + "\r\n" + longLine + "\n"))) {
+            assertEquals(longLine, reader.readLine());
+            assertEquals(longLine, reader.readLine());
+            assertNull(reader.readLine());
+        }
+    }
+
+    @Test
+    public void split_sameAsStringSplit() {
+        String[] lines = {"Entry;Expense;FOOD;$5.50;12:00;lunch", ";a;;b;;", "", ";", "no delimiter", "a;b;;;"};
+        for (String line : lines) {
+            assertArrayEquals(line.split(";"), LineReader.split(line, ";"), line);
+            assertArrayEquals(line.split(";", -1), LineReader.split(line, ";", -1), line);
+            assertArrayEquals(line.split(";", 3), LineReader.split(line, ";", 3), line);
+        }
+        String recurring = "5>&@#<rent>&@#<-$500.00>&@#<>&@#<Every month>&@#<Manual payment>&@#<";
+        assertArrayEquals(recurring.split(">&@#<"), LineReader.split(recurring, ">&@#<"));
+    }
+}
@@ -0,0 +1,155 @@
+package seedu.financeit.utils.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.financeit.datatrackers.manualtracker.Ledger;
+import seedu.financeit.datatrackers.manualtracker.LedgerList;
+import seedu.financeit.datatrackers.manualtracker.ManualTracker;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ManualTrackerSaverTest {
+    @TempDir
+    Path tempDir;
+
+    private Path writeSaveFiles() throws IOException {
+        Path snapshot = tempDir.resolve("saveMt.txt");
+        Files.write(snapshot, Arrays.asList(
+            "Ledger;2020-01-01",
+            "Entry;Expense;TRANSPORT;$15.00;11:51;bus",
+            "Entry;Expense;FOOD;$5.50;12:30;lunch"));
+        Files.write(Paths.get(ManualTrackerSaver.getJournalPath(snapshot.toString())), Arrays.asList(
+            "+Ledger;2020-01-02",
+            "+Entry;2020-01-02;Income;SALARY;$100.00;10:00;pay",
+            "-Entry;2020-01-01;0",
+            "~Entry;2020-01-01;0;Expense;FOOD;$6.50;12:30;dinner"));
+        return snapshot;
+    }
+
+    @Test
+    public void load_snapshotWithJournal_journalReplayed() throws IOException {
+        SaveManager.clear();
+        Path snapshot = writeSaveFiles();
+
+        ManualTrackerSaver.getInstance().load(tempDir.toString(), snapshot.toString());
+
+        LedgerList ledgerList = ManualTracker.getLedgerList();
+        assertEquals(2, ledgerList.getListSize());
+        Ledger firstLedger = (Ledger) ledgerList.getItemAtIndex(0);
+        Ledger secondLedger = (Ledger) ledgerList.getItemAtIndex(1);
+        assertEquals(1, firstLedger.entryList.getListSize());
+        assertEquals("Expense;FOOD;$6.50;12:30;dinner", firstLedger.entryList.getItemAtIndex(0).toString());
+        assertEquals(1, secondLedger.entryList.getListSize());
+        SaveManager.clear();
+    }
+
+    @Test
+    public void save_afterJournalReplay_journalFoldedIntoSnapshot() throws IOException {
+        SaveManager.clear();
+        Path snapshot = writeSaveFiles();
+
+        ManualTrackerSaver.getInstance().load(tempDir.toString(), snapshot.toString());
+        ManualTrackerSaver.getInstance().save(tempDir.toString(), snapshot.toString());
+
+        List<String> expected = Arrays.asList(
+            "Ledger;2020-01-01",
+            "Entry;Expense;FOOD;$6.50;12:30;dinner",
+            "Ledger;2020-01-02",
+            "Entry;Income;SALARY;$100.00;10:00;pay");
+        assertEquals(expected, Files.readAllLines(snapshot));
+        assertFalse(Files.exists(Paths.get(ManualTrackerSaver.getJournalPath(snapshot.toString()))));
+        SaveManager.clear();
+    }
+
+    @Test
+    public void load_undecodableLine_fallsBackToCommandPath() throws IOException {
+        SaveManager.clear();
+        Path snapshot = tempDir.resolve("saveMt.txt");
+        Files.write(snapshot, Arrays.asList(
+            "Ledger;2020-01-01",
+            "Entry;Expense;TRANSPORT;$15.00;11:51;bus",
+            "Entry;Expense;FOOD;$5.50;1230;lunch",
+            "Entry;Income;FOOD;$5.50;12:30;not an income category"));
+
+        ManualTrackerSaver.getInstance().load(tempDir.toString(), snapshot.toString());
+
+        Ledger ledger = (Ledger) ManualTracker.getLedgerList().getItemAtIndex(0);
+        assertEquals(2, ledger.entryList.getListSize());
+        assertEquals("Expense;FOOD;$5.50;12:30;lunch", ledger.entryList.getItemAtIndex(1).toString());
+        SaveManager.clear();
+    }
+
+    @Test
+    public void load_mappedSaveFile_sameLedgersAsLineByLine() throws IOException {
+        SaveManager.clear();
+        Path snapshot = tempDir.resolve("saveMt.txt");
+        Files.write(snapshot, ("Ledger;2020-01-01\r\n"
+            + "Entry;Expense;TRANSPORT;$15;11:51;bus\r\n"
+            + "\n"
+            + "  Entry;Expense;FOOD;$0.5;12:30;lunch with friends  \n"
+            + "Entry;Income;SALARY;$1234.05;09:00;pay;day\n"
+            + "Entry;Expense;FOOD;$5.50;1230;time without colon\n"
+            + "Ledger;2020-02-30\n"
+            + "Entry;Expense;FOOD;$1.00;12:00;ledger failed to load\n"
+            + "Ledger;2020-03-01\r"
+            + "Entry;Expense;FOOD;$99999999999999999.99;12:00;larger than the fast path reads").getBytes());
+        Path lineSnapshot = tempDir.resolve("saveMtLines.txt");
+        Path mappedSnapshot = tempDir.resolve("saveMtMapped.txt");
+        ManualTrackerSaver saver = ManualTrackerSaver.getInstance();
+
+        saver.setMappedLoadThreshold(Long.MAX_VALUE);
+        saver.load(tempDir.toString(), snapshot.toString());
+        saver.save(tempDir.toString(), lineSnapshot.toString());
+        SaveManager.clear();
+        saver.setMappedLoadThreshold(0);
+        saver.load(tempDir.toString(), snapshot.toString());
+        saver.save(tempDir.toString(), mappedSnapshot.toString());
+        saver.setMappedLoadThreshold(4 * 1024 * 1024);
+
+        List<String> expected = Files.readAllLines(lineSnapshot);
+        assertEquals(expected, Files.readAllLines(mappedSnapshot));
+        assertTrue(expected.contains("Entry;Income;SALARY;$1234.05;09:00;pay"));
+        assertTrue(expected.contains("Entry;Expense;FOOD;$0.50;12:30;lunch with friends"));
+        SaveManager.clear();
+    }
+
+    @Test
+    public void load_saveFileUnreadable_loadReportedAsFailed() throws IOException {
+        SaveManager.clear();
+        Path unreadableSnapshot = Files.createDirectory(tempDir.resolve("saveMtDirectory.txt"));
+        ManualTrackerSaver saver = ManualTrackerSaver.getInstance();
+
+        saver.load(tempDir.toString(), unreadableSnapshot.toString());
+        assertTrue(saver.isLoadFailed());
+        saver.load(tempDir.toString(), writeSaveFiles().toString());
+        assertFalse(saver.isLoadFailed());
+        SaveManager.clear();
+    }
+
+    @Test
+    public void saveAndFlush_saveFileNotWritable_exceptionThrown() throws IOException {
+        SaveManager.clear();
+        Path unwritableSnapshot = Files.createDirectory(tempDir.resolve("saveMtDirectory.txt"));
+        ManualTrackerSaver saver = ManualTrackerSaver.getInstance();
+        ManualTracker.getLedgerList().addItem(ManualTrackerSaver.decodeLedger("2020-01-01"));
+
+        String[] previousPaths = SaveHandlerTestUtil.setDefaultPaths(saver, tempDir.toString(),
+            unwritableSnapshot.toString());
+        try {
+            assertThrows(IOException.class, saver::saveAndFlush);
+        } finally {
+            SaveHandlerTestUtil.setDefaultPaths(saver, previousPaths[0], previousPaths[1]);
+        }
+        SaveManager.clear();
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.financeit.utils.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class PersistenceManagerTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void flush_burstOfChanges_latestContentsWritten() throws IOException {
+        PersistenceManager manager = PersistenceManager.getInstance();
+        Path snapshot = tempDir.resolve("data").resolve("snapshot.txt");
+        Path journal = tempDir.resolve("data").resolve("journal.txt");
+        for (int i = 0; i < 50; i++) {
+            manager.append(journal.toString(), i + ";");
+            manager.write(snapshot.toString(), "snapshot " + i);
+        }
+        manager.delete(journal.toString());
+        manager.append(journal.toString(), "after");
+        manager.flush();
+
+        assertEquals("snapshot 49", Files.readString(snapshot));
+        assertEquals("after", Files.readString(journal));
+    }
+
+    @Test
+    public void flush_deleteAfterWrite_fileDeleted() throws IOException {
+        PersistenceManager manager = PersistenceManager.getInstance();
+        Path file = tempDir.resolve("file.txt");
+        manager.write(file.toString(), "contents");
+        manager.append(file.toString(), " and more");
+        manager.flush();
+        assertEquals("contents and more", Files.readString(file));
+
+        manager.write(file.toString(), "replaced");
+        manager.delete(file.toString());
+        manager.flush();
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    public void flush_writeAtomicallyThenDeleteOther_bytesWrittenBeforeDelete() throws IOException {
+        PersistenceManager manager = PersistenceManager.getInstance();
+        Path binary = tempDir.resolve("data").resolve("save.bin");
+        Path text = tempDir.resolve("save.txt");
+        Files.writeString(text, "replaced by the binary file");
+        manager.writeAtomically(binary.toString(), new byte[]{1, 2});
+        manager.writeAtomically(binary.toString(), new byte[]{3, 4, 5});
+        manager.delete(text.toString());
+        manager.flush();
+
+        assertArrayEquals(new byte[]{3, 4, 5}, Files.readAllBytes(binary));
+        assertFalse(Files.exists(text));
+        assertFalse(Files.exists(tempDir.resolve("data").resolve("save.bin.tmp")));
+    }
+}
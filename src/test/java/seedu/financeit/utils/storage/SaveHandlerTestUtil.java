@@ -0,0 +1,21 @@
+package seedu.financeit.utils.storage;
+
+/**
+ * Points the default save file of a save handler elsewhere, so that tests do not write to ./data.
+ */
+public class SaveHandlerTestUtil {
+    /**
+     * Sets the default save file of the save handler.
+     *
+     * @param handler Save handler
+     * @param directory Directory of the save file, or null
+     * @param file Path of the save file, or null
+     * @return Directory and path of the previous default save file
+     */
+    public static String[] setDefaultPaths(SaveHandler handler, String directory, String file) {
+        String[] previousPaths = {handler.dirPath, handler.fullPath};
+        handler.dirPath = directory;
+        handler.fullPath = file;
+        return previousPaths;
+    }
+}
@@ -8,8 +8,10 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.LinkedHashMap;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class SaveManagerTest {
@@ -38,12 +40,21 @@ public class SaveManagerTest {
             CommandPacket packet = parser.parseInput("add /name testcase2149855246427094876");
             SaveManager.addSave(packet);
 
-            String path = SaveManager.dirPath + "/testcase2149855246427094876";
+            // The save files are reassembled from the chunks of the backup save.
+            Path restored = Files.createTempDirectory("backup");
+            String path = restored + "/testcase2149855246427094876";
+            LinkedHashMap<String, Path> destinations = new LinkedHashMap<>();
+            for (String suffix : new String[] {"_gt.txt", "_mt.txt", "_at.txt"}) {
+                destinations.put(suffix, Paths.get(path + suffix));
+            }
+            BackupStore backupStore = new BackupStore(Paths.get(SaveManager.dirPath));
+            backupStore.restore("testcase2149855246427094876", destinations);
             assertTrue(isEqual(Paths.get(path + "_gt.txt"), Paths.get("./data/tests/JunitTestCase_gt.txt")));
             assertTrue(isEqual(Paths.get(path + "_mt.txt"), Paths.get("./data/tests/JunitTestCase_mt.txt")));
             assertTrue(isEqual(Paths.get(path + "_at.txt"), Paths.get("./data/tests/JunitTestCase_at.txt")));
 
             SaveManager.deleteSave(packet);
+            assertFalse(backupStore.contains("testcase2149855246427094876"));
             SaveManager.clear();
             SaveManager.resetAllLists();
         } catch (Exception e) {
@@ -0,0 +1,181 @@
+package seedu.financeit.utils.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.financeit.datatrackers.manualtracker.Ledger;
+import seedu.financeit.datatrackers.manualtracker.LedgerList;
+import seedu.financeit.datatrackers.manualtracker.ManualTracker;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ShardedLayoutTest {
+    private static final FileTime OLD_TIME = FileTime.fromMillis(0);
+
+    @TempDir
+    Path tempDir;
+
+    private String[] previousPaths;
+
+    @BeforeEach
+    public void setUp() {
+        SaveManager.clear();
+        ManualTrackerSaver saver = ManualTrackerSaver.getInstance();
+        this.previousPaths = SaveHandlerTestUtil.setDefaultPaths(saver, tempDir.toString(),
+            tempDir.resolve("saveMt.txt").toString());
+        saver.setShardedLayout(true);
+        // Forgets the shards written by earlier tests.
+        saver.load();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ManualTrackerSaver saver = ManualTrackerSaver.getInstance();
+        saver.setShardedLayout(false);
+        SaveHandlerTestUtil.setDefaultPaths(saver, previousPaths[0], previousPaths[1]);
+        SaveManager.clear();
+    }
+
+    private Path getShardPath(String month) {
+        return tempDir.resolve("mt").resolve(month + ".txt");
+    }
+
+    private static Ledger addLedger(String date, String... descriptions) {
+        Ledger ledger = ManualTrackerSaver.decodeLedger(date);
+        for (String description : descriptions) {
+            addEntry(ledger, description);
+        }
+        ManualTracker.getLedgerList().addItem(ledger);
+        return ledger;
+    }
+
+    private static void addEntry(Ledger ledger, String description) {
+        ledger.entryList.addItem(ManualTrackerSaver.decodeEntry(ledger,
+            new String[]{"Expense", "FOOD", "$5.50", "12:30", description}, 0));
+    }
+
+    private static void addLedgers() {
+        addLedger("2020-01-01", "lunch", "dinner");
+        addLedger("2020-01-15", "breakfast");
+        addLedger("2020-02-01", "supper");
+    }
+
+    private static void save() {
+        ManualTrackerSaver.getInstance().save();
+        PersistenceManager.getInstance().flush();
+    }
+
+    private static List<String> getSaveStrings() {
+        ArrayList<String> saveStrings = new ArrayList<>();
+        LedgerList ledgerList = ManualTracker.getLedgerList();
+        for (int i = 0; i < ledgerList.getListSize(); i++) {
+            Ledger ledger = (Ledger) ledgerList.getItemAtIndex(i);
+            saveStrings.add(ledger.toString());
+            for (int j = 0; j < ledger.entryList.getListSize(); j++) {
+                saveStrings.add(ledger.entryList.getItemAtIndex(j).toString());
+            }
+        }
+        return saveStrings;
+    }
+
+    @Test
+    public void load_savedLedgers_sameLedgersWithAndWithoutIndex() throws IOException {
+        addLedgers();
+        save();
+        List<String> expected = getSaveStrings();
+        assertEquals(Arrays.asList("2020-01.txt", "2020-02.txt"),
+            Files.readAllLines(tempDir.resolve("mt").resolve("manifest.txt")));
+        assertEquals(Arrays.asList("Ledger;2020-02-01", "Entry;Expense;FOOD;$5.50;12:30;supper"),
+            Files.readAllLines(getShardPath("2020-02")));
+
+        SaveManager.clear();
+        ManualTrackerSaver.getInstance().load();
+        assertFalse(((Ledger) ManualTracker.getLedgerList().getItemAtIndex(0)).entryList.isLoaded());
+        assertEquals(expected, getSaveStrings());
+
+        Files.delete(Path.of(LedgerIndex.getPath(tempDir.resolve("mt").resolve("manifest.txt").toString())));
+        SaveManager.clear();
+        ManualTrackerSaver.getInstance().load();
+        assertEquals(expected, getSaveStrings());
+        assertFalse(ManualTracker.getLedgerList().isDirty());
+    }
+
+    @Test
+    public void save_ledgerOfOneMonthChanged_onlyShardOfThatMonthWritten() throws Exception {
+        addLedgers();
+        save();
+        Files.setLastModifiedTime(getShardPath("2020-01"), OLD_TIME);
+        Files.setLastModifiedTime(getShardPath("2020-02"), OLD_TIME);
+
+        addEntry(ManualTracker.getLedgerList().getLedgerFromDate(LocalDate.of(2020, 2, 1)), "snack");
+        save();
+        assertEquals(OLD_TIME, Files.getLastModifiedTime(getShardPath("2020-01")));
+        assertNotEquals(OLD_TIME, Files.getLastModifiedTime(getShardPath("2020-02")));
+        assertEquals(3, Files.readAllLines(getShardPath("2020-02")).size());
+
+        List<String> expected = getSaveStrings();
+        SaveManager.clear();
+        ManualTrackerSaver.getInstance().load();
+        assertEquals(expected, getSaveStrings());
+    }
+
+    @Test
+    public void archiveBefore_monthArchived_shardOfThatMonthDeleted() throws IOException {
+        ArchiveManager archive = new ArchiveManager(tempDir.resolve("archive").toString());
+        archive.load();
+        try {
+            addLedgers();
+            save();
+
+            assertEquals(2, archive.archiveBefore(LocalDate.of(2020, 2, 1)));
+            assertFalse(Files.exists(getShardPath("2020-01")));
+            assertTrue(Files.exists(getShardPath("2020-02")));
+            assertEquals(Arrays.asList("2020-02.txt"),
+                Files.readAllLines(tempDir.resolve("mt").resolve("manifest.txt")));
+
+            SaveManager.clear();
+            ManualTrackerSaver.getInstance().load();
+            assertEquals(Arrays.asList("2020-02-01", "Expense;FOOD;$5.50;12:30;supper"), getSaveStrings());
+        } finally {
+            // Later tests must not count the totals of the archive of this test.
+            new ArchiveManager(tempDir.resolve("emptyArchive").toString()).load();
+        }
+    }
+
+    @Test
+    public void load_singleSaveFile_migratedToShards() throws IOException {
+        ManualTrackerSaver saver = ManualTrackerSaver.getInstance();
+        saver.setShardedLayout(false);
+        addLedgers();
+        save();
+        List<String> expected = getSaveStrings();
+        assertTrue(Files.exists(tempDir.resolve("saveMt.txt")));
+
+        SaveManager.clear();
+        saver.setShardedLayout(true);
+        saver.load();
+        PersistenceManager.getInstance().flush();
+        assertEquals(expected, getSaveStrings());
+        assertFalse(Files.exists(tempDir.resolve("saveMt.txt")));
+        assertEquals(Arrays.asList("Ledger;2020-01-01", "Entry;Expense;FOOD;$5.50;12:30;lunch",
+            "Entry;Expense;FOOD;$5.50;12:30;dinner", "Ledger;2020-01-15", "Entry;Expense;FOOD;$5.50;12:30;breakfast"),
+            Files.readAllLines(getShardPath("2020-01")));
+
+        SaveManager.clear();
+        saver.load();
+        assertEquals(expected, getSaveStrings());
+    }
+}